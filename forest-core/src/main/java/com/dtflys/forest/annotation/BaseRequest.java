@@ -64,6 +64,46 @@ public @interface BaseRequest {
      */
     String sslProtocol() default "";
 
+    /**
+     * HTTP protocol: http/1.1, h2 (HTTP/2 over TLS) or h2c (HTTP/2 with prior knowledge), default to the global configuration
+     */
+    String httpProtocol() default "";
+
+    /**
+     * Path of the unix domain socket, e.g. /var/run/sidecar.sock. When set, requests connect to this socket
+     * instead of the host and port of the url, which are still sent in the Host header. Requires JDK 16+
+     */
+    String unixSocket() default "";
+
+    /**
+     * Base URLs of the endpoints to balance requests across, e.g. {"http://10.0.0.1:8080", "http://10.0.0.2:8080"}.
+     * When set, they take the place of the base URL, and failed attempts are retried on a different endpoint
+     */
+    String[] endpoints() default {};
+
+    /**
+     * Class of {@link com.dtflys.forest.loadbalance.EndpointProvider}, which supplies the endpoints dynamically.
+     * Falls back to {@link #endpoints()} when it returns no endpoint
+     */
+    Class endpointProvider() default Object.class;
+
+    /**
+     * Load balancer of the endpoints: round_robin, least_request, p2c (power of two choices)
+     * or consistent_hash (by the parameter annotated with {@link RoutingKey}), default to round_robin
+     */
+    String loadBalancer() default "";
+
+    /**
+     * Path of the active health check, e.g. /health. Ejected endpoints are probed with GET on this path
+     * and are brought back as soon as it returns 2xx. Without it, ejected endpoints come back after the ejection time
+     */
+    String healthCheckPath() default "";
+
+    /**
+     * Interval of the active health check in milliseconds
+     */
+    long healthCheckInterval() default 10000;
+
     /**
      * Class of retryer
      * @return
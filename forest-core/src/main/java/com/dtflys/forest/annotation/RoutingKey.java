@@ -0,0 +1,21 @@
+package com.dtflys.forest.annotation;
+
+import com.dtflys.forest.lifecycles.parameter.RoutingKeyLifeCycle;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the parameter whose value is the routing key of the request. With the consistent_hash load balancer,
+ * requests with the same key are sent to the same endpoint. The parameter is not sent unless it has other annotations
+ * @since 2026-10-19 02:31
+ */
+@Documented
+@ParamLifeCycle(RoutingKeyLifeCycle.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface RoutingKey {
+}
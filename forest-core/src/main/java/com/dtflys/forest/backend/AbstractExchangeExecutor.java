@@ -0,0 +1,213 @@
+package com.dtflys.forest.backend;
+
+import com.dtflys.forest.exceptions.ForestNetworkException;
+import com.dtflys.forest.exceptions.ForestRetryException;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.http.ForestResponseFactory;
+import com.dtflys.forest.utils.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+/**
+ * 通过 {@link CompletableFuture} 获取响应的请求执行器
+ * <p>子类只负责发送请求并返回收到响应后完成的Future，重试、日志、同步和异步的响应处理都在这里完成</p>
+ *
+ * @param <T> 后端收到的响应类型
+ * @since 2026-10-19 04:32
+ */
+public abstract class AbstractExchangeExecutor<T> implements HttpExecutor {
+
+    private final static Logger log = LoggerFactory.getLogger(AbstractExchangeExecutor.class);
+
+    protected final ForestRequest request;
+
+    private final BackendResponseHandler<Object> responseHandler;
+
+    private final ForestResponseFactory<T> responseFactory;
+
+    protected AbstractExchangeExecutor(ForestRequest request, BackendResponseHandler<Object> responseHandler,
+                                       ForestResponseFactory<T> responseFactory) {
+        this.request = request;
+        this.responseHandler = responseHandler;
+        this.responseFactory = responseFactory;
+    }
+
+    /**
+     * 构建并发送请求
+     * @param lifeCycleHandler 生命周期处理器
+     * @param retryCount 当前重试次数
+     * @return 收到响应后完成的Future
+     */
+    protected abstract CompletableFuture<T> sendRequest(LifeCycleHandler lifeCycleHandler, int retryCount);
+
+    protected abstract int getStatusCode(T httpResponse);
+
+    protected abstract String getReasonPhrase(T httpResponse);
+
+    /**
+     * 重试前关闭错误响应，释放其占用的连接和缓冲区
+     * @param httpResponse 后端收到的响应
+     */
+    protected abstract void closeResponse(T httpResponse);
+
+    /**
+     * 执行异步请求回调的线程池
+     * @return 线程池，为 {@code null} 时在完成Future的线程中执行
+     */
+    protected Executor getCallbackExecutor() {
+        return null;
+    }
+
+    protected static void logContent(String content) {
+        log.info("[Forest] " + content);
+    }
+
+    public void logRequest(int retryCount, String method, Object url, String scheme,
+                           Iterable<Map.Entry<String, String>> headerEntries, String bodyLogContent) {
+        if (!request.isLogEnable()) return;
+        String requestLine = method + " " + url + " " + scheme.toUpperCase();
+        if (retryCount > 0) {
+            requestLine = "[Retry: " + retryCount + "] " + requestLine;
+        }
+        StringBuilder headers = new StringBuilder();
+        for (Map.Entry<String, String> entry : headerEntries) {
+            if (headers.length() > 0) {
+                headers.append("\n");
+            }
+            headers.append("\t\t").append(entry.getKey()).append(": ").append(entry.getValue());
+        }
+        String content = "Request: \n\t" + requestLine;
+        if (headers.length() > 0) {
+            content += "\n\tHeaders: \n" + headers;
+        }
+        if (StringUtils.isNotEmpty(bodyLogContent)) {
+            content += "\n\tBody: " + bodyLogContent;
+        }
+        logContent(content);
+    }
+
+    public void logResponse(long startTime, ForestResponse response) {
+        if (!request.isLogEnable()) return;
+        long time = System.currentTimeMillis() - startTime;
+        logContent("Response: Status = " + response.getStatusCode() + ", Time = " + time + "ms");
+    }
+
+    public void execute(final LifeCycleHandler lifeCycleHandler, int retryCount) {
+        long startTime = System.currentTimeMillis();
+        CompletableFuture<T> exchangeFuture = sendRequest(lifeCycleHandler, retryCount);
+        if (request.isAsync()) {
+            final CompletableFuture<Object> future = new CompletableFuture<>();
+            BiConsumer<T, Throwable> callback = (httpResponse, ex) -> {
+                if (ex != null) {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (!canRetry(cause, retryCount)) {
+                        future.completeExceptionally(cause);
+                        ForestResponse response = responseFactory.createResponse(request, null, lifeCycleHandler);
+                        logResponse(startTime, response);
+                        lifeCycleHandler.handleError(request, response, cause);
+                        return;
+                    }
+                    execute(lifeCycleHandler, retryCount + 1);
+                    return;
+                }
+                ForestResponse response = responseFactory.createResponse(request, httpResponse, lifeCycleHandler);
+                logResponse(startTime, response);
+                if (response.isSuccess()) {
+                    Object result;
+                    if (request.getOnSuccess() != null) {
+                        result = responseHandler.handleSuccess(response);
+                    } else {
+                        result = handleSync(httpResponse, response);
+                    }
+                    future.complete(result);
+                } else {
+                    retryOrDoError(response, httpResponse, future, lifeCycleHandler, retryCount, startTime);
+                }
+            };
+            Executor callbackExecutor = getCallbackExecutor();
+            if (callbackExecutor != null) {
+                exchangeFuture.whenCompleteAsync(callback, callbackExecutor);
+            } else {
+                exchangeFuture.whenComplete(callback);
+            }
+            responseHandler.handleFuture(future, responseFactory);
+        } else {
+            T httpResponse;
+            try {
+                httpResponse = exchangeFuture.get();
+            } catch (InterruptedException | ExecutionException e) {
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                boolean interrupted = cause instanceof InterruptedException;
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                if (interrupted || !canRetry(cause, retryCount)) {
+                    ForestResponse response = responseFactory.createResponse(request, null, lifeCycleHandler);
+                    logResponse(startTime, response);
+                    lifeCycleHandler.handleError(request, response, cause);
+                    return;
+                }
+                execute(lifeCycleHandler, retryCount + 1);
+                return;
+            }
+            ForestResponse response = responseFactory.createResponse(request, httpResponse, lifeCycleHandler);
+            logResponse(startTime, response);
+            if (response.isError()) {
+                retryOrDoError(response, httpResponse, null, lifeCycleHandler, retryCount, startTime);
+                return;
+            }
+            handleSync(httpResponse, response);
+        }
+    }
+
+    private Object handleSync(T httpResponse, ForestResponse response) {
+        return responseHandler.handleSync(response, getStatusCode(httpResponse), getReasonPhrase(httpResponse));
+    }
+
+    private boolean canRetry(Throwable cause, int retryCount) {
+        ForestRetryException retryException = new ForestRetryException(
+                cause, request, request.getRetryCount(), retryCount);
+        try {
+            request.getRetryer().canRetry(retryException);
+            return true;
+        } catch (Throwable throwable) {
+            return false;
+        }
+    }
+
+    private void retryOrDoError(
+            ForestResponse response, T httpResponse,
+            CompletableFuture<Object> future, LifeCycleHandler lifeCycleHandler,
+            int retryCount, long startTime) {
+        ForestNetworkException networkException =
+                new ForestNetworkException(getReasonPhrase(httpResponse), getStatusCode(httpResponse), response);
+        if (canRetry(networkException, retryCount)) {
+            closeResponse(httpResponse);
+            execute(lifeCycleHandler, retryCount + 1);
+            return;
+        }
+        if (future != null) {
+            future.completeExceptionally(networkException);
+        }
+        logResponse(startTime, response);
+        handleSync(httpResponse, response);
+    }
+
+    @Override
+    public void execute(final LifeCycleHandler lifeCycleHandler) {
+        execute(lifeCycleHandler, 0);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -38,15 +38,33 @@ public abstract class AbstractHttpBackend implements HttpBackend {
 
     @Override
     public void init(ForestConfiguration configuration) {
+        init(configuration, new HttpConnectionOptions(configuration));
+    }
+
+    @Override
+    public void init(ForestConfiguration configuration, HttpConnectionOptions options) {
         synchronized (this) {
             if (!initialized) {
-                this.connectionManager.init(configuration);
+                this.connectionManager.init(configuration, options);
                 init();
                 initialized = true;
             }
         }
     }
 
+    @Override
+    public void close() {
+        synchronized (this) {
+            connectionManager.close();
+            initialized = false;
+        }
+    }
+
+    @Override
+    public ForestConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
     protected abstract HttpExecutor createHeadExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler);
 
     protected abstract HttpExecutor createGetExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler);
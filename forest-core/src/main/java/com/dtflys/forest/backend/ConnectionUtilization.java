@@ -0,0 +1,99 @@
+package com.dtflys.forest.backend;
+
+/**
+ * 连接池的使用情况快照
+ * <p>HTTP/1.1 的连接同一时间只能处理一个请求，HTTP/2 的连接可以同时承载多个请求流，
+ * 通过 {@link #getActiveStreams()} 和 {@link #getActiveConnections()} 可以计算连接的复用程度</p>
+ *
+ * @since 2026-10-19 01:03
+ */
+public class ConnectionUtilization {
+
+    private final int connections;
+
+    private final int idleConnections;
+
+    private final int activeConnections;
+
+    private final int multiplexedConnections;
+
+    private final int activeStreams;
+
+    private final int maxStreamsPerConnection;
+
+    public ConnectionUtilization(int connections, int idleConnections, int activeConnections,
+                                 int multiplexedConnections, int activeStreams, int maxStreamsPerConnection) {
+        this.connections = connections;
+        this.idleConnections = idleConnections;
+        this.activeConnections = activeConnections;
+        this.multiplexedConnections = multiplexedConnections;
+        this.activeStreams = activeStreams;
+        this.maxStreamsPerConnection = maxStreamsPerConnection;
+    }
+
+    /**
+     * 连接池中的连接总数
+     * @return 连接数
+     */
+    public int getConnections() {
+        return connections;
+    }
+
+    /**
+     * 空闲的连接数
+     * @return 连接数
+     */
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * 正在处理请求的连接数
+     * @return 连接数
+     */
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    /**
+     * 正在处理请求的 HTTP/2 连接数
+     * @return 连接数
+     */
+    public int getMultiplexedConnections() {
+        return multiplexedConnections;
+    }
+
+    /**
+     * 正在处理的请求 (流) 总数
+     * @return 请求数
+     */
+    public int getActiveStreams() {
+        return activeStreams;
+    }
+
+    /**
+     * 单个连接上观察到的最大同时请求 (流) 数
+     * @return 请求数
+     */
+    public int getMaxStreamsPerConnection() {
+        return maxStreamsPerConnection;
+    }
+
+    /**
+     * 每个活动连接上平均同时处理的请求 (流) 数
+     * @return 平均请求数
+     */
+    public double getStreamsPerConnection() {
+        return activeConnections == 0 ? 0 : (double) activeStreams / activeConnections;
+    }
+
+    @Override
+    public String toString() {
+        return "{connections: " + connections +
+                ", idle: " + idleConnections +
+                ", active: " + activeConnections +
+                ", multiplexed: " + multiplexedConnections +
+                ", activeStreams: " + activeStreams +
+                ", maxStreamsPerConnection: " + maxStreamsPerConnection + "}";
+    }
+}
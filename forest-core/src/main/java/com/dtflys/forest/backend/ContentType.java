@@ -73,6 +73,21 @@ public class ContentType {
         return subType.contains("xml");
     }
 
+    public boolean isNdjson() {
+        if (subType == null) {
+            return false;
+        }
+        return subType.equals("x-ndjson") || subType.equals("ndjson")
+                || subType.equals("x-jsonlines") || subType.equals("jsonl");
+    }
+
+    public boolean isEventStream() {
+        if (subType == null) {
+            return false;
+        }
+        return subType.equals("event-stream");
+    }
+
     public boolean isZip() {
         if (subType == null) {
             return false;
@@ -130,7 +145,7 @@ public class ContentType {
     }
 
     public boolean canReadAsString() {
-        return isJson() || isXml() || isJavaScript() || isText();
+        return isJson() || isNdjson() || isXml() || isJavaScript() || isText();
     }
 
     @Override
@@ -9,4 +9,28 @@ import com.dtflys.forest.config.ForestConfiguration;
 public interface ForestConnectionManager {
 
     void init(ForestConfiguration configuration);
+
+    /**
+     * 用指定的连接参数初始化，用于独立的连接池分组
+     * @param configuration 全局配置
+     * @param options 连接参数
+     */
+    default void init(ForestConfiguration configuration, HttpConnectionOptions options) {
+        init(configuration);
+    }
+
+    /**
+     * 获取连接池的使用情况
+     * @return 使用情况快照，不支持时返回 {@code null}
+     */
+    default ConnectionUtilization getUtilization() {
+        return null;
+    }
+
+    /**
+     * 关闭连接管理器，释放连接池和后台线程
+     * <p>关闭后不能再发送请求，重新初始化后可以继续使用</p>
+     */
+    default void close() {
+    }
 }
@@ -17,6 +17,26 @@ public interface HttpBackend {
 
     void init(ForestConfiguration configuration);
 
+    /**
+     * 用指定的连接参数初始化，用于独立的连接池分组
+     * @param configuration 全局配置
+     * @param options 连接参数
+     */
+    default void init(ForestConfiguration configuration, HttpConnectionOptions options) {
+        init(configuration);
+    }
+
+    default ForestConnectionManager getConnectionManager() {
+        return null;
+    }
+
+    /**
+     * 关闭后端，释放连接池和后台线程
+     * <p>被替换的后端对象不再使用时调用，关闭后重新初始化可以继续使用</p>
+     */
+    default void close() {
+    }
+
     interface HttpExecutorCreator {
         HttpExecutor createExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler);
     }
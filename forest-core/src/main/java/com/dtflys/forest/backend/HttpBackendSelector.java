@@ -17,19 +17,34 @@ public class HttpBackendSelector {
 
     private final static String HTTPCLIENT_BACKEND_NAME = "httpclient";
     private final static String OKHTTP3_BACKEND_NAME = "okhttp3";
+    private final static String JDK_BACKEND_NAME = "jdk";
+    private final static String NETTY_BACKEND_NAME = "netty";
+    private final static String HTTPCLIENT5_BACKEND_NAME = "httpclient5";
 
     public final static String HTTPCLIENT_CLIENT_CLASS_NAME = "org.apache.http.client.HttpClient";
     public final static String OKHTTP3_CLIENT_CLASS_NAME = "okhttp3.OkHttpClient";
+    public final static String JDK_CLIENT_CLASS_NAME = "java.net.http.HttpClient";
+    public final static String NETTY_CLIENT_CLASS_NAME = "io.netty.handler.codec.http.HttpClientCodec";
+    public final static String HTTPCLIENT5_CLIENT_CLASS_NAME = "org.apache.hc.client5.http.impl.classic.CloseableHttpClient";
 
     private final static String HTTPCLIENT_BACKEND_CLASS_NAME = "com.dtflys.forest.backend.httpclient.HttpclientBackend";
     private final static String OKHTTP3_BACKEND_CLASS_NAME = "com.dtflys.forest.backend.okhttp3.OkHttp3Backend";
+    private final static String JDK_BACKEND_CLASS_NAME = "com.dtflys.forest.backend.jdk.JdkHttpBackend";
+    private final static String NETTY_BACKEND_CLASS_NAME = "com.dtflys.forest.backend.netty.NettyBackend";
+    private final static String HTTPCLIENT5_BACKEND_CLASS_NAME = "com.dtflys.forest.backend.httpclient5.Httpclient5Backend";
 
     private final static HttpBackendCreator HTTPCLIENT_BACKEND_CREATOR = new HttpBackendCreator(HTTPCLIENT_BACKEND_CLASS_NAME);
     private final static HttpBackendCreator OKHTTP3_BACKEND_CREATOR = new HttpBackendCreator(OKHTTP3_BACKEND_CLASS_NAME);
+    private final static HttpBackendCreator JDK_BACKEND_CREATOR = new HttpBackendCreator(JDK_BACKEND_CLASS_NAME);
+    private final static HttpBackendCreator NETTY_BACKEND_CREATOR = new HttpBackendCreator(NETTY_BACKEND_CLASS_NAME);
+    private final static HttpBackendCreator HTTPCLIENT5_BACKEND_CREATOR = new HttpBackendCreator(HTTPCLIENT5_BACKEND_CLASS_NAME);
 
     static {
         backendMap.put(HTTPCLIENT_BACKEND_NAME, HTTPCLIENT_BACKEND_CREATOR);
         backendMap.put(OKHTTP3_BACKEND_NAME, OKHTTP3_BACKEND_CREATOR);
+        backendMap.put(JDK_BACKEND_NAME, JDK_BACKEND_CREATOR);
+        backendMap.put(NETTY_BACKEND_NAME, NETTY_BACKEND_CREATOR);
+        backendMap.put(HTTPCLIENT5_BACKEND_NAME, HTTPCLIENT5_BACKEND_CREATOR);
     }
 
     public HttpBackend select(ForestConfiguration configuration) {
@@ -47,6 +62,8 @@ public class HttpBackendSelector {
         if (backend != null) return backend;
         backend = findHttpclientBackendInstance();
         if (backend != null) return backend;
+        backend = findJdkBackendInstance();
+        if (backend != null) return backend;
         throw new ForestRuntimeException("Http Backed is undefined.");
     }
 
@@ -69,6 +86,47 @@ public class HttpBackendSelector {
         return null;
     }
 
+    /**
+     * JDK 11+ 自带的HTTP客户端，只有在JDK 11+ 上编译的Forest才包含该后端
+     * @return 后端对象，不可用时返回 {@code null}
+     */
+    public HttpBackend findJdkBackendInstance() {
+        try {
+            Class.forName(JDK_CLIENT_CLASS_NAME);
+            Class.forName(JDK_BACKEND_CLASS_NAME);
+            return JDK_BACKEND_CREATOR.create();
+        } catch (ClassNotFoundException e) {
+        }
+        return null;
+    }
+
+    /**
+     * 基于Netty的后端，Netty为可选依赖，所以只能通过名称 {@code netty} 指定，不参与自动选择
+     * @return 后端对象，不可用时返回 {@code null}
+     */
+    public HttpBackend findNettyBackendInstance() {
+        try {
+            Class.forName(NETTY_CLIENT_CLASS_NAME);
+            return NETTY_BACKEND_CREATOR.create();
+        } catch (ClassNotFoundException e) {
+        }
+        return null;
+    }
+
+    /**
+     * 基于 HttpClient 5 的后端，与 HttpClient 4 的包名不同，可以同时引入，
+     * 为保持原有的自动选择结果，只能通过名称 {@code httpclient5} 指定
+     * @return 后端对象，不可用时返回 {@code null}
+     */
+    public HttpBackend findHttpclient5BackendInstance() {
+        try {
+            Class.forName(HTTPCLIENT5_CLIENT_CLASS_NAME);
+            return HTTPCLIENT5_BACKEND_CREATOR.create();
+        } catch (ClassNotFoundException e) {
+        }
+        return null;
+    }
+
 
     static class HttpBackendCreator {
 
@@ -22,5 +22,25 @@ public class HttpConnectionConstants {
      * read timeout
      */
     public final static int DEFAULT_READ_TIMEOUT = 10000;
+    /**
+     * keep-alive time of idle connections in milliseconds
+     */
+    public final static long DEFAULT_KEEP_ALIVE_TIME = 300000;
+    /**
+     * timeout in milliseconds used when acquiring a connection from the pool
+     */
+    public final static int DEFAULT_POOL_ACQUIRE_TIMEOUT = DEFAULT_READ_TIMEOUT;
+    /**
+     * period of inactivity in milliseconds after which pooled connections are validated before being leased
+     */
+    public final static int DEFAULT_VALIDATE_AFTER_INACTIVITY = 2000;
+    /**
+     * interval in milliseconds of evicting idle and expired connections
+     */
+    public final static long DEFAULT_EVICTION_INTERVAL = 5000;
+    /**
+     * time to live in milliseconds of failed host resolutions
+     */
+    public final static long DEFAULT_DNS_NEGATIVE_TTL = 10000;
 
 }
@@ -0,0 +1,199 @@
+package com.dtflys.forest.backend;
+
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.dns.ForestDnsResolver;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.pool.ForestConnectionPool;
+
+/**
+ * 连接调优参数
+ * <p>由 {@link ForestConfiguration} 中的配置解析而来，未配置的项使用统一的默认值，
+ * 所有后端都通过该对象读取连接池、并发和超时配置，保证切换后端时容量不变</p>
+ *
+ * @since 2026-10-19 00:50
+ */
+public class HttpConnectionOptions {
+
+    /**
+     * 连接池最大连接数
+     */
+    private final int maxConnections;
+
+    /**
+     * 每个路由的最大连接数
+     */
+    private final int maxRouteConnections;
+
+    /**
+     * 连接池中保持的最大空闲连接数
+     */
+    private final int maxIdleConnections;
+
+    /**
+     * 空闲连接的保持时间 (毫秒)
+     */
+    private final long keepAliveTime;
+
+    /**
+     * 同时执行的最大异步请求数
+     */
+    private final int maxRequests;
+
+    /**
+     * 每个主机同时执行的最大异步请求数
+     */
+    private final int maxRequestsPerHost;
+
+    /**
+     * 连接超时时间 (毫秒)，未配置时使用请求的超时时间
+     */
+    private final Integer connectTimeout;
+
+    /**
+     * 写入超时时间 (毫秒)，未配置时使用请求的超时时间
+     */
+    private final Integer writeTimeout;
+
+    /**
+     * 从连接池获取连接的超时时间 (毫秒)
+     */
+    private final int poolAcquireTimeout;
+
+    /**
+     * 连接空闲超过该时间 (毫秒) 后，再次使用前先检查是否可用，小于等于0时不检查
+     */
+    private final int validateAfterInactivity;
+
+    /**
+     * 后台清理空闲和过期连接的间隔时间 (毫秒)，小于等于0时不清理
+     */
+    private final long evictionInterval;
+
+    /**
+     * 域名解析器，为 {@code null} 时使用JVM自带的解析
+     */
+    private final ForestDnsResolver dnsResolver;
+
+    public HttpConnectionOptions(ForestConfiguration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * 独立连接池分组的连接参数
+     * <p>分组中配置的连接数和并发数代替全局配置，分组未配置并发数时，按分组的连接数计算，
+     * 其它参数 (超时、保持时间、域名解析等) 与全局配置相同</p>
+     * @param configuration 全局配置
+     * @param pool 连接池分组，为 {@code null} 时只使用全局配置
+     */
+    public HttpConnectionOptions(ForestConfiguration configuration, ForestConnectionPool pool) {
+        int maxConnections = valueOf(configuration.getMaxConnections(), HttpConnectionConstants.DEFAULT_MAX_TOTAL_CONNECTIONS);
+        int maxRouteConnections = valueOf(configuration.getMaxRouteConnections(), HttpConnectionConstants.DEFAULT_MAX_TOTAL_CONNECTIONS);
+        if (pool == null) {
+            this.maxConnections = maxConnections;
+            this.maxRouteConnections = maxRouteConnections;
+            this.maxIdleConnections = valueOf(configuration.getMaxIdleConnections(), maxConnections);
+            this.maxRequests = valueOf(configuration.getMaxRequests(), maxConnections);
+            this.maxRequestsPerHost = valueOf(configuration.getMaxRequestsPerHost(), maxRouteConnections);
+        } else {
+            this.maxConnections = valueOf(pool.getMaxConnections(), maxConnections);
+            this.maxRouteConnections = valueOf(pool.getMaxRouteConnections(), Math.min(maxRouteConnections, this.maxConnections));
+            this.maxIdleConnections = Math.min(valueOf(configuration.getMaxIdleConnections(), this.maxConnections), this.maxConnections);
+            this.maxRequests = valueOf(pool.getMaxRequests(), this.maxConnections);
+            this.maxRequestsPerHost = valueOf(pool.getMaxRequestsPerHost(), this.maxRouteConnections);
+        }
+        this.keepAliveTime = configuration.getKeepAliveTime() != null ?
+                configuration.getKeepAliveTime() : HttpConnectionConstants.DEFAULT_KEEP_ALIVE_TIME;
+        this.connectTimeout = configuration.getConnectTimeout();
+        this.writeTimeout = configuration.getWriteTimeout();
+        this.poolAcquireTimeout = valueOf(configuration.getPoolAcquireTimeout(), HttpConnectionConstants.DEFAULT_POOL_ACQUIRE_TIMEOUT);
+        this.validateAfterInactivity = configuration.getValidateAfterInactivity() != null ?
+                configuration.getValidateAfterInactivity() : HttpConnectionConstants.DEFAULT_VALIDATE_AFTER_INACTIVITY;
+        this.evictionInterval = configuration.getEvictionInterval() != null ?
+                configuration.getEvictionInterval() : HttpConnectionConstants.DEFAULT_EVICTION_INTERVAL;
+        this.dnsResolver = configuration.getDnsResolver();
+    }
+
+    private static int valueOf(Integer value, int defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getMaxRouteConnections() {
+        return maxRouteConnections;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public long getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public int getPoolAcquireTimeout() {
+        return poolAcquireTimeout;
+    }
+
+    public int getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    public long getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    public ForestDnsResolver getDnsResolver() {
+        return dnsResolver;
+    }
+
+    /**
+     * 获取请求的连接超时时间，不超过截止时间前的剩余时间
+     * @param request 请求对象
+     * @return 连接超时时间 (毫秒)
+     */
+    public int getConnectTimeout(ForestRequest request) {
+        return request.limitTimeout(getConfiguredConnectTimeout(request));
+    }
+
+    /**
+     * 获取配置的连接超时时间，不受截止时间影响，用于按连接超时区分的客户端或连接池
+     * <p>优先级: 接口方法或请求上设置的超时时间 &gt; 全局的 connectTimeout &gt; 请求的超时时间</p>
+     * @param request 请求对象
+     * @return 连接超时时间 (毫秒)
+     */
+    public int getConfiguredConnectTimeout(ForestRequest request) {
+        if (request.getConnectTimeout() != null) {
+            return request.getConnectTimeout();
+        }
+        return connectTimeout != null ? connectTimeout : request.getTimeout();
+    }
+
+    /**
+     * 获取请求的读取超时时间，即请求上设置的超时时间，不超过截止时间前的剩余时间
+     * @param request 请求对象
+     * @return 读取超时时间 (毫秒)
+     */
+    public int getReadTimeout(ForestRequest request) {
+        return request.limitTimeout(request.getTimeout());
+    }
+
+    /**
+     * 获取请求的写入超时时间，不超过截止时间前的剩余时间
+     * @param request 请求对象
+     * @return 写入超时时间 (毫秒)
+     */
+    public int getWriteTimeout(ForestRequest request) {
+        return request.limitTimeout(writeTimeout != null ? writeTimeout : request.getTimeout());
+    }
+}
@@ -0,0 +1,80 @@
+package com.dtflys.forest.backend;
+
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.utils.ForestProgress;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 读取数据时回调进度监听的输入流，用于下载响应和上传文件
+ *
+ * @since 2026-10-19 04:32
+ */
+public class ProgressInputStream extends FilterInputStream {
+
+    private final ForestRequest request;
+
+    private final LifeCycleHandler handler;
+
+    private final long totalLength;
+
+    private final long progressStep;
+
+    private final ForestProgress progress;
+
+    private long readBytes = 0;
+
+    private long currentStep = 0;
+
+    private boolean begin = true;
+
+    public ProgressInputStream(InputStream in, ForestRequest request, LifeCycleHandler handler, long totalLength) {
+        super(in);
+        this.request = request;
+        this.handler = handler;
+        this.totalLength = totalLength;
+        this.progressStep = request.getProgressStep();
+        this.progress = new ForestProgress(request, totalLength);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        onRead(b == -1 ? -1 : 1);
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int count = super.read(b, off, len);
+        onRead(count);
+        return count;
+    }
+
+    private void onRead(int count) {
+        if (totalLength < 0 || progress.isDone()) {
+            return;
+        }
+        progress.setBegin(begin);
+        begin = false;
+        long currReadBytes = count > 0 ? count : 0;
+        readBytes += currReadBytes;
+        currentStep += currReadBytes;
+        progress.setCurrentBytes(readBytes);
+        if (readBytes == totalLength) {
+            // progress is done
+            progress.setDone(true);
+            handler.handleProgress(request, progress);
+        } else {
+            while (currentStep >= progressStep) {
+                currentStep = currentStep - progressStep;
+                progress.setDone(false);
+                // invoke progress listener
+                handler.handleProgress(request, progress);
+            }
+        }
+    }
+}
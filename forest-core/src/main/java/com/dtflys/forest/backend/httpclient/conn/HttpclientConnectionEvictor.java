@@ -0,0 +1,82 @@
+package com.dtflys.forest.backend.httpclient.conn;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 连接池的后台清理器
+ * <p>使用一个守护线程定时关闭连接池中已过期 (超过Keep-Alive时间) 和空闲过久的连接，
+ * 避免使用已被服务端关闭的连接</p>
+ *
+ * @since 2026-10-19 00:57
+ */
+public class HttpclientConnectionEvictor {
+
+    private static Logger log = LoggerFactory.getLogger(HttpclientConnectionEvictor.class);
+
+    private final List<PoolingHttpClientConnectionManager> connectionManagers = new CopyOnWriteArrayList<>();
+
+    private final PoolingNHttpClientConnectionManager asyncConnectionManager;
+
+    private final long maxIdleTime;
+
+    private final ScheduledExecutorService executor;
+
+    /**
+     * @param connectionManager 同步连接池
+     * @param asyncConnectionManager 异步连接池，可以为 {@code null}
+     * @param interval 清理间隔时间 (毫秒)
+     * @param maxIdleTime 最大空闲时间 (毫秒)
+     */
+    public HttpclientConnectionEvictor(PoolingHttpClientConnectionManager connectionManager,
+                                       PoolingNHttpClientConnectionManager asyncConnectionManager,
+                                       long interval, long maxIdleTime) {
+        this.connectionManagers.add(connectionManager);
+        this.asyncConnectionManager = asyncConnectionManager;
+        this.maxIdleTime = maxIdleTime;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "forest-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::evict, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 注册需要一同清理的同步连接池，例如按路径创建的 Unix Domain Socket 连接池
+     * @param connectionManager 同步连接池
+     */
+    public void register(PoolingHttpClientConnectionManager connectionManager) {
+        connectionManagers.add(connectionManager);
+    }
+
+    /**
+     * 关闭过期和空闲过久的连接
+     */
+    public void evict() {
+        try {
+            for (PoolingHttpClientConnectionManager connectionManager : connectionManagers) {
+                connectionManager.closeExpiredConnections();
+                connectionManager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+            }
+            if (asyncConnectionManager != null) {
+                asyncConnectionManager.closeExpiredConnections();
+                asyncConnectionManager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+            }
+        } catch (Throwable th) {
+            log.warn("[Forest] Evict connections failed", th);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
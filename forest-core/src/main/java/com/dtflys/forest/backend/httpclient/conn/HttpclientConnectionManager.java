@@ -1,11 +1,15 @@
 package com.dtflys.forest.backend.httpclient.conn;
 
+import com.dtflys.forest.backend.ConnectionUtilization;
 import com.dtflys.forest.backend.ForestConnectionManager;
-import com.dtflys.forest.backend.HttpConnectionConstants;
+import com.dtflys.forest.backend.HttpConnectionOptions;
 import com.dtflys.forest.config.ForestConfiguration;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
 import com.dtflys.forest.exceptions.ForestUnsupportException;
+import com.dtflys.forest.http.ForestProtocol;
 import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.socket.UnixDomainSocket;
+import com.dtflys.forest.utils.StringUtils;
 import org.apache.http.Consts;
 import org.apache.http.auth.AuthSchemeProvider;
 import org.apache.http.client.HttpClient;
@@ -16,36 +20,75 @@ import org.apache.http.config.ConnectionConfig;
 import org.apache.http.config.Lookup;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.DnsResolver;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.impl.auth.*;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.ManagedNHttpClientConnectionFactory;
 import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
 import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.apache.http.nio.reactor.ConnectingIOReactor;
-import org.apache.http.params.BasicHttpParams;
-import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.net.InetAddress;
 import java.nio.charset.CodingErrorAction;
 import java.security.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author gongjun[jun.gong@thebeastshop.com]
  * @since 2017-04-20 17:23
  */
 public class HttpclientConnectionManager implements ForestConnectionManager {
-    private HttpParams httpParams;
-    private static PoolingHttpClientConnectionManager tsConnectionManager;
+    private static Logger log = LoggerFactory.getLogger(HttpclientConnectionManager.class);
 
-    private static PoolingNHttpClientConnectionManager asyncConnectionManager;
+    private final static AtomicBoolean H2_FALLBACK_WARNED = new AtomicBoolean(false);
+
+    private HttpConnectionOptions options;
+
+    private ConnectionKeepAliveStrategy keepAliveStrategy;
+    private PoolingHttpClientConnectionManager tsConnectionManager;
+
+    private volatile HttpclientConnectionEvictor evictor;
+
+    /**
+     * 异步请求的连接池，每个后端对象单独使用，独立的连接池分组之间互不影响
+     */
+    private PoolingNHttpClientConnectionManager asyncConnectionManager;
+
+    /**
+     * 运行异步连接池 I/O reactor 的常驻客户端对象，第一次发送异步请求时启动
+     */
+    private volatile CloseableHttpAsyncClient asyncReactorClient;
 
     private static Lookup<AuthSchemeProvider> authSchemeRegistry;
 
+    /**
+     * 通过 Unix domain socket 连接时不解析URL中的主机名，以回环地址占位
+     */
+    private final static DnsResolver UNIX_SOCKET_DNS_RESOLVER = host ->
+            new InetAddress[] {InetAddress.getByAddress(host, new byte[] {127, 0, 0, 1})};
+
+    /**
+     * 每个 Unix domain socket 路径单独使用一个连接池，避免与同一主机的TCP连接混用
+     */
+    private final Map<String, PoolingHttpClientConnectionManager> unixSocketConnectionManagers = new ConcurrentHashMap<>();
+
     private final ForestSSLConnectionFactory sslConnectFactory = new ForestSSLConnectionFactory();
 
     public HttpclientConnectionManager() {
@@ -62,12 +105,21 @@ public class HttpclientConnectionManager implements ForestConnectionManager {
 
     @Override
     public void init(ForestConfiguration configuration) {
+        init(configuration, new HttpConnectionOptions(configuration));
+    }
+
+    @Override
+    public void init(ForestConfiguration configuration, HttpConnectionOptions options) {
         try {
-            httpParams = new BasicHttpParams();
-            Integer maxConnections = configuration.getMaxConnections() != null ?
-                    configuration.getMaxConnections() : HttpConnectionConstants.DEFAULT_MAX_TOTAL_CONNECTIONS;
-            Integer maxRouteConnections = configuration.getMaxRouteConnections() != null ?
-                    configuration.getMaxRouteConnections() : HttpConnectionConstants.DEFAULT_MAX_TOTAL_CONNECTIONS;
+            this.options = options;
+            int maxConnections = options.getMaxConnections();
+            int maxRouteConnections = options.getMaxRouteConnections();
+            long keepAliveTime = options.getKeepAliveTime();
+            // 服务端未指定或指定的保持时间超过配置时，使用配置的保持时间
+            keepAliveStrategy = (response, context) -> {
+                long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return duration > 0 && duration < keepAliveTime ? duration : keepAliveTime;
+            };
 
             Registry<ConnectionSocketFactory> socketFactoryRegistry =
                     RegistryBuilder.<ConnectionSocketFactory>create()
@@ -75,9 +127,25 @@ public class HttpclientConnectionManager implements ForestConnectionManager {
                             .register("http", new PlainConnectionSocketFactory())
                             .build();
 
-            tsConnectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+            // 重新初始化时关闭之前的连接池，释放其中的连接
+            if (tsConnectionManager != null) {
+                tsConnectionManager.shutdown();
+            }
+            HttpclientDnsResolver dnsResolver = options.getDnsResolver() != null ?
+                    new HttpclientDnsResolver(options.getDnsResolver()) : null;
+            if (dnsResolver != null) {
+                tsConnectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry, dnsResolver);
+            } else {
+                tsConnectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+            }
             tsConnectionManager.setMaxTotal(maxConnections);
             tsConnectionManager.setDefaultMaxPerRoute(maxRouteConnections);
+            // 只在连接空闲超过一定时间后才检查连接是否可用，代替每次请求前的检查
+            tsConnectionManager.setValidateAfterInactivity(options.getValidateAfterInactivity());
+            for (PoolingHttpClientConnectionManager manager : unixSocketConnectionManagers.values()) {
+                manager.shutdown();
+            }
+            unixSocketConnectionManagers.clear();
 
             /// init async connection manager
             boolean supportAsync = true;
@@ -87,9 +155,16 @@ public class HttpclientConnectionManager implements ForestConnectionManager {
                 supportAsync = false;
             }
             if (supportAsync) {
-                ConnectingIOReactor ioReactor = new DefaultConnectingIOReactor();
+                // 重新初始化时关闭之前的异步连接池和运行它的客户端对象
+                closeAsyncConnectionManager();
                 if (asyncConnectionManager == null) {
                     try {
+                        ConnectingIOReactor ioReactor = new DefaultConnectingIOReactor(
+                                IOReactorConfig.DEFAULT, runnable -> {
+                                    Thread thread = new Thread(runnable, "forest-httpclient-io-dispatcher");
+                                    thread.setDaemon(true);
+                                    return thread;
+                                });
                         ConnectionConfig connectionConfig = ConnectionConfig.custom()
                                 .setMalformedInputAction(CodingErrorAction.IGNORE)
                                 .setUnmappableInputAction(CodingErrorAction.IGNORE)
@@ -104,23 +179,98 @@ public class HttpclientConnectionManager implements ForestConnectionManager {
                                 .register(AuthSchemes.KERBEROS, new KerberosSchemeFactory())
                                 .build();
 
-                        asyncConnectionManager = new PoolingNHttpClientConnectionManager(ioReactor);
-                        asyncConnectionManager.setMaxTotal(maxConnections);
-                        asyncConnectionManager.setDefaultMaxPerRoute(maxRouteConnections);
+                        if (dnsResolver != null) {
+                            asyncConnectionManager = new PoolingNHttpClientConnectionManager(
+                                    ioReactor, ManagedNHttpClientConnectionFactory.INSTANCE, dnsResolver);
+                        } else {
+                            asyncConnectionManager = new PoolingNHttpClientConnectionManager(ioReactor);
+                        }
+                        // 异步请求的并发数由连接池大小决定
+                        asyncConnectionManager.setMaxTotal(options.getMaxRequests());
+                        asyncConnectionManager.setDefaultMaxPerRoute(options.getMaxRequestsPerHost());
                         asyncConnectionManager.setDefaultConnectionConfig(connectionConfig);
                     } catch (Throwable t) {
                     }
                 }
             }
+            if (evictor != null) {
+                evictor.shutdown();
+                evictor = null;
+            }
+            if (options.getEvictionInterval() > 0) {
+                evictor = new HttpclientConnectionEvictor(
+                        tsConnectionManager, asyncConnectionManager,
+                        options.getEvictionInterval(), keepAliveTime);
+            }
         } catch (Throwable th) {
             throw new ForestRuntimeException(th);
         }
     }
 
+    @Override
+    public synchronized void close() {
+        if (evictor != null) {
+            evictor.shutdown();
+            evictor = null;
+        }
+        closeAsyncConnectionManager();
+        if (tsConnectionManager != null) {
+            tsConnectionManager.shutdown();
+        }
+        for (PoolingHttpClientConnectionManager manager : unixSocketConnectionManagers.values()) {
+            manager.shutdown();
+        }
+        unixSocketConnectionManagers.clear();
+    }
+
+    /**
+     * httpclient 4.x 只支持 HTTP/1.1
+     * <p>要求 h2 时退回到 HTTP/1.1，要求 h2c (不经过协商的明文 HTTP/2) 时无法退回，直接抛出异常</p>
+     * @param request 请求对象
+     */
+    private void checkHttpProtocol(ForestRequest request) {
+        ForestProtocol protocol = request.getHttpProtocol();
+        if (protocol == ForestProtocol.H2C) {
+            throw new ForestUnsupportException("httpclient backend does not support protocol h2c, please use okhttp3 backend.");
+        }
+        if (protocol == ForestProtocol.HTTP_2) {
+            // 只在第一次退回时提醒，避免每个请求都输出警告
+            if (H2_FALLBACK_WARNED.compareAndSet(false, true)) {
+                log.warn("[Forest] httpclient backend does not support protocol h2, fall back to http/1.1");
+            }
+        }
+    }
+
+    private PoolingHttpClientConnectionManager getUnixSocketConnectionManager(String path) {
+        return unixSocketConnectionManagers.computeIfAbsent(path, key -> {
+            UnixDomainSocket.checkSupported(path);
+            Registry<ConnectionSocketFactory> socketFactoryRegistry =
+                    RegistryBuilder.<ConnectionSocketFactory>create()
+                            .register("https", new HttpclientUnixSocketFactory(path, sslConnectFactory))
+                            .register("http", new HttpclientUnixSocketFactory(path, null))
+                            .build();
+            PoolingHttpClientConnectionManager manager =
+                    new PoolingHttpClientConnectionManager(socketFactoryRegistry, UNIX_SOCKET_DNS_RESOLVER);
+            manager.setMaxTotal(options.getMaxConnections());
+            manager.setDefaultMaxPerRoute(options.getMaxRouteConnections());
+            manager.setValidateAfterInactivity(options.getValidateAfterInactivity());
+            // 与主连接池一样由后台清理器关闭过期和空闲过久的连接
+            HttpclientConnectionEvictor currentEvictor = evictor;
+            if (currentEvictor != null) {
+                currentEvictor.register(manager);
+            }
+            return manager;
+        });
+    }
+
     public HttpClient getHttpClient(ForestRequest request) {
+        checkHttpProtocol(request);
         sslConnectFactory.setCurrentRequest(request);
         HttpClientBuilder builder = HttpClients.custom();
-        builder.setConnectionManager(tsConnectionManager);
+        String unixSocket = request.getUnixSocket();
+        PoolingHttpClientConnectionManager connectionManager = StringUtils.isNotBlank(unixSocket) ?
+                getUnixSocketConnectionManager(unixSocket) : tsConnectionManager;
+        builder.setConnectionManager(connectionManager);
         /*if ("https".equals(request.getProtocol())) {
             try {
                 SSLContext sslContext = getSSLContext(request);
@@ -137,25 +287,40 @@ public class HttpclientConnectionManager implements ForestConnectionManager {
 
         RequestConfig.Builder configBuilder = RequestConfig.custom();
         // 设置连接超时
-        configBuilder.setConnectTimeout(request.getTimeout());
+        configBuilder.setConnectTimeout(options.getConnectTimeout(request));
         // 设置读取超时
-
-        Integer timeout = request.getTimeout();
-        if (timeout == null) {
-            timeout = request.getConfiguration().getTimeout();
-        }
-        configBuilder.setSocketTimeout(timeout);
+        configBuilder.setSocketTimeout(options.getReadTimeout(request));
         // 设置从连接池获取连接实例的超时
-        configBuilder.setConnectionRequestTimeout(HttpConnectionConstants.DEFAULT_READ_TIMEOUT);
-        // 在提交请求之前 测试连接是否可用
-        configBuilder.setStaleConnectionCheckEnabled(true);
+        configBuilder.setConnectionRequestTimeout(options.getPoolAcquireTimeout());
+        // 不幂等的请求在复用失效的连接失败时不能重试，只能在提交请求之前测试连接是否可用
+        configBuilder.setStaleConnectionCheckEnabled(
+                request.getType() != null && !request.getType().isIdempotent());
         RequestConfig requestConfig = configBuilder.build();
 
         return builder
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .setRetryHandler(new HttpclientStaleConnectionRetryHandler(connectionManager))
                 .setDefaultRequestConfig(requestConfig)
                 .build();
     }
 
+    public HttpConnectionOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    public ConnectionUtilization getUtilization() {
+        if (tsConnectionManager == null) {
+            return null;
+        }
+        // HTTP/1.1 的每个连接同时只能处理一个请求
+        PoolStats stats = tsConnectionManager.getTotalStats();
+        int leased = stats.getLeased();
+        return new ConnectionUtilization(
+                leased + stats.getAvailable(), stats.getAvailable(),
+                leased, 0, leased, leased > 0 ? 1 : 0);
+    }
+
 
 /*
     private static SSLConnectionSocketFactory getSSLConnectionSocketFactory(SSLContext sslContext) {
@@ -260,11 +425,69 @@ public class HttpclientConnectionManager implements ForestConnectionManager {
 
 
 
+    /**
+     * 关闭异步连接池，释放其中的连接和 I/O reactor 线程
+     */
+    private synchronized void closeAsyncConnectionManager() {
+        if (asyncReactorClient != null) {
+            try {
+                // 常驻客户端不共享连接池，关闭时同时关闭连接池
+                asyncReactorClient.close();
+            } catch (IOException ignored) {
+            }
+            asyncReactorClient = null;
+        }
+        if (asyncConnectionManager != null) {
+            try {
+                asyncConnectionManager.shutdown();
+            } catch (IOException ignored) {
+            }
+            asyncConnectionManager = null;
+        }
+    }
+
+    /**
+     * 连接池的 I/O reactor 只能启动一次，由常驻的客户端对象运行，每个请求的客户端对象共享连接池
+     */
+    private void startAsyncReactor() {
+        if (asyncReactorClient == null) {
+            synchronized (this) {
+                if (asyncReactorClient == null) {
+                    CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                            .setConnectionManager(asyncConnectionManager)
+                            .setThreadFactory(runnable -> {
+                                Thread thread = new Thread(runnable, "forest-httpclient-async-reactor");
+                                thread.setDaemon(true);
+                                return thread;
+                            })
+                            .build();
+                    client.start();
+                    asyncReactorClient = client;
+                }
+            }
+        }
+    }
+
+    /**
+     * 关闭异步连接池中所有空闲的连接，复用的连接失效后重新发送请求前调用，避免再次取到失效的连接
+     */
+    public void closeIdleAsyncConnections() {
+        PoolingNHttpClientConnectionManager manager = asyncConnectionManager;
+        if (manager != null) {
+            manager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        }
+    }
+
     public CloseableHttpAsyncClient getHttpAsyncClient(ForestRequest request) {
         if (asyncConnectionManager == null) {
             throw new ForestUnsupportException("Async forest request is unsupported.");
         }
+        checkHttpProtocol(request);
+        if (StringUtils.isNotBlank(request.getUnixSocket())) {
+            throw new ForestUnsupportException("httpclient backend does not support async request over unix domain socket, please use okhttp3 backend.");
+        }
 
+        startAsyncReactor();
         HttpAsyncClientBuilder builder = HttpAsyncClients.custom();
 /*
         if ("https".equals(request.getProtocol())) {
@@ -278,18 +501,17 @@ public class HttpclientConnectionManager implements ForestConnectionManager {
         }
 */
 
-        Integer timeout = request.getTimeout();
-        if (timeout == null) {
-            timeout = request.getConfiguration().getTimeout();
-        }
-
         RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(timeout)
+                .setConnectTimeout(options.getConnectTimeout(request))
                 .setCookieSpec(CookieSpecs.STANDARD)
-                .setSocketTimeout(HttpConnectionConstants.DEFAULT_READ_TIMEOUT).build();
+                .setSocketTimeout(options.getReadTimeout(request))
+                .setConnectionRequestTimeout(options.getPoolAcquireTimeout())
+                .build();
 
         return builder
                 .setConnectionManager(asyncConnectionManager)
+                .setConnectionManagerShared(true)
+                .setKeepAliveStrategy(keepAliveStrategy)
                 .setDefaultAuthSchemeRegistry(authSchemeRegistry)
                 .setDefaultRequestConfig(requestConfig)
                 .build();
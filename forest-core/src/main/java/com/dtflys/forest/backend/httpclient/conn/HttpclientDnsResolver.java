@@ -0,0 +1,28 @@
+package com.dtflys.forest.backend.httpclient.conn;
+
+import com.dtflys.forest.dns.ForestDnsResolver;
+import org.apache.http.conn.DnsResolver;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+/**
+ * 将 {@link ForestDnsResolver} 适配为httpclient的域名解析
+ *
+ * @since 2026-10-19 01:07
+ */
+public class HttpclientDnsResolver implements DnsResolver {
+
+    private final ForestDnsResolver resolver;
+
+    public HttpclientDnsResolver(ForestDnsResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        List<InetAddress> addresses = resolver.resolve(host);
+        return addresses.toArray(new InetAddress[addresses.size()]);
+    }
+}
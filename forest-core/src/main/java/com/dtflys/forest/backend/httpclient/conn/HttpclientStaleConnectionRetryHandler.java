@@ -0,0 +1,68 @@
+package com.dtflys.forest.backend.httpclient.conn;
+
+import com.dtflys.forest.http.ForestRequestType;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.HttpRequestRetryHandler;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 复用已经被服务端关闭的连接时的重试
+ * <p>空闲时间未超过 validateAfterInactivity 的连接在使用前不会检查，服务端关闭这样的连接后，
+ * 请求发出后收不到任何响应，或者连接被关闭、重置。此时只重试一次幂等的请求，重试前关闭连接池中所有空闲的连接，
+ * 避免再次取到失效的连接。其它错误交给Forest的重试器处理</p>
+ * <p>不幂等的请求不能重试，仍然在每次使用连接前检查连接是否可用，
+ * 见 {@link HttpclientConnectionManager#getHttpClient}</p>
+ * <p>Forest的请求都可以携带请求体，所以按请求方法判断是否幂等。异步请求见
+ * {@link com.dtflys.forest.backend.httpclient.request.AsyncHttpclientRequestSender}</p>
+ *
+ * @since 2026-10-19 05:40
+ */
+public class HttpclientStaleConnectionRetryHandler implements HttpRequestRetryHandler {
+
+    private final HttpClientConnectionManager connectionManager;
+
+    public HttpclientStaleConnectionRetryHandler(HttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Override
+    public boolean retryRequest(IOException exception, int executionCount, HttpContext context) {
+        if (executionCount > 1 || !isStaleConnection(exception)) {
+            return false;
+        }
+        HttpRequest request = HttpClientContext.adapt(context).getRequest();
+        if (request == null) {
+            return false;
+        }
+        ForestRequestType type = ForestRequestType.findType(request.getRequestLine().getMethod());
+        if (type == null || !type.isIdempotent()) {
+            return false;
+        }
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    /**
+     * 是否为失效的连接上收不到响应、被关闭或者被重置的错误，超时、域名解析、建立新连接和SSL握手时的错误不属于这种情况
+     * @param exception 请求的错误
+     * @return {@code true}: 可能是复用了失效的连接
+     */
+    public static boolean isStaleConnection(Throwable exception) {
+        return exception instanceof IOException
+                && !(exception instanceof InterruptedIOException)
+                && !(exception instanceof UnknownHostException)
+                && !(exception instanceof ConnectException)
+                && !(exception instanceof NoRouteToHostException)
+                && !(exception instanceof SSLException);
+    }
+}
@@ -0,0 +1,54 @@
+package com.dtflys.forest.backend.httpclient.conn;
+
+import com.dtflys.forest.socket.UnixDomainSocket;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * 通过 Unix domain socket 建立连接的工厂
+ * <p>HTTPS请求在建立连接后再由 {@link LayeredConnectionSocketFactory} 进行SSL握手</p>
+ *
+ * @since 2026-10-19 02:14
+ */
+public class HttpclientUnixSocketFactory implements ConnectionSocketFactory {
+
+    private final String path;
+
+    private final LayeredConnectionSocketFactory sslSocketFactory;
+
+    /**
+     * @param path Unix domain socket 的文件路径
+     * @param sslSocketFactory SSL连接工厂，明文连接时为 {@code null}
+     */
+    public HttpclientUnixSocketFactory(String path, LayeredConnectionSocketFactory sslSocketFactory) {
+        this.path = path;
+        this.sslSocketFactory = sslSocketFactory;
+    }
+
+    @Override
+    public Socket createSocket(HttpContext context) {
+        return new UnixDomainSocket(path);
+    }
+
+    @Override
+    public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+                                InetSocketAddress localAddress, HttpContext context) throws IOException {
+        Socket sock = socket != null ? socket : createSocket(context);
+        try {
+            sock.connect(remoteAddress, connectTimeout);
+        } catch (IOException e) {
+            sock.close();
+            throw e;
+        }
+        if (sslSocketFactory != null) {
+            return sslSocketFactory.createLayeredSocket(sock, host.getHostName(), remoteAddress.getPort(), context);
+        }
+        return sock;
+    }
+}
@@ -1,12 +1,21 @@
 package com.dtflys.forest.backend.httpclient.request;
 
 import com.dtflys.forest.backend.httpclient.conn.HttpclientConnectionManager;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
 import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.utils.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
 
 /**
  * @author gongjun[jun.gong@thebeastshop.com]
@@ -28,6 +37,51 @@ public abstract class AbstractHttpclientRequestSender implements HttpclientReque
         log.info("[Forest] " + content);
     }
 
+    /**
+     * 重试前重置请求，并同步请求地址（负载均衡在重试时可能切换了端点）和截止时间的剩余时间请求头
+     * @param request Forest请求对象
+     * @param httpRequest httpclient请求对象
+     */
+    protected static void prepareRetry(ForestRequest request, HttpUriRequest httpRequest) {
+        if (!(httpRequest instanceof HttpRequestBase)) {
+            return;
+        }
+        HttpRequestBase requestBase = (HttpRequestBase) httpRequest;
+        requestBase.reset();
+        String deadlineHeader = request.getDeadlineHeader();
+        if (request.getDeadline() != null && StringUtils.isNotEmpty(deadlineHeader)) {
+            requestBase.setHeader(deadlineHeader, request.getHeaderValue(deadlineHeader));
+        }
+        URI uri = requestBase.getURI();
+        try {
+            URL target = new URL(request.getUrl());
+            int port = target.getPort() == target.getDefaultPort() ? -1 : target.getPort();
+            int uriPort = uri.getPort() == target.getDefaultPort() ? -1 : uri.getPort();
+            if (target.getProtocol().equalsIgnoreCase(uri.getScheme())
+                    && target.getHost().equalsIgnoreCase(uri.getHost())
+                    && port == uriPort) {
+                return;
+            }
+            // 与创建请求时一样使用单参数的构造方法，已经编码过的路径不会被再次编码
+            StringBuilder builder = new StringBuilder(target.getProtocol()).append("://");
+            if (StringUtils.isNotEmpty(target.getUserInfo())) {
+                builder.append(target.getUserInfo()).append('@');
+            }
+            builder.append(target.getHost());
+            if (port != -1) {
+                builder.append(':').append(port);
+            }
+            builder.append(target.getPath());
+            String rawQuery = uri.getRawQuery();
+            if (StringUtils.isNotEmpty(rawQuery)) {
+                builder.append('?').append(rawQuery);
+            }
+            requestBase.setURI(new URI(builder.toString()));
+        } catch (MalformedURLException | URISyntaxException e) {
+            throw new ForestRuntimeException(e);
+        }
+    }
+
 
 
 }
@@ -1,6 +1,7 @@
 package com.dtflys.forest.backend.httpclient.request;
 
 import com.dtflys.forest.backend.httpclient.conn.HttpclientConnectionManager;
+import com.dtflys.forest.backend.httpclient.conn.HttpclientStaleConnectionRetryHandler;
 import com.dtflys.forest.backend.httpclient.response.HttpclientForestResponseFactory;
 import com.dtflys.forest.backend.httpclient.response.HttpclientResponseHandler;
 import com.dtflys.forest.exceptions.ForestNetworkException;
@@ -9,13 +10,17 @@ import com.dtflys.forest.handler.LifeCycleHandler;
 import com.dtflys.forest.http.ForestRequest;
 import com.dtflys.forest.http.ForestResponse;
 import com.dtflys.forest.http.ForestResponseFactory;
+import org.apache.http.concurrent.BasicFuture;
 import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 
 import java.io.IOException;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author gongjun[jun.gong@thebeastshop.com]
@@ -30,12 +35,46 @@ public class AsyncHttpclientRequestSender extends AbstractHttpclientRequestSende
 
     @Override
     public void sendRequest(final ForestRequest request, final HttpclientResponseHandler responseHandler, final HttpUriRequest httpRequest, LifeCycleHandler lifeCycleHandler, long startTime, int retryCount)  {
+        final AtomicReference<Future<HttpResponse>> attemptFuture = new AtomicReference<>();
+        // 连接失效时重新发送的请求也通过这个Future返回结果，取消时取消正在进行的请求
+        final BasicFuture<HttpResponse> future = new BasicFuture<>(new FutureCallback<HttpResponse>() {
+            public void completed(final HttpResponse httpResponse) {
+            }
+
+            public void failed(final Exception ex) {
+            }
+
+            public void cancelled() {
+                Future<HttpResponse> attempt = attemptFuture.get();
+                if (attempt != null) {
+                    attempt.cancel(true);
+                }
+            }
+        });
+        // 响应工厂缓存创建的响应对象，回调和返回的Future共用同一个工厂，只读取一次响应体
+        final ForestResponseFactory forestResponseFactory = new HttpclientForestResponseFactory();
+        sendRequest(request, responseHandler, httpRequest, lifeCycleHandler, startTime, retryCount,
+                forestResponseFactory, future, attemptFuture, true);
+        responseHandler.handleFuture(future, forestResponseFactory);
+    }
+
+    /**
+     * 异步客户端不支持重试处理器，幂等的请求在复用的连接失效时在这里重新发送一次，
+     * 与同步请求的 {@link HttpclientStaleConnectionRetryHandler} 一致
+     * @param forestResponseFactory 响应工厂
+     * @param future 返回给调用者的Future
+     * @param attemptFuture 正在进行的请求的Future
+     * @param resendOnStale 是否在连接失效时重新发送
+     */
+    private void sendRequest(final ForestRequest request, final HttpclientResponseHandler responseHandler, final HttpUriRequest httpRequest, LifeCycleHandler lifeCycleHandler, long startTime, int retryCount,
+                             final ForestResponseFactory forestResponseFactory, final BasicFuture<HttpResponse> future,
+                             final AtomicReference<Future<HttpResponse>> attemptFuture, boolean resendOnStale)  {
         final CloseableHttpAsyncClient client = connectionManager.getHttpAsyncClient(request);
         client.start();
-        final ForestResponseFactory forestResponseFactory = new HttpclientForestResponseFactory();
 
-        final Future<HttpResponse> future = client.execute(httpRequest, new FutureCallback<HttpResponse>() {
+        attemptFuture.set(client.execute(httpRequest, new FutureCallback<HttpResponse>() {
             public void completed(final HttpResponse httpResponse) {
+                future.completed(httpResponse);
                 ForestResponse response = forestResponseFactory.createResponse(request, httpResponse, lifeCycleHandler);
                 if (response.isError()) {
                     ForestNetworkException networkException =
@@ -48,10 +87,15 @@ public class AsyncHttpclientRequestSender extends AbstractHttpclientRequestSende
                         responseHandler.handleError(response);
                         return;
                     }
+                    prepareRetry(request, httpRequest);
                     sendRequest(request, responseHandler, httpRequest, lifeCycleHandler, startTime, retryCount + 1);
                     return;
                 }
-                responseHandler.handleSuccess(response);
+                if (request.getOnSuccess() != null) {
+                    responseHandler.handleSuccess(response);
+                } else {
+                    responseHandler.handleSync(httpResponse, response);
+                }
             }
 
             public void failed(final Exception ex) {
@@ -61,6 +105,14 @@ public class AsyncHttpclientRequestSender extends AbstractHttpclientRequestSende
                     } catch (IOException e) {
                     }
                 }
+                if (resendOnStale && isResendable(request, httpRequest, ex)) {
+                    connectionManager.closeIdleAsyncConnections();
+                    prepareRetry(request, httpRequest);
+                    sendRequest(request, responseHandler, httpRequest, lifeCycleHandler, startTime, retryCount,
+                            forestResponseFactory, future, attemptFuture, false);
+                    return;
+                }
+                future.failed(ex);
                 ForestResponse response = forestResponseFactory.createResponse(request, null, lifeCycleHandler);
                 ForestRetryException retryException = new ForestRetryException(
                         ex,  request, request.getRetryCount(), retryCount);
@@ -70,10 +122,12 @@ public class AsyncHttpclientRequestSender extends AbstractHttpclientRequestSende
                     responseHandler.handleError(response, ex);
                     return;
                 }
+                prepareRetry(request, httpRequest);
                 sendRequest(request, responseHandler, httpRequest, lifeCycleHandler, startTime, retryCount + 1);
             }
 
             public void cancelled() {
+                future.cancel(true);
                 synchronized (client) {
                     try {
                         client.close();
@@ -81,7 +135,18 @@ public class AsyncHttpclientRequestSender extends AbstractHttpclientRequestSende
                     }
                 }
             }
-        });
-        responseHandler.handleFuture(future, forestResponseFactory);
+        }));
+    }
+
+    private static boolean isResendable(ForestRequest request, HttpUriRequest httpRequest, Exception ex) {
+        if (!HttpclientStaleConnectionRetryHandler.isStaleConnection(ex)
+                || request.getType() == null || !request.getType().isIdempotent()) {
+            return false;
+        }
+        if (httpRequest instanceof HttpEntityEnclosingRequest) {
+            HttpEntity entity = ((HttpEntityEnclosingRequest) httpRequest).getEntity();
+            return entity == null || entity.isRepeatable();
+        }
+        return true;
     }
 }
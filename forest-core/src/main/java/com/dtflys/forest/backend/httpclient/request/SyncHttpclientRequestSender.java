@@ -100,7 +100,9 @@ public class SyncHttpclientRequestSender extends AbstractHttpclientRequestSender
                 return;
             }
             startTime = new Date().getTime();
+            prepareRetry(request, httpRequest);
             sendRequest(request, responseHandler, httpRequest, lifeCycleHandler, startTime, retryCount + 1);
+            return;
         } finally {
             connectionManager.afterConnect();
         }
@@ -116,6 +118,7 @@ public class SyncHttpclientRequestSender extends AbstractHttpclientRequestSender
                 responseHandler.handleSync(httpResponse, response);
                 return;
             }
+            prepareRetry(request, httpRequest);
             sendRequest(request, responseHandler, httpRequest, lifeCycleHandler, startTime, retryCount + 1);
             return;
         }
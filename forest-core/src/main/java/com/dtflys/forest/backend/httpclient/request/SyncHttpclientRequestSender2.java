@@ -114,6 +114,7 @@ public class SyncHttpclientRequestSender2 extends AbstractHttpclientRequestSende
                 }
             }
             startTime = new Date().getTime();
+            prepareRetry(request, httpRequest);
             sendRequest(request, responseHandler, httpRequest, lifeCycleHandler, startTime, retryCount + 1);
 
         }
@@ -59,7 +59,7 @@ public class HttpclientEntity implements HttpEntity {
 
     @Override
     public InputStream getContent() throws IOException, UnsupportedOperationException {
-        if (isStreaming()) {
+        if (isStreaming() && !request.isStreaming()) {
             InputStream in = entity.getContent();
             ByteArrayOutputStream out = new ByteArrayOutputStream();
             if (contentLength < 0) {
@@ -79,7 +79,7 @@ public class HttpclientForestResponse extends ForestResponse {
         if (content == null) {
             if (contentType == null || contentType.isEmpty()) {
                 return null;
-            } else if (!request.isDownloadFile() && contentType.canReadAsString()) {
+            } else if (!request.isDownloadFile() && !request.isStreaming() && contentType.canReadAsString()) {
                 InputStream inputStream = null;
                 try {
                     inputStream = entity.getContent();
@@ -0,0 +1,96 @@
+package com.dtflys.forest.backend.httpclient5;
+
+import com.dtflys.forest.backend.AbstractHttpBackend;
+import com.dtflys.forest.backend.ForestConnectionManager;
+import com.dtflys.forest.backend.HttpExecutor;
+import com.dtflys.forest.backend.httpclient5.conn.Httpclient5ConnectionManager;
+import com.dtflys.forest.backend.httpclient5.executor.*;
+import com.dtflys.forest.backend.httpclient5.response.Httpclient5ResponseHandler;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+
+/**
+ * 基于 Apache HttpClient 5 的后端，支持通过 ALPN 协商的 HTTP/2 多路复用
+ * <p>需要自行引入 httpclient5 依赖</p>
+ *
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5Backend extends AbstractHttpBackend {
+
+    @Override
+    public String getName() {
+        return "httpclient5";
+    }
+
+    public Httpclient5Backend() {
+        super(new Httpclient5ConnectionManager());
+    }
+
+    @Override
+    protected HttpExecutor createHeadExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5HeadExecutor(
+                (Httpclient5ConnectionManager) connectionManager,
+                getHttpclient5ResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createGetExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5GetExecutor(
+                (Httpclient5ConnectionManager) connectionManager,
+                getHttpclient5ResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createPostExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5PostExecutor(
+                (Httpclient5ConnectionManager) connectionManager,
+                getHttpclient5ResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createPutExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5PutExecutor(
+                (Httpclient5ConnectionManager) connectionManager,
+                getHttpclient5ResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createDeleteExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5DeleteExecutor(
+                (Httpclient5ConnectionManager) connectionManager,
+                getHttpclient5ResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createOptionsExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5OptionsExecutor(
+                (Httpclient5ConnectionManager) connectionManager,
+                getHttpclient5ResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createTraceExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5TraceExecutor(
+                (Httpclient5ConnectionManager) connectionManager,
+                getHttpclient5ResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createPatchExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5PatchExecutor(
+                (Httpclient5ConnectionManager) connectionManager,
+                getHttpclient5ResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    private Httpclient5ResponseHandler getHttpclient5ResponseHandler(ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5ResponseHandler(request, lifeCycleHandler);
+    }
+}
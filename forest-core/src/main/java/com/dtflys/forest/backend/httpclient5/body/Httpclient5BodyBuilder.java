@@ -0,0 +1,106 @@
+package com.dtflys.forest.backend.httpclient5.body;
+
+import com.dtflys.forest.backend.body.AbstractBodyBuilder;
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.mapping.MappingTemplate;
+import com.dtflys.forest.multipart.ForestMultipart;
+import com.dtflys.forest.utils.RequestNameValue;
+import com.dtflys.forest.utils.StringUtils;
+import org.apache.hc.client5.http.entity.UrlEncodedFormEntity;
+import org.apache.hc.client5.http.entity.mime.HttpMultipartMode;
+import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.NameValuePair;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicNameValuePair;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5BodyBuilder extends AbstractBodyBuilder<Httpclient5RequestBody> {
+
+    private static Charset getCharset(String charset) {
+        if (StringUtils.isEmpty(charset)) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(charset);
+        } catch (Throwable th) {
+            throw new ForestRuntimeException("[Forest] '" + charset + "' is not a valid charset", th);
+        }
+    }
+
+    @Override
+    protected void setStringBody(Httpclient5RequestBody body, String text, String charset, String contentType, boolean mergeCharset) {
+        if (StringUtils.isNotEmpty(charset) && mergeCharset && !contentType.contains("charset=")) {
+            contentType = contentType + "; charset=" + charset.toLowerCase();
+        }
+        ByteArrayEntity entity = new ByteArrayEntity(text.getBytes(getCharset(charset)), ContentType.parse(contentType));
+        body.setEntity(entity, text, false);
+    }
+
+    @Override
+    protected void setFormBody(Httpclient5RequestBody body, ForestRequest request, String charset, String contentType, List<RequestNameValue> nameValueList) {
+        ForestJsonConverter jsonConverter = request.getConfiguration().getJsonConverter();
+        List<NameValuePair> pairs = new ArrayList<>();
+        for (RequestNameValue nameValue : nameValueList) {
+            if (!nameValue.isInBody()) continue;
+            String value = MappingTemplate.getParameterValue(jsonConverter, nameValue.getValue());
+            pairs.add(new BasicNameValuePair(nameValue.getName(), value));
+        }
+        if (pairs.isEmpty()) {
+            return;
+        }
+        UrlEncodedFormEntity entity = new UrlEncodedFormEntity(pairs, getCharset(charset));
+        String logContent;
+        try {
+            logContent = EntityUtils.toString(entity);
+        } catch (Exception e) {
+            throw new ForestRuntimeException(e);
+        }
+        body.setEntity(entity, logContent, false);
+    }
+
+    @Override
+    protected void setFileBody(Httpclient5RequestBody body,
+                               ForestRequest request,
+                               String charset, String contentType,
+                               List<RequestNameValue> nameValueList,
+                               List<ForestMultipart> multiparts,
+                               LifeCycleHandler lifeCycleHandler) {
+        Charset httpCharset = getCharset(charset);
+        MultipartEntityBuilder entityBuilder = MultipartEntityBuilder.create();
+        // 解决文件名乱码问题
+        entityBuilder.setCharset(httpCharset);
+        entityBuilder.setMode(HttpMultipartMode.EXTENDED);
+        ForestJsonConverter jsonConverter = request.getConfiguration().getJsonConverter();
+        StringBuilder logBuilder = new StringBuilder("parts:");
+        for (RequestNameValue nameValue : nameValueList) {
+            if (!nameValue.isInBody()) continue;
+            String value = MappingTemplate.getParameterValue(jsonConverter, nameValue.getValue());
+            entityBuilder.addTextBody(nameValue.getName(), value, ContentType.TEXT_PLAIN.withCharset(httpCharset));
+            logBuilder.append("\n             -- [form-data; name=\"").append(nameValue.getName())
+                    .append("\"; value=\"").append(value).append("\"]");
+        }
+        for (ForestMultipart multipart : multiparts) {
+            ContentType partType = ContentType.create(multipart.getContentType(), httpCharset);
+            entityBuilder.addPart(multipart.getName(), new Httpclient5MultipartBody(request, multipart, partType, lifeCycleHandler));
+            logBuilder.append("\n             -- [form-data; name=\"").append(multipart.getName())
+                    .append("\"; filename=\"").append(multipart.getOriginalFileName()).append("\"");
+            if (multipart.getSize() >= 0) {
+                logBuilder.append("; length=").append(multipart.getSize());
+            }
+            logBuilder.append("]");
+        }
+        body.setEntity(entityBuilder.build(), logBuilder.toString(), true);
+    }
+}
@@ -0,0 +1,82 @@
+package com.dtflys.forest.backend.httpclient5.body;
+
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.multipart.ForestMultipart;
+import com.dtflys.forest.utils.ForestProgress;
+import org.apache.hc.client5.http.entity.mime.AbstractContentBody;
+import org.apache.hc.core5.http.ContentType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * HttpClient 5 后端的文件上传数据，写入时回调进度监听
+ *
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5MultipartBody extends AbstractContentBody {
+
+    private final ForestRequest request;
+
+    private final LifeCycleHandler handler;
+
+    private final ForestMultipart multipart;
+
+    private final long progressStep;
+
+    public Httpclient5MultipartBody(ForestRequest request, ForestMultipart multipart, ContentType contentType, LifeCycleHandler handler) {
+        super(contentType);
+        this.request = request;
+        this.multipart = multipart;
+        this.handler = handler;
+        this.progressStep = request.getProgressStep();
+    }
+
+    @Override
+    public String getFilename() {
+        return multipart.getOriginalFileName();
+    }
+
+    @Override
+    public long getContentLength() {
+        return multipart.getSize();
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        long contentLength = getContentLength();
+        ForestProgress progress = new ForestProgress(request, contentLength);
+        long writtenBytes = 0;
+        long currentStep = 0;
+        try (InputStream in = multipart.getInputStream()) {
+            byte[] tmp = new byte[4096];
+            int len;
+            progress.setBegin(true);
+            while ((len = in.read(tmp)) != -1) {
+                out.write(tmp, 0, len);
+                // increment current length of written bytes
+                writtenBytes += len;
+                progress.setCurrentBytes(writtenBytes);
+                if (contentLength >= 0) {
+                    currentStep += len;
+                    if (writtenBytes == contentLength) {
+                        // progress is done
+                        progress.setDone(true);
+                        handler.handleProgress(request, progress);
+                    } else {
+                        while (currentStep >= progressStep) {
+                            currentStep = currentStep - progressStep;
+                            progress.setDone(false);
+                            // invoke progress listener
+                            handler.handleProgress(request, progress);
+                        }
+                    }
+                }
+                progress.setBegin(false);
+            }
+            out.flush();
+        }
+    }
+}
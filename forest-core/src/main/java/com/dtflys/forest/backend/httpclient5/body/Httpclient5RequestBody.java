@@ -0,0 +1,71 @@
+package com.dtflys.forest.backend.httpclient5.body;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityProducer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+
+/**
+ * 请求体构造器的构造结果
+ * <p>经典客户端直接发送 {@link HttpEntity}；异步客户端发送普通请求体时将其转为字节数组，
+ * 发送文件上传的请求体时在工作线程中把 {@link HttpEntity} 写入 {@link AbstractClassicEntityProducer} 的共享缓冲区，
+ * 文件内容不会整体读入内存</p>
+ *
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5RequestBody {
+
+    private HttpEntity entity;
+
+    private String logContent;
+
+    private boolean streaming = false;
+
+    public HttpEntity getEntity() {
+        return entity;
+    }
+
+    public String getLogContent() {
+        return logContent;
+    }
+
+    void setEntity(HttpEntity entity, String logContent, boolean streaming) {
+        this.entity = entity;
+        this.logContent = logContent;
+        this.streaming = streaming;
+    }
+
+    /**
+     * 创建异步客户端的请求体生产者
+     * @param executor 写入流式请求体的线程池
+     * @return 请求体生产者，没有请求体时返回 {@code null}
+     */
+    public AsyncEntityProducer createProducer(Executor executor) {
+        if (entity == null) {
+            return null;
+        }
+        ContentType contentType = entity.getContentType() != null ? ContentType.parse(entity.getContentType()) : null;
+        if (streaming) {
+            return new AbstractClassicEntityProducer(4096, contentType, executor) {
+                @Override
+                protected void produceData(ContentType type, OutputStream out) throws IOException {
+                    entity.writeTo(out);
+                }
+            };
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            entity.writeTo(out);
+        } catch (IOException e) {
+            throw new ForestRuntimeException(e);
+        }
+        return AsyncEntityProducers.create(out.toByteArray(), contentType);
+    }
+}
@@ -0,0 +1,308 @@
+package com.dtflys.forest.backend.httpclient5.conn;
+
+import com.dtflys.forest.backend.ConnectionUtilization;
+import com.dtflys.forest.backend.ForestConnectionManager;
+import com.dtflys.forest.backend.HttpConnectionOptions;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.exceptions.ForestUnsupportException;
+import com.dtflys.forest.http.ForestProtocol;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.ssl.SSLUtils;
+import com.dtflys.forest.ssl.TrustAllHostnameVerifier;
+import com.dtflys.forest.utils.StringUtils;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import javax.net.ssl.SSLContext;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 基于 HttpClient 5 的连接管理器
+ * <p>同步请求使用经典的阻塞连接池，异步请求和指定 HTTP/2 的请求使用 {@link CloseableHttpAsyncClient}，
+ * 其连接池在 HTTP/2 连接上复用多个请求流。客户端创建后不能修改SSL配置和协议版本策略，所以按这些配置缓存客户端</p>
+ *
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5ConnectionManager implements ForestConnectionManager {
+
+    /**
+     * connection options
+     */
+    private HttpConnectionOptions options;
+
+    /**
+     * executor of blocking body producers and response callbacks
+     */
+    private ExecutorService workerExecutor;
+
+    private final Map<String, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+
+    private final Map<String, PoolingHttpClientConnectionManager> pools = new ConcurrentHashMap<>();
+
+    private final Map<String, CloseableHttpAsyncClient> asyncClients = new ConcurrentHashMap<>();
+
+    private final Map<String, PoolingAsyncClientConnectionManager> asyncPools = new ConcurrentHashMap<>();
+
+    @Override
+    public void init(ForestConfiguration configuration) {
+        init(configuration, new HttpConnectionOptions(configuration));
+    }
+
+    @Override
+    public void init(ForestConfiguration configuration, HttpConnectionOptions options) {
+        this.options = options;
+        if (workerExecutor == null) {
+            workerExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "forest-httpclient5-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        closeClients();
+    }
+
+    @Override
+    public void close() {
+        closeClients();
+        if (workerExecutor != null) {
+            workerExecutor.shutdown();
+            workerExecutor = null;
+        }
+    }
+
+    /**
+     * 关闭已经创建的客户端和连接池，异步客户端关闭后才会停止其I/O线程
+     */
+    private void closeClients() {
+        for (CloseableHttpClient client : clients.values()) {
+            client.close(CloseMode.GRACEFUL);
+        }
+        for (PoolingHttpClientConnectionManager pool : pools.values()) {
+            pool.close(CloseMode.GRACEFUL);
+        }
+        for (CloseableHttpAsyncClient client : asyncClients.values()) {
+            client.close(CloseMode.GRACEFUL);
+        }
+        for (PoolingAsyncClientConnectionManager pool : asyncPools.values()) {
+            pool.close(CloseMode.GRACEFUL);
+        }
+        clients.clear();
+        pools.clear();
+        asyncClients.clear();
+        asyncPools.clear();
+    }
+
+    public HttpConnectionOptions getOptions() {
+        return options;
+    }
+
+    public ExecutorService getWorkerExecutor() {
+        return workerExecutor;
+    }
+
+    /**
+     * 经典的阻塞客户端只支持 HTTP/1.1，指定 HTTP/2 的同步请求也通过异步客户端发送
+     * @param request 请求对象
+     * @return {@code true} 需要使用异步客户端
+     */
+    public boolean isAsyncClientRequired(ForestRequest request) {
+        return request.isAsync()
+                || request.getHttpProtocol() == ForestProtocol.HTTP_2
+                || request.getHttpProtocol() == ForestProtocol.H2C;
+    }
+
+    /**
+     * 获取请求的超时配置
+     * @param request 请求对象
+     * @return 超时配置
+     */
+    public RequestConfig getRequestConfig(ForestRequest request) {
+        RequestConfig.Builder builder = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(options.getPoolAcquireTimeout()));
+        int connectTimeout = options.getConnectTimeout(request);
+        if (connectTimeout > 0) {
+            builder.setConnectTimeout(Timeout.ofMilliseconds(connectTimeout));
+        }
+        int readTimeout = options.getReadTimeout(request);
+        if (readTimeout > 0) {
+            builder.setResponseTimeout(Timeout.ofMilliseconds(readTimeout));
+        }
+        return builder.build();
+    }
+
+    private static String getSslKey(ForestRequest request) {
+        if (!"https".equals(request.getProtocol())) {
+            return "plain";
+        }
+        String key = SSLUtils.getSSLContextProtocol(request.getSslProtocol());
+        if (request.getKeyStore() != null) {
+            key += ":" + request.getKeyStore().getId();
+        }
+        return key;
+    }
+
+    private static SSLContext getSSLContext(ForestRequest request) {
+        if (!"https".equals(request.getProtocol())) {
+            return null;
+        }
+        try {
+            return SSLUtils.getSSLContext(request, SSLUtils.getSSLContextProtocol(request.getSslProtocol()));
+        } catch (Exception e) {
+            throw new ForestRuntimeException(e);
+        }
+    }
+
+    private static void checkUnixSocket(ForestRequest request) {
+        if (StringUtils.isNotBlank(request.getUnixSocket())) {
+            throw new ForestUnsupportException("httpclient5 backend does not support unix domain socket, please use okhttp3 or httpclient backend.");
+        }
+    }
+
+    /**
+     * 不幂等的请求复用失效的连接失败时不能重试，只能使用每次取出连接都会检查的连接池，
+     * 幂等的请求在复用的连接失效时重试一次，见 {@link Httpclient5StaleConnectionRetryStrategy}
+     * @param request 请求对象
+     * @return 取出连接前检查的空闲时间，为 {@code null} 时不检查
+     */
+    private TimeValue getValidateAfterInactivity(ForestRequest request) {
+        if (!isIdempotent(request)) {
+            return TimeValue.ZERO_MILLISECONDS;
+        }
+        if (options.getValidateAfterInactivity() > 0) {
+            return TimeValue.ofMilliseconds(options.getValidateAfterInactivity());
+        }
+        return null;
+    }
+
+    private static boolean isIdempotent(ForestRequest request) {
+        return request.getType() == null || request.getType().isIdempotent();
+    }
+
+    private static String getPoolKey(ForestRequest request) {
+        String key = getSslKey(request);
+        return isIdempotent(request) ? key : key + ":checked";
+    }
+
+    public CloseableHttpClient getClient(ForestRequest request) {
+        checkUnixSocket(request);
+        TimeValue validateAfterInactivity = getValidateAfterInactivity(request);
+        return clients.computeIfAbsent(getPoolKey(request), key -> {
+            PoolingHttpClientConnectionManagerBuilder poolBuilder = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(options.getMaxConnections())
+                    .setMaxConnPerRoute(options.getMaxRouteConnections());
+            SSLContext sslContext = getSSLContext(request);
+            if (sslContext != null) {
+                poolBuilder.setSSLSocketFactory(new SSLConnectionSocketFactory(sslContext, TrustAllHostnameVerifier.DEFAULT));
+            }
+            if (options.getDnsResolver() != null) {
+                poolBuilder.setDnsResolver(new Httpclient5DnsResolver(options.getDnsResolver()));
+            }
+            if (validateAfterInactivity != null) {
+                poolBuilder.setValidateAfterInactivity(validateAfterInactivity);
+            }
+            PoolingHttpClientConnectionManager pool = poolBuilder.build();
+            pools.put(key, pool);
+            HttpClientBuilder builder = HttpClients.custom()
+                    .setConnectionManager(pool)
+                    .setRetryStrategy(new Httpclient5StaleConnectionRetryStrategy(pool));
+            if (options.getEvictionInterval() > 0) {
+                builder.evictExpiredConnections()
+                        .evictIdleConnections(TimeValue.ofMilliseconds(options.getKeepAliveTime()));
+            }
+            return builder.build();
+        });
+    }
+
+    public CloseableHttpAsyncClient getAsyncClient(ForestRequest request) {
+        checkUnixSocket(request);
+        HttpVersionPolicy versionPolicy = getVersionPolicy(request);
+        TimeValue validateAfterInactivity = getValidateAfterInactivity(request);
+        return asyncClients.computeIfAbsent(getPoolKey(request) + ":" + versionPolicy, key -> {
+            PoolingAsyncClientConnectionManagerBuilder poolBuilder = PoolingAsyncClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(options.getMaxConnections())
+                    .setMaxConnPerRoute(options.getMaxRouteConnections());
+            SSLContext sslContext = getSSLContext(request);
+            if (sslContext != null) {
+                poolBuilder.setTlsStrategy(ClientTlsStrategyBuilder.create()
+                        .setSslContext(sslContext)
+                        .setHostnameVerifier(TrustAllHostnameVerifier.DEFAULT)
+                        .build());
+            }
+            if (options.getDnsResolver() != null) {
+                poolBuilder.setDnsResolver(new Httpclient5DnsResolver(options.getDnsResolver()));
+            }
+            if (validateAfterInactivity != null) {
+                poolBuilder.setValidateAfterInactivity(validateAfterInactivity);
+            }
+            PoolingAsyncClientConnectionManager pool = poolBuilder.build();
+            asyncPools.put(key, pool);
+            HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                    .setConnectionManager(pool)
+                    .setVersionPolicy(versionPolicy)
+                    .setRetryStrategy(new Httpclient5StaleConnectionRetryStrategy(pool));
+            if (options.getEvictionInterval() > 0) {
+                builder.evictExpiredConnections()
+                        .evictIdleConnections(TimeValue.ofMilliseconds(options.getKeepAliveTime()));
+            }
+            CloseableHttpAsyncClient client = builder.build();
+            client.start();
+            return client;
+        });
+    }
+
+    /**
+     * 未指定协议时，HTTPS请求通过 ALPN 协商，明文请求使用 HTTP/1.1；
+     * 指定 h2c 时以 prior knowledge 方式直接发送 HTTP/2 明文请求
+     * @param request 请求对象
+     * @return 协议版本策略
+     */
+    private static HttpVersionPolicy getVersionPolicy(ForestRequest request) {
+        ForestProtocol protocol = request.getHttpProtocol();
+        if (protocol == ForestProtocol.HTTP_2 || protocol == ForestProtocol.H2C) {
+            return HttpVersionPolicy.FORCE_HTTP_2;
+        }
+        if (protocol == ForestProtocol.HTTP_1_1) {
+            return HttpVersionPolicy.FORCE_HTTP_1;
+        }
+        return HttpVersionPolicy.NEGOTIATE;
+    }
+
+    @Override
+    public ConnectionUtilization getUtilization() {
+        int leased = 0;
+        int available = 0;
+        for (ConnPoolControl<?> pool : pools.values()) {
+            PoolStats stats = pool.getTotalStats();
+            leased += stats.getLeased();
+            available += stats.getAvailable();
+        }
+        for (ConnPoolControl<?> pool : asyncPools.values()) {
+            PoolStats stats = pool.getTotalStats();
+            leased += stats.getLeased();
+            available += stats.getAvailable();
+        }
+        int connections = leased + available;
+        return new ConnectionUtilization(connections, available, leased, 0, leased, connections > 0 ? 1 : 0);
+    }
+}
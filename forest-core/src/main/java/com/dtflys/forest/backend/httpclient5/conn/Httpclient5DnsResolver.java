@@ -0,0 +1,34 @@
+package com.dtflys.forest.backend.httpclient5.conn;
+
+import com.dtflys.forest.dns.ForestDnsResolver;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+/**
+ * 将 {@link ForestDnsResolver} 适配为 HttpClient 5 的域名解析器
+ *
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5DnsResolver implements DnsResolver {
+
+    private final ForestDnsResolver dnsResolver;
+
+    public Httpclient5DnsResolver(ForestDnsResolver dnsResolver) {
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        List<InetAddress> addresses = dnsResolver.resolve(host);
+        return addresses.toArray(new InetAddress[0]);
+    }
+
+    @Override
+    public String resolveCanonicalHostname(String host) throws UnknownHostException {
+        return SystemDefaultDnsResolver.INSTANCE.resolveCanonicalHostname(host);
+    }
+}
@@ -0,0 +1,75 @@
+package com.dtflys.forest.backend.httpclient5.conn;
+
+import com.dtflys.forest.http.ForestRequestType;
+import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.RequestNotExecutedException;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.util.TimeValue;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+
+/**
+ * 复用已经被服务端关闭的连接时的重试
+ * <p>空闲时间未超过 validateAfterInactivity 的连接在使用前不会检查，服务端关闭这样的连接后，
+ * 请求发出后收不到任何响应，或者连接被关闭、重置。此时只重试一次幂等的请求，重试前关闭连接池中所有空闲的连接，
+ * 避免再次取到失效的连接。其它错误和根据响应的重试交给Forest的重试器处理</p>
+ * <p>不幂等的请求不能重试，使用每次取出连接都会检查的连接池，
+ * 见 {@link Httpclient5ConnectionManager#getClient}</p>
+ *
+ * @since 2026-10-19 06:10
+ */
+public class Httpclient5StaleConnectionRetryStrategy implements HttpRequestRetryStrategy {
+
+    private final ConnPoolControl<?> pool;
+
+    public Httpclient5StaleConnectionRetryStrategy(ConnPoolControl<?> pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+        // 请求还没有发出连接就已经关闭时 (例如重试时取到了正在关闭的连接)，任何请求都可以安全地再发送一次
+        if (exception instanceof RequestNotExecutedException && execCount <= 2) {
+            pool.closeIdle(TimeValue.ZERO_MILLISECONDS);
+            return true;
+        }
+        if (execCount > 1 || !isStaleConnection(exception)) {
+            return false;
+        }
+        ForestRequestType type = ForestRequestType.findType(request.getMethod());
+        if (type == null || !type.isIdempotent()) {
+            return false;
+        }
+        pool.closeIdle(TimeValue.ZERO_MILLISECONDS);
+        return true;
+    }
+
+    @Override
+    public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+        return false;
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+        return TimeValue.ZERO_MILLISECONDS;
+    }
+
+    /**
+     * 失效的连接上收不到响应、被关闭或者被重置，超时、域名解析、建立新连接和SSL握手时的错误不属于这种情况
+     */
+    private static boolean isStaleConnection(IOException exception) {
+        return !(exception instanceof InterruptedIOException)
+                && !(exception instanceof UnknownHostException)
+                && !(exception instanceof ConnectException)
+                && !(exception instanceof NoRouteToHostException)
+                && !(exception instanceof SSLException);
+    }
+}
@@ -0,0 +1,227 @@
+package com.dtflys.forest.backend.httpclient5.executor;
+
+import com.dtflys.forest.backend.AbstractExchangeExecutor;
+import com.dtflys.forest.backend.BodyBuilder;
+import com.dtflys.forest.backend.httpclient5.body.Httpclient5RequestBody;
+import com.dtflys.forest.backend.httpclient5.conn.Httpclient5ConnectionManager;
+import com.dtflys.forest.backend.httpclient5.response.Httpclient5ForestResponseFactory;
+import com.dtflys.forest.backend.httpclient5.response.Httpclient5Response;
+import com.dtflys.forest.backend.httpclient5.response.Httpclient5ResponseConsumer;
+import com.dtflys.forest.backend.httpclient5.response.Httpclient5ResponseHandler;
+import com.dtflys.forest.backend.url.URLBuilder;
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.mapping.MappingTemplate;
+import com.dtflys.forest.utils.RequestNameValue;
+import com.dtflys.forest.utils.StringUtils;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * 基于 HttpClient 5 的请求执行器
+ * <p>同步的 HTTP/1.1 请求使用经典客户端在调用线程中完成；异步请求和指定 HTTP/2 的请求使用异步客户端，
+ * 请求的发送和响应的接收都在I/O线程中完成，异步请求的回调在单独的工作线程池中执行</p>
+ *
+ * @since 2026-10-19 02:06
+ */
+public abstract class AbstractHttpclient5Executor extends AbstractExchangeExecutor<Httpclient5Response> {
+
+    private final Httpclient5ConnectionManager connectionManager;
+
+    protected AbstractHttpclient5Executor(ForestRequest request, Httpclient5ConnectionManager connectionManager, Httpclient5ResponseHandler httpclient5ResponseHandler) {
+        super(request, httpclient5ResponseHandler, new Httpclient5ForestResponseFactory());
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * 请求方法
+     * @return 请求方法
+     */
+    protected abstract String getMethod();
+
+    protected abstract BodyBuilder<Httpclient5RequestBody> getBodyBuilder();
+
+    protected abstract URLBuilder getURLBuilder();
+
+    protected List<Header> prepareHeaders(Httpclient5RequestBody body) {
+        List<Header> headers = new ArrayList<>();
+        ForestJsonConverter jsonConverter = request.getConfiguration().getJsonConverter();
+        List<RequestNameValue> headerList = request.getHeaderNameValueList();
+        if (headerList != null && !headerList.isEmpty()) {
+            for (RequestNameValue nameValue : headerList) {
+                String name = nameValue.getName();
+                if (!name.equalsIgnoreCase("Content-Type")
+                        && !name.equalsIgnoreCase("Content-Encoding")) {
+                    headers.add(new BasicHeader(name, MappingTemplate.getParameterValue(jsonConverter, nameValue.getValue())));
+                }
+            }
+        }
+        // 有请求体时由请求体的内容类型决定 Content-Type 头
+        String contentType = request.getContentType();
+        if (body.getEntity() == null && StringUtils.isNotEmpty(contentType)) {
+            headers.add(new BasicHeader(HttpHeaders.CONTENT_TYPE, contentType));
+        }
+        String contentEncoding = request.getContentEncoding();
+        if (StringUtils.isNotEmpty(contentEncoding)) {
+            headers.add(new BasicHeader(HttpHeaders.CONTENT_ENCODING, contentEncoding));
+        }
+        return headers;
+    }
+
+    /**
+     * 使用经典客户端在当前线程中发送请求
+     * @return 已完成的Future
+     */
+    private CompletableFuture<Httpclient5Response> exchangeClassic(URI uri, List<Header> headers, Httpclient5RequestBody body) {
+        CompletableFuture<Httpclient5Response> exchangeFuture = new CompletableFuture<>();
+        HttpUriRequestBase httpRequest = new HttpUriRequestBase(getMethod(), uri);
+        for (Header header : headers) {
+            httpRequest.addHeader(header);
+        }
+        httpRequest.setEntity(body.getEntity());
+        httpRequest.setConfig(connectionManager.getRequestConfig(request));
+        try {
+            final CloseableHttpResponse httpResponse = connectionManager.getClient(request).execute(httpRequest);
+            HttpEntity entity = httpResponse.getEntity();
+            InputStream in;
+            if (entity == null) {
+                httpResponse.close();
+                in = new ByteArrayInputStream(new byte[0]);
+            } else if (request.isStreaming() || request.isDownloadFile()) {
+                in = new FilterInputStream(entity.getContent()) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            httpResponse.close();
+                        }
+                    }
+                };
+            } else {
+                try {
+                    in = new ByteArrayInputStream(EntityUtils.toByteArray(entity));
+                } finally {
+                    httpResponse.close();
+                }
+            }
+            exchangeFuture.complete(new Httpclient5Response(
+                    httpResponse.getCode(), httpResponse.getReasonPhrase(), httpResponse.getHeaders(), in));
+        } catch (IOException e) {
+            exchangeFuture.completeExceptionally(e);
+        }
+        return exchangeFuture;
+    }
+
+    /**
+     * 使用异步客户端发送请求
+     * @return 收到响应后完成的Future
+     */
+    private CompletableFuture<Httpclient5Response> exchangeAsync(URI uri, List<Header> headers, Httpclient5RequestBody body) {
+        final CompletableFuture<Httpclient5Response> exchangeFuture = new CompletableFuture<>();
+        BasicHttpRequest httpRequest = new BasicHttpRequest(getMethod(), uri);
+        for (Header header : headers) {
+            httpRequest.addHeader(header);
+        }
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(connectionManager.getRequestConfig(request));
+        Httpclient5ResponseConsumer consumer = new Httpclient5ResponseConsumer(
+                request.isStreaming() || request.isDownloadFile());
+        Future<Httpclient5Response> future = connectionManager.getAsyncClient(request).execute(
+                new BasicRequestProducer(httpRequest, body.createProducer(connectionManager.getWorkerExecutor())),
+                consumer, context, new FutureCallback<Httpclient5Response>() {
+                    @Override
+                    public void completed(Httpclient5Response result) {
+                        exchangeFuture.complete(result);
+                    }
+
+                    @Override
+                    public void failed(Exception ex) {
+                        exchangeFuture.completeExceptionally(ex);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        exchangeFuture.completeExceptionally(new IOException("Request cancelled"));
+                    }
+                });
+        consumer.setExchangeFuture(future);
+        return exchangeFuture;
+    }
+
+    @Override
+    protected CompletableFuture<Httpclient5Response> sendRequest(LifeCycleHandler lifeCycleHandler, int retryCount) {
+        String urlText = getURLBuilder().buildUrl(request);
+        URI uri;
+        try {
+            uri = new URI(urlText);
+        } catch (URISyntaxException e) {
+            throw new ForestRuntimeException(e);
+        }
+        Httpclient5RequestBody body = new Httpclient5RequestBody();
+        getBodyBuilder().buildBody(body, request, lifeCycleHandler);
+        List<Header> headers = prepareHeaders(body);
+        List<Map.Entry<String, String>> headerEntries = new ArrayList<>(headers.size());
+        for (Header header : headers) {
+            headerEntries.add(new AbstractMap.SimpleEntry<>(header.getName(), header.getValue()));
+        }
+        logRequest(retryCount, getMethod(), uri, uri.getScheme(), headerEntries, body.getLogContent());
+        if (connectionManager.isAsyncClientRequired(request)) {
+            return exchangeAsync(uri, headers, body);
+        }
+        return exchangeClassic(uri, headers, body);
+    }
+
+    @Override
+    protected int getStatusCode(Httpclient5Response httpResponse) {
+        return httpResponse.getStatusCode();
+    }
+
+    @Override
+    protected String getReasonPhrase(Httpclient5Response httpResponse) {
+        return httpResponse.getReasonPhrase();
+    }
+
+    @Override
+    protected void closeResponse(Httpclient5Response httpResponse) {
+        // 流式的响应体还占用着连接
+        InputStream in = httpResponse.getBody();
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    protected Executor getCallbackExecutor() {
+        return connectionManager.getWorkerExecutor();
+    }
+}
@@ -0,0 +1,36 @@
+package com.dtflys.forest.backend.httpclient5.executor;
+
+import com.dtflys.forest.backend.BodyBuilder;
+import com.dtflys.forest.backend.httpclient5.body.Httpclient5BodyBuilder;
+import com.dtflys.forest.backend.httpclient5.body.Httpclient5RequestBody;
+import com.dtflys.forest.backend.httpclient5.conn.Httpclient5ConnectionManager;
+import com.dtflys.forest.backend.httpclient5.response.Httpclient5ResponseHandler;
+import com.dtflys.forest.backend.url.URLBuilder;
+import com.dtflys.forest.http.ForestRequest;
+
+/**
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5PatchExecutor extends AbstractHttpclient5Executor {
+
+    private static final BodyBuilder bodyBuilder = new Httpclient5BodyBuilder();
+
+    public Httpclient5PatchExecutor(Httpclient5ConnectionManager connectionManager, Httpclient5ResponseHandler httpclient5ResponseHandler, ForestRequest request) {
+        super(request, connectionManager, httpclient5ResponseHandler);
+    }
+
+    @Override
+    protected String getMethod() {
+        return "PATCH";
+    }
+
+    @Override
+    protected BodyBuilder<Httpclient5RequestBody> getBodyBuilder() {
+        return bodyBuilder;
+    }
+
+    @Override
+    protected URLBuilder getURLBuilder() {
+        return URLBuilder.getSimpleURLBuilder();
+    }
+}
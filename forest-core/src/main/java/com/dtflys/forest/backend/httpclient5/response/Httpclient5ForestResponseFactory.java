@@ -0,0 +1,17 @@
+package com.dtflys.forest.backend.httpclient5.response;
+
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.http.ForestResponseFactory;
+
+/**
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5ForestResponseFactory implements ForestResponseFactory<Httpclient5Response> {
+
+    @Override
+    public ForestResponse createResponse(ForestRequest request, Httpclient5Response res, LifeCycleHandler lifeCycleHandler) {
+        return new Httpclient5ForestResponse(request, res, lifeCycleHandler);
+    }
+}
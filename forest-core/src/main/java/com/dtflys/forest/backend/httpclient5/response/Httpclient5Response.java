@@ -0,0 +1,54 @@
+package com.dtflys.forest.backend.httpclient5.response;
+
+import org.apache.hc.core5.http.Header;
+
+import java.io.InputStream;
+
+/**
+ * HttpClient 5 收到的响应，包括状态、响应头和响应体输入流
+ * <p>经典客户端和异步客户端的响应都转换为该对象，后续处理不区分两者</p>
+ *
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5Response {
+
+    private final int statusCode;
+
+    private final String reasonPhrase;
+
+    private final Header[] headers;
+
+    private final InputStream body;
+
+    public Httpclient5Response(int statusCode, String reasonPhrase, Header[] headers, InputStream body) {
+        this.statusCode = statusCode;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getReasonPhrase() {
+        return reasonPhrase;
+    }
+
+    public Header[] getHeaders() {
+        return headers;
+    }
+
+    public String getFirstHeader(String name) {
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    public InputStream getBody() {
+        return body;
+    }
+}
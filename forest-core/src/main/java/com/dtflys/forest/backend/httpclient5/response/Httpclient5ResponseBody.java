@@ -0,0 +1,167 @@
+package com.dtflys.forest.backend.httpclient5.response;
+
+import org.apache.hc.core5.http.nio.CapacityChannel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 异步客户端的响应体输入流
+ * <p>I/O线程将收到的数据块放入队列，读取线程从队列中依次读取。
+ * 流式读取时只有读取线程取走数据后才向连接归还相应的接收容量 (HTTP/2 下即流量控制窗口)，避免慢速消费者撑满内存</p>
+ *
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5ResponseBody extends InputStream {
+
+    private final static Object END = new Object();
+
+    /**
+     * 流式读取时首次授予的接收容量
+     */
+    private final static int INITIAL_CAPACITY = 64 * 1024;
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+
+    private final boolean flowControl;
+
+    private final Runnable abortHandler;
+
+    private CapacityChannel capacityChannel;
+
+    private int releasedBytes = INITIAL_CAPACITY;
+
+    private byte[] current;
+
+    private int position;
+
+    private boolean end = false;
+
+    private boolean closed = false;
+
+    private volatile boolean finished = false;
+
+    /**
+     * @param flowControl 是否在读取线程取走数据后才归还接收容量
+     * @param abortHandler 响应体未读完就关闭时的回调
+     */
+    public Httpclient5ResponseBody(boolean flowControl, Runnable abortHandler) {
+        this.flowControl = flowControl;
+        this.abortHandler = abortHandler;
+    }
+
+    /**
+     * 连接需要更多接收容量时调用
+     * @param capacityChannel 接收容量通道
+     * @throws IOException 更新容量异常
+     */
+    public synchronized void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+        this.capacityChannel = capacityChannel;
+        if (!flowControl) {
+            capacityChannel.update(Integer.MAX_VALUE);
+        } else if (releasedBytes > 0) {
+            capacityChannel.update(releasedBytes);
+            releasedBytes = 0;
+        }
+    }
+
+    private synchronized void release(int bytes) throws IOException {
+        if (!flowControl || finished) {
+            return;
+        }
+        if (capacityChannel != null) {
+            capacityChannel.update(releasedBytes + bytes);
+            releasedBytes = 0;
+        } else {
+            releasedBytes += bytes;
+        }
+    }
+
+    public synchronized void offer(byte[] bytes) {
+        if (closed) {
+            return;
+        }
+        queue.offer(bytes);
+    }
+
+    public void finish() {
+        finished = true;
+        queue.offer(END);
+    }
+
+    public void fail(Throwable cause) {
+        finished = true;
+        queue.offer(cause);
+    }
+
+    private boolean nextBuffer() throws IOException {
+        while (current == null || position >= current.length) {
+            if (current != null) {
+                release(current.length);
+                current = null;
+            }
+            Object next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            if (next == END) {
+                end = true;
+                return false;
+            }
+            if (next instanceof Throwable) {
+                end = true;
+                Throwable cause = (Throwable) next;
+                throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+            }
+            current = (byte[]) next;
+            position = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (end || closed || !nextBuffer()) {
+            return -1;
+        }
+        return current[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (end || closed || !nextBuffer()) {
+            return -1;
+        }
+        int count = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current != null ? current.length - position : 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        current = null;
+        queue.clear();
+        if (!finished) {
+            abortHandler.run();
+        }
+    }
+}
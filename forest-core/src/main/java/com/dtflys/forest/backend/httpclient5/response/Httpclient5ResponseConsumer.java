@@ -0,0 +1,109 @@
+package com.dtflys.forest.backend.httpclient5.response;
+
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * 异步客户端的响应消费者
+ * <p>普通请求在收到完整响应后才完成；流式读取和下载文件的请求在收到响应头后就完成，响应体边接收边读取</p>
+ *
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5ResponseConsumer implements AsyncResponseConsumer<Httpclient5Response> {
+
+    private final boolean streaming;
+
+    private volatile Future<?> exchangeFuture;
+
+    private Httpclient5ResponseBody body;
+
+    private Httpclient5Response response;
+
+    private FutureCallback<Httpclient5Response> resultCallback;
+
+    /**
+     * @param streaming 是否在收到响应头后就完成
+     */
+    public Httpclient5ResponseConsumer(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * 设置请求的 Future，用于响应体未读完就关闭时取消请求
+     * @param exchangeFuture 请求的 Future
+     */
+    public void setExchangeFuture(Future<?> exchangeFuture) {
+        this.exchangeFuture = exchangeFuture;
+    }
+
+    private void abort() {
+        Future<?> future = exchangeFuture;
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    @Override
+    public void consumeResponse(HttpResponse httpResponse, EntityDetails entityDetails,
+                                HttpContext context, FutureCallback<Httpclient5Response> resultCallback) {
+        this.body = new Httpclient5ResponseBody(streaming, this::abort);
+        this.response = new Httpclient5Response(
+                httpResponse.getCode(), httpResponse.getReasonPhrase(), httpResponse.getHeaders(), body);
+        if (entityDetails == null) {
+            body.finish();
+            resultCallback.completed(response);
+            return;
+        }
+        if (streaming) {
+            resultCallback.completed(response);
+        } else {
+            this.resultCallback = resultCallback;
+        }
+    }
+
+    @Override
+    public void informationResponse(HttpResponse response, HttpContext context) {
+    }
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+        body.updateCapacity(capacityChannel);
+    }
+
+    @Override
+    public void consume(ByteBuffer src) {
+        byte[] bytes = new byte[src.remaining()];
+        src.get(bytes);
+        body.offer(bytes);
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) {
+        body.finish();
+        if (resultCallback != null) {
+            resultCallback.completed(response);
+            resultCallback = null;
+        }
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        if (body != null) {
+            body.fail(cause);
+        }
+    }
+
+    @Override
+    public void releaseResources() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.dtflys.forest.backend.httpclient5.response;
+
+import com.dtflys.forest.backend.BackendResponseHandler;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponseFactory;
+
+import java.util.concurrent.Future;
+
+/**
+ * @since 2026-10-19 02:06
+ */
+public class Httpclient5ResponseHandler extends BackendResponseHandler<Object> {
+
+    public Httpclient5ResponseHandler(ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        super(request, lifeCycleHandler);
+    }
+
+    @Override
+    public void handleFuture(Future<Object> httpResponseFuture, ForestResponseFactory forestResponseFactory) {
+        lifeCycleHandler.handleResult(httpResponseFuture);
+    }
+}
@@ -0,0 +1,96 @@
+package com.dtflys.forest.backend.netty;
+
+import com.dtflys.forest.backend.AbstractHttpBackend;
+import com.dtflys.forest.backend.ForestConnectionManager;
+import com.dtflys.forest.backend.HttpExecutor;
+import com.dtflys.forest.backend.netty.conn.NettyConnectionManager;
+import com.dtflys.forest.backend.netty.executor.*;
+import com.dtflys.forest.backend.netty.response.NettyResponseHandler;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+
+/**
+ * 基于Netty的非阻塞后端，少量事件循环线程即可同时处理大量请求
+ * <p>需要自行引入 netty-codec-http 和 netty-handler 依赖，引入 netty-transport-native-epoll 后在Linux上自动使用 epoll</p>
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyBackend extends AbstractHttpBackend {
+
+    @Override
+    public String getName() {
+        return "netty";
+    }
+
+    public NettyBackend() {
+        super(new NettyConnectionManager());
+    }
+
+    @Override
+    protected HttpExecutor createHeadExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new NettyHeadExecutor(
+                (NettyConnectionManager) connectionManager,
+                getNettyResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createGetExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new NettyGetExecutor(
+                (NettyConnectionManager) connectionManager,
+                getNettyResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createPostExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new NettyPostExecutor(
+                (NettyConnectionManager) connectionManager,
+                getNettyResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createPutExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new NettyPutExecutor(
+                (NettyConnectionManager) connectionManager,
+                getNettyResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createDeleteExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new NettyDeleteExecutor(
+                (NettyConnectionManager) connectionManager,
+                getNettyResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createOptionsExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new NettyOptionsExecutor(
+                (NettyConnectionManager) connectionManager,
+                getNettyResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createTraceExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new NettyTraceExecutor(
+                (NettyConnectionManager) connectionManager,
+                getNettyResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createPatchExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new NettyPatchExecutor(
+                (NettyConnectionManager) connectionManager,
+                getNettyResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    private NettyResponseHandler getNettyResponseHandler(ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new NettyResponseHandler(request, lifeCycleHandler);
+    }
+}
@@ -0,0 +1,107 @@
+package com.dtflys.forest.backend.netty.body;
+
+import com.dtflys.forest.backend.body.AbstractBodyBuilder;
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.mapping.MappingTemplate;
+import com.dtflys.forest.multipart.ForestMultipart;
+import com.dtflys.forest.utils.RequestNameValue;
+import com.dtflys.forest.utils.StringUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @since 2026-10-19 01:56
+ */
+public class NettyBodyBuilder extends AbstractBodyBuilder<NettyRequestBody> {
+
+    private static Charset getCharset(String charset) {
+        if (StringUtils.isEmpty(charset)) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(charset);
+        } catch (Throwable th) {
+            throw new ForestRuntimeException("[Forest] '" + charset + "' is not a valid charset", th);
+        }
+    }
+
+    private static ByteBuf encode(String text, Charset charset) {
+        return ByteBufUtil.encodeString(PooledByteBufAllocator.DEFAULT, CharBuffer.wrap(text), charset);
+    }
+
+    @Override
+    protected void setStringBody(NettyRequestBody body, String text, String charset, String contentType, boolean mergeCharset) {
+        if (StringUtils.isNotEmpty(charset) && mergeCharset && !contentType.contains("charset=")) {
+            contentType = contentType + "; charset=" + charset.toLowerCase();
+        }
+        body.setBody(encode(text, getCharset(charset)), contentType, text);
+    }
+
+    @Override
+    protected void setFormBody(NettyRequestBody body, ForestRequest request, String charset, String contentType, List<RequestNameValue> nameValueList) {
+        ForestJsonConverter jsonConverter = request.getConfiguration().getJsonConverter();
+        Charset cs = getCharset(charset);
+        StringBuilder builder = new StringBuilder();
+        try {
+            for (RequestNameValue nameValue : nameValueList) {
+                if (!nameValue.isInBody()) continue;
+                if (builder.length() > 0) {
+                    builder.append('&');
+                }
+                String value = MappingTemplate.getParameterValue(jsonConverter, nameValue.getValue());
+                builder.append(URLEncoder.encode(nameValue.getName(), cs.name()))
+                        .append('=')
+                        .append(URLEncoder.encode(value, cs.name()));
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new ForestRuntimeException(e);
+        }
+        if (builder.length() == 0) {
+            return;
+        }
+        String text = builder.toString();
+        body.setBody(encode(text, cs), contentType, text);
+    }
+
+    @Override
+    protected void setFileBody(NettyRequestBody body,
+                               ForestRequest request,
+                               String charset, String contentType,
+                               List<RequestNameValue> nameValueList,
+                               List<ForestMultipart> multiparts,
+                               LifeCycleHandler lifeCycleHandler) {
+        ForestJsonConverter jsonConverter = request.getConfiguration().getJsonConverter();
+        List<Map.Entry<String, String>> attributes = new ArrayList<>();
+        StringBuilder logBuilder = new StringBuilder("parts:");
+        for (RequestNameValue nameValue : nameValueList) {
+            if (!nameValue.isInBody()) continue;
+            String value = MappingTemplate.getParameterValue(jsonConverter, nameValue.getValue());
+            attributes.add(new AbstractMap.SimpleEntry<>(nameValue.getName(), value));
+            logBuilder.append("\n             -- [form-data; name=\"").append(nameValue.getName())
+                    .append("\"; value=\"").append(value).append("\"]");
+        }
+        for (ForestMultipart multipart : multiparts) {
+            logBuilder.append("\n             -- [form-data; name=\"").append(multipart.getName())
+                    .append("\"; filename=\"").append(multipart.getOriginalFileName()).append("\"");
+            if (multipart.getSize() >= 0) {
+                logBuilder.append("; length=").append(multipart.getSize());
+            }
+            logBuilder.append("]");
+        }
+        body.setMultipart(getCharset(charset), attributes, multiparts, logBuilder.toString());
+    }
+}
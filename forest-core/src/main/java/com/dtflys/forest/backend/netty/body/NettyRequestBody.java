@@ -0,0 +1,111 @@
+package com.dtflys.forest.backend.netty.body;
+
+import com.dtflys.forest.multipart.ForestMultipart;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.HttpDataFactory;
+import io.netty.handler.codec.http.multipart.HttpPostRequestEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 请求体构造器的构造结果
+ * <p>普通请求体构造为池化的 {@link ByteBuf}，发送后由Netty释放；
+ * 文件上传的请求体在获取到连接后通过 {@link HttpPostRequestEncoder} 分块发送，文件内容不会整体读入内存</p>
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyRequestBody {
+
+    /**
+     * 超过16K的上传数据暂存在磁盘中
+     */
+    private final static HttpDataFactory DATA_FACTORY = new DefaultHttpDataFactory(DefaultHttpDataFactory.MINSIZE);
+
+    private ByteBuf content;
+
+    private String contentType;
+
+    private String logContent;
+
+    private Charset charset;
+
+    private List<Map.Entry<String, String>> attributes;
+
+    private List<ForestMultipart> multiparts;
+
+    public ByteBuf getContent() {
+        return content;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getLogContent() {
+        return logContent;
+    }
+
+    public boolean isMultipart() {
+        return multiparts != null;
+    }
+
+    void setBody(ByteBuf content, String contentType, String logContent) {
+        this.content = content;
+        this.contentType = contentType;
+        this.logContent = logContent;
+    }
+
+    void setMultipart(Charset charset, List<Map.Entry<String, String>> attributes,
+                      List<ForestMultipart> multiparts, String logContent) {
+        this.charset = charset;
+        this.attributes = attributes;
+        this.multiparts = multiparts;
+        this.logContent = logContent;
+    }
+
+    /**
+     * 创建文件上传请求体的编码器
+     * @param request 请求头
+     * @return 编码器
+     * @throws HttpPostRequestEncoder.ErrorDataEncoderException 编码异常
+     * @throws IOException 读取上传数据异常
+     */
+    public HttpPostRequestEncoder createEncoder(HttpRequest request) throws HttpPostRequestEncoder.ErrorDataEncoderException, IOException {
+        HttpPostRequestEncoder encoder = new HttpPostRequestEncoder(
+                DATA_FACTORY, request, true, charset, HttpPostRequestEncoder.EncoderMode.RFC1738);
+        for (Map.Entry<String, String> attribute : attributes) {
+            encoder.addBodyAttribute(attribute.getKey(), attribute.getValue());
+        }
+        for (ForestMultipart multipart : multiparts) {
+            String contentType = multipart.getContentType();
+            if (multipart.isFile()) {
+                encoder.addBodyFileUpload(multipart.getName(), multipart.getOriginalFileName(),
+                        multipart.getFile(), contentType, false);
+            } else {
+                FileUpload upload = DATA_FACTORY.createFileUpload(request, multipart.getName(),
+                        multipart.getOriginalFileName(), contentType, null, charset, multipart.getSize());
+                try (InputStream in = multipart.getInputStream()) {
+                    upload.setContent(in);
+                }
+                encoder.addBodyHttpData(upload);
+            }
+        }
+        return encoder;
+    }
+
+    /**
+     * 释放未发送的请求体
+     */
+    public void release() {
+        if (content != null && content.refCnt() > 0) {
+            content.release();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.dtflys.forest.backend.netty.body;
+
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.utils.ForestProgress;
+import io.netty.channel.ChannelProgressiveFuture;
+import io.netty.channel.ChannelProgressiveFutureListener;
+
+/**
+ * 文件上传时根据 {@link io.netty.handler.stream.ChunkedWriteHandler} 的写入进度回调进度监听
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyUploadProgressListener implements ChannelProgressiveFutureListener {
+
+    private final ForestRequest request;
+
+    private final LifeCycleHandler handler;
+
+    private final long progressStep;
+
+    private final ForestProgress progress;
+
+    private long lastStepBytes = 0;
+
+    private boolean begin = true;
+
+    public NettyUploadProgressListener(ForestRequest request, LifeCycleHandler handler, long totalLength) {
+        this.request = request;
+        this.handler = handler;
+        this.progressStep = request.getProgressStep();
+        this.progress = new ForestProgress(request, totalLength);
+    }
+
+    @Override
+    public void operationProgressed(ChannelProgressiveFuture future, long current, long total) {
+        if (progress.isDone()) {
+            return;
+        }
+        progress.setBegin(begin);
+        begin = false;
+        progress.setCurrentBytes(current);
+        if (current >= total) {
+            // progress is done
+            progress.setDone(true);
+            handler.handleProgress(request, progress);
+            return;
+        }
+        while (current - lastStepBytes >= progressStep) {
+            lastStepBytes += progressStep;
+            progress.setDone(false);
+            // invoke progress listener
+            handler.handleProgress(request, progress);
+        }
+    }
+
+    @Override
+    public void operationComplete(ChannelProgressiveFuture future) {
+    }
+}
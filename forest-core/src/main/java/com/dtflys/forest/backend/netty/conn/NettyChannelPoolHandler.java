@@ -0,0 +1,105 @@
+package com.dtflys.forest.backend.netty.conn;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.AttributeKey;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 初始化新建连接的处理器链，并在连接归还连接池后关闭空闲超过 {@code keepAliveTime} 的连接
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyChannelPoolHandler implements ChannelPoolHandler {
+
+    private final static String KEEP_ALIVE_HANDLER_NAME = "forest-keep-alive";
+
+    private final static AttributeKey<Boolean> REUSED_KEY = AttributeKey.valueOf("forest-reused");
+
+    private final SSLContext sslContext;
+
+    private final String host;
+
+    private final int port;
+
+    private final long keepAliveTime;
+
+    private final NettyConnectionTracker connectionTracker;
+
+    public NettyChannelPoolHandler(SSLContext sslContext, String host, int port,
+                                   long keepAliveTime, NettyConnectionTracker connectionTracker) {
+        this.sslContext = sslContext;
+        this.host = host;
+        this.port = port;
+        this.keepAliveTime = keepAliveTime;
+        this.connectionTracker = connectionTracker;
+    }
+
+    @Override
+    public void channelCreated(Channel channel) {
+        connectionTracker.channelCreated(channel);
+        ChannelPipeline pipeline = channel.pipeline();
+        if (sslContext != null) {
+            SSLEngine engine = sslContext.createSSLEngine(host, port);
+            engine.setUseClientMode(true);
+            pipeline.addLast("ssl", new SslHandler(engine));
+        }
+        pipeline.addLast("codec", new HttpClientCodec());
+        pipeline.addLast("decompressor", new HttpContentDecompressor());
+        pipeline.addLast("chunked", new ChunkedWriteHandler());
+    }
+
+    @Override
+    public void channelAcquired(Channel channel) {
+        connectionTracker.channelAcquired();
+        if (channel.pipeline().get(KEEP_ALIVE_HANDLER_NAME) != null) {
+            channel.pipeline().remove(KEEP_ALIVE_HANDLER_NAME);
+        }
+    }
+
+    @Override
+    public void channelReleased(Channel channel) {
+        connectionTracker.channelReleased();
+        channel.attr(REUSED_KEY).set(Boolean.TRUE);
+        if (channel.isActive() && keepAliveTime > 0 && channel.pipeline().get(KEEP_ALIVE_HANDLER_NAME) == null) {
+            channel.pipeline().addLast(KEEP_ALIVE_HANDLER_NAME, new KeepAliveHandler(keepAliveTime));
+        }
+    }
+
+    /**
+     * 连接是否归还过连接池，即是否为复用的连接
+     * <p>复用的连接可能在空闲时已经被服务端关闭</p>
+     *
+     * @param channel 连接
+     * @return {@code true}: 复用的连接, {@code false}: 新建的连接
+     */
+    public static boolean isReused(Channel channel) {
+        return Boolean.TRUE.equals(channel.attr(REUSED_KEY).get());
+    }
+
+    /**
+     * 连接在连接池中空闲超时后关闭，下次获取连接时由健康检查丢弃
+     */
+    private static class KeepAliveHandler extends IdleStateHandler {
+
+        KeepAliveHandler(long keepAliveTime) {
+            super(0, 0, keepAliveTime, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent evt) {
+            ctx.close();
+        }
+    }
+}
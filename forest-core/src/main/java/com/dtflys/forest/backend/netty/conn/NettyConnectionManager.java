@@ -0,0 +1,235 @@
+package com.dtflys.forest.backend.netty.conn;
+
+import com.dtflys.forest.backend.ConnectionUtilization;
+import com.dtflys.forest.backend.ForestConnectionManager;
+import com.dtflys.forest.backend.HttpConnectionOptions;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.exceptions.ForestUnsupportException;
+import com.dtflys.forest.http.ForestProtocol;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.ssl.SSLUtils;
+import com.dtflys.forest.utils.StringUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLContext;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 基于Netty的连接管理器
+ * <p>所有请求共享一组事件循环线程，Linux上存在 netty-transport-native-epoll 时使用 epoll，否则使用 NIO。
+ * 每个目标地址 (协议、主机、端口、连接超时和SSL配置) 对应一个 {@link FixedChannelPool}，
+ * 同一地址的最大连接数为 {@code maxRouteConnections}，超出的请求排队等待空闲连接</p>
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyConnectionManager implements ForestConnectionManager {
+
+    private static Logger log = LoggerFactory.getLogger(NettyConnectionManager.class);
+
+    private final static AtomicBoolean H2_FALLBACK_WARNED = new AtomicBoolean(false);
+
+    private final static String EPOLL_CLASS_NAME = "io.netty.channel.epoll.Epoll";
+
+    private final static String EPOLL_EVENT_LOOP_GROUP_CLASS_NAME = "io.netty.channel.epoll.EpollEventLoopGroup";
+
+    private final static String EPOLL_SOCKET_CHANNEL_CLASS_NAME = "io.netty.channel.epoll.EpollSocketChannel";
+
+    /**
+     * connection options
+     */
+    private HttpConnectionOptions options;
+
+    /**
+     * event loops shared by all channel pools
+     */
+    private EventLoopGroup eventLoopGroup;
+
+    private Class<? extends Channel> channelClass;
+
+    /**
+     * executor of response callbacks, keeps user code off the event loops
+     */
+    private ExecutorService callbackExecutor;
+
+    private NettyDnsResolverGroup dnsResolverGroup;
+
+    /**
+     * channel pools cached by address, connect timeout and SSL settings
+     */
+    private final Map<String, ChannelPool> pools = new ConcurrentHashMap<>();
+
+    private final NettyConnectionTracker connectionTracker = new NettyConnectionTracker();
+
+    @Override
+    public void init(ForestConfiguration configuration) {
+        init(configuration, new HttpConnectionOptions(configuration));
+    }
+
+    @Override
+    public void init(ForestConfiguration configuration, HttpConnectionOptions options) {
+        this.options = options;
+        if (eventLoopGroup == null) {
+            initEventLoopGroup();
+        }
+        if (callbackExecutor == null) {
+            callbackExecutor = Executors.newCachedThreadPool(new DefaultThreadFactory("forest-netty-callback", true));
+        }
+        dnsResolverGroup = options.getDnsResolver() != null ?
+                new NettyDnsResolverGroup(options.getDnsResolver()) : null;
+        for (ChannelPool pool : pools.values()) {
+            pool.close();
+        }
+        pools.clear();
+    }
+
+    @Override
+    public void close() {
+        for (ChannelPool pool : pools.values()) {
+            pool.close();
+        }
+        pools.clear();
+        if (dnsResolverGroup != null) {
+            dnsResolverGroup.close();
+            dnsResolverGroup = null;
+        }
+        if (callbackExecutor != null) {
+            callbackExecutor.shutdown();
+            callbackExecutor = null;
+        }
+        if (eventLoopGroup != null) {
+            eventLoopGroup.shutdownGracefully();
+            eventLoopGroup = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initEventLoopGroup() {
+        ThreadFactory threadFactory = new DefaultThreadFactory("forest-netty", true);
+        try {
+            Class<?> epollClass = Class.forName(EPOLL_CLASS_NAME);
+            if ((Boolean) epollClass.getMethod("isAvailable").invoke(null)) {
+                eventLoopGroup = (EventLoopGroup) Class.forName(EPOLL_EVENT_LOOP_GROUP_CLASS_NAME)
+                        .getConstructor(int.class, ThreadFactory.class)
+                        .newInstance(0, threadFactory);
+                channelClass = (Class<? extends Channel>) Class.forName(EPOLL_SOCKET_CHANNEL_CLASS_NAME);
+                return;
+            }
+        } catch (Throwable th) {
+            // netty-transport-native-epoll 不存在或不可用
+        }
+        eventLoopGroup = new NioEventLoopGroup(0, threadFactory);
+        channelClass = NioSocketChannel.class;
+    }
+
+    public HttpConnectionOptions getOptions() {
+        return options;
+    }
+
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    /**
+     * 获取请求对应的连接池
+     * @param request 请求对象
+     * @param url 请求地址
+     * @return 连接池
+     */
+    public ChannelPool getChannelPool(ForestRequest request, URL url) {
+        checkHttpProtocol(request);
+        if (StringUtils.isNotBlank(request.getUnixSocket())) {
+            throw new ForestUnsupportException("netty backend does not support unix domain socket, please use okhttp3 or httpclient backend.");
+        }
+        boolean https = "https".equalsIgnoreCase(url.getProtocol());
+        String host = url.getHost();
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+        int connectTimeout = options.getConfiguredConnectTimeout(request);
+        String sslProtocol = https ? SSLUtils.getSSLContextProtocol(request.getSslProtocol()) : null;
+        StringBuilder keyBuilder = new StringBuilder()
+                .append(url.getProtocol()).append("://").append(host).append(':').append(port)
+                .append(':').append(connectTimeout);
+        if (https) {
+            keyBuilder.append(':').append(sslProtocol);
+            if (request.getKeyStore() != null) {
+                keyBuilder.append(':').append(request.getKeyStore().getId());
+            }
+        }
+        String poolHost = host;
+        return pools.computeIfAbsent(keyBuilder.toString(), key ->
+                createChannelPool(request, poolHost, port, connectTimeout, sslProtocol));
+    }
+
+    private ChannelPool createChannelPool(ForestRequest request, String host, int port, int connectTimeout, String sslProtocol) {
+        SSLContext sslContext = null;
+        if (sslProtocol != null) {
+            try {
+                sslContext = SSLUtils.getSSLContext(request, sslProtocol);
+            } catch (Exception e) {
+                throw new ForestRuntimeException(e);
+            }
+        }
+        Bootstrap bootstrap = new Bootstrap()
+                .group(eventLoopGroup)
+                .channel(channelClass)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .remoteAddress(InetSocketAddress.createUnresolved(host, port));
+        if (connectTimeout > 0) {
+            bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
+        }
+        if (dnsResolverGroup != null) {
+            bootstrap.resolver(dnsResolverGroup);
+        }
+        NettyChannelPoolHandler handler = new NettyChannelPoolHandler(
+                sslContext, host, port, options.getKeepAliveTime(), connectionTracker);
+        int acquireTimeout = options.getPoolAcquireTimeout();
+        if (acquireTimeout > 0) {
+            return new FixedChannelPool(bootstrap, handler, ChannelHealthChecker.ACTIVE,
+                    FixedChannelPool.AcquireTimeoutAction.FAIL, acquireTimeout,
+                    options.getMaxRouteConnections(), Integer.MAX_VALUE);
+        }
+        return new FixedChannelPool(bootstrap, handler, options.getMaxRouteConnections());
+    }
+
+    private static void checkHttpProtocol(ForestRequest request) {
+        ForestProtocol protocol = request.getHttpProtocol();
+        if (protocol == ForestProtocol.H2C) {
+            throw new ForestUnsupportException("netty backend does not support protocol h2c, please use okhttp3 backend.");
+        }
+        if (protocol == ForestProtocol.HTTP_2) {
+            // 只在第一次退回时提醒，避免每个请求都输出警告
+            if (H2_FALLBACK_WARNED.compareAndSet(false, true)) {
+                log.warn("[Forest] netty backend does not support protocol h2, fall back to http/1.1");
+            }
+        }
+    }
+
+    @Override
+    public ConnectionUtilization getUtilization() {
+        return connectionTracker.getUtilization();
+    }
+}
@@ -0,0 +1,41 @@
+package com.dtflys.forest.backend.netty.conn;
+
+import com.dtflys.forest.backend.ConnectionUtilization;
+import io.netty.channel.Channel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 统计所有连接池中的连接数和正在处理请求的连接数
+ * <p>HTTP/1.1 的连接同一时间只处理一个请求，所以请求数等于正在使用的连接数</p>
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyConnectionTracker {
+
+    private final AtomicInteger connections = new AtomicInteger(0);
+
+    private final AtomicInteger activeConnections = new AtomicInteger(0);
+
+    private volatile boolean used = false;
+
+    void channelCreated(Channel channel) {
+        connections.incrementAndGet();
+        channel.closeFuture().addListener(future -> connections.decrementAndGet());
+    }
+
+    void channelAcquired() {
+        used = true;
+        activeConnections.incrementAndGet();
+    }
+
+    void channelReleased() {
+        activeConnections.decrementAndGet();
+    }
+
+    public ConnectionUtilization getUtilization() {
+        int total = connections.get();
+        int active = Math.min(activeConnections.get(), total);
+        return new ConnectionUtilization(total, total - active, active, 0, active, used ? 1 : 0);
+    }
+}
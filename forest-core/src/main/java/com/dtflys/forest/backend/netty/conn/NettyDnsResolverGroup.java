@@ -0,0 +1,61 @@
+package com.dtflys.forest.backend.netty.conn;
+
+import com.dtflys.forest.dns.ForestDnsResolver;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * 将 {@link ForestDnsResolver} 适配为Netty的域名解析器
+ * <p>解析在事件循环线程中执行，应当配合 {@link com.dtflys.forest.dns.CachingDnsResolver} 使用，
+ * 使绝大多数解析直接命中缓存</p>
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyDnsResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+
+    private final ForestDnsResolver dnsResolver;
+
+    public NettyDnsResolverGroup(ForestDnsResolver dnsResolver) {
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new ForestNameResolver(executor, dnsResolver).asAddressResolver();
+    }
+
+    private static class ForestNameResolver extends InetNameResolver {
+
+        private final ForestDnsResolver dnsResolver;
+
+        ForestNameResolver(EventExecutor executor, ForestDnsResolver dnsResolver) {
+            super(executor);
+            this.dnsResolver = dnsResolver;
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            try {
+                promise.setSuccess(dnsResolver.resolve(inetHost).get(0));
+            } catch (Exception e) {
+                promise.setFailure(e);
+            }
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            try {
+                promise.setSuccess(dnsResolver.resolve(inetHost));
+            } catch (Exception e) {
+                promise.setFailure(e);
+            }
+        }
+    }
+}
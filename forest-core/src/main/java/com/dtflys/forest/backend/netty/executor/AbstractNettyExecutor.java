@@ -0,0 +1,268 @@
+package com.dtflys.forest.backend.netty.executor;
+
+import com.dtflys.forest.backend.AbstractExchangeExecutor;
+import com.dtflys.forest.backend.BodyBuilder;
+import com.dtflys.forest.backend.netty.body.NettyRequestBody;
+import com.dtflys.forest.backend.netty.body.NettyUploadProgressListener;
+import com.dtflys.forest.backend.netty.conn.NettyChannelPoolHandler;
+import com.dtflys.forest.backend.netty.conn.NettyConnectionManager;
+import com.dtflys.forest.backend.netty.response.NettyForestResponseFactory;
+import com.dtflys.forest.backend.netty.response.NettyHttpResponse;
+import com.dtflys.forest.backend.netty.response.NettyResponseHandler;
+import com.dtflys.forest.backend.url.URLBuilder;
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.mapping.MappingTemplate;
+import com.dtflys.forest.utils.RequestNameValue;
+import com.dtflys.forest.utils.StringUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelProgressivePromise;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.multipart.HttpPostRequestEncoder;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.MalformedURLException;
+import java.net.NoRouteToHostException;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 基于Netty的请求执行器
+ * <p>请求的发送和响应的接收都在事件循环线程中完成，不占用调用线程；
+ * 同步请求的调用线程只等待响应结果，异步请求的回调在单独的回调线程池中执行，不会阻塞事件循环</p>
+ *
+ * @since 2026-10-19 01:56
+ */
+public abstract class AbstractNettyExecutor extends AbstractExchangeExecutor<NettyHttpResponse> {
+
+    private final NettyConnectionManager connectionManager;
+
+    protected AbstractNettyExecutor(ForestRequest request, NettyConnectionManager connectionManager, NettyResponseHandler nettyResponseHandler) {
+        super(request, nettyResponseHandler, new NettyForestResponseFactory());
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * 请求方法
+     * @return 请求方法
+     */
+    protected abstract HttpMethod getMethod();
+
+    protected abstract BodyBuilder<NettyRequestBody> getBodyBuilder();
+
+    protected abstract URLBuilder getURLBuilder();
+
+    protected void prepareHeaders(HttpHeaders headers, URL url, NettyRequestBody body) {
+        int port = url.getPort();
+        headers.set(HttpHeaderNames.HOST, port == -1 || port == url.getDefaultPort() ?
+                url.getHost() : url.getHost() + ":" + port);
+        headers.set(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.GZIP + "," + HttpHeaderValues.DEFLATE);
+        ForestJsonConverter jsonConverter = request.getConfiguration().getJsonConverter();
+        List<RequestNameValue> headerList = request.getHeaderNameValueList();
+        if (headerList != null && !headerList.isEmpty()) {
+            for (RequestNameValue nameValue : headerList) {
+                String name = nameValue.getName();
+                if (!name.equalsIgnoreCase("Content-Type")
+                        && !name.equalsIgnoreCase("Content-Encoding")) {
+                    headers.set(name, MappingTemplate.getParameterValue(jsonConverter, nameValue.getValue()));
+                }
+            }
+        }
+        String contentType = body.getContentType();
+        if (StringUtils.isEmpty(contentType)) {
+            contentType = request.getContentType();
+        }
+        if (StringUtils.isNotEmpty(contentType)) {
+            headers.set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        }
+        String contentEncoding = request.getContentEncoding();
+        if (StringUtils.isNotEmpty(contentEncoding)) {
+            headers.set(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
+        }
+    }
+
+    private HttpRequest createHttpRequest(URL url, NettyRequestBody body) {
+        String uri = StringUtils.isEmpty(url.getFile()) ? "/" : url.getFile();
+        HttpRequest httpRequest;
+        if (body.isMultipart()) {
+            httpRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, getMethod(), uri);
+        } else {
+            ByteBuf content = body.getContent() != null ? body.getContent() : Unpooled.EMPTY_BUFFER;
+            httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, getMethod(), uri, content);
+            if (content.isReadable() || HttpMethod.POST.equals(getMethod())
+                    || HttpMethod.PUT.equals(getMethod()) || HttpMethod.PATCH.equals(getMethod())) {
+                HttpUtil.setContentLength(httpRequest, content.readableBytes());
+            }
+        }
+        prepareHeaders(httpRequest.headers(), url, body);
+        return httpRequest;
+    }
+
+    private void writeRequest(Channel channel, NettyExchangeHandler exchangeHandler,
+                              HttpRequest httpRequest, NettyRequestBody body, LifeCycleHandler lifeCycleHandler) {
+        if (!body.isMultipart()) {
+            channel.writeAndFlush(httpRequest).addListener(exchangeHandler);
+            return;
+        }
+        HttpPostRequestEncoder encoder;
+        HttpRequest finalRequest;
+        try {
+            encoder = body.createEncoder(httpRequest);
+            finalRequest = encoder.finalizeRequest();
+        } catch (Exception e) {
+            exchangeHandler.fail(e);
+            return;
+        }
+        if (!encoder.isChunked()) {
+            channel.writeAndFlush(finalRequest).addListener(exchangeHandler);
+            encoder.cleanFiles();
+            return;
+        }
+        channel.write(finalRequest).addListener(exchangeHandler);
+        ChannelProgressivePromise promise = channel.newProgressivePromise();
+        promise.addListener(new NettyUploadProgressListener(request, lifeCycleHandler, encoder.length()));
+        promise.addListener(exchangeHandler);
+        promise.addListener(future -> encoder.cleanFiles());
+        channel.writeAndFlush(encoder, promise);
+    }
+
+    /**
+     * 从连接池获取连接并发送请求
+     * <p>幂等的请求在复用的连接上还没有收到响应就失败时，连接可能在空闲时已经被服务端关闭，
+     * 此时在新获取的连接上重新发送一次。其它错误交给Forest的重试器处理</p>
+     *
+     * @return 收到响应后完成的Future
+     */
+    protected CompletableFuture<NettyHttpResponse> exchange(
+            URL url, HttpRequest httpRequest, NettyRequestBody body, LifeCycleHandler lifeCycleHandler) {
+        boolean resendOnStale = request.getType().isIdempotent() && httpRequest instanceof FullHttpRequest;
+        return exchange(url, httpRequest, body, lifeCycleHandler, resendOnStale);
+    }
+
+    private CompletableFuture<NettyHttpResponse> exchange(
+            URL url, HttpRequest httpRequest, NettyRequestBody body,
+            LifeCycleHandler lifeCycleHandler, boolean resendOnStale) {
+        final CompletableFuture<NettyHttpResponse> exchangeFuture = new CompletableFuture<>();
+        final ChannelPool pool = connectionManager.getChannelPool(request, url);
+        final int readTimeout = connectionManager.getOptions().getReadTimeout(request);
+        final boolean streaming = request.isStreaming() || request.isDownloadFile();
+        pool.acquire().addListener((FutureListener<Channel>) (Future<Channel> acquireFuture) -> {
+            if (!acquireFuture.isSuccess()) {
+                body.release();
+                exchangeFuture.completeExceptionally(acquireFuture.cause());
+                return;
+            }
+            Channel channel = acquireFuture.getNow();
+            if (!resendOnStale || !NettyChannelPoolHandler.isReused(channel)) {
+                NettyExchangeHandler exchangeHandler = new NettyExchangeHandler(
+                        pool, channel, exchangeFuture, streaming, readTimeout);
+                exchangeHandler.attach();
+                writeRequest(channel, exchangeHandler, httpRequest, body, lifeCycleHandler);
+                return;
+            }
+            // 写入请求会释放请求体，保留一份用于重新发送
+            CompletableFuture<NettyHttpResponse> attemptFuture = new CompletableFuture<>();
+            NettyExchangeHandler exchangeHandler = new NettyExchangeHandler(
+                    pool, channel, attemptFuture, streaming, readTimeout);
+            attemptFuture.whenComplete((response, cause) -> {
+                if (cause != null && !exchangeHandler.isResponseStarted() && isStaleConnection(cause)) {
+                    exchange(url, httpRequest, body, lifeCycleHandler, false).whenComplete((resent, resendCause) -> {
+                        if (resendCause != null) {
+                            exchangeFuture.completeExceptionally(resendCause);
+                        } else {
+                            exchangeFuture.complete(resent);
+                        }
+                    });
+                    return;
+                }
+                body.release();
+                if (cause != null) {
+                    exchangeFuture.completeExceptionally(cause);
+                } else {
+                    exchangeFuture.complete(response);
+                }
+            });
+            exchangeHandler.attach();
+            writeRequest(channel, exchangeHandler, ((FullHttpRequest) httpRequest).retainedDuplicate(),
+                    body, lifeCycleHandler);
+        });
+        return exchangeFuture;
+    }
+
+    /**
+     * 失效的连接上写入失败、被关闭或者被重置，超时、域名解析、建立新连接和SSL握手时的错误不属于这种情况
+     */
+    private static boolean isStaleConnection(Throwable cause) {
+        return cause instanceof IOException
+                && !(cause instanceof InterruptedIOException)
+                && !(cause instanceof UnknownHostException)
+                && !(cause instanceof ConnectException)
+                && !(cause instanceof NoRouteToHostException)
+                && !(cause instanceof SSLException);
+    }
+
+    @Override
+    protected CompletableFuture<NettyHttpResponse> sendRequest(LifeCycleHandler lifeCycleHandler, int retryCount) {
+        String urlText = getURLBuilder().buildUrl(request);
+        URL url;
+        try {
+            url = new URL(urlText);
+        } catch (MalformedURLException e) {
+            throw new ForestRuntimeException(e);
+        }
+        NettyRequestBody body = new NettyRequestBody();
+        getBodyBuilder().buildBody(body, request, lifeCycleHandler);
+        HttpRequest httpRequest = createHttpRequest(url, body);
+        logRequest(retryCount, httpRequest.method().name(), url, url.getProtocol(),
+                httpRequest.headers(), body.getLogContent());
+        try {
+            return exchange(url, httpRequest, body, lifeCycleHandler);
+        } catch (RuntimeException e) {
+            body.release();
+            throw e;
+        }
+    }
+
+    @Override
+    protected int getStatusCode(NettyHttpResponse httpResponse) {
+        return httpResponse.getStatusCode();
+    }
+
+    @Override
+    protected String getReasonPhrase(NettyHttpResponse httpResponse) {
+        return httpResponse.getReasonPhrase();
+    }
+
+    @Override
+    protected void closeResponse(NettyHttpResponse httpResponse) {
+        // 释放响应体中还未读取的 ByteBuf
+        httpResponse.getBody().close();
+    }
+
+    @Override
+    protected Executor getCallbackExecutor() {
+        return connectionManager.getCallbackExecutor();
+    }
+}
@@ -0,0 +1,37 @@
+package com.dtflys.forest.backend.netty.executor;
+
+import com.dtflys.forest.backend.BodyBuilder;
+import com.dtflys.forest.backend.netty.body.NettyBodyBuilder;
+import com.dtflys.forest.backend.netty.body.NettyRequestBody;
+import com.dtflys.forest.backend.netty.conn.NettyConnectionManager;
+import com.dtflys.forest.backend.netty.response.NettyResponseHandler;
+import com.dtflys.forest.backend.url.URLBuilder;
+import com.dtflys.forest.http.ForestRequest;
+import io.netty.handler.codec.http.HttpMethod;
+
+/**
+ * @since 2026-10-19 01:56
+ */
+public class NettyDeleteExecutor extends AbstractNettyExecutor {
+
+    private static final BodyBuilder bodyBuilder = new NettyBodyBuilder();
+
+    public NettyDeleteExecutor(NettyConnectionManager connectionManager, NettyResponseHandler nettyResponseHandler, ForestRequest request) {
+        super(request, connectionManager, nettyResponseHandler);
+    }
+
+    @Override
+    protected HttpMethod getMethod() {
+        return HttpMethod.DELETE;
+    }
+
+    @Override
+    protected BodyBuilder<NettyRequestBody> getBodyBuilder() {
+        return bodyBuilder;
+    }
+
+    @Override
+    protected URLBuilder getURLBuilder() {
+        return URLBuilder.getQueryableURLBuilder();
+    }
+}
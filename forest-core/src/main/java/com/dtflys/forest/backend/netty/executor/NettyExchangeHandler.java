@@ -0,0 +1,211 @@
+package com.dtflys.forest.backend.netty.executor;
+
+import com.dtflys.forest.backend.netty.response.NettyHttpResponse;
+import com.dtflys.forest.backend.netty.response.NettyResponseBody;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.ReferenceCountUtil;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 处理一次请求的响应
+ * <p>获取到连接后加入处理器链，收到完整响应或出错后移除，并将连接归还连接池 (出错或服务端不保持连接时关闭连接)</p>
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyExchangeHandler extends ChannelInboundHandlerAdapter implements ChannelFutureListener {
+
+    private final static String HANDLER_NAME = "forest-exchange";
+
+    private final static String READ_TIMEOUT_HANDLER_NAME = "forest-read-timeout";
+
+    private final ChannelPool pool;
+
+    private final Channel channel;
+
+    private final CompletableFuture<NettyHttpResponse> future;
+
+    private final boolean streaming;
+
+    private final int readTimeout;
+
+    private final AtomicBoolean done = new AtomicBoolean(false);
+
+    private HttpResponse head;
+
+    private NettyResponseBody body;
+
+    private boolean informational = false;
+
+    private volatile boolean responseStarted = false;
+
+    /**
+     * @param pool 连接所属的连接池
+     * @param channel 连接
+     * @param future 收到响应后完成的Future
+     * @param streaming 是否在收到响应头后就完成Future，边接收边读取响应体
+     * @param readTimeout 读取超时时间 (毫秒)，小于等于0时不限制
+     */
+    public NettyExchangeHandler(ChannelPool pool, Channel channel, CompletableFuture<NettyHttpResponse> future,
+                                boolean streaming, int readTimeout) {
+        this.pool = pool;
+        this.channel = channel;
+        this.future = future;
+        this.streaming = streaming;
+        this.readTimeout = readTimeout;
+    }
+
+    public void attach() {
+        ChannelPipeline pipeline = channel.pipeline();
+        if (readTimeout > 0) {
+            pipeline.addLast(READ_TIMEOUT_HANDLER_NAME, new IdleStateHandler(readTimeout, 0, 0, TimeUnit.MILLISECONDS));
+        }
+        pipeline.addLast(HANDLER_NAME, this);
+    }
+
+    private void detach() {
+        ChannelPipeline pipeline = channel.pipeline();
+        if (pipeline.get(READ_TIMEOUT_HANDLER_NAME) != null) {
+            pipeline.remove(READ_TIMEOUT_HANDLER_NAME);
+        }
+        if (pipeline.get(HANDLER_NAME) != null) {
+            pipeline.remove(HANDLER_NAME);
+        }
+        channel.config().setAutoRead(true);
+    }
+
+    /**
+     * 是否已经收到服务端的响应
+     * <p>还没有收到任何响应时失败的请求，可能是复用了已经被服务端关闭的连接</p>
+     *
+     * @return {@code true}: 已经收到响应头
+     */
+    public boolean isResponseStarted() {
+        return responseStarted;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        try {
+            if (done.get()) {
+                return;
+            }
+            if (msg instanceof HttpResponse) {
+                HttpResponse response = (HttpResponse) msg;
+                responseStarted = true;
+                // 忽略 100-continue 等中间响应
+                informational = response.status().codeClass() == HttpStatusClass.INFORMATIONAL;
+                if (!informational) {
+                    head = response;
+                    body = new NettyResponseBody(channel, streaming, this::abort);
+                    if (streaming) {
+                        future.complete(new NettyHttpResponse(head, body));
+                    }
+                }
+            }
+            if (msg instanceof HttpContent) {
+                if (informational) {
+                    if (msg instanceof LastHttpContent) {
+                        informational = false;
+                    }
+                    return;
+                }
+                if (body == null) {
+                    return;
+                }
+                HttpContent content = (HttpContent) msg;
+                if (content.content().isReadable()) {
+                    body.offer(content.content().retain());
+                }
+                if (msg instanceof LastHttpContent) {
+                    body.finish();
+                    release(HttpUtil.isKeepAlive(head));
+                    if (!streaming) {
+                        future.complete(new NettyHttpResponse(head, body));
+                    }
+                }
+            }
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent && ((IdleStateEvent) evt).state() == IdleState.READER_IDLE) {
+            // 读取线程跟不上而暂停读取时不算超时
+            if (channel.config().isAutoRead()) {
+                fail(new SocketTimeoutException("Read timed out"));
+            }
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        fail(cause);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        fail(new IOException("Connection closed before the response was completed"));
+        super.channelInactive(ctx);
+    }
+
+    /**
+     * 请求写入失败时结束请求
+     */
+    @Override
+    public void operationComplete(ChannelFuture writeFuture) {
+        if (!writeFuture.isSuccess()) {
+            fail(writeFuture.cause());
+        }
+    }
+
+    private void abort() {
+        fail(new IOException("Response body closed before it was fully read"));
+    }
+
+    public void fail(Throwable cause) {
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
+        detach();
+        if (body != null) {
+            body.fail(cause);
+        }
+        future.completeExceptionally(cause);
+        channel.close();
+        pool.release(channel);
+    }
+
+    private void release(boolean keepAlive) {
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
+        detach();
+        if (!keepAlive) {
+            channel.close();
+        }
+        pool.release(channel);
+    }
+}
@@ -0,0 +1,118 @@
+package com.dtflys.forest.backend.netty.response;
+
+import com.dtflys.forest.backend.ContentType;
+import com.dtflys.forest.backend.ProgressInputStream;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.utils.StringUtils;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 基于Netty的响应
+ * <p>普通请求在收到完整响应后才创建，读取响应体不会阻塞；
+ * 流式读取和下载文件的请求在收到响应头后就创建，响应体边接收边读取</p>
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyForestResponse extends ForestResponse {
+
+    private final NettyHttpResponse httpResponse;
+
+    private final InputStream body;
+
+    public NettyForestResponse(ForestRequest request, NettyHttpResponse httpResponse, LifeCycleHandler lifeCycleHandler) {
+        super(request);
+        this.httpResponse = httpResponse;
+        if (httpResponse != null) {
+            HttpHeaders httpHeaders = httpResponse.getHead().headers();
+            this.statusCode = httpResponse.getStatusCode();
+            setupHeaders(httpHeaders);
+            String length = httpHeaders.get(HttpHeaderNames.CONTENT_LENGTH);
+            this.contentLength = StringUtils.isNotEmpty(length) ? Long.parseLong(length) : -1;
+            this.body = new ProgressInputStream(httpResponse.getBody(), request, lifeCycleHandler, contentLength);
+            String type = httpHeaders.get(HttpHeaderNames.CONTENT_TYPE);
+            if (StringUtils.isNotEmpty(type)) {
+                this.contentType = new ContentType(type);
+                this.contentEncoding = contentType.getCharset();
+            }
+            if (StringUtils.isEmpty(this.contentEncoding)) {
+                this.contentEncoding = httpHeaders.get(HttpHeaderNames.CONTENT_ENCODING);
+            }
+            this.content = buildContent();
+        } else {
+            this.body = null;
+            this.statusCode = 404;
+        }
+    }
+
+    private void setupHeaders(HttpHeaders httpHeaders) {
+        for (Map.Entry<String, String> entry : httpHeaders) {
+            headers.addHeader(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private String buildContent() {
+        if (contentType == null || contentType.isEmpty()) {
+            return null;
+        }
+        if (!request.isDownloadFile() && !request.isStreaming() && contentType.canReadAsString()) {
+            String encoding = StringUtils.isNotEmpty(contentEncoding) ? contentEncoding : StandardCharsets.UTF_8.name();
+            try {
+                return new String(readBytes(), encoding);
+            } catch (IOException e) {
+                throw new ForestRuntimeException(e);
+            }
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append("[content-type: ")
+                .append(contentType.toString());
+        if (contentEncoding != null) {
+            builder.append("; encoding: ")
+                    .append(contentEncoding);
+        }
+        builder.append("; length: ")
+                .append(contentLength)
+                .append("]");
+        return builder.toString();
+    }
+
+    private byte[] readBytes() throws IOException {
+        try (InputStream in = body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                out.write(buffer, 0, len);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public NettyHttpResponse getHttpResponse() {
+        return httpResponse;
+    }
+
+    @Override
+    public boolean isReceivedResponseData() {
+        return body != null;
+    }
+
+    @Override
+    public byte[] getByteArray() throws Exception {
+        return readBytes();
+    }
+
+    @Override
+    public InputStream getInputStream() throws Exception {
+        return body;
+    }
+}
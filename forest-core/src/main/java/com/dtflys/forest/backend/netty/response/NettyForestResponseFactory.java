@@ -0,0 +1,17 @@
+package com.dtflys.forest.backend.netty.response;
+
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.http.ForestResponseFactory;
+
+/**
+ * @since 2026-10-19 01:56
+ */
+public class NettyForestResponseFactory implements ForestResponseFactory<NettyHttpResponse> {
+
+    @Override
+    public ForestResponse createResponse(ForestRequest request, NettyHttpResponse res, LifeCycleHandler lifeCycleHandler) {
+        return new NettyForestResponse(request, res, lifeCycleHandler);
+    }
+}
@@ -0,0 +1,36 @@
+package com.dtflys.forest.backend.netty.response;
+
+import io.netty.handler.codec.http.HttpResponse;
+
+/**
+ * Netty收到的响应，包括响应头和响应体输入流
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyHttpResponse {
+
+    private final HttpResponse head;
+
+    private final NettyResponseBody body;
+
+    public NettyHttpResponse(HttpResponse head, NettyResponseBody body) {
+        this.head = head;
+        this.body = body;
+    }
+
+    public HttpResponse getHead() {
+        return head;
+    }
+
+    public NettyResponseBody getBody() {
+        return body;
+    }
+
+    public int getStatusCode() {
+        return head.status().code();
+    }
+
+    public String getReasonPhrase() {
+        return head.status().reasonPhrase();
+    }
+}
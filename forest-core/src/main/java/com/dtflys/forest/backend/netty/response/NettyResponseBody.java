@@ -0,0 +1,151 @@
+package com.dtflys.forest.backend.netty.response;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 响应体输入流
+ * <p>事件循环线程将收到的 {@link ByteBuf} 放入队列，读取线程从队列中依次读取，读取完的 {@link ByteBuf} 立即释放。
+ * 流式读取时，队列中未读取的数据块过多会暂停从连接读取数据，读取线程追上后再恢复，避免慢速消费者撑满内存</p>
+ *
+ * @since 2026-10-19 01:56
+ */
+public class NettyResponseBody extends InputStream {
+
+    private final static Object END = new Object();
+
+    private final static int HIGH_WATER_MARK = 64;
+
+    private final static int LOW_WATER_MARK = 16;
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+
+    private final Channel channel;
+
+    private final boolean backpressure;
+
+    private final Runnable abortHandler;
+
+    private ByteBuf current;
+
+    private boolean end = false;
+
+    private boolean closed = false;
+
+    private volatile boolean finished = false;
+
+    /**
+     * @param channel 接收响应的连接
+     * @param backpressure 是否在读取线程跟不上时暂停读取连接
+     * @param abortHandler 响应体未读完就关闭时的回调
+     */
+    public NettyResponseBody(Channel channel, boolean backpressure, Runnable abortHandler) {
+        this.channel = channel;
+        this.backpressure = backpressure;
+        this.abortHandler = abortHandler;
+    }
+
+    public synchronized void offer(ByteBuf buf) {
+        if (closed) {
+            buf.release();
+            return;
+        }
+        queue.offer(buf);
+        if (backpressure && queue.size() >= HIGH_WATER_MARK) {
+            channel.config().setAutoRead(false);
+        }
+    }
+
+    public void finish() {
+        finished = true;
+        queue.offer(END);
+    }
+
+    public void fail(Throwable cause) {
+        finished = true;
+        queue.offer(cause);
+    }
+
+    private boolean nextBuffer() throws IOException {
+        while (current == null || !current.isReadable()) {
+            if (current != null) {
+                current.release();
+                current = null;
+            }
+            Object next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            if (next == END) {
+                end = true;
+                return false;
+            }
+            if (next instanceof Throwable) {
+                end = true;
+                Throwable cause = (Throwable) next;
+                throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+            }
+            current = (ByteBuf) next;
+            if (backpressure && !finished && queue.size() <= LOW_WATER_MARK && !channel.config().isAutoRead()) {
+                channel.config().setAutoRead(true);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (end || closed || !nextBuffer()) {
+            return -1;
+        }
+        return current.readByte() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (end || closed || !nextBuffer()) {
+            return -1;
+        }
+        int count = Math.min(len, current.readableBytes());
+        current.readBytes(b, off, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current != null ? current.readableBytes() : 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (current != null) {
+            current.release();
+            current = null;
+        }
+        Object next;
+        while ((next = queue.poll()) != null) {
+            if (next instanceof ByteBuf) {
+                ((ByteBuf) next).release();
+            }
+        }
+        if (!finished) {
+            abortHandler.run();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.dtflys.forest.backend.netty.response;
+
+import com.dtflys.forest.backend.BackendResponseHandler;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponseFactory;
+
+import java.util.concurrent.Future;
+
+/**
+ * @since 2026-10-19 01:56
+ */
+public class NettyResponseHandler extends BackendResponseHandler<Object> {
+
+    public NettyResponseHandler(ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        super(request, lifeCycleHandler);
+    }
+
+    @Override
+    public void handleFuture(Future<Object> httpResponseFuture, ForestResponseFactory forestResponseFactory) {
+        lifeCycleHandler.handleResult(httpResponseFuture);
+    }
+}
@@ -1,11 +1,15 @@
 package com.dtflys.forest.backend.okhttp3.conn;
 
+import com.dtflys.forest.backend.ConnectionUtilization;
 import com.dtflys.forest.backend.ForestConnectionManager;
+import com.dtflys.forest.backend.HttpConnectionOptions;
 import com.dtflys.forest.backend.okhttp3.response.OkHttpResponseBody;
 import com.dtflys.forest.config.ForestConfiguration;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
 import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestProtocol;
 import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.socket.UnixDomainSocketFactory;
 import com.dtflys.forest.ssl.ForestX509TrustManager;
 import com.dtflys.forest.ssl.SSLKeyStore;
 import com.dtflys.forest.ssl.SSLUtils;
@@ -15,15 +19,22 @@ import com.dtflys.forest.utils.StringUtils;
 import okhttp3.CipherSuite;
 import okhttp3.ConnectionPool;
 import okhttp3.ConnectionSpec;
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.TlsVersion;
 
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
+import java.net.InetAddress;
+import java.net.Proxy;
 import java.security.KeyStore;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -32,11 +43,43 @@ import java.util.concurrent.TimeUnit;
  */
 public class OkHttp3ConnectionManager implements ForestConnectionManager {
 
+    private final static List<Protocol> HTTP_1_1_PROTOCOLS = Collections.singletonList(Protocol.HTTP_1_1);
+
+    private final static List<Protocol> HTTP_2_PROTOCOLS = Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+
+    private final static List<Protocol> H2C_PROTOCOLS = Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE);
+
+    /**
+     * 通过 Unix domain socket 连接时不解析URL中的主机名，以回环地址占位
+     */
+    private final static Dns UNIX_SOCKET_DNS = hostname ->
+            Collections.singletonList(InetAddress.getByAddress(hostname, new byte[] {127, 0, 0, 1}));
+
     /**
      * connection pool
      */
     private ConnectionPool pool;
 
+    /**
+     * dispatcher of asynchronous calls, shared by all clients
+     */
+    private Dispatcher dispatcher;
+
+    /**
+     * connection options
+     */
+    private HttpConnectionOptions options;
+
+    /**
+     * base client sharing the connection pool and dispatcher
+     */
+    private OkHttpClient baseClient;
+
+    /**
+     * tracker of streams on each connection
+     */
+    private final OkHttp3ConnectionTracker connectionTracker = new OkHttp3ConnectionTracker();
+
     public OkHttp3ConnectionManager() {
     }
 
@@ -65,15 +108,22 @@ public class OkHttp3ConnectionManager implements ForestConnectionManager {
     }
 
     public OkHttpClient getClient(ForestRequest request, LifeCycleHandler lifeCycleHandler) {
-        Integer timeout = request.getTimeout();
-        if (timeout == null) {
-            timeout = request.getConfiguration().getTimeout();
+        OkHttpClient.Builder builder = baseClient.newBuilder()
+                .connectTimeout(options.getConnectTimeout(request), TimeUnit.MILLISECONDS)
+                .readTimeout(options.getReadTimeout(request), TimeUnit.MILLISECONDS)
+                .writeTimeout(options.getWriteTimeout(request), TimeUnit.MILLISECONDS);
+
+        List<Protocol> protocols = getProtocols(request.getHttpProtocol());
+        if (protocols != null) {
+            builder.protocols(protocols);
         }
 
-        OkHttpClient.Builder builder = new OkHttpClient.Builder()
-                .connectionPool(pool)
-                .connectTimeout(timeout, TimeUnit.MILLISECONDS)
-                .readTimeout(timeout, TimeUnit.MILLISECONDS);
+        String unixSocket = request.getUnixSocket();
+        if (StringUtils.isNotBlank(unixSocket)) {
+            builder.socketFactory(new UnixDomainSocketFactory(unixSocket))
+                    .dns(UNIX_SOCKET_DNS)
+                    .proxy(Proxy.NO_PROXY);
+        }
 
         if ("https".equals(request.getProtocol())) {
             String protocol = request.getSslProtocol();
@@ -108,6 +158,63 @@ public class OkHttp3ConnectionManager implements ForestConnectionManager {
 
     @Override
     public void init(ForestConfiguration configuration) {
-        pool = new ConnectionPool();
+        init(configuration, new HttpConnectionOptions(configuration));
+    }
+
+    @Override
+    public void init(ForestConfiguration configuration, HttpConnectionOptions options) {
+        // 重新初始化时关闭之前的调度器线程池和连接池
+        close();
+        this.options = options;
+        pool = new ConnectionPool(options.getMaxIdleConnections(), options.getKeepAliveTime(), TimeUnit.MILLISECONDS);
+        dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(options.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(pool)
+                .dispatcher(dispatcher)
+                .eventListener(connectionTracker);
+        if (options.getDnsResolver() != null) {
+            builder.dns(new OkHttp3Dns(options.getDnsResolver()));
+        }
+        baseClient = builder.build();
+    }
+
+    @Override
+    public void close() {
+        if (dispatcher != null) {
+            dispatcher.executorService().shutdown();
+        }
+        if (pool != null) {
+            pool.evictAll();
+        }
+    }
+
+    private static List<Protocol> getProtocols(ForestProtocol protocol) {
+        if (protocol == null) {
+            return null;
+        }
+        switch (protocol) {
+            case HTTP_1_1:
+                return HTTP_1_1_PROTOCOLS;
+            case HTTP_2:
+                return HTTP_2_PROTOCOLS;
+            case H2C:
+                return H2C_PROTOCOLS;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public ConnectionUtilization getUtilization() {
+        if (pool == null) {
+            return null;
+        }
+        return connectionTracker.getUtilization(pool);
+    }
+
+    public HttpConnectionOptions getOptions() {
+        return options;
     }
 }
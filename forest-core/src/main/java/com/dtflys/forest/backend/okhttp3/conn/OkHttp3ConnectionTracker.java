@@ -0,0 +1,56 @@
+package com.dtflys.forest.backend.okhttp3.conn;
+
+import com.dtflys.forest.backend.ConnectionUtilization;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 通过OkHttp的事件监听统计每个连接上同时处理的请求 (流) 数
+ *
+ * @since 2026-10-19 01:03
+ */
+public class OkHttp3ConnectionTracker extends EventListener {
+
+    private final Map<Connection, AtomicInteger> activeStreams = new ConcurrentHashMap<>();
+
+    private final AtomicInteger maxStreamsPerConnection = new AtomicInteger(0);
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        int streams = activeStreams.computeIfAbsent(connection, key -> new AtomicInteger(0)).incrementAndGet();
+        maxStreamsPerConnection.accumulateAndGet(streams, Math::max);
+    }
+
+    @Override
+    public void connectionReleased(Call call, Connection connection) {
+        activeStreams.computeIfPresent(connection, (key, streams) -> streams.decrementAndGet() <= 0 ? null : streams);
+    }
+
+    public ConnectionUtilization getUtilization(ConnectionPool pool) {
+        int activeConnections = 0;
+        int multiplexedConnections = 0;
+        int streams = 0;
+        for (Map.Entry<Connection, AtomicInteger> entry : activeStreams.entrySet()) {
+            int count = entry.getValue().get();
+            if (count <= 0) {
+                continue;
+            }
+            activeConnections++;
+            streams += count;
+            Protocol protocol = entry.getKey().protocol();
+            if (protocol == Protocol.HTTP_2 || protocol == Protocol.H2_PRIOR_KNOWLEDGE) {
+                multiplexedConnections++;
+            }
+        }
+        return new ConnectionUtilization(
+                pool.connectionCount(), pool.idleConnectionCount(),
+                activeConnections, multiplexedConnections, streams, maxStreamsPerConnection.get());
+    }
+}
@@ -0,0 +1,27 @@
+package com.dtflys.forest.backend.okhttp3.conn;
+
+import com.dtflys.forest.dns.ForestDnsResolver;
+import okhttp3.Dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+/**
+ * 将 {@link ForestDnsResolver} 适配为OkHttp的域名解析
+ *
+ * @since 2026-10-19 01:07
+ */
+public class OkHttp3Dns implements Dns {
+
+    private final ForestDnsResolver resolver;
+
+    public OkHttp3Dns(ForestDnsResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        return resolver.resolve(hostname);
+    }
+}
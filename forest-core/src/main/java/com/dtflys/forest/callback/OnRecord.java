@@ -0,0 +1,15 @@
+package com.dtflys.forest.callback;
+
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+
+/**
+ * 流式响应（NDJSON / Server-Sent Events）的逐条记录回调
+ * <p>每读取并解码一条记录便调用一次</p>
+ *
+ * @since 2026-10-19 00:33
+ */
+public interface OnRecord<T> {
+
+    void onRecord(T record, ForestRequest request, ForestResponse response);
+}
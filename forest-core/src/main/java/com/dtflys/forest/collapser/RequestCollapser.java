@@ -0,0 +1,346 @@
+package com.dtflys.forest.collapser;
+
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.reflection.ForestMethod;
+import com.dtflys.forest.utils.ReflectUtils;
+import com.dtflys.forest.utils.StringUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求合并器
+ * <p>把时间窗口内对单条数据方法的调用按键去重后攒成一批，由批量方法发送一次请求，
+ * 再把批量结果按键拆分回每个调用者的 {@link CompletableFuture}</p>
+ * <p>第一个键加入时开始计时，窗口结束或者达到最大批量时以异步请求发送批量方法，在请求的回调中完成等待的Future，不占用额外的线程。
+ * 单条数据方法上的拦截器和注解生命周期同样作用于批量请求</p>
+ *
+ * @since 2026-10-19 02:37
+ */
+public class RequestCollapser {
+
+    private final static ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "forest-collapser-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ForestMethod method;
+
+    private final Method batchJavaMethod;
+
+    private final Type itemType;
+
+    private final boolean futureResult;
+
+    private volatile ForestMethod batchMethod;
+
+    private long window = 10;
+
+    private int maxBatchSize = 100;
+
+    private String resultKey;
+
+    private Batch pending;
+
+    /**
+     * @param method 单条数据方法，只能有一个作为键的参数
+     * @param batchMethodName 同一接口中批量方法的名称
+     */
+    public RequestCollapser(ForestMethod method, String batchMethodName) {
+        Method javaMethod = method.getMethod();
+        if (javaMethod.getParameterCount() != 1) {
+            throw new ForestRuntimeException("[Forest] collapsed method \"" + javaMethod.getName()
+                    + "\" must have exactly one parameter as the key");
+        }
+        this.method = method;
+        this.batchJavaMethod = findBatchMethod(javaMethod.getDeclaringClass(), batchMethodName);
+        Type returnType = javaMethod.getGenericReturnType();
+        Class returnClass = javaMethod.getReturnType();
+        this.futureResult = Future.class.equals(returnClass) || CompletableFuture.class.equals(returnClass);
+        if (futureResult) {
+            returnType = returnType instanceof ParameterizedType ?
+                    ((ParameterizedType) returnType).getActualTypeArguments()[0] : Object.class;
+        }
+        this.itemType = returnType;
+    }
+
+    private static Method findBatchMethod(Class interfaceClass, String name) {
+        for (Method method : interfaceClass.getDeclaredMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == 1) {
+                Class paramType = method.getParameterTypes()[0];
+                if (paramType.isArray() || paramType.isAssignableFrom(ArrayList.class)
+                        || paramType.isAssignableFrom(LinkedHashSet.class)) {
+                    return method;
+                }
+            }
+        }
+        throw new ForestRuntimeException("[Forest] can not find batch method \"" + name + "\" with a collection parameter in "
+                + interfaceClass.getName());
+    }
+
+    public long getWindow() {
+        return window;
+    }
+
+    public RequestCollapser setWindow(long window) {
+        this.window = window;
+        return this;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public RequestCollapser setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    public String getResultKey() {
+        return resultKey;
+    }
+
+    public RequestCollapser setResultKey(String resultKey) {
+        this.resultKey = resultKey;
+        return this;
+    }
+
+    /**
+     * 代替单条数据方法的调用
+     * @param args 调用参数
+     * @return 返回类型为 {@link Future} 时返回 {@link CompletableFuture}，否则返回该键对应的结果
+     */
+    public Object invoke(Object[] args) {
+        CompletableFuture<Object> future = submit(args[0]);
+        if (futureResult) {
+            return future;
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ForestRuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ForestRuntimeException) {
+                throw (ForestRuntimeException) cause;
+            }
+            throw new ForestRuntimeException(cause);
+        }
+    }
+
+    /**
+     * 把一个键加入当前批次
+     * @param key 数据的键
+     * @return 该键的结果
+     */
+    public CompletableFuture<Object> submit(Object key) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        Batch full = null;
+        synchronized (this) {
+            if (pending == null) {
+                Batch batch = new Batch();
+                batch.timer = SCHEDULER.schedule(() -> flush(batch), Math.max(window, 0), TimeUnit.MILLISECONDS);
+                pending = batch;
+            }
+            pending.add(key, future);
+            if (pending.waiters.size() >= maxBatchSize) {
+                full = pending;
+                pending = null;
+            }
+        }
+        if (full != null) {
+            full.timer.cancel(false);
+            dispatch(full);
+        }
+        return future;
+    }
+
+    private void flush(Batch batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+        Map<Object, List<CompletableFuture<Object>>> waiters = batch.waiters;
+        CompletableFuture<Object> batchFuture =
+                getBatchMethod().invokeAsync(new Object[] {toArgument(waiters.keySet())}, method);
+        batchFuture.whenComplete((result, ex) -> {
+            if (ex != null) {
+                batch.fail(ex);
+                return;
+            }
+            try {
+                if (result instanceof ForestResponse) {
+                    result = ((ForestResponse) result).getResult();
+                }
+                Map<Object, Object> items = split(waiters.keySet(), result);
+                for (Map.Entry<Object, List<CompletableFuture<Object>>> entry : waiters.entrySet()) {
+                    Object item = convert(items.get(entry.getKey()));
+                    for (CompletableFuture<Object> future : entry.getValue()) {
+                        future.complete(item);
+                    }
+                }
+            } catch (Throwable th) {
+                batch.fail(th);
+            }
+        });
+    }
+
+    private ForestMethod getBatchMethod() {
+        if (batchMethod == null) {
+            batchMethod = (ForestMethod) method.getInterfaceProxyHandler().getForestMethodMap().get(batchJavaMethod);
+        }
+        return batchMethod;
+    }
+
+    private Object toArgument(Collection<Object> keys) {
+        Class paramType = batchJavaMethod.getParameterTypes()[0];
+        if (paramType.isArray()) {
+            Object array = Array.newInstance(paramType.getComponentType(), keys.size());
+            int i = 0;
+            for (Object key : keys) {
+                Array.set(array, i++, key);
+            }
+            return array;
+        }
+        if (paramType.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>(keys);
+        }
+        return new LinkedHashSet<>(keys);
+    }
+
+    /**
+     * 把批量方法的结果按键拆分
+     * @param keys 本批次的键
+     * @param result 批量方法的返回值
+     * @return 键到单条结果的映射
+     */
+    private Map<Object, Object> split(Collection<Object> keys, Object result) {
+        Map<Object, Object> items = new HashMap<>();
+        if (result == null) {
+            return items;
+        }
+        if (result instanceof Map) {
+            Map map = (Map) result;
+            for (Object key : keys) {
+                Object item = map.get(key);
+                if (item == null && !map.containsKey(key)) {
+                    // JSON对象的Key都是字符串
+                    item = map.get(String.valueOf(key));
+                }
+                items.put(key, item);
+            }
+            return items;
+        }
+        List<Object> list;
+        if (result instanceof Collection) {
+            list = new ArrayList<>((Collection) result);
+        } else if (result.getClass().isArray()) {
+            list = new ArrayList<>(Array.getLength(result));
+            for (int i = 0; i < Array.getLength(result); i++) {
+                list.add(Array.get(result, i));
+            }
+        } else {
+            throw new ForestRuntimeException("[Forest] result of batch method \"" + batchJavaMethod.getName()
+                    + "\" must be a map, a collection or an array, but got " + result.getClass().getName());
+        }
+        if (StringUtils.isEmpty(resultKey)) {
+            if (list.size() != keys.size()) {
+                throw new ForestRuntimeException("[Forest] batch method \"" + batchJavaMethod.getName() + "\" returned "
+                        + list.size() + " items for " + keys.size() + " keys, set resultKey to match items by property");
+            }
+            int i = 0;
+            for (Object key : keys) {
+                items.put(key, list.get(i++));
+            }
+            return items;
+        }
+        Map<Object, Object> indexed = new HashMap<>();
+        for (Object item : list) {
+            Object itemKey = getItemKey(item);
+            if (itemKey != null) {
+                indexed.put(itemKey, item);
+                indexed.putIfAbsent(String.valueOf(itemKey), item);
+            }
+        }
+        for (Object key : keys) {
+            Object item = indexed.get(key);
+            if (item == null && key != null) {
+                item = indexed.get(String.valueOf(key));
+            }
+            items.put(key, item);
+        }
+        return items;
+    }
+
+    private Object getItemKey(Object item) {
+        if (item == null) {
+            return null;
+        }
+        if (item instanceof Map) {
+            return ((Map) item).get(resultKey);
+        }
+        Map<String, Object> properties = getJsonConverter().convertObjectToMap(item);
+        return properties == null ? null : properties.get(resultKey);
+    }
+
+    private Object convert(Object item) {
+        Class itemClass = ReflectUtils.getClassByType(itemType);
+        if (item == null || Object.class.equals(itemClass) || itemClass.isInstance(item)) {
+            return item;
+        }
+        ForestJsonConverter converter = getJsonConverter();
+        return converter.convertToJavaObject(converter.encodeToString(item), itemType);
+    }
+
+    private ForestJsonConverter getJsonConverter() {
+        return method.getConfiguration().getJsonConverter();
+    }
+
+    /**
+     * 一个批次，相同的键只请求一次
+     */
+    private static class Batch {
+
+        private final Map<Object, List<CompletableFuture<Object>>> waiters = new LinkedHashMap<>();
+
+        private ScheduledFuture<?> timer;
+
+        private void add(Object key, CompletableFuture<Object> future) {
+            waiters.computeIfAbsent(key, k -> new ArrayList<>(1)).add(future);
+        }
+
+        private void fail(Throwable th) {
+            for (List<CompletableFuture<Object>> futures : waiters.values()) {
+                for (CompletableFuture<Object> future : futures) {
+                    future.completeExceptionally(th);
+                }
+            }
+        }
+    }
+}
@@ -28,16 +28,28 @@ package com.dtflys.forest.config;
 import com.dtflys.forest.converter.auto.DefaultAutoConverter;
 import com.dtflys.forest.converter.binary.DefaultBinaryConverter;
 import com.dtflys.forest.converter.text.DefaultTextConverter;
+import com.dtflys.forest.dns.CachingDnsResolver;
+import com.dtflys.forest.dns.ForestDnsResolver;
+import com.dtflys.forest.dns.SystemDnsResolver;
 import com.dtflys.forest.interceptor.DefaultInterceptorFactory;
 import com.dtflys.forest.interceptor.InterceptorFactory;
+import com.dtflys.forest.pool.ForestConnectionPool;
+import com.dtflys.forest.priority.ForestPriorityDispatcher;
+import com.dtflys.forest.priority.PriorityRejectPolicy;
 import com.dtflys.forest.proxy.ProxyFactory;
+import com.dtflys.forest.ratelimit.ForestRateLimiter;
 import com.dtflys.forest.retryer.BackOffRetryer;
 import com.dtflys.forest.retryer.Retryer;
 import com.dtflys.forest.ssl.SSLKeyStore;
 import com.dtflys.forest.ssl.SSLUtils;
 import com.dtflys.forest.utils.ForestDataType;
 import com.dtflys.forest.utils.RequestNameValue;
+import com.dtflys.forest.warmup.WarmUpReadiness;
+import com.dtflys.forest.backend.ConnectionUtilization;
+import com.dtflys.forest.backend.ForestConnectionManager;
 import com.dtflys.forest.backend.HttpBackendSelector;
+import com.dtflys.forest.backend.HttpConnectionConstants;
+import com.dtflys.forest.backend.HttpConnectionOptions;
 import com.dtflys.forest.converter.ForestConverter;
 import com.dtflys.forest.converter.json.JSONConverterSelector;
 import com.dtflys.forest.converter.json.ForestJsonConverter;
@@ -48,11 +60,14 @@ import com.dtflys.forest.backend.HttpBackend;
 import com.dtflys.forest.filter.Filter;
 import com.dtflys.forest.filter.JSONFilter;
 import com.dtflys.forest.filter.XmlFilter;
+import com.dtflys.forest.http.ForestProtocol;
+import com.dtflys.forest.http.ForestRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * global configuration
@@ -79,11 +94,93 @@ public class ForestConfiguration implements Serializable {
      */
     private Integer maxRouteConnections;
 
+    /**
+     * maximum number of idle connections kept in the pool
+     */
+    private Integer maxIdleConnections;
+
+    /**
+     * keep-alive time of idle connections in milliseconds
+     */
+    private Long keepAliveTime;
+
+    /**
+     * period of inactivity in milliseconds after which pooled connections are validated before being leased
+     */
+    private Integer validateAfterInactivity;
+
+    /**
+     * interval in milliseconds of evicting idle and expired connections in background, 0 means disabled
+     */
+    private Long evictionInterval;
+
+    /**
+     * time to live in milliseconds of resolved host addresses, null or 0 means using the resolver of JVM
+     */
+    private Long dnsTtl;
+
+    /**
+     * time to live in milliseconds of failed host resolutions
+     */
+    private Long dnsNegativeTtl;
+
+    /**
+     * resolver of host addresses
+     */
+    private ForestDnsResolver dnsResolver;
+
+    /**
+     * maximum number of asynchronous requests executing concurrently
+     */
+    private Integer maxRequests;
+
+    /**
+     * maximum number of asynchronous requests executing concurrently per host
+     */
+    private Integer maxRequestsPerHost;
+
+    /**
+     * whether to queue asynchronous requests exceeding maxRequests in forest by priority, instead of FIFO in the backend
+     */
+    private boolean priorityDispatch = false;
+
+    /**
+     * milliseconds a queued asynchronous request waits to gain one priority level
+     */
+    private long priorityAgingInterval = 1000;
+
+    /**
+     * maximum number of asynchronous requests queued by priority
+     */
+    private int priorityQueueCapacity = 10000;
+
+    /**
+     * what to do with asynchronous requests when the priority queue is full
+     */
+    private PriorityRejectPolicy priorityRejectPolicy = PriorityRejectPolicy.ABORT;
+
+    private transient volatile ForestPriorityDispatcher priorityDispatcher;
+
     /**
      * timeout in milliseconds
      */
     private Integer timeout;
 
+    /**
+     * read timeout in milliseconds, overrides timeout for reading responses
+     */
+    private Integer readTimeout;
+
+    /**
+     * write timeout in milliseconds
+     */
+    private Integer writeTimeout;
+
+    /**
+     * timeout in milliseconds used when acquiring a connection from the pool
+     */
+    private Integer poolAcquireTimeout;
+
     /**
      * request charset
      */
@@ -109,6 +206,11 @@ public class ForestConfiguration implements Serializable {
      */
     private long maxRetryInterval;
 
+    /**
+     * HTTP protocol: http/1.1, h2 or h2c, negotiated by the backend when null
+     */
+    private ForestProtocol httpProtocol;
+
     /**
      * default SSL protocol
      */
@@ -148,6 +250,12 @@ public class ForestConfiguration implements Serializable {
 
     private Map<String, SSLKeyStore> sslKeyStores = new HashMap<>();
 
+    private Map<String, ForestRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    private Map<String, ForestConnectionPool> connectionPools = new ConcurrentHashMap<>();
+
+    private WarmUpReadiness warmUpReadiness = new WarmUpReadiness();
+
     private ForestConfiguration() {
     }
 
@@ -197,7 +305,15 @@ public class ForestConfiguration implements Serializable {
             backend.init(this);
             log.info("[Forest] Http Backend: " + backend.getName());
         }
+        HttpBackend previous = this.backend;
         this.backend = backend;
+        // 被替换的后端不再使用，关闭它的连接池和线程
+        if (previous != null && previous != backend) {
+            previous.close();
+        }
+        for (ForestConnectionPool connectionPool : connectionPools.values()) {
+            connectionPool.resetBackend();
+        }
         return this;
     }
 
@@ -223,6 +339,19 @@ public class ForestConfiguration implements Serializable {
         return backend;
     }
 
+    /**
+     * 获取发送请求的后端，属于独立连接池分组的请求使用分组的后端
+     * @param request 请求对象
+     * @return {@link HttpBackend} 对象
+     */
+    public HttpBackend getBackend(ForestRequest request) {
+        ForestConnectionPool connectionPool = request.getConnectionPool();
+        if (connectionPool == null) {
+            return getBackend();
+        }
+        return connectionPool.getBackend(this);
+    }
+
     public InterceptorFactory getInterceptorFactory() {
         if (interceptorFactory == null) {
             synchronized (this) {
@@ -275,6 +404,183 @@ public class ForestConfiguration implements Serializable {
         return this;
     }
 
+    public Integer getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public ForestConfiguration setMaxIdleConnections(Integer maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+        return this;
+    }
+
+    public Long getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    public ForestConfiguration setKeepAliveTime(Long keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+        return this;
+    }
+
+    public Integer getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    public ForestConfiguration setValidateAfterInactivity(Integer validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+        return this;
+    }
+
+    public Long getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    public ForestConfiguration setEvictionInterval(Long evictionInterval) {
+        this.evictionInterval = evictionInterval;
+        return this;
+    }
+
+    public Long getDnsTtl() {
+        return dnsTtl;
+    }
+
+    public ForestConfiguration setDnsTtl(Long dnsTtl) {
+        this.dnsTtl = dnsTtl;
+        return this;
+    }
+
+    public Long getDnsNegativeTtl() {
+        return dnsNegativeTtl;
+    }
+
+    public ForestConfiguration setDnsNegativeTtl(Long dnsNegativeTtl) {
+        this.dnsNegativeTtl = dnsNegativeTtl;
+        return this;
+    }
+
+    /**
+     * 获取域名解析器
+     * <p>未设置解析器但设置了 {@code dnsTtl} 时，创建带缓存的解析器，所有后端共享同一个缓存</p>
+     * @return 域名解析器，为 {@code null} 时使用JVM自带的解析
+     */
+    public ForestDnsResolver getDnsResolver() {
+        if (dnsResolver == null && dnsTtl != null && dnsTtl > 0) {
+            long negativeTtl = dnsNegativeTtl != null ? dnsNegativeTtl : HttpConnectionConstants.DEFAULT_DNS_NEGATIVE_TTL;
+            dnsResolver = new CachingDnsResolver(SystemDnsResolver.INSTANCE, dnsTtl, negativeTtl);
+        }
+        return dnsResolver;
+    }
+
+    public ForestConfiguration setDnsResolver(ForestDnsResolver dnsResolver) {
+        this.dnsResolver = dnsResolver;
+        return this;
+    }
+
+    public Integer getMaxRequests() {
+        return maxRequests;
+    }
+
+    public ForestConfiguration setMaxRequests(Integer maxRequests) {
+        this.maxRequests = maxRequests;
+        return this;
+    }
+
+    public Integer getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public ForestConfiguration setMaxRequestsPerHost(Integer maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    public boolean isPriorityDispatch() {
+        return priorityDispatch;
+    }
+
+    public ForestConfiguration setPriorityDispatch(boolean priorityDispatch) {
+        this.priorityDispatch = priorityDispatch;
+        resetPriorityDispatchers();
+        return this;
+    }
+
+    public long getPriorityAgingInterval() {
+        return priorityAgingInterval;
+    }
+
+    public ForestConfiguration setPriorityAgingInterval(long priorityAgingInterval) {
+        this.priorityAgingInterval = priorityAgingInterval;
+        resetPriorityDispatchers();
+        return this;
+    }
+
+    public int getPriorityQueueCapacity() {
+        return priorityQueueCapacity;
+    }
+
+    public ForestConfiguration setPriorityQueueCapacity(int priorityQueueCapacity) {
+        this.priorityQueueCapacity = priorityQueueCapacity;
+        resetPriorityDispatchers();
+        return this;
+    }
+
+    public PriorityRejectPolicy getPriorityRejectPolicy() {
+        return priorityRejectPolicy;
+    }
+
+    public ForestConfiguration setPriorityRejectPolicy(PriorityRejectPolicy priorityRejectPolicy) {
+        this.priorityRejectPolicy = priorityRejectPolicy;
+        resetPriorityDispatchers();
+        return this;
+    }
+
+    private void resetPriorityDispatchers() {
+        ForestPriorityDispatcher previous;
+        synchronized (this) {
+            previous = priorityDispatcher;
+            priorityDispatcher = null;
+        }
+        if (previous != null) {
+            previous.shutdown();
+        }
+        for (ForestConnectionPool connectionPool : connectionPools.values()) {
+            connectionPool.resetPriorityDispatcher();
+        }
+    }
+
+    /**
+     * 获取异步请求的优先级调度器，同时进行的异步请求数上限与后端的 maxRequests 一致
+     * @return {@link ForestPriorityDispatcher} 对象，未启用优先级调度时返回 {@code null}
+     */
+    public ForestPriorityDispatcher getPriorityDispatcher() {
+        if (!priorityDispatch) {
+            return null;
+        }
+        if (priorityDispatcher == null) {
+            synchronized (this) {
+                if (priorityDispatcher == null) {
+                    int maxRequests = new HttpConnectionOptions(this).getMaxRequests();
+                    priorityDispatcher = new ForestPriorityDispatcher(maxRequests, priorityAgingInterval,
+                            priorityQueueCapacity, priorityRejectPolicy);
+                }
+            }
+        }
+        return priorityDispatcher;
+    }
+
+    /**
+     * 获取请求的优先级调度器，属于独立连接池分组的请求使用分组的调度器
+     * @param request 请求对象
+     * @return {@link ForestPriorityDispatcher} 对象，未启用优先级调度时返回 {@code null}
+     */
+    public ForestPriorityDispatcher getPriorityDispatcher(ForestRequest request) {
+        ForestConnectionPool connectionPool = request.getConnectionPool();
+        if (connectionPool == null) {
+            return getPriorityDispatcher();
+        }
+        return connectionPool.getPriorityDispatcher(this);
+    }
+
     public Integer getTimeout() {
         return timeout;
     }
@@ -284,6 +590,33 @@ public class ForestConfiguration implements Serializable {
         return this;
     }
 
+    public Integer getReadTimeout() {
+        return readTimeout;
+    }
+
+    public ForestConfiguration setReadTimeout(Integer readTimeout) {
+        this.readTimeout = readTimeout;
+        return this;
+    }
+
+    public Integer getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    public ForestConfiguration setWriteTimeout(Integer writeTimeout) {
+        this.writeTimeout = writeTimeout;
+        return this;
+    }
+
+    public Integer getPoolAcquireTimeout() {
+        return poolAcquireTimeout;
+    }
+
+    public ForestConfiguration setPoolAcquireTimeout(Integer poolAcquireTimeout) {
+        this.poolAcquireTimeout = poolAcquireTimeout;
+        return this;
+    }
+
     public String getCharset() {
         return charset;
     }
@@ -326,6 +659,15 @@ public class ForestConfiguration implements Serializable {
         this.maxRetryInterval = maxRetryInterval;
     }
 
+    public ForestProtocol getHttpProtocol() {
+        return httpProtocol;
+    }
+
+    public ForestConfiguration setHttpProtocol(ForestProtocol httpProtocol) {
+        this.httpProtocol = httpProtocol;
+        return this;
+    }
+
     public String getSslProtocol() {
         return sslProtocol;
     }
@@ -436,6 +778,78 @@ public class ForestConfiguration implements Serializable {
         return sslKeyStores.get(id);
     }
 
+    public Map<String, ForestRateLimiter> getRateLimiters() {
+        return rateLimiters;
+    }
+
+    /**
+     * 设置限流器，Key为限流器名称，使用 {@link com.dtflys.forest.extensions.RateLimit} 注解中同名限流器的方法共享配额
+     * @param rateLimiters
+     */
+    public ForestConfiguration setRateLimiters(Map<String, ForestRateLimiter> rateLimiters) {
+        this.rateLimiters = new ConcurrentHashMap<>(rateLimiters);
+        return this;
+    }
+
+    /**
+     * register a rate limiter
+     * @param rateLimiter
+     */
+    public ForestConfiguration registerRateLimiter(ForestRateLimiter rateLimiter) {
+        rateLimiters.put(rateLimiter.getName(), rateLimiter);
+        return this;
+    }
+
+    public ForestRateLimiter getRateLimiter(String name) {
+        return rateLimiters.get(name);
+    }
+
+    public Map<String, ForestConnectionPool> getConnectionPools() {
+        return connectionPools;
+    }
+
+    /**
+     * 设置独立的连接池分组，Key为分组名称，使用 {@link com.dtflys.forest.extensions.ConnectionPool} 注解中同名分组的接口共享连接池
+     * @param connectionPools
+     */
+    public ForestConfiguration setConnectionPools(Map<String, ForestConnectionPool> connectionPools) {
+        this.connectionPools = new ConcurrentHashMap<>(connectionPools);
+        return this;
+    }
+
+    /**
+     * register an isolated connection pool
+     * @param connectionPool
+     */
+    public ForestConfiguration registerConnectionPool(ForestConnectionPool connectionPool) {
+        connectionPools.put(connectionPool.getName(), connectionPool);
+        return this;
+    }
+
+    public ForestConnectionPool getConnectionPool(String name) {
+        return connectionPools.get(name);
+    }
+
+    /**
+     * 获取各个连接池的使用情况，默认连接池的Key为 {@code default}，还没有发送过请求的分组不包含在内
+     * @return 连接池名称到 {@link ConnectionUtilization} 的映射
+     */
+    public Map<String, ConnectionUtilization> getConnectionUtilizations() {
+        Map<String, ConnectionUtilization> utilizations = new LinkedHashMap<>();
+        ForestConnectionManager connectionManager = getBackend().getConnectionManager();
+        ConnectionUtilization utilization = connectionManager == null ? null : connectionManager.getUtilization();
+        if (utilization != null) {
+            utilizations.put(ForestConnectionPool.DEFAULT_NAME, utilization);
+        }
+        for (ForestConnectionPool connectionPool : connectionPools.values()) {
+            utilization = connectionPool.getUtilization();
+            if (utilization != null) {
+                utilizations.put(connectionPool.getName(), utilization);
+            }
+        }
+        return utilizations;
+    }
+
     public ForestConverter getConverter(ForestDataType dataType) {
         ForestConverter converter = getConverterMap().get(dataType);
         if (converter == null) {
@@ -467,6 +881,14 @@ public class ForestConfiguration implements Serializable {
     }
 
 
+    /**
+     * 获取连接预热的就绪状态
+     * @return {@link WarmUpReadiness} 对象
+     */
+    public WarmUpReadiness getWarmUpReadiness() {
+        return warmUpReadiness;
+    }
+
     public <T> T createInstance(Class<T> clazz) {
         ProxyFactory<T> proxyFactory = getProxyFactory(clazz);
         return proxyFactory.createInstance();
@@ -3,7 +3,11 @@ package com.dtflys.forest.converter.json;
 import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONObject;
 import com.alibaba.fastjson.TypeReference;
+import com.alibaba.fastjson.parser.DefaultJSONParser;
+import com.alibaba.fastjson.parser.JSONLexer;
+import com.alibaba.fastjson.parser.JSONToken;
 import com.alibaba.fastjson.parser.ParserConfig;
+import com.alibaba.fastjson.parser.deserializer.ObjectDeserializer;
 import com.alibaba.fastjson.serializer.SerializeConfig;
 import com.alibaba.fastjson.serializer.SerializerFeature;
 import com.alibaba.fastjson.util.FieldInfo;
@@ -104,6 +108,126 @@ public class ForestFastjsonConverter implements ForestJsonConverter {
 
     }
 
+    @Override
+    public <T> ForestJsonReader<T> prepareReader(Type targetType) {
+        if (targetType == byte[].class || targetType == char[].class) {
+            return source -> convertToJavaObject(source, targetType);
+        }
+        final ParserConfig config = ParserConfig.getGlobalInstance();
+        final ObjectDeserializer deserializer = config.getDeserializer(targetType);
+        return source -> {
+            if (source == null) {
+                return null;
+            }
+            try {
+                DefaultJSONParser parser = new DefaultJSONParser(source, config, JSON.DEFAULT_PARSER_FEATURE);
+                T value;
+                if (parser.getLexer().token() == JSONToken.NULL) {
+                    parser.getLexer().nextToken();
+                    value = null;
+                } else {
+                    value = deserializer.deserialze(parser, targetType, null);
+                }
+                parser.handleResovleTask(value);
+                parser.close();
+                return value;
+            } catch (Throwable th) {
+                throw new ForestRuntimeException(th);
+            }
+        };
+    }
+
+    @Override
+    public <T> T convertToJavaObject(String source, ForestJsonPath path, Type targetType) {
+        try {
+            DefaultJSONParser parser = new DefaultJSONParser(source, ParserConfig.getGlobalInstance());
+            JSONLexer lexer = parser.getLexer();
+            for (Object segment : path.getSegments()) {
+                if (!moveToChild(lexer, segment)) {
+                    return null;
+                }
+            }
+            if (lexer.token() == JSONToken.NULL) {
+                return null;
+            }
+            T value = parser.parseObject(targetType);
+            parser.handleResovleTask(value);
+            lexer.close();
+            return value;
+        } catch (Throwable th) {
+            throw new ForestRuntimeException(th);
+        }
+    }
+
+    /**
+     * 在词法分析层面将位置移动到当前节点的子节点上，跳过的节点不会被构建为对象
+     */
+    private static boolean moveToChild(JSONLexer lexer, Object segment) {
+        if (segment instanceof Integer) {
+            if (lexer.token() != JSONToken.LBRACKET) {
+                return false;
+            }
+            lexer.nextToken();
+            int index = (Integer) segment;
+            for (int i = 0; ; i++) {
+                int token = lexer.token();
+                if (token == JSONToken.RBRACKET || token == JSONToken.EOF) {
+                    return false;
+                }
+                if (i == index) {
+                    return true;
+                }
+                skipValue(lexer);
+                if (lexer.token() == JSONToken.COMMA) {
+                    lexer.nextToken();
+                }
+            }
+        }
+        if (lexer.token() != JSONToken.LBRACE) {
+            return false;
+        }
+        lexer.nextToken();
+        while (true) {
+            int token = lexer.token();
+            if (token == JSONToken.COMMA) {
+                lexer.nextToken();
+                continue;
+            }
+            if (token != JSONToken.LITERAL_STRING && token != JSONToken.IDENTIFIER) {
+                return false;
+            }
+            String name = lexer.stringVal();
+            lexer.nextToken();
+            if (lexer.token() != JSONToken.COLON) {
+                return false;
+            }
+            lexer.nextToken();
+            if (segment.equals(name)) {
+                return true;
+            }
+            skipValue(lexer);
+        }
+    }
+
+    private static void skipValue(JSONLexer lexer) {
+        int token = lexer.token();
+        if (token != JSONToken.LBRACE && token != JSONToken.LBRACKET) {
+            lexer.nextToken();
+            return;
+        }
+        int depth = 0;
+        do {
+            token = lexer.token();
+            if (token == JSONToken.LBRACE || token == JSONToken.LBRACKET) {
+                depth++;
+            } else if (token == JSONToken.RBRACE || token == JSONToken.RBRACKET) {
+                depth--;
+            } else if (token == JSONToken.EOF) {
+                return;
+            }
+            lexer.nextToken();
+        } while (depth > 0);
+    }
 
 
     public String encodeToString(Object obj) {
@@ -2,7 +2,11 @@ package com.dtflys.forest.converter.json;
 
 import com.dtflys.forest.exceptions.ForestRuntimeException;
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -47,6 +51,104 @@ public class ForestGsonConverter implements ForestJsonConverter {
         }
     }
 
+    @Override
+    public <T> ForestJsonReader<T> prepareReader(Type targetType) {
+        if (targetType instanceof Class) {
+            Class targetClass = (Class) targetType;
+            if (Map.class.isAssignableFrom(targetClass)) {
+                return source -> {
+                    try {
+                        return (T) toMap(new JsonParser().parse(source).getAsJsonObject());
+                    } catch (Throwable th) {
+                        throw new ForestRuntimeException(th);
+                    }
+                };
+            }
+            if (List.class.isAssignableFrom(targetClass)) {
+                return source -> {
+                    try {
+                        return (T) toList(new JsonParser().parse(source).getAsJsonArray());
+                    } catch (Throwable th) {
+                        throw new ForestRuntimeException(th);
+                    }
+                };
+            }
+        }
+        final Gson gson = new Gson();
+        return source -> {
+            try {
+                return gson.fromJson(source, targetType);
+            } catch (Throwable th) {
+                throw new ForestRuntimeException(th);
+            }
+        };
+    }
+
+    @Override
+    public <T> T convertToJavaObject(String source, ForestJsonPath path, Type targetType) {
+        JsonReader reader = new JsonReader(new StringReader(source));
+        try {
+            for (Object segment : path.getSegments()) {
+                if (!moveToChild(reader, segment)) {
+                    return null;
+                }
+            }
+            if (reader.peek() == JsonToken.NULL) {
+                return null;
+            }
+            if (targetType instanceof Class && (Map.class.isAssignableFrom((Class) targetType)
+                    || List.class.isAssignableFrom((Class) targetType))) {
+                JsonElement element = new JsonParser().parse(reader);
+                if (element.isJsonObject()) {
+                    return (T) toMap(element.getAsJsonObject());
+                }
+                if (element.isJsonArray()) {
+                    return (T) toList(element.getAsJsonArray());
+                }
+                return null;
+            }
+            Gson gson = new Gson();
+            return gson.fromJson(reader, targetType);
+        } catch (Throwable th) {
+            throw new ForestRuntimeException(th);
+        } finally {
+            try {
+                reader.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * 将读取器移动到当前节点的子节点上，跳过中间的其他节点
+     */
+    private static boolean moveToChild(JsonReader reader, Object segment) throws IOException {
+        if (segment instanceof Integer) {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                return false;
+            }
+            reader.beginArray();
+            int index = (Integer) segment;
+            for (int i = 0; reader.hasNext(); i++) {
+                if (i == index) {
+                    return true;
+                }
+                reader.skipValue();
+            }
+            return false;
+        }
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return false;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (segment.equals(reader.nextName())) {
+                return true;
+            }
+            reader.skipValue();
+        }
+        return false;
+    }
 
     private static Map<String, Object> toMap(JsonObject json){
         Map<String, Object> map = new HashMap<String, Object>();
@@ -1,9 +1,12 @@
 package com.dtflys.forest.converter.json;
 
 import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
@@ -58,7 +61,75 @@ public class ForestJacksonConverter implements ForestJsonConverter {
         }
     }
 
+    @Override
+    public <T> ForestJsonReader<T> prepareReader(Type targetType) {
+        final ObjectReader reader = mapper.readerFor(mapper.getTypeFactory().constructType(targetType));
+        return source -> {
+            try {
+                return reader.readValue(source);
+            } catch (IOException e) {
+                throw new ForestRuntimeException(e);
+            }
+        };
+    }
 
+    @Override
+    public <T> T convertToJavaObject(String source, ForestJsonPath path, Type targetType) {
+        JsonParser parser = null;
+        try {
+            parser = mapper.getFactory().createParser(source);
+            parser.nextToken();
+            for (Object segment : path.getSegments()) {
+                if (!moveToChild(parser, segment)) {
+                    return null;
+                }
+            }
+            if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return mapper.readValue(parser, mapper.getTypeFactory().constructType(targetType));
+        } catch (IOException e) {
+            throw new ForestRuntimeException(e);
+        } finally {
+            if (parser != null) {
+                try {
+                    parser.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * 将解析器移动到当前节点的子节点上，跳过中间的其他节点
+     */
+    private static boolean moveToChild(JsonParser parser, Object segment) throws IOException {
+        if (segment instanceof Integer) {
+            if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+                return false;
+            }
+            int index = (Integer) segment;
+            for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+                if (i == index) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if (segment.equals(name)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
 
 
     public String encodeToString(Object obj) {
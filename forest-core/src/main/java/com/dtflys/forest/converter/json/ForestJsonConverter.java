@@ -3,6 +3,7 @@ package com.dtflys.forest.converter.json;
 import com.dtflys.forest.converter.ForestConverter;
 import com.dtflys.forest.converter.ForestEncoder;
 
+import java.lang.reflect.Type;
 import java.util.Map;
 
 /**
@@ -13,4 +14,30 @@ import java.util.Map;
 public interface ForestJsonConverter extends ForestConverter<String>, ForestEncoder {
 
     Map<String, Object> convertObjectToMap(Object obj);
+
+    /**
+     * 为目标类型创建预先解析好类型的读取器，可缓存后重复使用
+     * @param targetType 目标类型
+     * @return {@link ForestJsonReader} 对象
+     */
+    default <T> ForestJsonReader<T> prepareReader(Type targetType) {
+        return source -> convertToJavaObject(source, targetType);
+    }
+
+    /**
+     * 只将JSON中路径所指向的部分转换为Java对象
+     * <p>默认实现会先解析整个JSON再取值，内置的转换器会在解析过程中直接跳到目标节点</p>
+     * @param source JSON字符串
+     * @param path JSON路径
+     * @param targetType 目标类型
+     * @return 转换后的对象，路径不存在时返回 {@code null}
+     */
+    default <T> T convertToJavaObject(String source, ForestJsonPath path, Type targetType) {
+        Object root = convertToJavaObject(source, Object.class);
+        Object value = path.getValue(root);
+        if (value == null) {
+            return null;
+        }
+        return convertToJavaObject(encodeToString(value), targetType);
+    }
 }
@@ -0,0 +1,141 @@
+package com.dtflys.forest.converter.json;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 简化的JSONPath，只支持由属性名和数组下标组成的确定路径
+ * <p>如：{@code $.data.items}、{@code $.data.items[0].name}、{@code $['data']['items']}、{@code data.items}</p>
+ * <p>JSON转换器按照路径在解析过程中直接跳到目标节点，只绑定该节点的数据</p>
+ *
+ * @since 2026-10-19 00:36
+ */
+public class ForestJsonPath {
+
+    private final static Map<String, ForestJsonPath> PATH_CACHE = new ConcurrentHashMap<>();
+
+    private final String path;
+
+    /**
+     * 路径中的各个节点，{@link String} 为属性名，{@link Integer} 为数组下标
+     */
+    private final List<Object> segments;
+
+    private ForestJsonPath(String path, List<Object> segments) {
+        this.path = path;
+        this.segments = Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * 编译路径字符串，相同的路径只会解析一次
+     * @param path 路径字符串
+     * @return {@link ForestJsonPath} 对象
+     */
+    public static ForestJsonPath compile(String path) {
+        if (StringUtils.isBlank(path)) {
+            throw new ForestRuntimeException("[Forest] JSON path must not be empty");
+        }
+        ForestJsonPath jsonPath = PATH_CACHE.get(path);
+        if (jsonPath == null) {
+            jsonPath = new ForestJsonPath(path, parseSegments(path.trim()));
+            PATH_CACHE.put(path, jsonPath);
+        }
+        return jsonPath;
+    }
+
+    private static List<Object> parseSegments(String path) {
+        List<Object> segments = new ArrayList<>();
+        int len = path.length();
+        int i = 0;
+        if (path.charAt(0) == '$') {
+            i++;
+        }
+        while (i < len) {
+            char ch = path.charAt(i);
+            if (ch == '.') {
+                i++;
+                continue;
+            }
+            if (ch == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new ForestRuntimeException("[Forest] Invalid JSON path \"" + path + "\": missing ']'");
+                }
+                String content = path.substring(i + 1, end).trim();
+                if (content.length() >= 2
+                        && (content.charAt(0) == '\'' || content.charAt(0) == '"')
+                        && content.charAt(content.length() - 1) == content.charAt(0)) {
+                    segments.add(content.substring(1, content.length() - 1));
+                } else {
+                    try {
+                        segments.add(Integer.parseInt(content));
+                    } catch (NumberFormatException e) {
+                        throw new ForestRuntimeException("[Forest] Invalid JSON path \"" + path + "\": illegal index [" + content + "]");
+                    }
+                }
+                i = end + 1;
+                continue;
+            }
+            int start = i;
+            while (i < len && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                i++;
+            }
+            segments.add(path.substring(start, i));
+        }
+        return segments;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public List<Object> getSegments() {
+        return segments;
+    }
+
+    public int size() {
+        return segments.size();
+    }
+
+    /**
+     * 在已解析的 {@link Map} / {@link List} 结构中按路径取值
+     * @param root 根节点
+     * @return 目标节点，路径不存在时返回 {@code null}
+     */
+    public Object getValue(Object root) {
+        Object current = root;
+        for (Object segment : segments) {
+            if (current == null) {
+                return null;
+            }
+            if (segment instanceof Integer) {
+                if (!(current instanceof List)) {
+                    return null;
+                }
+                List list = (List) current;
+                int index = (Integer) segment;
+                if (index < 0 || index >= list.size()) {
+                    return null;
+                }
+                current = list.get(index);
+            } else {
+                if (!(current instanceof Map)) {
+                    return null;
+                }
+                current = ((Map) current).get(segment);
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
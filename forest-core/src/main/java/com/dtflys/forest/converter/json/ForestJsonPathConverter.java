@@ -0,0 +1,40 @@
+package com.dtflys.forest.converter.json;
+
+import com.dtflys.forest.converter.ForestConverter;
+
+import java.lang.reflect.Type;
+
+/**
+ * 按照 {@link ForestJsonPath} 只解析JSON中部分数据的转换器
+ *
+ * @since 2026-10-19 00:36
+ */
+public class ForestJsonPathConverter implements ForestConverter<String> {
+
+    private final ForestJsonConverter jsonConverter;
+
+    private final ForestJsonPath path;
+
+    public ForestJsonPathConverter(ForestJsonConverter jsonConverter, ForestJsonPath path) {
+        this.jsonConverter = jsonConverter;
+        this.path = path;
+    }
+
+    public ForestJsonConverter getJsonConverter() {
+        return jsonConverter;
+    }
+
+    public ForestJsonPath getPath() {
+        return path;
+    }
+
+    @Override
+    public <T> T convertToJavaObject(String source, Class<T> targetType) {
+        return jsonConverter.convertToJavaObject(source, path, targetType);
+    }
+
+    @Override
+    public <T> T convertToJavaObject(String source, Type targetType) {
+        return jsonConverter.convertToJavaObject(source, path, targetType);
+    }
+}
@@ -0,0 +1,13 @@
+package com.dtflys.forest.converter.json;
+
+/**
+ * 预先绑定了目标类型的JSON读取器
+ * <p>由 {@link ForestJsonConverter#prepareReader(java.lang.reflect.Type)} 创建，
+ * 类型解析只在创建时进行一次，之后每次读取不再解析类型</p>
+ *
+ * @since 2026-10-19 00:38
+ */
+public interface ForestJsonReader<T> {
+
+    T read(String source);
+}
@@ -1,53 +1,184 @@
 package com.dtflys.forest.converter.xml;
 
 import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.utils.ReflectUtils;
 import com.dtflys.forest.utils.StringUtils;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * 基于JAXB实现的XML转换器
+ * <p>每个类的 {@link JAXBContext} 只创建一次，{@link Marshaller} 和 {@link Unmarshaller} 按类池化复用</p>
  * @author gongjun
  * @since 2016-07-12
  */
 public class ForestJaxbConverter implements ForestXmlConverter {
 
+    private final static String DEFAULT_ENCODING = "UTF-8";
+
+    private final Map<Class, JAXBContext> contextCache = new ConcurrentHashMap<>();
+
+    private final Map<Class, Queue<Marshaller>> marshallerPool = new ConcurrentHashMap<>();
+
+    private final Map<Class, Queue<Unmarshaller>> unmarshallerPool = new ConcurrentHashMap<>();
+
+    /**
+     * 是否格式化输出XML
+     */
+    private volatile boolean formattedOutput = true;
+
+    public boolean isFormattedOutput() {
+        return formattedOutput;
+    }
+
+    /**
+     * 设置是否格式化输出XML，关闭后可减小请求体积
+     * @param formattedOutput 是否格式化输出
+     */
+    public void setFormattedOutput(boolean formattedOutput) {
+        this.formattedOutput = formattedOutput;
+        marshallerPool.clear();
+    }
+
     @Override
     public String encodeToString(Object obj) {
+        StringWriter writer = new StringWriter();
+        Class clazz = obj.getClass();
+        Marshaller marshaller = borrowMarshaller(clazz);
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(obj.getClass());
-            StringWriter writer = new StringWriter();
-            createMarshaller(jaxbContext, "UTF-8").marshal(obj, writer);
-            return writer.toString();
+            marshaller.marshal(obj, writer);
         } catch (JAXBException e) {
             throw new ForestRuntimeException(e);
+        } finally {
+            returnMarshaller(clazz, marshaller);
         }
+        return writer.toString();
+    }
 
+    /**
+     * 将对象以UTF-8编码的XML写入输出流
+     * @param obj 对象
+     * @param out 输出流
+     */
+    public void encodeToStream(Object obj, OutputStream out) {
+        Class clazz = obj.getClass();
+        Marshaller marshaller = borrowMarshaller(clazz);
+        try {
+            marshaller.marshal(obj, out);
+        } catch (JAXBException e) {
+            throw new ForestRuntimeException(e);
+        } finally {
+            returnMarshaller(clazz, marshaller);
+        }
     }
 
     @Override
     public <T> T convertToJavaObject(String source, Class<T> targetType) {
-        JAXBContext jaxbContext = null;
+        return unmarshal(new StreamSource(new StringReader(source)), targetType);
+    }
+
+
+    @Override
+    public <T> T convertToJavaObject(String source, Type targetType) {
+        return convertToJavaObject(source, (Class<? extends T>) ReflectUtils.getClassByType(targetType));
+    }
+
+    /**
+     * 直接从输入流中读取XML并转换为Java对象，不需要先将内容读取为字符串
+     * @param source 输入流
+     * @param targetType 目标类型
+     * @return 转换后的对象
+     */
+    public <T> T convertToJavaObject(InputStream source, Class<T> targetType) {
+        return unmarshal(new StreamSource(source), targetType);
+    }
+
+    private <T> T unmarshal(StreamSource source, Class<T> targetType) {
+        Unmarshaller unmarshaller = borrowUnmarshaller(targetType);
         try {
-            jaxbContext = JAXBContext.newInstance(targetType);
-            StringReader reader = new StringReader(source);
-            return (T) createUnmarshaller(jaxbContext).unmarshal(reader);
+            Object result = unmarshaller.unmarshal(source);
+            if (result instanceof JAXBElement) {
+                result = ((JAXBElement) result).getValue();
+            }
+            return (T) result;
         } catch (JAXBException e) {
             throw new ForestRuntimeException(e);
+        } finally {
+            returnUnmarshaller(targetType, unmarshaller);
         }
+    }
 
+    /**
+     * 获取类对应的 {@link JAXBContext}，同一个类只会创建一次
+     * @param clazz 类
+     * @return {@link JAXBContext} 对象
+     */
+    public JAXBContext getJAXBContext(Class clazz) {
+        JAXBContext jaxbContext = contextCache.get(clazz);
+        if (jaxbContext == null) {
+            try {
+                jaxbContext = JAXBContext.newInstance(clazz);
+            } catch (JAXBException e) {
+                throw new ForestRuntimeException(e);
+            }
+            JAXBContext existed = contextCache.putIfAbsent(clazz, jaxbContext);
+            if (existed != null) {
+                jaxbContext = existed;
+            }
+        }
+        return jaxbContext;
     }
 
+    private Marshaller borrowMarshaller(Class clazz) {
+        Queue<Marshaller> pool = marshallerPool.get(clazz);
+        if (pool != null) {
+            Marshaller marshaller = pool.poll();
+            if (marshaller != null) {
+                return marshaller;
+            }
+        }
+        return createMarshaller(getJAXBContext(clazz), DEFAULT_ENCODING);
+    }
 
-    @Override
-    public <T> T convertToJavaObject(String source, Type targetType) {
-        return convertToJavaObject(source, (Class<? extends T>) targetType);
+    private void returnMarshaller(Class clazz, Marshaller marshaller) {
+        try {
+            if (!Boolean.valueOf(formattedOutput).equals(marshaller.getProperty(Marshaller.JAXB_FORMATTED_OUTPUT))) {
+                // 格式化配置已经改变，丢弃旧的Marshaller
+                return;
+            }
+        } catch (JAXBException e) {
+            return;
+        }
+        marshallerPool.computeIfAbsent(clazz, key -> new ConcurrentLinkedQueue<>()).offer(marshaller);
+    }
+
+    protected Unmarshaller borrowUnmarshaller(Class clazz) {
+        Queue<Unmarshaller> pool = unmarshallerPool.get(clazz);
+        if (pool != null) {
+            Unmarshaller unmarshaller = pool.poll();
+            if (unmarshaller != null) {
+                return unmarshaller;
+            }
+        }
+        return createUnmarshaller(getJAXBContext(clazz));
+    }
+
+    protected void returnUnmarshaller(Class clazz, Unmarshaller unmarshaller) {
+        unmarshallerPool.computeIfAbsent(clazz, key -> new ConcurrentLinkedQueue<>()).offer(unmarshaller);
     }
 
 
@@ -55,7 +186,7 @@ public class ForestJaxbConverter implements ForestXmlConverter {
         try {
             Marshaller marshaller = jaxbContext.createMarshaller();
 
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput);
 
             if (StringUtils.isNotEmpty(encoding)) {
                 marshaller.setProperty(Marshaller.JAXB_ENCODING, encoding);
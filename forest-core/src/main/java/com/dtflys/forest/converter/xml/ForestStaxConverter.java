@@ -0,0 +1,95 @@
+package com.dtflys.forest.converter.xml;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.utils.StringUtils;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+
+/**
+ * 基于StAX实现的XML转换器
+ * <p>通过 {@link XMLStreamReader} 从流中读取XML，再由JAXB只绑定当前元素的子树，
+ * 可以用来逐个读取大文档中重复出现的元素，而不需要在内存中构建整个文档或字符串</p>
+ *
+ * @since 2026-10-19 00:44
+ */
+public class ForestStaxConverter extends ForestJaxbConverter {
+
+    private final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    {
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Override
+    public <T> T convertToJavaObject(String source, Class<T> targetType) {
+        return readDocument(createXMLStreamReader(new StringReader(source)), targetType);
+    }
+
+    @Override
+    public <T> T convertToJavaObject(InputStream source, Class<T> targetType) {
+        return readDocument(createXMLStreamReader(source, null), targetType);
+    }
+
+    /**
+     * 创建从输入流读取的 {@link XMLStreamReader}
+     * @param in 输入流
+     * @param encoding 字符编码，为空时由XML声明自动识别
+     * @return {@link XMLStreamReader} 对象
+     */
+    public XMLStreamReader createXMLStreamReader(InputStream in, String encoding) {
+        try {
+            if (StringUtils.isEmpty(encoding)) {
+                return inputFactory.createXMLStreamReader(in);
+            }
+            return inputFactory.createXMLStreamReader(in, encoding);
+        } catch (XMLStreamException e) {
+            throw new ForestRuntimeException(e);
+        }
+    }
+
+    public XMLStreamReader createXMLStreamReader(Reader reader) {
+        try {
+            return inputFactory.createXMLStreamReader(reader);
+        } catch (XMLStreamException e) {
+            throw new ForestRuntimeException(e);
+        }
+    }
+
+    /**
+     * 将读取器当前所在的元素绑定为Java对象，读取结束后读取器位于该元素的结束标签之后
+     * @param reader 位于开始标签上的 {@link XMLStreamReader}
+     * @param targetType 目标类型
+     * @return 转换后的对象
+     */
+    public <T> T readElement(XMLStreamReader reader, Class<T> targetType) {
+        Unmarshaller unmarshaller = borrowUnmarshaller(targetType);
+        try {
+            return unmarshaller.unmarshal(reader, targetType).getValue();
+        } catch (JAXBException e) {
+            throw new ForestRuntimeException(e);
+        } finally {
+            returnUnmarshaller(targetType, unmarshaller);
+        }
+    }
+
+    private <T> T readDocument(XMLStreamReader reader, Class<T> targetType) {
+        try {
+            reader.nextTag();
+            return readElement(reader, targetType);
+        } catch (XMLStreamException e) {
+            throw new ForestRuntimeException(e);
+        } finally {
+            try {
+                reader.close();
+            } catch (XMLStreamException ignored) {
+            }
+        }
+    }
+}
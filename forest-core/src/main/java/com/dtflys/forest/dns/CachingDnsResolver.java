@@ -0,0 +1,179 @@
+package com.dtflys.forest.dns;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 带缓存的域名解析器
+ * <p>解析成功的结果缓存 {@code ttl} 毫秒，解析失败的结果缓存 {@code negativeTtl} 毫秒。
+ * 缓存超过有效期的 3/4 后，在后台线程中提前刷新，请求线程不会因为刷新而阻塞；
+ * 缓存过期后重新解析失败时，继续使用旧的地址 {@code negativeTtl} 毫秒。</p>
+ * <p>每次返回的地址列表都会轮换顺序，使新建的连接分散到所有解析出的地址上</p>
+ *
+ * @since 2026-10-19 01:07
+ */
+public class CachingDnsResolver implements ForestDnsResolver {
+
+    private static Logger log = LoggerFactory.getLogger(CachingDnsResolver.class);
+
+    private final static ExecutorService REFRESH_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "forest-dns-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ForestDnsResolver delegate;
+
+    private final long ttl;
+
+    private final long negativeTtl;
+
+    private final long refreshAfter;
+
+    private final ConcurrentMap<String, DnsRecord> records = new ConcurrentHashMap<>();
+
+    private final DnsStats stats = new DnsStats();
+
+    /**
+     * @param delegate 实际执行解析的解析器
+     * @param ttl 解析成功的缓存时间 (毫秒)
+     * @param negativeTtl 解析失败的缓存时间 (毫秒)
+     */
+    public CachingDnsResolver(ForestDnsResolver delegate, long ttl, long negativeTtl) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.refreshAfter = ttl - ttl / 4;
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public long getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    public DnsStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public List<InetAddress> resolve(String host) throws UnknownHostException {
+        long now = System.currentTimeMillis();
+        DnsRecord record = records.get(host);
+        if (record != null && now < record.expireTime) {
+            stats.cacheHit();
+            if (record.addresses == null) {
+                throw new UnknownHostException(host + ": " + record.error);
+            }
+            if (now - record.resolveTime >= refreshAfter && record.refreshing.compareAndSet(false, true)) {
+                REFRESH_EXECUTOR.execute(() -> refresh(host, record));
+            }
+            return record.nextAddresses();
+        }
+        try {
+            DnsRecord newRecord = new DnsRecord(lookup(host), null, now, now + ttl);
+            records.put(host, newRecord);
+            return newRecord.nextAddresses();
+        } catch (UnknownHostException e) {
+            if (record != null && record.addresses != null) {
+                log.warn("[Forest] Resolve host '" + host + "' failed, use stale addresses " + record.addresses, e);
+                DnsRecord staleRecord = new DnsRecord(record.addresses, null, now, now + negativeTtl);
+                records.put(host, staleRecord);
+                return staleRecord.nextAddresses();
+            }
+            records.put(host, new DnsRecord(null, e.getMessage(), now, now + negativeTtl));
+            throw e;
+        }
+    }
+
+    private void refresh(String host, DnsRecord record) {
+        try {
+            List<InetAddress> addresses = lookup(host);
+            long now = System.currentTimeMillis();
+            records.put(host, new DnsRecord(addresses, null, now, now + ttl));
+        } catch (Throwable th) {
+            // 保留旧的地址直到过期
+            log.warn("[Forest] Refresh host '" + host + "' failed", th);
+        } finally {
+            record.refreshing.set(false);
+        }
+    }
+
+    private List<InetAddress> lookup(String host) throws UnknownHostException {
+        long startTime = System.nanoTime();
+        boolean success = false;
+        try {
+            List<InetAddress> addresses = delegate.resolve(host);
+            if (addresses == null || addresses.isEmpty()) {
+                throw new UnknownHostException(host);
+            }
+            success = true;
+            return addresses;
+        } finally {
+            stats.lookup(System.nanoTime() - startTime, success);
+        }
+    }
+
+    /**
+     * 清除主机的缓存
+     * @param host 主机名
+     */
+    public void invalidate(String host) {
+        records.remove(host);
+    }
+
+    /**
+     * 清除所有缓存
+     */
+    public void clear() {
+        records.clear();
+    }
+
+    private static class DnsRecord {
+
+        private final List<InetAddress> addresses;
+
+        private final String error;
+
+        private final long resolveTime;
+
+        private final long expireTime;
+
+        private final AtomicInteger counter = new AtomicInteger(0);
+
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        DnsRecord(List<InetAddress> addresses, String error, long resolveTime, long expireTime) {
+            this.addresses = addresses;
+            this.error = error;
+            this.resolveTime = resolveTime;
+            this.expireTime = expireTime;
+        }
+
+        List<InetAddress> nextAddresses() {
+            int size = addresses.size();
+            if (size <= 1) {
+                return addresses;
+            }
+            int offset = Math.floorMod(counter.getAndIncrement(), size);
+            List<InetAddress> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(addresses.get((offset + i) % size));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.dtflys.forest.dns;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 域名解析的统计信息
+ *
+ * @since 2026-10-19 01:07
+ */
+public class DnsStats {
+
+    private final AtomicLong cacheHits = new AtomicLong(0);
+
+    private final AtomicLong lookups = new AtomicLong(0);
+
+    private final AtomicLong failures = new AtomicLong(0);
+
+    private final AtomicLong totalLookupTime = new AtomicLong(0);
+
+    private final AtomicLong maxLookupTime = new AtomicLong(0);
+
+    void cacheHit() {
+        cacheHits.incrementAndGet();
+    }
+
+    void lookup(long nanos, boolean success) {
+        lookups.incrementAndGet();
+        if (!success) {
+            failures.incrementAndGet();
+        }
+        totalLookupTime.addAndGet(nanos);
+        maxLookupTime.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * 命中缓存的次数
+     * @return 次数
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * 实际执行解析的次数，包括后台刷新
+     * @return 次数
+     */
+    public long getLookups() {
+        return lookups.get();
+    }
+
+    /**
+     * 解析失败的次数
+     * @return 次数
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * 平均解析耗时 (毫秒)
+     * @return 耗时
+     */
+    public double getAverageLookupTime() {
+        long count = lookups.get();
+        if (count == 0) {
+            return 0;
+        }
+        return (double) totalLookupTime.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 最大解析耗时 (毫秒)
+     * @return 耗时
+     */
+    public double getMaxLookupTime() {
+        return (double) maxLookupTime.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "{cacheHits: " + getCacheHits() +
+                ", lookups: " + getLookups() +
+                ", failures: " + getFailures() +
+                ", averageLookupTime: " + getAverageLookupTime() + "ms" +
+                ", maxLookupTime: " + getMaxLookupTime() + "ms}";
+    }
+}
@@ -0,0 +1,23 @@
+package com.dtflys.forest.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+/**
+ * Forest的域名解析器
+ * <p>所有后端建立新连接时都通过该接口解析主机地址</p>
+ *
+ * @since 2026-10-19 01:07
+ */
+public interface ForestDnsResolver {
+
+    /**
+     * 解析主机地址
+     * @param host 主机名
+     * @return 主机的IP地址列表，按尝试连接的顺序排列
+     * @throws UnknownHostException 无法解析时抛出
+     */
+    List<InetAddress> resolve(String host) throws UnknownHostException;
+
+}
@@ -0,0 +1,21 @@
+package com.dtflys.forest.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 使用JVM自带解析的域名解析器
+ *
+ * @since 2026-10-19 01:07
+ */
+public class SystemDnsResolver implements ForestDnsResolver {
+
+    public final static SystemDnsResolver INSTANCE = new SystemDnsResolver();
+
+    @Override
+    public List<InetAddress> resolve(String host) throws UnknownHostException {
+        return Arrays.asList(InetAddress.getAllByName(host));
+    }
+}
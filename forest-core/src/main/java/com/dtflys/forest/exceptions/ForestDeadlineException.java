@@ -0,0 +1,13 @@
+package com.dtflys.forest.exceptions;
+
+/**
+ * 请求的截止时间已过，不再发送请求或重试
+ *
+ * @since 2026-10-19 02:49
+ */
+public class ForestDeadlineException extends ForestRuntimeException {
+
+    public ForestDeadlineException(String message) {
+        super(message);
+    }
+}
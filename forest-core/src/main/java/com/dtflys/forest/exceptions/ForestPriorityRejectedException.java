@@ -0,0 +1,20 @@
+package com.dtflys.forest.exceptions;
+
+/**
+ * 异步请求没有被优先级调度器接受：队列已满，被更优先的请求挤出队列，或者调度器已经关闭
+ *
+ * @since 2026-10-19 05:11
+ */
+public class ForestPriorityRejectedException extends ForestRuntimeException {
+
+    private final int priority;
+
+    public ForestPriorityRejectedException(int priority, String message) {
+        super(message);
+        this.priority = priority;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dtflys.forest.exceptions;
+
+/**
+ * 请求超过限流器的速率，并且不能在最大等待时间内获得许可
+ *
+ * @since 2026-10-19 03:00
+ */
+public class ForestRateLimitException extends ForestRuntimeException {
+
+    private final String limiterName;
+
+    public ForestRateLimitException(String limiterName, String message) {
+        super(message);
+        this.limiterName = limiterName;
+    }
+
+    public String getLimiterName() {
+        return limiterName;
+    }
+}
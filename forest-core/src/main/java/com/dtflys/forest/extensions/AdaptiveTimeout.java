@@ -0,0 +1,57 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.MethodLifeCycle;
+import com.dtflys.forest.lifecycles.timeout.AdaptiveTimeoutLifeCycle;
+
+import java.lang.annotation.*;
+
+/**
+ * 自适应超时，根据方法最近的延迟分布计算超时时间，代替固定的 timeout
+ * <p>超时时间为 {@link #percentile()} 百分位的延迟乘以 {@link #factor()}，并限制在 {@link #min()} 和 {@link #max()} 之间，
+ * 样本数少于 {@link #minSamples()} 时使用配置的超时时间。每个方法单独统计，标注在接口上时对所有方法生效</p>
+ * <p>计算出的超时时间会输出到请求日志，也可以通过 {@link com.dtflys.forest.reflection.ForestMethod#getAdaptiveTimeout()} 获取用于监控</p>
+ *
+ * @since 2026-10-19 02:54
+ */
+@Documented
+@MethodLifeCycle(AdaptiveTimeoutLifeCycle.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface AdaptiveTimeout {
+
+    /**
+     * Percentile of the recent latencies the timeout is based on
+     * @return
+     */
+    double percentile() default 99.9;
+
+    /**
+     * Multiplier applied to the latency percentile
+     * @return
+     */
+    double factor() default 2.0;
+
+    /**
+     * Lower bound of the timeout in milliseconds
+     * @return
+     */
+    int min() default 100;
+
+    /**
+     * Upper bound of the timeout in milliseconds
+     * @return
+     */
+    int max() default 60000;
+
+    /**
+     * Min count of latency samples before the timeout is adapted
+     * @return
+     */
+    int minSamples() default 100;
+
+    /**
+     * Length of the rolling window of latency samples in milliseconds
+     * @return
+     */
+    long window() default 60000;
+}
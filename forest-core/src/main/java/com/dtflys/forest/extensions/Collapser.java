@@ -0,0 +1,48 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.MethodLifeCycle;
+import com.dtflys.forest.lifecycles.collapser.CollapserLifeCycle;
+
+import java.lang.annotation.*;
+
+/**
+ * 请求合并，将一段时间窗口内对单条数据接口的调用合并为一次批量接口的请求
+ * <p>标注在只有一个参数 (数据的键) 的方法上，合并后调用同一接口中由 {@link #batchMethod()} 指定的批量方法，
+ * 批量方法的参数为键的集合，返回值可以是以键为Key的 {@link java.util.Map}，
+ * 也可以是按 {@link #resultKey()} 属性或者按键的顺序一一对应的列表</p>
+ * <p>方法返回类型为 {@link java.util.concurrent.Future} 或 {@link java.util.concurrent.CompletableFuture} 时立即返回，
+ * 否则阻塞等待批量请求结束</p>
+ *
+ * @since 2026-10-19 02:37
+ */
+@Documented
+@MethodLifeCycle(CollapserLifeCycle.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Collapser {
+
+    /**
+     * Name of the batch method in the same interface, which accepts a collection of keys
+     * @return
+     */
+    String batchMethod();
+
+    /**
+     * Time window in milliseconds to wait for more calls before the batch request is sent
+     * @return
+     */
+    long window() default 10;
+
+    /**
+     * Max count of keys in one batch request, the batch is sent immediately when it is full
+     * @return
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * Property of each item in the batch result used to match the item to its key,
+     * items are matched by position when empty
+     * @return
+     */
+    String resultKey() default "";
+}
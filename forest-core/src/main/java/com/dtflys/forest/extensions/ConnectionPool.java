@@ -0,0 +1,52 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.MethodLifeCycle;
+import com.dtflys.forest.lifecycles.pool.ConnectionPoolLifeCycle;
+
+import java.lang.annotation.*;
+
+/**
+ * 独立的连接池分组 (bulkhead)，使接口的请求与其它接口的请求使用不同的连接池和并发上限
+ * <p>同名的分组共享连接池，可以在 {@link com.dtflys.forest.config.ForestConfiguration#registerConnectionPool} 或者配置文件中
+ * 预先配置分组的连接数，没有配置时使用注解中的连接数。没有指定名称时，标注在接口上的分组由接口的所有方法共享，
+ * 标注在方法上的分组由该方法独占。没有标注该注解的接口继续使用共享的默认连接池</p>
+ * <p>各个连接池的使用情况可以通过 {@link com.dtflys.forest.config.ForestConfiguration#getConnectionUtilizations()} 获取</p>
+ *
+ * @since 2026-10-19 03:45
+ */
+@Documented
+@MethodLifeCycle(ConnectionPoolLifeCycle.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ConnectionPool {
+
+    /**
+     * Name of the connection pool shared by the interfaces in the same group
+     * @return
+     */
+    String value() default "";
+
+    /**
+     * Max connections of the pool, used when no pool of the same name is configured
+     * @return
+     */
+    int maxConnections() default -1;
+
+    /**
+     * Max connections per route of the pool, used when no pool of the same name is configured
+     * @return
+     */
+    int maxRouteConnections() default -1;
+
+    /**
+     * Max asynchronous requests executing concurrently in the pool, used when no pool of the same name is configured
+     * @return
+     */
+    int maxRequests() default -1;
+
+    /**
+     * Max asynchronous requests executing concurrently per host in the pool, used when no pool of the same name is configured
+     * @return
+     */
+    int maxRequestsPerHost() default -1;
+}
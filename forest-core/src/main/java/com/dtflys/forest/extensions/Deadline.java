@@ -0,0 +1,33 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.MethodLifeCycle;
+import com.dtflys.forest.lifecycles.deadline.DeadlineLifeCycle;
+
+import java.lang.annotation.*;
+
+/**
+ * 调用的截止时间，限制包括所有重试和重试间隔在内的总时间
+ * <p>每次尝试的连接和读取超时会缩短为剩余时间，剩余时间用完后不再重试。
+ * 当前线程通过 {@link com.dtflys.forest.http.ForestDeadline#bind} 绑定了截止时间时，取两者中较早的一个</p>
+ * <p>可以标注在接口或方法上，方法上的注解优先</p>
+ *
+ * @since 2026-10-19 02:49
+ */
+@Documented
+@MethodLifeCycle(DeadlineLifeCycle.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Deadline {
+
+    /**
+     * Total timeout in milliseconds of a call including retries, only the deadline bound to current thread applies when 0
+     * @return
+     */
+    long value() default 0;
+
+    /**
+     * Name of the header propagating the remaining milliseconds downstream, not propagated when empty
+     * @return
+     */
+    String header() default "";
+}
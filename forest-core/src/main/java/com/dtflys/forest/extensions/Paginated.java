@@ -0,0 +1,58 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.MethodLifeCycle;
+import com.dtflys.forest.lifecycles.pagination.PaginatedLifeCycle;
+
+import java.lang.annotation.*;
+
+/**
+ * 自动翻页，通过同一接口中获取单页数据的方法依次获取所有页面，返回所有数据的 {@link java.util.Iterator} 或 {@link java.util.stream.Stream}
+ * <p>标注的方法与 {@link #pageMethod()} 指定的方法参数相同，调用时传入第一页的页码或游标。
+ * 调用方处理当前页面的同时，后台预先获取后面 {@link #prefetch()} 个页面，按页码翻页时这些页面并发获取，
+ * 按游标翻页时依次获取，遇到空页面或者空游标时结束</p>
+ * <pre>
+ * &#64;Get(url = "/items?page=${0}&amp;size=100")
+ * Map getPage(int page);
+ *
+ * &#64;Paginated(pageMethod = "getPage", itemsPath = "$.data")
+ * Stream&lt;Item&gt; getAll(int page);
+ * </pre>
+ *
+ * @since 2026-10-19 02:43
+ */
+@Documented
+@MethodLifeCycle(PaginatedLifeCycle.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Paginated {
+
+    /**
+     * Name of the method in the same interface which fetches one page, with the same parameters as this method
+     * @return
+     */
+    String pageMethod();
+
+    /**
+     * Index of the parameter holding the page number or cursor
+     * @return
+     */
+    int pageParameter() default 0;
+
+    /**
+     * JSON path of the items in a page, such as $.data.items. The page itself is the item list when empty
+     * @return
+     */
+    String itemsPath() default "";
+
+    /**
+     * JSON path of the cursor of the next page, such as $.next. Page numbers are increased by one when empty
+     * @return
+     */
+    String cursorPath() default "";
+
+    /**
+     * Max count of pages fetched ahead in background
+     * @return
+     */
+    int prefetch() default 1;
+}
@@ -0,0 +1,29 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.MethodLifeCycle;
+import com.dtflys.forest.annotation.ParamLifeCycle;
+import com.dtflys.forest.lifecycles.priority.PriorityLifeCycle;
+
+import java.lang.annotation.*;
+
+/**
+ * 异步请求的优先级
+ * <p>启用 {@link com.dtflys.forest.config.ForestConfiguration#setPriorityDispatch(boolean)} 后，
+ * 超过最大并发数的异步请求在Forest中排队，优先级高的先发送，排队较久的请求会逐渐提高优先级</p>
+ * <p>标注在接口或方法上时为方法的优先级，标注在 int 类型的参数上时以参数的值作为本次调用的优先级</p>
+ *
+ * @since 2026-10-19 03:36
+ */
+@Documented
+@MethodLifeCycle(PriorityLifeCycle.class)
+@ParamLifeCycle(PriorityLifeCycle.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.PARAMETER})
+public @interface Priority {
+
+    /**
+     * Priority of the requests, higher is served first, ignored on parameters
+     * @return
+     */
+    int value() default 0;
+}
@@ -0,0 +1,59 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.MethodLifeCycle;
+import com.dtflys.forest.lifecycles.ratelimit.RateLimitLifeCycle;
+import com.dtflys.forest.ratelimit.RateLimitMode;
+
+import java.lang.annotation.*;
+
+/**
+ * 客户端限流，限制方法发送请求的速率
+ * <p>同名的限流器共享配额，可以在 {@link com.dtflys.forest.config.ForestConfiguration#registerRateLimiter} 或者配置文件中
+ * 预先配置限流器的速率，没有配置时使用注解中的速率。没有指定名称时，标注在接口上的限流器由接口的所有方法共享，
+ * 标注在方法上的限流器由该方法独占</p>
+ * <p>许可的发放数和被拒绝数可以通过 {@link com.dtflys.forest.config.ForestConfiguration#getRateLimiters()} 获取</p>
+ *
+ * @since 2026-10-19 03:00
+ */
+@Documented
+@MethodLifeCycle(RateLimitLifeCycle.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RateLimit {
+
+    /**
+     * Permits per second, used when no rate limiter of the same name is configured
+     * @return
+     */
+    double value() default 0;
+
+    /**
+     * Max count of permits accumulated while idle, used when no rate limiter of the same name is configured
+     * @return
+     */
+    int burst() default 1;
+
+    /**
+     * Name of the rate limiter shared by the methods hitting the same quota
+     * @return
+     */
+    String name() default "";
+
+    /**
+     * Whether to use separate rate limiters for each host and port
+     * @return
+     */
+    boolean perRoute() default false;
+
+    /**
+     * What to do when the rate is exceeded
+     * @return
+     */
+    RateLimitMode mode() default RateLimitMode.WAIT;
+
+    /**
+     * Max milliseconds to wait for a permit in WAIT or DELAY mode
+     * @return
+     */
+    long maxWait() default 1000;
+}
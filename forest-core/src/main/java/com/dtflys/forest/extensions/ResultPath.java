@@ -0,0 +1,26 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.MethodLifeCycle;
+import com.dtflys.forest.annotation.RequestAttributes;
+import com.dtflys.forest.lifecycles.json.ResultPathLifeCycle;
+
+import java.lang.annotation.*;
+
+/**
+ * 只将JSON响应中路径所指向的部分绑定到方法的返回类型上
+ * <p>如响应为 {@code {"code":0,"data":{"items":[...]}}}，使用 {@code @ResultPath("$.data.items")}
+ * 可直接返回 {@code List<Item>}，解析时会跳过其余部分，不构建完整的对象树</p>
+ */
+@Documented
+@MethodLifeCycle(ResultPathLifeCycle.class)
+@RequestAttributes
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ResultPath {
+
+    /**
+     * JSON path of the result, such as $.data.items or $.data.items[0]
+     * @return
+     */
+    String value();
+}
@@ -0,0 +1,54 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.MethodLifeCycle;
+import com.dtflys.forest.annotation.RequestAttributes;
+import com.dtflys.forest.lifecycles.stream.StreamRecordsLifeCycle;
+
+import java.lang.annotation.*;
+
+/**
+ * 以流的方式读取响应，支持 NDJSON (application/x-ndjson)、Server-Sent Events (text/event-stream)
+ * 以及XML文档中重复出现的元素 (application/xml)
+ * <p>每条记录由配置的JSON转换器解码后，交给 {@link com.dtflys.forest.callback.OnRecord} 回调参数，
+ * 或者通过 {@link com.dtflys.forest.stream.ForestRecordStream}、{@link java.util.Iterator}、
+ * {@link java.util.stream.Stream} 类型的返回值逐条返回</p>
+ * <p>异步请求使用 {@link com.dtflys.forest.callback.OnRecord} 回调或者没有返回值时，
+ * 整个流在单独的线程中读取，不占用后端的回调线程，读取出错时交给 OnError 回调</p>
+ */
+@Documented
+@MethodLifeCycle(StreamRecordsLifeCycle.class)
+@RequestAttributes
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface StreamRecords {
+
+    /**
+     * Record format: ndjson, sse or xml. Resolved by response Content-Type when empty
+     * @return
+     */
+    String format() default "";
+
+    /**
+     * Name of the repeated XML element bound as one record, the whole document is one record when empty
+     * @return
+     */
+    String element() default "";
+
+    /**
+     * Whether to reconnect with Last-Event-ID when an event stream is disconnected
+     * @return
+     */
+    boolean reconnect() default true;
+
+    /**
+     * Max reconnect times in a row, -1 means unlimited
+     * @return
+     */
+    int maxReconnects() default -1;
+
+    /**
+     * Reconnect interval in milliseconds, can be overridden by the retry field of server events
+     * @return
+     */
+    long reconnectInterval() default 3000;
+}
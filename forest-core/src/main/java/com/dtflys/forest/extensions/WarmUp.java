@@ -0,0 +1,52 @@
+package com.dtflys.forest.extensions;
+
+import com.dtflys.forest.annotation.BaseLifeCycle;
+import com.dtflys.forest.lifecycles.base.WarmUpLifeCycle;
+
+import java.lang.annotation.*;
+
+/**
+ * 在接口实例创建时预热连接
+ * <p>解析接口基础URL的主机地址，并发建立指定数量的连接放入连接池 (HTTPS会同时完成握手)，
+ * 还可以调用指定的无参方法预热模板渲染和数据转换。
+ * 预热的进度和结果可以通过 {@link com.dtflys.forest.config.ForestConfiguration#getWarmUpReadiness()} 查询，
+ * 以便就绪探针等待预热完成</p>
+ *
+ * @since 2026-10-19 00:52
+ */
+@Documented
+@BaseLifeCycle(WarmUpLifeCycle.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface WarmUp {
+
+    /**
+     * Number of connections opened to the base URL host
+     * @return
+     */
+    int connections() default 1;
+
+    /**
+     * Names of no-argument methods invoked for warm-up
+     * @return
+     */
+    String[] methods() default {};
+
+    /**
+     * Times each warm-up method is invoked
+     * @return
+     */
+    int iterations() default 1;
+
+    /**
+     * Timeout of each warm-up request in milliseconds
+     * @return
+     */
+    int timeout() default 10000;
+
+    /**
+     * Whether to warm up in a background thread without blocking the creation of the instance
+     * @return
+     */
+    boolean async() default true;
+}
@@ -0,0 +1,119 @@
+package com.dtflys.forest.fanout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * 并发扇出中单个调用的参数、结果和错误
+ *
+ * @param <T> 参数类型
+ * @param <R> 结果类型
+ * @since 2026-10-19 02:40
+ */
+public class FanOutItem<T, R> {
+
+    private final int index;
+
+    private final T argument;
+
+    private FanOutStatus status = FanOutStatus.PENDING;
+
+    private R result;
+
+    private Throwable error;
+
+    private long startTime;
+
+    private long elapsed;
+
+    private final List<Future<?>> futures = new ArrayList<>(2);
+
+    FanOutItem(int index, T argument) {
+        this.index = index;
+        this.argument = argument;
+    }
+
+    synchronized void start() {
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * 关联执行中的调用，取消时一并取消，已经取消时立即取消传入的调用
+     * @param future 异步请求返回的 {@link Future}
+     */
+    synchronized void addFuture(Future<?> future) {
+        if (status != FanOutStatus.PENDING) {
+            future.cancel(true);
+        } else {
+            futures.add(future);
+        }
+    }
+
+    synchronized boolean complete(R result, Throwable error) {
+        if (status != FanOutStatus.PENDING) {
+            return false;
+        }
+        this.result = result;
+        this.error = error;
+        this.status = error == null ? FanOutStatus.SUCCESS : FanOutStatus.FAILED;
+        this.elapsed = System.currentTimeMillis() - startTime;
+        return true;
+    }
+
+    /**
+     * 取消未完成的调用，不再等待已经发起的调用
+     * @return {@code true} 取消成功，{@code false} 调用已经完成
+     */
+    synchronized boolean cancel(FanOutStatus status, Throwable error) {
+        if (this.status != FanOutStatus.PENDING) {
+            return false;
+        }
+        this.status = status;
+        this.error = error;
+        if (startTime > 0) {
+            this.elapsed = System.currentTimeMillis() - startTime;
+        }
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+        return true;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public T getArgument() {
+        return argument;
+    }
+
+    public synchronized FanOutStatus getStatus() {
+        return status;
+    }
+
+    public synchronized boolean isSuccess() {
+        return status == FanOutStatus.SUCCESS;
+    }
+
+    public synchronized R getResult() {
+        return result;
+    }
+
+    public synchronized Throwable getError() {
+        return error;
+    }
+
+    /**
+     * 获取调用耗时，未发起的调用为0
+     * @return 毫秒数
+     */
+    public synchronized long getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "FanOutItem[" + index + ", " + status + "]";
+    }
+}
@@ -0,0 +1,99 @@
+package com.dtflys.forest.fanout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 并发扇出的结果，包含已经完成的部分结果和每个调用的错误
+ *
+ * @param <T> 参数类型
+ * @param <R> 结果类型
+ * @since 2026-10-19 02:40
+ */
+public class FanOutResult<T, R> {
+
+    private final List<FanOutItem<T, R>> items;
+
+    private final int required;
+
+    private final boolean timeout;
+
+    FanOutResult(List<FanOutItem<T, R>> items, int required, boolean timeout) {
+        this.items = Collections.unmodifiableList(items);
+        this.required = required;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 获取所有调用，顺序与参数顺序一致
+     * @return {@link FanOutItem} 列表
+     */
+    public List<FanOutItem<T, R>> getItems() {
+        return items;
+    }
+
+    /**
+     * 获取成功调用的结果，顺序与参数顺序一致
+     * @return 结果列表
+     */
+    public List<R> getResults() {
+        List<R> results = new ArrayList<>();
+        for (FanOutItem<T, R> item : items) {
+            if (item.isSuccess()) {
+                results.add(item.getResult());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 获取失败、超时或被取消的调用的错误
+     * @return 以参数为Key的错误表
+     */
+    public Map<T, Throwable> getErrors() {
+        Map<T, Throwable> errors = new LinkedHashMap<>();
+        for (FanOutItem<T, R> item : items) {
+            if (item.getError() != null) {
+                errors.put(item.getArgument(), item.getError());
+            }
+        }
+        return errors;
+    }
+
+    public int getSuccessCount() {
+        int count = 0;
+        for (FanOutItem<T, R> item : items) {
+            if (item.isSuccess()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 获取完成条件要求的成功调用数
+     * @return 成功调用数
+     */
+    public int getRequired() {
+        return required;
+    }
+
+    /**
+     * 是否满足完成条件
+     * @return {@code true} 成功调用数达到要求
+     */
+    public boolean isSatisfied() {
+        return getSuccessCount() >= required;
+    }
+
+    /**
+     * 是否因为超过整体截止时间而结束
+     * @return {@code true} 已超时
+     */
+    public boolean isTimeout() {
+        return timeout;
+    }
+}
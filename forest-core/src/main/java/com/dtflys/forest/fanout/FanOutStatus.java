@@ -0,0 +1,34 @@
+package com.dtflys.forest.fanout;
+
+/**
+ * 并发扇出中单个调用的状态
+ *
+ * @since 2026-10-19 02:40
+ */
+public enum FanOutStatus {
+
+    /**
+     * 尚未开始
+     */
+    PENDING,
+
+    /**
+     * 调用成功
+     */
+    SUCCESS,
+
+    /**
+     * 调用失败
+     */
+    FAILED,
+
+    /**
+     * 已满足完成条件，调用被取消或者不再发起
+     */
+    CANCELLED,
+
+    /**
+     * 超过整体截止时间，调用被取消
+     */
+    TIMEOUT
+}
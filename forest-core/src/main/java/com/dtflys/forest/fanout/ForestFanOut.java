@@ -0,0 +1,385 @@
+package com.dtflys.forest.fanout;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.proxy.InterfaceProxyHandler;
+import com.dtflys.forest.reflection.ForestMethod;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 并发扇出 (scatter-gather)
+ * <p>用多组参数并发调用同一个Forest接口方法，限制同时进行的调用数，并在整体截止时间内按完成条件收集结果：</p>
+ * <ul>
+ *     <li>{@link #all()} 等待所有调用结束</li>
+ *     <li>{@link #first(int)} 得到指定个数的成功结果后结束</li>
+ *     <li>{@link #quorum()} 得到多数 (超过一半) 成功结果后结束</li>
+ * </ul>
+ * <p>满足完成条件、不可能再满足条件或者超过截止时间后，会取消还在进行的调用，不再发起剩余的调用。
+ * 向多个端点扇出时，把端点地址作为参数传入方法即可，例如 {@code @Get(url = "${0}/status")}</p>
+ * <p>每个调用都以异步请求的方式发送，结果在请求的完成回调中收集，一个调用结束后再发起下一个调用，
+ * 不占用任何等待线程。所有调用通过同一个接口实例发送，共享后端的连接池。
+ * {@link #executeAsync(Object, String)} 立即返回扇出结果的 {@link CompletableFuture}，
+ * {@link #execute(Object, String)} 在调用线程中等待扇出结束</p>
+ * <pre>
+ * FanOutResult&lt;String, Status&gt; result = ForestFanOut.of(urls)
+ *         .concurrency(8)
+ *         .timeout(2000)
+ *         .quorum()
+ *         .execute(client, "getStatus");
+ * </pre>
+ *
+ * @param <T> 参数类型
+ * @since 2026-10-19 02:40
+ */
+public class ForestFanOut<T> {
+
+    /**
+     * 到达整体截止时间时结束扇出的定时器
+     */
+    private final static ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "forest-fan-out-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<T> arguments;
+
+    private int concurrency = Integer.MAX_VALUE;
+
+    private long timeout = 0;
+
+    /**
+     * 要求的成功调用数，-1 表示全部，0 表示多数
+     */
+    private int required = -1;
+
+    private ForestFanOut(Collection<? extends T> arguments) {
+        this.arguments = new ArrayList<>(arguments);
+    }
+
+    /**
+     * 以参数列表创建扇出，每个参数对应一次调用
+     * @param arguments 参数列表
+     * @param <T> 参数类型
+     * @return {@link ForestFanOut} 对象
+     */
+    public static <T> ForestFanOut<T> of(Collection<? extends T> arguments) {
+        return new ForestFanOut<>(arguments);
+    }
+
+    @SafeVarargs
+    public static <T> ForestFanOut<T> of(T... arguments) {
+        List<T> list = new ArrayList<>(arguments.length);
+        for (T argument : arguments) {
+            list.add(argument);
+        }
+        return new ForestFanOut<>(list);
+    }
+
+    /**
+     * 设置同时进行的最大调用数
+     * @param concurrency 最大调用数
+     * @return {@link ForestFanOut} 对象
+     */
+    public ForestFanOut<T> concurrency(int concurrency) {
+        if (concurrency <= 0) {
+            throw new ForestRuntimeException("[Forest] fan-out concurrency must be positive, but got " + concurrency);
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * 设置整体截止时间
+     * @param timeout 从开始执行算起的毫秒数，0 表示不限制
+     * @return {@link ForestFanOut} 对象
+     */
+    public ForestFanOut<T> timeout(long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * 等待所有调用结束
+     * @return {@link ForestFanOut} 对象
+     */
+    public ForestFanOut<T> all() {
+        this.required = -1;
+        return this;
+    }
+
+    /**
+     * 得到指定个数的成功结果后结束
+     * @param count 成功结果个数
+     * @return {@link ForestFanOut} 对象
+     */
+    public ForestFanOut<T> first(int count) {
+        if (count <= 0) {
+            throw new ForestRuntimeException("[Forest] fan-out required count must be positive, but got " + count);
+        }
+        this.required = count;
+        return this;
+    }
+
+    /**
+     * 得到多数 (超过一半) 成功结果后结束
+     * @return {@link ForestFanOut} 对象
+     */
+    public ForestFanOut<T> quorum() {
+        this.required = 0;
+        return this;
+    }
+
+    private int getRequired() {
+        int size = arguments.size();
+        if (required < 0) {
+            return size;
+        }
+        if (required == 0) {
+            return size / 2 + 1;
+        }
+        return Math.min(required, size);
+    }
+
+    /**
+     * 用每个参数调用Forest接口的方法，并等待扇出结束
+     * <p>方法只能有一个参数，每次调用传入一个扇出参数</p>
+     * @param client Forest接口实例
+     * @param methodName 方法名
+     * @param <R> 结果类型
+     * @return {@link FanOutResult} 对象
+     */
+    public <R> FanOutResult<T, R> execute(Object client, String methodName) {
+        return execute(client, methodName, argument -> new Object[] {argument});
+    }
+
+    /**
+     * 用每个参数调用Forest接口的方法，并等待扇出结束
+     * @param client Forest接口实例
+     * @param methodName 方法名
+     * @param arguments 把扇出参数转换为方法参数列表的函数
+     * @param <R> 结果类型
+     * @return {@link FanOutResult} 对象
+     */
+    public <R> FanOutResult<T, R> execute(Object client, String methodName, Function<? super T, Object[]> arguments) {
+        CompletableFuture<FanOutResult<T, R>> future = executeAsync(client, methodName, arguments);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ForestRuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof ForestRuntimeException) {
+                throw (ForestRuntimeException) cause;
+            }
+            throw new ForestRuntimeException(cause);
+        }
+    }
+
+    /**
+     * 用每个参数异步调用Forest接口的方法
+     * <p>方法只能有一个参数，每次调用传入一个扇出参数</p>
+     * @param client Forest接口实例
+     * @param methodName 方法名
+     * @param <R> 结果类型
+     * @return 扇出结束时完成的 {@link CompletableFuture}
+     */
+    public <R> CompletableFuture<FanOutResult<T, R>> executeAsync(Object client, String methodName) {
+        return executeAsync(client, methodName, argument -> new Object[] {argument});
+    }
+
+    /**
+     * 用每个参数异步调用Forest接口的方法
+     * <p>调用在当前线程中发起后立即返回，之后的调用在前面的调用完成的回调中发起。
+     * 取消返回的 {@link CompletableFuture} 时，不再发起剩余的调用，也不再等待还在进行的调用</p>
+     * @param client Forest接口实例
+     * @param methodName 方法名
+     * @param arguments 把扇出参数转换为方法参数列表的函数
+     * @param <R> 结果类型
+     * @return 扇出结束时完成的 {@link CompletableFuture}
+     */
+    public <R> CompletableFuture<FanOutResult<T, R>> executeAsync(Object client, String methodName,
+                                                                  Function<? super T, Object[]> arguments) {
+        ForestMethod method = findMethod(client, methodName);
+        Execution<R> execution = new Execution<>(method, arguments);
+        execution.start();
+        return execution.resultFuture;
+    }
+
+    private static ForestMethod findMethod(Object client, String methodName) {
+        InvocationHandler handler = client != null && Proxy.isProxyClass(client.getClass()) ?
+                Proxy.getInvocationHandler(client) : null;
+        if (!(handler instanceof InterfaceProxyHandler)) {
+            throw new ForestRuntimeException("[Forest] fan-out client must be an instance created by Forest");
+        }
+        InterfaceProxyHandler proxyHandler = (InterfaceProxyHandler) handler;
+        ForestMethod found = null;
+        for (Map.Entry<Method, ForestMethod> entry : ((Map<Method, ForestMethod>) proxyHandler.getForestMethodMap()).entrySet()) {
+            if (entry.getKey().getName().equals(methodName)) {
+                if (found != null) {
+                    throw new ForestRuntimeException("[Forest] fan-out method \"" + methodName + "\" is ambiguous in "
+                            + proxyHandler.getInterfaceClass().getName());
+                }
+                found = entry.getValue();
+            }
+        }
+        if (found == null) {
+            throw new ForestRuntimeException("[Forest] can not find fan-out method \"" + methodName + "\" in "
+                    + proxyHandler.getInterfaceClass().getName());
+        }
+        return found;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * 一次扇出的执行状态
+     */
+    private class Execution<R> {
+
+        private final ForestMethod method;
+
+        private final Function<? super T, Object[]> arguments;
+
+        private final List<FanOutItem<T, R>> items;
+
+        private final int requiredCount;
+
+        private final CompletableFuture<FanOutResult<T, R>> resultFuture = new CompletableFuture<>();
+
+        private ScheduledFuture<?> timer;
+
+        private int next = 0;
+
+        private int running = 0;
+
+        private int succeeded = 0;
+
+        private int failed = 0;
+
+        private boolean done = false;
+
+        Execution(ForestMethod method, Function<? super T, Object[]> arguments) {
+            this.method = method;
+            this.arguments = arguments;
+            this.items = new ArrayList<>(ForestFanOut.this.arguments.size());
+            for (int i = 0; i < ForestFanOut.this.arguments.size(); i++) {
+                items.add(new FanOutItem<>(i, ForestFanOut.this.arguments.get(i)));
+            }
+            this.requiredCount = getRequired();
+        }
+
+        void start() {
+            if (items.isEmpty()) {
+                finish(false);
+                return;
+            }
+            List<FanOutItem<T, R>> started = new ArrayList<>();
+            synchronized (this) {
+                if (timeout > 0) {
+                    timer = SCHEDULER.schedule(() -> finish(true), timeout, TimeUnit.MILLISECONDS);
+                }
+                while (next < items.size() && running < concurrency) {
+                    started.add(items.get(next++));
+                    running++;
+                }
+            }
+            resultFuture.whenComplete((result, error) -> {
+                if (resultFuture.isCancelled()) {
+                    finish(false);
+                }
+            });
+            for (FanOutItem<T, R> item : started) {
+                call(item);
+            }
+        }
+
+        private void call(FanOutItem<T, R> item) {
+            item.start();
+            CompletableFuture<Object> future;
+            try {
+                future = method.invokeAsync(arguments.apply(item.getArgument()), null);
+            } catch (Throwable th) {
+                complete(item, null, th);
+                return;
+            }
+            item.addFuture(future);
+            future.whenComplete((result, error) -> complete(item, (R) result, unwrap(error)));
+        }
+
+        private void complete(FanOutItem<T, R> item, R result, Throwable error) {
+            if (!item.complete(result, error)) {
+                return;
+            }
+            FanOutItem<T, R> nextItem = null;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                running--;
+                if (item.isSuccess()) {
+                    succeeded++;
+                } else {
+                    failed++;
+                }
+                // 已经满足条件，或者剩余的调用全部成功也无法满足条件 (等待全部结束时不提前结束)
+                boolean finished = succeeded >= requiredCount
+                        || (required >= 0 && items.size() - failed < requiredCount);
+                if (!finished && next < items.size()) {
+                    nextItem = items.get(next++);
+                    running++;
+                } else if (!finished && running > 0) {
+                    return;
+                }
+            }
+            if (nextItem != null) {
+                call(nextItem);
+            } else {
+                finish(false);
+            }
+        }
+
+        private void finish(boolean timedOut) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            for (FanOutItem<T, R> item : items) {
+                if (timedOut) {
+                    item.cancel(FanOutStatus.TIMEOUT, new TimeoutException("fan-out deadline exceeded after " + timeout + "ms"));
+                } else {
+                    item.cancel(FanOutStatus.CANCELLED, new CancellationException("fan-out completed"));
+                }
+            }
+            resultFuture.complete(new FanOutResult<>(items, requiredCount, timedOut));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.dtflys.forest.handler;
+
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.converter.json.ForestJsonReader;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.utils.ReflectUtils;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.Future;
+
+/**
+ * 预先解析好的结果类型
+ * <p>每个请求方法的返回类型只在初始化时解析一次，包括 {@code ForestResponse<T>}、{@code Future<T>} 中的实际类型，
+ * 并缓存JSON转换器为该类型创建的 {@link ForestJsonReader}，解码响应时不再重复解析类型</p>
+ *
+ * @since 2026-10-19 00:38
+ */
+public class PreparedResultType {
+
+    private final Type type;
+
+    private final Class rawClass;
+
+    /**
+     * {@code ForestResponse<T>} 或 {@code Future<T>} 中的实际类型
+     */
+    private final PreparedResultType actualType;
+
+    private volatile PreparedReader preparedReader;
+
+    public PreparedResultType(Type type) {
+        this(type, type == null ? null : ReflectUtils.getClassByType(type));
+    }
+
+    public PreparedResultType(Type type, Class rawClass) {
+        this.type = type;
+        this.rawClass = rawClass;
+        PreparedResultType actual = null;
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type rawType = parameterizedType.getRawType();
+            if (rawType instanceof Class
+                    && (ForestResponse.class.isAssignableFrom((Class) rawType)
+                    || Future.class.isAssignableFrom((Class) rawType))) {
+                actual = new PreparedResultType(parameterizedType.getActualTypeArguments()[0]);
+            }
+        }
+        this.actualType = actual;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Class getRawClass() {
+        return rawClass;
+    }
+
+    public PreparedResultType getActualType() {
+        return actualType;
+    }
+
+    /**
+     * 使用缓存的读取器将JSON字符串转换为该类型的对象，JSON转换器变化时会重新创建读取器
+     * @param converter JSON转换器
+     * @param source JSON字符串
+     * @return 转换后的对象
+     */
+    public <T> T readJson(ForestJsonConverter converter, String source) {
+        PreparedReader prepared = this.preparedReader;
+        if (prepared == null || prepared.converter != converter) {
+            prepared = new PreparedReader(converter, converter.prepareReader(type));
+            this.preparedReader = prepared;
+        }
+        return (T) prepared.reader.read(source);
+    }
+
+    private static class PreparedReader {
+
+        private final ForestJsonConverter converter;
+
+        private final ForestJsonReader reader;
+
+        private PreparedReader(ForestJsonConverter converter, ForestJsonReader reader) {
+            this.converter = converter;
+            this.reader = reader;
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package com.dtflys.forest.handler;
 
 import com.dtflys.forest.converter.ForestConverter;
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.converter.json.ForestJsonPathConverter;
 import com.dtflys.forest.exceptions.ForestHandlerException;
 import com.dtflys.forest.http.ForestRequest;
 import com.dtflys.forest.http.ForestResponse;
 import com.dtflys.forest.utils.ForestDataType;
-import com.dtflys.forest.utils.ReflectUtils;
 
 import java.io.File;
 import java.io.InputStream;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.concurrent.Future;
 
@@ -26,9 +26,15 @@ public class ResultHandler {
 
 
     public Object getResult(ForestRequest request, ForestResponse response, Type resultType, Class resultClass) {
-        if (request.isDownloadFile()) {
+        return getResult(request, response, new PreparedResultType(resultType, resultClass));
+    }
+
+    public Object getResult(ForestRequest request, ForestResponse response, PreparedResultType preparedType) {
+        if (request.isDownloadFile() || request.isStreaming()) {
             return null;
         }
+        Type resultType = preparedType.getType();
+        Class resultClass = preparedType.getRawClass();
         Object result = response.getResult();
         if (result != null && resultClass.isAssignableFrom(result.getClass())) {
             return result;
@@ -39,27 +45,15 @@ public class ResultHandler {
                     return null;
                 }
                 if (ForestResponse.class.isAssignableFrom(resultClass)) {
-                    if (resultType instanceof ParameterizedType) {
-                        ParameterizedType parameterizedType = (ParameterizedType) resultType;
-                        Class rowClass = (Class) parameterizedType.getRawType();
-                        if (ForestResponse.class.isAssignableFrom(rowClass)) {
-                            Type realType = parameterizedType.getActualTypeArguments()[0];
-                            Class realClass = ReflectUtils.getClassByType(parameterizedType.getActualTypeArguments()[0]);
-                            Object realResult = getResult(request, response, realType, realClass);
-                            response.setResult(realResult);
-                        }
+                    if (preparedType.getActualType() != null) {
+                        Object realResult = getResult(request, response, preparedType.getActualType());
+                        response.setResult(realResult);
                     }
                     return response;
                 }
                 if (Future.class.isAssignableFrom(resultClass)) {
-                    if (resultType instanceof ParameterizedType) {
-                        ParameterizedType parameterizedType = (ParameterizedType) resultType;
-                        Class rowClass = (Class) parameterizedType.getRawType();
-                        if (Future.class.isAssignableFrom(rowClass)) {
-                            Type realType = parameterizedType.getActualTypeArguments()[0];
-                            Class realClass = ReflectUtils.getClassByType(parameterizedType.getActualTypeArguments()[0]);
-                            return getResult(request, response, realType, realClass);
-                        }
+                    if (preparedType.getActualType() != null) {
+                        return getResult(request, response, preparedType.getActualType());
                     }
                 }
                 if (boolean.class.isAssignableFrom(resultClass) || Boolean.class.isAssignableFrom(resultClass)) {
@@ -83,19 +77,22 @@ public class ResultHandler {
                     responseText = response.getContent();
                 }
                 response.setContent(responseText);
-                if (CharSequence.class.isAssignableFrom(resultClass)) {
+                if (CharSequence.class.isAssignableFrom(resultClass)
+                        && !(request.getDecoder() instanceof ForestJsonPathConverter)) {
                     return responseText;
                 }
                 if (InputStream.class.isAssignableFrom(resultClass)) {
                     return response.getInputStream();
                 }
 
-                if (request.getDecoder() != null) {
-                    return request.getDecoder().convertToJavaObject(responseText, resultType);
+                ForestConverter converter = request.getDecoder();
+                if (converter == null) {
+                    ForestDataType dataType = request.getDataType();
+                    converter = request.getConfiguration().getConverter(dataType);
+                }
+                if (converter instanceof ForestJsonConverter) {
+                    return preparedType.readJson((ForestJsonConverter) converter, responseText);
                 }
-
-                ForestDataType dataType = request.getDataType();
-                ForestConverter converter = request.getConfiguration().getConverter(dataType);
                 return converter.convertToJavaObject(responseText, resultType);
 
             } catch (Exception e) {
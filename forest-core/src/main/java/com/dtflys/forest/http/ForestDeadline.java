@@ -0,0 +1,151 @@
+package com.dtflys.forest.http;
+
+import com.dtflys.forest.utils.StringUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 请求的截止时间
+ * <p>一次调用包括所有重试和重试间隔的总时间不超过截止时间，每次尝试的连接和读取超时会缩短为剩余时间</p>
+ * <p>可以绑定到当前线程，例如在处理上游请求时根据上游传入的剩余时间绑定截止时间，
+ * 该线程中发出的所有Forest请求都会继承这个截止时间</p>
+ * <p>截止时间以 {@link System#nanoTime()} 记录，不受系统时钟调整的影响。
+ * 向下游传递的是剩余的毫秒数，不需要换算为绝对时间</p>
+ *
+ * @since 2026-10-19 02:49
+ */
+public class ForestDeadline {
+
+    private final static ThreadLocal<ForestDeadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 截止时刻的 {@link System#nanoTime()} 值
+     */
+    private final long deadlineNanos;
+
+    private ForestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 创建从当前时刻开始计算的截止时间
+     * @param timeout 总时间 (毫秒)
+     * @return {@link ForestDeadline} 对象
+     */
+    public static ForestDeadline after(long timeout) {
+        return new ForestDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
+    }
+
+    /**
+     * 根据上游请求头中的剩余时间创建截止时间
+     * @param remaining 剩余时间 (毫秒) 的字符串
+     * @return {@link ForestDeadline} 对象，为空或格式不正确时返回 {@code null}
+     */
+    public static ForestDeadline fromHeader(String remaining) {
+        if (StringUtils.isBlank(remaining)) {
+            return null;
+        }
+        try {
+            return after(Long.parseLong(remaining.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 返回两个截止时间中较早的一个
+     * @param a 截止时间，可以为 {@code null}
+     * @param b 截止时间，可以为 {@code null}
+     * @return 较早的截止时间，都为 {@code null} 时返回 {@code null}
+     */
+    public static ForestDeadline earliest(ForestDeadline a, ForestDeadline b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        // nanoTime 可能溢出，只能比较差值
+        return a.deadlineNanos - b.deadlineNanos <= 0 ? a : b;
+    }
+
+    /**
+     * 获取绑定到当前线程的截止时间
+     * @return {@link ForestDeadline} 对象，未绑定时返回 {@code null}
+     */
+    public static ForestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 将截止时间绑定到当前线程
+     * @param deadline 截止时间，为 {@code null} 时解除绑定
+     */
+    public static void bind(ForestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * 在截止时间内执行，结束后恢复当前线程原来绑定的截止时间
+     * @param deadline 截止时间，会与当前线程已绑定的截止时间取较早的一个
+     * @param supplier 执行的操作
+     * @param <T> 返回类型
+     * @return 操作的返回值
+     */
+    public static <T> T call(ForestDeadline deadline, Supplier<T> supplier) {
+        ForestDeadline previous = CURRENT.get();
+        bind(earliest(previous, deadline));
+        try {
+            return supplier.get();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    /**
+     * 获取截止时刻的系统时间
+     * @return 截止时刻的毫秒时间戳，由剩余时间换算得到
+     */
+    public long getDeadlineTime() {
+        return System.currentTimeMillis() + remaining();
+    }
+
+    /**
+     * 获取剩余时间
+     * @return 剩余的毫秒数，已过期时小于等于0
+     */
+    public long remaining() {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        // 不足1毫秒时向上取整，未过期的截止时间不会返回0
+        return remainingNanos > 0 ?
+                TimeUnit.NANOSECONDS.toMillis(remainingNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1) :
+                TimeUnit.NANOSECONDS.toMillis(remainingNanos);
+    }
+
+    public boolean isExpired() {
+        return remaining() <= 0;
+    }
+
+    /**
+     * 将超时时间缩短为剩余时间
+     * @param timeout 原超时时间 (毫秒)，小于等于0表示不限制
+     * @return 不超过剩余时间的超时时间，至少为1毫秒，以免0被当作不限制
+     */
+    public int limit(int timeout) {
+        long remaining = Math.max(remaining(), 1);
+        if (timeout > 0 && timeout < remaining) {
+            return timeout;
+        }
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return "ForestDeadline[remaining=" + remaining() + "ms]";
+    }
+}
@@ -0,0 +1,63 @@
+package com.dtflys.forest.http;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.utils.StringUtils;
+
+/**
+ * HTTP协议版本
+ *
+ * @since 2026-10-19 01:03
+ */
+public enum ForestProtocol {
+
+    /**
+     * 只使用 HTTP/1.1
+     */
+    HTTP_1_1("http/1.1"),
+
+    /**
+     * 通过TLS的ALPN协商使用 HTTP/2，服务端不支持时回退到 HTTP/1.1
+     */
+    HTTP_2("h2"),
+
+    /**
+     * 明文 HTTP/2 (h2c)，不经过协商直接以 HTTP/2 通信 (prior knowledge)
+     */
+    H2C("h2c"),
+    ;
+
+    private final String name;
+
+    ForestProtocol(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean match(String name) {
+        if (StringUtils.isEmpty(name)) {
+            return false;
+        }
+        return this.name.equalsIgnoreCase(name) || this.name().equalsIgnoreCase(name);
+    }
+
+    /**
+     * 根据协议名称查找协议，名称为空时返回 {@code null}
+     * @param name 协议名称: http/1.1, h2, h2c
+     * @return 协议
+     */
+    public static ForestProtocol findProtocol(String name) {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        for (ForestProtocol protocol : ForestProtocol.values()) {
+            if (protocol.match(name.trim())) {
+                return protocol;
+            }
+        }
+        throw new ForestRuntimeException("[Forest] Unknown http protocol '" + name + "', supported protocols: http/1.1, h2, h2c");
+    }
+
+}
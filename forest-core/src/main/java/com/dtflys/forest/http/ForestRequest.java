@@ -25,9 +25,11 @@
 package com.dtflys.forest.http;
 
 import com.dtflys.forest.callback.OnProgress;
+import com.dtflys.forest.callback.OnRecord;
 import com.dtflys.forest.converter.ForestConverter;
 import com.dtflys.forest.interceptor.InterceptorAttributes;
 import com.dtflys.forest.multipart.ForestMultipart;
+import com.dtflys.forest.pool.ForestConnectionPool;
 import com.dtflys.forest.retryer.Retryer;
 import com.dtflys.forest.ssl.SSLKeyStore;
 import com.dtflys.forest.callback.OnError;
@@ -76,8 +78,46 @@ public class ForestRequest<T> {
 
     private int timeout = 3000;
 
+    /**
+     * Connect timeout of this request, set by the method or the request itself,
+     * the global connect timeout is used when null
+     */
+    private Integer connectTimeout;
+
     private String sslProtocol;
 
+    /**
+     * HTTP protocol version, negotiated by the backend when null
+     */
+    private ForestProtocol httpProtocol;
+
+    /**
+     * Path of the unix domain socket, connect to the host and port of the url when null
+     */
+    private String unixSocket;
+
+    private String routingKey;
+
+    /**
+     * Priority of the async request while waiting in the priority dispatcher, higher is served first
+     */
+    private int priority = 0;
+
+    /**
+     * Isolated connection pool group of the request, use the shared default pool when null
+     */
+    private ForestConnectionPool connectionPool;
+
+    /**
+     * Deadline of the whole call including retries, no limit when null
+     */
+    private ForestDeadline deadline;
+
+    /**
+     * Name of the header propagating the remaining milliseconds of the deadline downstream
+     */
+    private String deadlineHeader;
+
     private int retryCount = 0;
 
     private long maxRetryInterval = 0;
@@ -104,6 +144,10 @@ public class ForestRequest<T> {
 
     private boolean isDownloadFile = false;
 
+    private boolean isStreaming = false;
+
+    private OnRecord onRecord;
+
     private long progressStep = DEFAULT_PROGRESS_STEP;
 
     private OnProgress onProgress;
@@ -286,6 +330,15 @@ public class ForestRequest<T> {
         return this;
     }
 
+    public Integer getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public ForestRequest setConnectTimeout(Integer connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
     public String getSslProtocol() {
         return sslProtocol;
     }
@@ -295,6 +348,105 @@ public class ForestRequest<T> {
         return this;
     }
 
+    public ForestProtocol getHttpProtocol() {
+        return httpProtocol;
+    }
+
+    public ForestRequest setHttpProtocol(ForestProtocol httpProtocol) {
+        this.httpProtocol = httpProtocol;
+        return this;
+    }
+
+    public String getUnixSocket() {
+        return unixSocket;
+    }
+
+    public ForestRequest setUnixSocket(String unixSocket) {
+        this.unixSocket = unixSocket;
+        return this;
+    }
+
+    /**
+     * 路由键，使用一致性哈希负载均衡时相同的键会发往同一个端点
+     * @return 路由键
+     */
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    public ForestRequest setRoutingKey(String routingKey) {
+        this.routingKey = routingKey;
+        return this;
+    }
+
+    /**
+     * 优先级，启用优先级调度后，排队的异步请求中优先级高的先发送
+     * @return 优先级
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    public ForestRequest setPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    /**
+     * 独立的连接池分组，为 {@code null} 时使用共享的默认连接池
+     * @return {@link ForestConnectionPool} 对象
+     */
+    public ForestConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    public ForestRequest setConnectionPool(ForestConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        return this;
+    }
+
+    /**
+     * 截止时间，包括所有重试在内的总时间不超过截止时间
+     * @return {@link ForestDeadline} 对象
+     */
+    public ForestDeadline getDeadline() {
+        return deadline;
+    }
+
+    public ForestRequest setDeadline(ForestDeadline deadline) {
+        this.deadline = deadline;
+        updateDeadlineHeader();
+        return this;
+    }
+
+    public String getDeadlineHeader() {
+        return deadlineHeader;
+    }
+
+    public ForestRequest setDeadlineHeader(String deadlineHeader) {
+        this.deadlineHeader = deadlineHeader;
+        updateDeadlineHeader();
+        return this;
+    }
+
+    /**
+     * 将传递给下游的剩余时间请求头更新为当前的剩余毫秒数
+     */
+    public void updateDeadlineHeader() {
+        if (deadline != null && StringUtils.isNotEmpty(deadlineHeader)) {
+            addHeader(deadlineHeader, Math.max(deadline.remaining(), 0));
+        }
+    }
+
+    /**
+     * 将超时时间缩短为截止时间前的剩余时间
+     * @param timeout 超时时间 (毫秒)
+     * @return 没有截止时间时返回原超时时间
+     */
+    public int limitTimeout(int timeout) {
+        return deadline == null ? timeout : deadline.limit(timeout);
+    }
+
     public int getRetryCount() {
         return retryCount;
     }
@@ -507,6 +659,23 @@ public class ForestRequest<T> {
         isDownloadFile = downloadFile;
     }
 
+    public boolean isStreaming() {
+        return isStreaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        isStreaming = streaming;
+    }
+
+    public OnRecord getOnRecord() {
+        return onRecord;
+    }
+
+    public ForestRequest setOnRecord(OnRecord onRecord) {
+        this.onRecord = onRecord;
+        return this;
+    }
+
     public long getProgressStep() {
         return progressStep;
     }
@@ -32,6 +32,16 @@ public enum ForestRequestType {
         return defaultParamTarget;
     }
 
+    /**
+     * 是否为幂等的请求方法
+     * <p>幂等的请求在复用的连接失效时可以安全地重新发送</p>
+     *
+     * @return {@code true}: 幂等, {@code false}: 不幂等
+     */
+    public boolean isIdempotent() {
+        return this != POST && this != PATCH;
+    }
+
     public boolean match(String name) {
         if (StringUtils.isEmpty(name)) {
             return false;
@@ -23,6 +23,14 @@ public interface BaseAnnotationLifeCycle <A extends Annotation, I> extends Inter
     default void onProxyHandlerInitialized(InterfaceProxyHandler interfaceProxyHandler, A annotation) {
     }
 
+    /**
+     * 在被注解修饰的接口的所有方法都初始化完成后被调用
+     * @param interfaceProxyHandler
+     * @param annotation
+     */
+    default void onProxyHandlerReady(InterfaceProxyHandler interfaceProxyHandler, A annotation) {
+    }
+
     @Override
     default void onError(ForestRuntimeException ex, ForestRequest request, ForestResponse response) {
     }
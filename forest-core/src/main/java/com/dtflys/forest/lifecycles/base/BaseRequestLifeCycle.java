@@ -1,8 +1,13 @@
 package com.dtflys.forest.lifecycles.base;
 
 import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
 import com.dtflys.forest.interceptor.Interceptor;
 import com.dtflys.forest.lifecycles.BaseAnnotationLifeCycle;
+import com.dtflys.forest.loadbalance.EndpointGroup;
+import com.dtflys.forest.loadbalance.EndpointProvider;
+import com.dtflys.forest.loadbalance.HealthChecker;
+import com.dtflys.forest.loadbalance.LoadBalancer;
 import com.dtflys.forest.proxy.InterfaceProxyHandler;
 import com.dtflys.forest.reflection.MetaRequest;
 import com.dtflys.forest.utils.StringUtils;
@@ -33,6 +38,9 @@ public class BaseRequestLifeCycle implements BaseAnnotationLifeCycle<BaseRequest
         baseMetaRequest.setUserAgent(baseUserAgent);
         baseMetaRequest.setCharset(baseCharset);
         baseMetaRequest.setSslProtocol(baseSslProtocol);
+        baseMetaRequest.setHttpProtocol(annotation.httpProtocol());
+        baseMetaRequest.setUnixSocket(annotation.unixSocket());
+        prepareEndpoints(interfaceProxyHandler, annotation);
 
         String [] headerArray = annotation.headers();
 
@@ -62,4 +70,32 @@ public class BaseRequestLifeCycle implements BaseAnnotationLifeCycle<BaseRequest
         baseMetaRequest.setInterceptor(baseInterceptorClasses);
 
     }
+
+    private void prepareEndpoints(InterfaceProxyHandler interfaceProxyHandler, BaseRequest annotation) {
+        String[] endpoints = annotation.endpoints();
+        Class endpointProviderClass = annotation.endpointProvider();
+        boolean hasProvider = EndpointProvider.class.isAssignableFrom(endpointProviderClass);
+        if (endpoints.length == 0 && !hasProvider) {
+            return;
+        }
+        interfaceProxyHandler.getBaseMetaRequest().setEndpoints(endpoints);
+        EndpointProvider endpointProvider = null;
+        if (hasProvider) {
+            try {
+                endpointProvider = (EndpointProvider) endpointProviderClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new ForestRuntimeException(e);
+            }
+        }
+        LoadBalancer loadBalancer = EndpointGroup.createLoadBalancer(annotation.loadBalancer());
+        EndpointGroup endpointGroup = new EndpointGroup(loadBalancer, endpointProvider);
+        if (StringUtils.isNotBlank(annotation.healthCheckPath())) {
+            if (annotation.healthCheckInterval() <= 0) {
+                throw new ForestRuntimeException("healthCheckInterval must be greater than 0");
+            }
+            endpointGroup.setHealthChecker(new HealthChecker(interfaceProxyHandler.getConfiguration(),
+                    annotation.healthCheckPath().trim(), annotation.healthCheckInterval()));
+        }
+        interfaceProxyHandler.setEndpointGroup(endpointGroup);
+    }
 }
@@ -0,0 +1,70 @@
+package com.dtflys.forest.lifecycles.base;
+
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.extensions.WarmUp;
+import com.dtflys.forest.lifecycles.BaseAnnotationLifeCycle;
+import com.dtflys.forest.mapping.MappingTemplate;
+import com.dtflys.forest.proxy.InterfaceProxyHandler;
+import com.dtflys.forest.reflection.ForestMethod;
+import com.dtflys.forest.utils.StringUtils;
+import com.dtflys.forest.warmup.ForestWarmer;
+import com.dtflys.forest.warmup.WarmUpReport;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link WarmUp} 注解的生命周期
+ *
+ * @since 2026-10-19 00:52
+ */
+public class WarmUpLifeCycle implements BaseAnnotationLifeCycle<WarmUp, Object> {
+
+    @Override
+    public void onProxyHandlerReady(InterfaceProxyHandler interfaceProxyHandler, WarmUp annotation) {
+        ForestConfiguration configuration = interfaceProxyHandler.getConfiguration();
+        Class interfaceClass = interfaceProxyHandler.getInterfaceClass();
+        String baseUrl = interfaceProxyHandler.getBaseMetaRequest().getUrl();
+        if (StringUtils.isNotBlank(baseUrl)) {
+            baseUrl = new MappingTemplate(baseUrl, interfaceProxyHandler).render(new Object[0]);
+        } else {
+            baseUrl = null;
+        }
+        List<ForestMethod> methods = getWarmUpMethods(interfaceProxyHandler, annotation.methods());
+        WarmUpReport report = new WarmUpReport(interfaceClass, baseUrl, annotation.connections());
+        configuration.getWarmUpReadiness().register(report);
+        ForestWarmer warmer = new ForestWarmer(
+                configuration, report, methods, annotation.iterations(), annotation.timeout());
+        if (annotation.async()) {
+            Thread thread = new Thread(warmer, "forest-warm-up-" + interfaceClass.getSimpleName());
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            warmer.run();
+        }
+    }
+
+    private static List<ForestMethod> getWarmUpMethods(InterfaceProxyHandler interfaceProxyHandler, String[] names) {
+        List<ForestMethod> methods = new ArrayList<>(names.length);
+        Map<Method, ForestMethod> forestMethodMap = interfaceProxyHandler.getForestMethodMap();
+        for (String name : names) {
+            ForestMethod forestMethod = null;
+            for (Map.Entry<Method, ForestMethod> entry : forestMethodMap.entrySet()) {
+                Method method = entry.getKey();
+                if (method.getName().equals(name) && method.getParameterCount() == 0) {
+                    forestMethod = entry.getValue();
+                    break;
+                }
+            }
+            if (forestMethod == null) {
+                throw new ForestRuntimeException("[Forest] Warm up method '" + name + "' must be a no-argument method of "
+                        + interfaceProxyHandler.getInterfaceClass().getName());
+            }
+            methods.add(forestMethod);
+        }
+        return methods;
+    }
+}
@@ -0,0 +1,23 @@
+package com.dtflys.forest.lifecycles.collapser;
+
+import com.dtflys.forest.collapser.RequestCollapser;
+import com.dtflys.forest.extensions.Collapser;
+import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
+import com.dtflys.forest.reflection.ForestMethod;
+
+/**
+ * {@link Collapser} 注解的生命周期
+ *
+ * @since 2026-10-19 02:37
+ */
+public class CollapserLifeCycle implements MethodAnnotationLifeCycle<Collapser, Object> {
+
+    @Override
+    public void onMethodInitialized(ForestMethod method, Collapser annotation) {
+        RequestCollapser collapser = new RequestCollapser(method, annotation.batchMethod())
+                .setWindow(annotation.window())
+                .setMaxBatchSize(annotation.maxBatchSize())
+                .setResultKey(annotation.resultKey());
+        method.setCollapser(collapser);
+    }
+}
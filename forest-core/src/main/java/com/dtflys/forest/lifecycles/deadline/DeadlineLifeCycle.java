@@ -0,0 +1,18 @@
+package com.dtflys.forest.lifecycles.deadline;
+
+import com.dtflys.forest.extensions.Deadline;
+import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
+import com.dtflys.forest.reflection.ForestMethod;
+
+/**
+ * {@link Deadline} 注解的生命周期
+ *
+ * @since 2026-10-19 02:49
+ */
+public class DeadlineLifeCycle implements MethodAnnotationLifeCycle<Deadline, Object> {
+
+    @Override
+    public void onMethodInitialized(ForestMethod method, Deadline annotation) {
+        method.setDeadline(annotation.value(), annotation.header());
+    }
+}
@@ -0,0 +1,38 @@
+package com.dtflys.forest.lifecycles.json;
+
+import com.dtflys.forest.converter.ForestConverter;
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.converter.json.ForestJsonPath;
+import com.dtflys.forest.converter.json.ForestJsonPathConverter;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.extensions.ResultPath;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
+import com.dtflys.forest.reflection.ForestMethod;
+
+/**
+ * {@link ResultPath} 注解的生命周期
+ *
+ * @since 2026-10-19 00:36
+ */
+public class ResultPathLifeCycle implements MethodAnnotationLifeCycle<ResultPath, Object> {
+
+    @Override
+    public void onMethodInitialized(ForestMethod method, ResultPath annotation) {
+    }
+
+    @Override
+    public void onInvokeMethod(ForestRequest request, ForestMethod method, Object[] args) {
+        ForestJsonPath path = ForestJsonPath.compile(getAttributeAsString(request, "value"));
+        ForestConverter decoder = request.getDecoder();
+        ForestJsonConverter jsonConverter;
+        if (decoder == null) {
+            jsonConverter = request.getConfiguration().getJsonConverter();
+        } else if (decoder instanceof ForestJsonConverter) {
+            jsonConverter = (ForestJsonConverter) decoder;
+        } else {
+            throw new ForestRuntimeException("[Forest] @ResultPath requires a JSON decoder, but found " + decoder.getClass().getName());
+        }
+        request.setDecoder(new ForestJsonPathConverter(jsonConverter, path));
+    }
+}
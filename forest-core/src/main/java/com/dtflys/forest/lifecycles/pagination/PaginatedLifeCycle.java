@@ -0,0 +1,23 @@
+package com.dtflys.forest.lifecycles.pagination;
+
+import com.dtflys.forest.extensions.Paginated;
+import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
+import com.dtflys.forest.pagination.ForestPaginator;
+import com.dtflys.forest.reflection.ForestMethod;
+
+/**
+ * {@link Paginated} 注解的生命周期
+ *
+ * @since 2026-10-19 02:43
+ */
+public class PaginatedLifeCycle implements MethodAnnotationLifeCycle<Paginated, Object> {
+
+    @Override
+    public void onMethodInitialized(ForestMethod method, Paginated annotation) {
+        ForestPaginator paginator = new ForestPaginator(method, annotation.pageMethod(), annotation.pageParameter())
+                .setItemsPath(annotation.itemsPath())
+                .setCursorPath(annotation.cursorPath())
+                .setPrefetch(annotation.prefetch());
+        method.setPaginator(paginator);
+    }
+}
@@ -0,0 +1,18 @@
+package com.dtflys.forest.lifecycles.parameter;
+
+import com.dtflys.forest.annotation.RoutingKey;
+import com.dtflys.forest.lifecycles.ParameterAnnotationLifeCycle;
+import com.dtflys.forest.mapping.MappingParameter;
+import com.dtflys.forest.reflection.ForestMethod;
+
+/**
+ * @RoutingKey注解的生命周期
+ * @since 2026-10-19 02:31
+ */
+public class RoutingKeyLifeCycle implements ParameterAnnotationLifeCycle<RoutingKey, Object> {
+
+    @Override
+    public void onParameterInitialized(ForestMethod method, MappingParameter parameter, RoutingKey annotation) {
+        method.setRoutingKeyParameter(parameter);
+    }
+}
@@ -0,0 +1,40 @@
+package com.dtflys.forest.lifecycles.pool;
+
+import com.dtflys.forest.extensions.ConnectionPool;
+import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
+import com.dtflys.forest.pool.ForestConnectionPool;
+import com.dtflys.forest.reflection.ForestMethod;
+import com.dtflys.forest.utils.StringUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link ConnectionPool} 注解的生命周期
+ *
+ * @since 2026-10-19 03:45
+ */
+public class ConnectionPoolLifeCycle implements MethodAnnotationLifeCycle<ConnectionPool, Object> {
+
+    @Override
+    public void onMethodInitialized(ForestMethod method, ConnectionPool annotation) {
+        String name = annotation.value();
+        if (StringUtils.isEmpty(name)) {
+            Method javaMethod = method.getMethod();
+            name = javaMethod.getDeclaringClass().getName();
+            if (javaMethod.getAnnotation(ConnectionPool.class) != null) {
+                name += "#" + javaMethod.getName();
+            }
+        }
+        ForestConnectionPool pool = method.getConfiguration().getConnectionPools().computeIfAbsent(name,
+                key -> new ForestConnectionPool(key)
+                        .setMaxConnections(valueOf(annotation.maxConnections()))
+                        .setMaxRouteConnections(valueOf(annotation.maxRouteConnections()))
+                        .setMaxRequests(valueOf(annotation.maxRequests()))
+                        .setMaxRequestsPerHost(valueOf(annotation.maxRequestsPerHost())));
+        method.setConnectionPool(pool);
+    }
+
+    private static Integer valueOf(int value) {
+        return value > 0 ? value : null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.dtflys.forest.lifecycles.priority;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.extensions.Priority;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
+import com.dtflys.forest.lifecycles.ParameterAnnotationLifeCycle;
+import com.dtflys.forest.mapping.MappingParameter;
+import com.dtflys.forest.reflection.ForestMethod;
+
+/**
+ * {@link Priority} 注解的生命周期
+ *
+ * @since 2026-10-19 03:36
+ */
+public class PriorityLifeCycle implements MethodAnnotationLifeCycle<Priority, Object>, ParameterAnnotationLifeCycle<Priority, Object> {
+
+    @Override
+    public void onMethodInitialized(ForestMethod method, Priority annotation) {
+        method.setPriority(annotation.value());
+    }
+
+    @Override
+    public void onParameterInitialized(ForestMethod method, MappingParameter parameter, Priority annotation) {
+        method.setPriorityParameter(parameter);
+    }
+
+    @Override
+    public void onSuccess(Object data, ForestRequest request, ForestResponse response) {
+    }
+
+    @Override
+    public void onError(ForestRuntimeException ex, ForestRequest request, ForestResponse response) {
+    }
+}
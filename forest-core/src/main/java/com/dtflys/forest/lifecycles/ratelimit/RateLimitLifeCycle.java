@@ -0,0 +1,34 @@
+package com.dtflys.forest.lifecycles.ratelimit;
+
+import com.dtflys.forest.extensions.RateLimit;
+import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
+import com.dtflys.forest.ratelimit.RateLimitPolicy;
+import com.dtflys.forest.reflection.ForestMethod;
+import com.dtflys.forest.utils.StringUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link RateLimit} 注解的生命周期
+ *
+ * @since 2026-10-19 03:00
+ */
+public class RateLimitLifeCycle implements MethodAnnotationLifeCycle<RateLimit, Object> {
+
+    @Override
+    public void onMethodInitialized(ForestMethod method, RateLimit annotation) {
+        String name = annotation.name();
+        if (StringUtils.isEmpty(name)) {
+            Method javaMethod = method.getMethod();
+            name = javaMethod.getDeclaringClass().getName();
+            if (javaMethod.getAnnotation(RateLimit.class) != null) {
+                name += "#" + javaMethod.getName();
+            }
+        }
+        RateLimitPolicy policy = new RateLimitPolicy(method.getConfiguration(), name, annotation.value(), annotation.burst())
+                .setPerRoute(annotation.perRoute())
+                .setMode(annotation.mode())
+                .setMaxWait(annotation.maxWait());
+        method.setRateLimit(policy);
+    }
+}
@@ -0,0 +1,223 @@
+package com.dtflys.forest.lifecycles.stream;
+
+import com.dtflys.forest.callback.OnRecord;
+import com.dtflys.forest.converter.ForestConverter;
+import com.dtflys.forest.converter.xml.ForestStaxConverter;
+import com.dtflys.forest.exceptions.ForestNetworkException;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.extensions.StreamRecords;
+import com.dtflys.forest.http.ForestHeaderMap;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
+import com.dtflys.forest.reflection.ForestMethod;
+import com.dtflys.forest.reflection.NoneLifeCycleHandler;
+import com.dtflys.forest.stream.ForestRecordStream;
+import com.dtflys.forest.stream.StreamFormat;
+import com.dtflys.forest.utils.ReflectUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.stream.Stream;
+
+/**
+ * {@link StreamRecords} 注解的生命周期
+ *
+ * @since 2026-10-19 00:33
+ */
+public class StreamRecordsLifeCycle implements MethodAnnotationLifeCycle<StreamRecords, Object> {
+
+    private final static Logger log = LoggerFactory.getLogger(StreamRecordsLifeCycle.class);
+
+    private final static String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final static int NO_CONTENT = 204;
+
+    private final static ForestStaxConverter DEFAULT_STAX_CONVERTER = new ForestStaxConverter();
+
+    @Override
+    public void onMethodInitialized(ForestMethod method, StreamRecords annotation) {
+    }
+
+    @Override
+    public void onInvokeMethod(ForestRequest request, ForestMethod method, Object[] args) {
+        Type resultType = method.getReturnType();
+        Type recordType = method.getOnRecordClassGenericType();
+        if (recordType == null) {
+            recordType = getRecordType(resultType);
+        }
+        addAttribute(request, "resultType", resultType);
+        addAttribute(request, "recordType", recordType);
+        request.setStreaming(true);
+    }
+
+    private static Type getRecordType(Type resultType) {
+        if (resultType instanceof ParameterizedType) {
+            Type[] types = ((ParameterizedType) resultType).getActualTypeArguments();
+            if (types.length > 0) {
+                return types[0];
+            }
+        }
+        return Object.class;
+    }
+
+    @Override
+    public void onSuccess(Object data, ForestRequest request, ForestResponse response) {
+        Type resultType = getAttribute(request, "resultType", Type.class);
+        Type recordType = getAttribute(request, "recordType", Type.class);
+        StreamFormat format = StreamFormat.findFormat(getAttributeAsString(request, "format"));
+        if (format == null) {
+            format = StreamFormat.findFormat(response.getContentType());
+        }
+        if (format == null) {
+            format = StreamFormat.NDJSON;
+        }
+        ForestRecordStream stream;
+        if (format == StreamFormat.XML) {
+            ForestConverter converter = request.getConfiguration().getXmlConverter();
+            if (!(converter instanceof ForestStaxConverter)) {
+                converter = DEFAULT_STAX_CONVERTER;
+            }
+            stream = new ForestRecordStream(response, format, recordType, converter, getAttributeAsString(request, "element"));
+        } else {
+            ForestConverter converter = request.getDecoder();
+            if (converter == null) {
+                converter = request.getConfiguration().getJsonConverter();
+            }
+            stream = new ForestRecordStream(response, format, recordType, converter);
+        }
+        Boolean reconnect = getAttribute(request, "reconnect", Boolean.class);
+        if (format == StreamFormat.EVENT_STREAM && Boolean.TRUE.equals(reconnect)) {
+            stream.setReconnector(lastEventId -> reconnect(request, lastEventId))
+                    .setMaxReconnects(getAttributeAsInteger(request, "maxReconnects"))
+                    .setReconnectInterval(getAttribute(request, "reconnectInterval", Long.class));
+        }
+
+        OnRecord onRecord = request.getOnRecord();
+        Class resultClass = ReflectUtils.getClassByType(resultType);
+        if (onRecord != null || void.class.equals(resultClass) || Void.class.equals(resultClass)) {
+            if (request.isAsync()) {
+                // 异步请求在后端的回调线程中执行到这里，读取整个流 (包括SSE重连) 会一直占用该线程，
+                // 所以改为在单独的线程中读取，读取出错时交给 OnError 回调
+                Thread thread = new Thread(() -> {
+                    try {
+                        consume(stream, onRecord, request);
+                    } catch (Throwable th) {
+                        handleAsyncError(th, request, stream.getResponse());
+                    }
+                }, "forest-stream-records");
+                thread.setDaemon(true);
+                thread.start();
+            } else {
+                consume(stream, onRecord, request);
+            }
+            response.setResult(null);
+        } else if (Stream.class.isAssignableFrom(resultClass)) {
+            response.setResult(stream.stream());
+        } else {
+            response.setResult(stream);
+        }
+    }
+
+    private static void consume(ForestRecordStream stream, OnRecord onRecord, ForestRequest request) {
+        try {
+            for (Object record : stream) {
+                if (onRecord != null) {
+                    onRecord.onRecord(record, request, stream.getResponse());
+                }
+            }
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static void handleAsyncError(Throwable th, ForestRequest request, ForestResponse response) {
+        if (request.getOnError() == null) {
+            log.error("[Forest] Read stream records of " + request.getUrl() + " failed", th);
+            return;
+        }
+        ForestRuntimeException e = th instanceof ForestRuntimeException ?
+                (ForestRuntimeException) th : new ForestRuntimeException(th);
+        request.getOnError().onError(e, request, response);
+    }
+
+    private ForestResponse reconnect(ForestRequest request, String lastEventId) {
+        if (lastEventId != null) {
+            // 同一个请求会多次重连，先移除上一次重连设置的 Last-Event-ID，保证请求中只有一个
+            ForestHeaderMap headers = request.getHeaders();
+            while (headers.getHeader(LAST_EVENT_ID) != null) {
+                headers.remove(LAST_EVENT_ID);
+            }
+            headers.setHeader(LAST_EVENT_ID, lastEventId);
+        }
+        request.setAsync(false);
+        ReconnectLifeCycleHandler handler = new ReconnectLifeCycleHandler();
+        request.execute(request.getConfiguration().getBackend(request), handler);
+        ForestResponse response = handler.response;
+        if (handler.exception != null) {
+            closeQuietly(response);
+            if (handler.exception instanceof ForestRuntimeException) {
+                throw (ForestRuntimeException) handler.exception;
+            }
+            throw new ForestRuntimeException(handler.exception);
+        }
+        if (response == null) {
+            throw new ForestRuntimeException("[Forest] Reconnect stream failed: no response");
+        }
+        if (response.isError()) {
+            // 错误响应不会被读取，关闭响应体以释放连接后再抛出异常进行下一次重连
+            closeQuietly(response);
+            throw new ForestNetworkException("", response.getStatusCode(), response);
+        }
+        if (response.getStatusCode() == NO_CONTENT) {
+            // 按照 Server-Sent Events 规范，204 表示服务端要求客户端停止重连
+            return null;
+        }
+        return response;
+    }
+
+    private static void closeQuietly(ForestResponse response) {
+        if (response == null) {
+            return;
+        }
+        try {
+            InputStream in = response.getInputStream();
+            if (in != null) {
+                in.close();
+            }
+        } catch (Exception ignored) {
+        }
+    }
+
+    /**
+     * 重连时使用的生命周期处理器，只接收响应，不再触发拦截器和回调
+     */
+    private static class ReconnectLifeCycleHandler extends NoneLifeCycleHandler {
+
+        private ForestResponse response;
+
+        private Throwable exception;
+
+        @Override
+        public Object handleSync(ForestRequest request, ForestResponse response) {
+            this.response = response;
+            return response;
+        }
+
+        @Override
+        public Object handleSyncWitchException(ForestRequest request, ForestResponse response, Exception ex) {
+            this.response = response;
+            this.exception = ex;
+            return null;
+        }
+
+        @Override
+        public void handleError(ForestRequest request, ForestResponse response, Throwable ex) {
+            this.response = response;
+            this.exception = ex;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.dtflys.forest.lifecycles.timeout;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.extensions.AdaptiveTimeout;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
+import com.dtflys.forest.reflection.ForestMethod;
+import com.dtflys.forest.timeout.AdaptiveTimeoutPolicy;
+import com.dtflys.forest.timeout.AdaptiveTimeoutRetryer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AdaptiveTimeout} 注解的生命周期
+ * <p>调用方法时按策略设置请求的超时时间，并分别记录每一次尝试从发送到结束的耗时，重试前的退避等待不计入</p>
+ *
+ * @since 2026-10-19 02:54
+ */
+public class AdaptiveTimeoutLifeCycle implements MethodAnnotationLifeCycle<AdaptiveTimeout, Object> {
+
+    private final static Logger log = LoggerFactory.getLogger(AdaptiveTimeoutLifeCycle.class);
+
+    @Override
+    public void onMethodInitialized(ForestMethod method, AdaptiveTimeout annotation) {
+        AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(annotation.window())
+                .setPercentile(annotation.percentile())
+                .setFactor(annotation.factor())
+                .setMinTimeout(annotation.min())
+                .setMaxTimeout(annotation.max())
+                .setMinSamples(annotation.minSamples());
+        method.setAdaptiveTimeout(policy);
+    }
+
+    @Override
+    public void onInvokeMethod(ForestRequest request, ForestMethod method, Object[] args) {
+        AdaptiveTimeoutPolicy policy = method.getAdaptiveTimeout();
+        if (policy == null) {
+            return;
+        }
+        addAttribute(request, "policy", policy);
+        int timeout = policy.computeTimeout();
+        if (timeout > 0) {
+            request.setTimeout(timeout);
+            addAttribute(request, "timeout", timeout);
+            if (request.isLogEnable() && log.isDebugEnabled()) {
+                log.debug("[Forest] Adaptive timeout of " + method.getMethodName() + ": " + timeout + "ms (p"
+                        + policy.getPercentile() + " x " + policy.getFactor() + ")");
+            }
+        }
+    }
+
+    @Override
+    public boolean beforeExecute(ForestRequest request) {
+        AdaptiveTimeoutPolicy policy = getAttribute(request, "policy", AdaptiveTimeoutPolicy.class);
+        if (policy == null || request.getRetryer() == null) {
+            return true;
+        }
+        // 后端每次请求失败时都会询问重试器，由重试器分别记入每一次尝试的耗时
+        AdaptiveTimeoutRetryer retryer = new AdaptiveTimeoutRetryer(request.getRetryer(), policy);
+        request.setRetryer(retryer);
+        addAttribute(request, "retryer", retryer);
+        return true;
+    }
+
+    @Override
+    public void onSuccess(Object data, ForestRequest request, ForestResponse response) {
+        record(request);
+    }
+
+    @Override
+    public void onError(ForestRuntimeException ex, ForestRequest request, ForestResponse response) {
+        // 超时的请求按超时时间记入，使超时时间过小时能够自动放大
+        record(request);
+    }
+
+    private void record(ForestRequest request) {
+        AdaptiveTimeoutRetryer retryer = getAttribute(request, "retryer", AdaptiveTimeoutRetryer.class);
+        if (retryer != null) {
+            retryer.recordAttempt();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.http.ForestRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 一致性哈希负载均衡器
+ * <p>按请求的路由键(见 {@link com.dtflys.forest.annotation.RoutingKey})在哈希环上选择端点，相同的键总是发往同一个端点。
+ * 每个端点在环上有多个虚拟节点，端点增减时只有相邻区间的键会迁移。</p>
+ * <p>采用有界负载(bounded load)：端点正在处理的请求数超过平均值的 {@code loadFactor} 倍时，顺时针选择下一个端点，
+ * 避免热点键压垮单个端点。被剔除或已重试过的端点不在候选中，同样顺延到下一个端点。</p>
+ * <p>哈希环是不可变的快照，端点增减时复制重建，选择端点时无锁。没有路由键的请求按轮询选择</p>
+ *
+ * @since 2026-10-19 02:31
+ */
+public class ConsistentHashLoadBalancer implements LoadBalancer {
+
+    public final static int DEFAULT_VIRTUAL_NODES = 160;
+
+    public final static double DEFAULT_LOAD_FACTOR = 1.25;
+
+    private final int virtualNodes;
+
+    private final double loadFactor;
+
+    private final LoadBalancer fallback = new RoundRobinLoadBalancer();
+
+    private volatile Ring ring = new Ring(new long[0], new Endpoint[0], Collections.emptySet());
+
+    public ConsistentHashLoadBalancer() {
+        this(DEFAULT_VIRTUAL_NODES, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param virtualNodes 每个端点的虚拟节点数
+     * @param loadFactor 端点负载上限相对平均负载的倍数，小于等于0时不限制负载
+     */
+    public ConsistentHashLoadBalancer(int virtualNodes, double loadFactor) {
+        this.virtualNodes = virtualNodes;
+        this.loadFactor = loadFactor;
+    }
+
+    @Override
+    public Endpoint choose(List<Endpoint> endpoints, ForestRequest request) {
+        String key = request != null ? request.getRoutingKey() : null;
+        if (key == null) {
+            return fallback.choose(endpoints, request);
+        }
+        return choose(endpoints, key);
+    }
+
+    /**
+     * 按路由键选择端点
+     * @param endpoints 候选端点列表
+     * @param key 路由键
+     * @return 选中的端点
+     */
+    public Endpoint choose(List<Endpoint> endpoints, String key) {
+        Ring current = ensureMembers(endpoints);
+        Set<Endpoint> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(endpoints);
+        long capacity = Long.MAX_VALUE;
+        if (loadFactor > 0) {
+            long totalActive = 0;
+            for (Endpoint endpoint : endpoints) {
+                totalActive += endpoint.getActiveRequests();
+            }
+            capacity = (long) Math.ceil(loadFactor * (totalActive + 1) / endpoints.size());
+        }
+        long[] hashes = current.hashes;
+        int start = Arrays.binarySearch(hashes, hash(key));
+        if (start < 0) {
+            start = -start - 1;
+        }
+        Endpoint first = null;
+        for (int i = 0; i < hashes.length; i++) {
+            Endpoint endpoint = current.nodes[(start + i) % hashes.length];
+            if (!candidates.contains(endpoint)) {
+                continue;
+            }
+            if (first == null) {
+                first = endpoint;
+            }
+            if (endpoint.getActiveRequests() < capacity) {
+                return endpoint;
+            }
+        }
+        return first != null ? first : endpoints.get(0);
+    }
+
+    @Override
+    public synchronized void removeEndpoints(Collection<Endpoint> endpoints) {
+        Ring current = ring;
+        Set<Endpoint> members = Collections.newSetFromMap(new IdentityHashMap<>());
+        members.addAll(current.members);
+        if (!members.removeAll(endpoints)) {
+            return;
+        }
+        ring = Ring.build(members, virtualNodes);
+    }
+
+    /**
+     * 确保所有候选端点都在环上，被移除的端点由 {@link #removeEndpoints(Collection)} 移出环，不在候选中的节点在选择时跳过
+     */
+    private Ring ensureMembers(List<Endpoint> endpoints) {
+        Ring current = ring;
+        if (current.members.containsAll(endpoints)) {
+            return current;
+        }
+        synchronized (this) {
+            current = ring;
+            if (current.members.containsAll(endpoints)) {
+                return current;
+            }
+            Set<Endpoint> members = Collections.newSetFromMap(new IdentityHashMap<>());
+            members.addAll(current.members);
+            members.addAll(endpoints);
+            current = Ring.build(members, virtualNodes);
+            ring = current;
+            return current;
+        }
+    }
+
+    /**
+     * 64位 FNV-1a 哈希，再经过 MurmurHash3 的 fmix64 混合使相近的字符串分散
+     * @param value 字符串
+     * @return 哈希值
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static class Ring {
+
+        private final long[] hashes;
+
+        private final Endpoint[] nodes;
+
+        private final Set<Endpoint> members;
+
+        private Ring(long[] hashes, Endpoint[] nodes, Set<Endpoint> members) {
+            this.hashes = hashes;
+            this.nodes = nodes;
+            this.members = members;
+        }
+
+        private static Ring build(Set<Endpoint> members, int virtualNodes) {
+            List<Map.Entry<Long, Endpoint>> entries = new ArrayList<>(members.size() * virtualNodes);
+            for (Endpoint endpoint : members) {
+                for (int i = 0; i < virtualNodes; i++) {
+                    entries.add(new AbstractMap.SimpleImmutableEntry<>(hash(endpoint.getUrl() + "#" + i), endpoint));
+                }
+            }
+            entries.sort(Map.Entry.comparingByKey());
+            long[] hashes = new long[entries.size()];
+            Endpoint[] nodes = new Endpoint[entries.size()];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = entries.get(i).getKey();
+                nodes[i] = entries.get(i).getValue();
+            }
+            return new Ring(hashes, nodes, Collections.unmodifiableSet(members));
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.dtflys.forest.loadbalance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 负载均衡中的服务端点
+ * <p>记录正在处理的请求数、指数加权移动平均(EWMA)延迟和连续失败次数，供负载均衡器选择端点和剔除异常端点。
+ * 失败指连接失败或5xx响应，4xx等客户端错误不计为端点的失败</p>
+ * <p>剔除到期后端点进入半开状态，剔除前的失败次数和延迟样本被清除，半开状态下的第一个请求决定恢复还是再次剔除</p>
+ *
+ * @since 2026-10-19 02:22
+ */
+public class Endpoint {
+
+    /**
+     * 每个新样本在移动平均中的权重
+     */
+    private final static double EWMA_WEIGHT = 0.3;
+
+    /**
+     * 失败请求按当前平均延迟的倍数计入，避免快速失败的端点吸引更多流量
+     */
+    private final static double FAILURE_PENALTY = 2.0;
+
+    private final String url;
+
+    private final AtomicInteger activeRequests = new AtomicInteger(0);
+
+    private final AtomicLong requestCount = new AtomicLong(0);
+
+    private final AtomicLong failureCount = new AtomicLong(0);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
+
+    private volatile double latency = 0;
+
+    private volatile long ejectedUntil = 0;
+
+    private int ejectionCount = 0;
+
+    private volatile boolean halfOpen = false;
+
+    /**
+     * 最近一次恢复或者剔除次数衰减的时间
+     */
+    private long recoveredAt = 0;
+
+    public Endpoint(String url) {
+        this.url = url;
+    }
+
+    /**
+     * 端点的基础URL
+     * @return URL字符串
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * 正在处理的请求数
+     * @return 请求数
+     */
+    public int getActiveRequests() {
+        return activeRequests.get();
+    }
+
+    /**
+     * EWMA延迟，没有样本时为0
+     * @return 延迟毫秒数
+     */
+    public double getLatency() {
+        return latency;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * 连续失败次数，成功一次后清零
+     * @return 失败次数
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * 是否已被剔除
+     * @return {@code true} 已被剔除，负载均衡时不会被选中
+     */
+    public boolean isEjected() {
+        long until = ejectedUntil;
+        if (until == 0) {
+            return false;
+        }
+        if (System.currentTimeMillis() < until) {
+            return true;
+        }
+        expire();
+        return false;
+    }
+
+    /**
+     * 剔除到期，进入半开状态
+     */
+    private synchronized void expire() {
+        if (ejectedUntil == 0 || System.currentTimeMillis() < ejectedUntil) {
+            return;
+        }
+        ejectedUntil = 0;
+        consecutiveFailures.set(0);
+        latency = 0;
+        halfOpen = true;
+    }
+
+    /**
+     * 是否处于半开状态，剔除到期后还没有完成过请求
+     * @return {@code true} 半开状态
+     */
+    public boolean isHalfOpen() {
+        return halfOpen;
+    }
+
+    /**
+     * 被剔除的截止时间
+     * @return 毫秒时间戳，未被剔除时为0
+     */
+    public long getEjectedUntil() {
+        return ejectedUntil;
+    }
+
+    /**
+     * 累计被剔除的次数，用于计算退避的剔除时长
+     * @return 剔除次数
+     */
+    public synchronized int getEjectionCount() {
+        return ejectionCount;
+    }
+
+    /**
+     * 剔除该端点
+     * @param until 剔除的截止时间，毫秒时间戳
+     */
+    public synchronized void eject(long until) {
+        if (!isEjected()) {
+            ejectionCount++;
+        }
+        ejectedUntil = until;
+        halfOpen = false;
+    }
+
+    /**
+     * 端点持续正常时逐步减少剔除次数，每经过一个间隔减少一次
+     * @param interval 衰减间隔(毫秒)
+     */
+    public synchronized void decayEjectionCount(long interval) {
+        if (ejectionCount == 0 || halfOpen || isEjected()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - recoveredAt >= interval) {
+            ejectionCount--;
+            recoveredAt = now;
+        }
+    }
+
+    /**
+     * 延长剔除时间，健康检查失败时调用
+     * @param until 新的截止时间，毫秒时间戳
+     */
+    public synchronized void extendEjection(long until) {
+        if (until > ejectedUntil) {
+            ejectedUntil = until;
+        }
+    }
+
+    /**
+     * 恢复该端点，同时清除连续失败次数和延迟样本
+     */
+    public synchronized void reinstate() {
+        ejectedUntil = 0;
+        consecutiveFailures.set(0);
+        latency = 0;
+        halfOpen = false;
+        recoveredAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 开始向该端点发送请求
+     */
+    public void onStart() {
+        activeRequests.incrementAndGet();
+        requestCount.incrementAndGet();
+    }
+
+    /**
+     * 该端点上的请求已完成
+     * @param latencyMillis 请求耗时毫秒数
+     * @param success 是否成功，连接失败或5xx响应为失败
+     */
+    public void onComplete(long latencyMillis, boolean success) {
+        activeRequests.decrementAndGet();
+        // 剔除已经到期时先进入半开状态，本次结果决定恢复还是再次剔除
+        isEjected();
+        double sample = latencyMillis;
+        if (success) {
+            consecutiveFailures.set(0);
+        } else {
+            failureCount.incrementAndGet();
+            consecutiveFailures.incrementAndGet();
+            sample = Math.max(sample, latency) * FAILURE_PENALTY;
+        }
+        synchronized (this) {
+            latency = latency == 0 ? sample : latency + EWMA_WEIGHT * (sample - latency);
+            if (success && halfOpen) {
+                halfOpen = false;
+                recoveredAt = System.currentTimeMillis();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Endpoint[url=" + url + ", active=" + activeRequests.get() + ", latency=" + latency + ", ejected=" + isEjected() + "]";
+    }
+}
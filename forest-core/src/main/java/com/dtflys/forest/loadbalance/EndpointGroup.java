@@ -0,0 +1,191 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.utils.StringUtils;
+import com.dtflys.forest.utils.URLUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 一个接口的服务端点组
+ * <p>同一个接口的所有方法共享端点的统计信息、负载均衡器和异常端点检测器。
+ * 选择端点时跳过被剔除的端点，所有端点都被剔除时仍从全部端点中选择</p>
+ *
+ * @since 2026-10-19 02:22
+ */
+public class EndpointGroup {
+
+    public final static String ROUND_ROBIN = "round_robin";
+
+    public final static String LEAST_REQUEST = "least_request";
+
+    public final static String POWER_OF_TWO_CHOICES = "p2c";
+
+    public final static String CONSISTENT_HASH = "consistent_hash";
+
+    private final LoadBalancer loadBalancer;
+
+    private final EndpointProvider endpointProvider;
+
+    private final OutlierDetector outlierDetector = new OutlierDetector();
+
+    private HealthChecker healthChecker;
+
+    private final ConcurrentMap<String, Endpoint> endpointMap = new ConcurrentHashMap<>();
+
+    /**
+     * @param loadBalancer 负载均衡器
+     * @param endpointProvider 服务端点提供者，使用静态端点列表时为 {@code null}
+     */
+    public EndpointGroup(LoadBalancer loadBalancer, EndpointProvider endpointProvider) {
+        this.loadBalancer = loadBalancer;
+        this.endpointProvider = endpointProvider;
+    }
+
+    /**
+     * 根据名称创建负载均衡器
+     * @param name 负载均衡策略名称: round_robin, least_request, p2c 或 consistent_hash，为空时使用 round_robin
+     * @return 负载均衡器
+     */
+    public static LoadBalancer createLoadBalancer(String name) {
+        if (StringUtils.isBlank(name) || ROUND_ROBIN.equalsIgnoreCase(name)) {
+            return new RoundRobinLoadBalancer();
+        }
+        if (LEAST_REQUEST.equalsIgnoreCase(name)) {
+            return new LeastRequestLoadBalancer();
+        }
+        if (POWER_OF_TWO_CHOICES.equalsIgnoreCase(name)) {
+            return new PowerOfTwoChoicesLoadBalancer();
+        }
+        if (CONSISTENT_HASH.equalsIgnoreCase(name)) {
+            return new ConsistentHashLoadBalancer();
+        }
+        throw new ForestRuntimeException("Load balancer \"" + name + "\" is not supported, please use "
+                + ROUND_ROBIN + ", " + LEAST_REQUEST + ", " + POWER_OF_TWO_CHOICES + " or " + CONSISTENT_HASH);
+    }
+
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    public EndpointProvider getEndpointProvider() {
+        return endpointProvider;
+    }
+
+    /**
+     * 异常端点检测器，可通过其setter方法调整剔除策略
+     * @return 检测器
+     */
+    public OutlierDetector getOutlierDetector() {
+        return outlierDetector;
+    }
+
+    public HealthChecker getHealthChecker() {
+        return healthChecker;
+    }
+
+    /**
+     * 设置并启动主动健康检查
+     * @param healthChecker 健康检查
+     * @return 端点组
+     */
+    public synchronized EndpointGroup setHealthChecker(HealthChecker healthChecker) {
+        if (this.healthChecker != null) {
+            throw new ForestRuntimeException("Health checker of the endpoint group has been started");
+        }
+        this.healthChecker = healthChecker;
+        healthChecker.start(this);
+        return this;
+    }
+
+    /**
+     * 当前的所有端点
+     * @return 端点集合
+     */
+    public Collection<Endpoint> getEndpoints() {
+        return endpointMap.values();
+    }
+
+    /**
+     * 按端点提供者返回的最新列表移除已经下线的端点，被移除的端点不再参与异常检测、健康检查和负载均衡
+     * @param urls 当前可用的端点基础URL列表
+     */
+    public void retainEndpoints(List<String> urls) {
+        Set<String> keys = new HashSet<>(urls.size() * 2);
+        for (String url : urls) {
+            keys.add(URLUtils.getValidBaseURL(url.trim()));
+        }
+        if (keys.containsAll(endpointMap.keySet())) {
+            return;
+        }
+        List<Endpoint> removed = new ArrayList<>();
+        for (Map.Entry<String, Endpoint> entry : endpointMap.entrySet()) {
+            if (!keys.contains(entry.getKey()) && endpointMap.remove(entry.getKey(), entry.getValue())) {
+                removed.add(entry.getValue());
+            }
+        }
+        if (!removed.isEmpty()) {
+            loadBalancer.removeEndpoints(removed);
+        }
+    }
+
+    /**
+     * 端点完成一次请求后检查是否需要剔除
+     * @param endpoint 端点
+     */
+    public void onComplete(Endpoint endpoint) {
+        outlierDetector.check(endpoint, endpointMap.values());
+    }
+
+    /**
+     * 获取URL对应的端点，不存在时创建
+     * @param url 端点基础URL
+     * @return 端点
+     */
+    public Endpoint getEndpoint(String url) {
+        String key = URLUtils.getValidBaseURL(url.trim());
+        return endpointMap.computeIfAbsent(key, Endpoint::new);
+    }
+
+    /**
+     * 选择一个端点
+     * @param urls 当前可用的端点基础URL列表
+     * @param excluded 需要排除的端点，如已经失败过的端点，全部被排除时从未被剔除的端点中选择
+     * @param request Forest请求对象
+     * @return 选中的端点
+     */
+    public Endpoint choose(List<String> urls, Collection<Endpoint> excluded, ForestRequest request) {
+        if (urls == null || urls.isEmpty()) {
+            throw new ForestRuntimeException("No endpoint is available for load balancing");
+        }
+        List<Endpoint> all = new ArrayList<>(urls.size());
+        List<Endpoint> healthy = new ArrayList<>(urls.size());
+        List<Endpoint> candidates = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            Endpoint endpoint = getEndpoint(url);
+            all.add(endpoint);
+            if (!endpoint.isEjected()) {
+                healthy.add(endpoint);
+                if (!excluded.contains(endpoint)) {
+                    candidates.add(endpoint);
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates = healthy.isEmpty() ? all : healthy;
+        }
+        if (candidates.size() == 1) {
+            // 只剩一个候选时不经过负载均衡器，避免重试打乱轮询的顺序
+            return candidates.get(0);
+        }
+        return loadBalancer.choose(candidates, request);
+    }
+}
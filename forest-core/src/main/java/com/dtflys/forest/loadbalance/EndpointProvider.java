@@ -0,0 +1,20 @@
+package com.dtflys.forest.loadbalance;
+
+import java.util.List;
+
+/**
+ * 服务端点提供者
+ * <p>用于从注册中心等外部来源获取接口的服务端点列表，每次请求时都会调用，实现类应自行缓存结果。
+ * 实现类需要提供无参构造方法</p>
+ *
+ * @since 2026-10-19 02:22
+ */
+public interface EndpointProvider {
+
+    /**
+     * 获取当前可用的服务端点基础URL列表
+     * @return 基础URL列表，如 http://10.0.0.1:8080
+     */
+    List<String> getEndpoints();
+
+}
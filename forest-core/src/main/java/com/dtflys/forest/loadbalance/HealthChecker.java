@@ -0,0 +1,159 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestRequestType;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.reflection.NoneLifeCycleHandler;
+import com.dtflys.forest.retryer.BackOffRetryer;
+import com.dtflys.forest.utils.URLUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 主动健康检查
+ * <p>定时向被剔除的端点发送 GET 请求，返回2xx时立即恢复该端点，否则延长剔除时间直到检查成功。
+ * 只检查被剔除的端点，正常端点的健康状况由请求结果判断。检查请求通过全局配置的后端发送，不经过拦截器和重试</p>
+ *
+ * @since 2026-10-19 02:27
+ */
+public class HealthChecker {
+
+    private static Logger log = LoggerFactory.getLogger(HealthChecker.class);
+
+    private final static ScheduledExecutorService CHECK_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "forest-health-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ForestConfiguration configuration;
+
+    private final String path;
+
+    private final long interval;
+
+    /**
+     * @param configuration 全局配置
+     * @param path 健康检查的路径，如 /health
+     * @param interval 检查间隔(毫秒)
+     */
+    public HealthChecker(ForestConfiguration configuration, String path, long interval) {
+        this.configuration = configuration;
+        this.path = path;
+        this.interval = interval;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * 开始定时检查端点组，端点组被回收后自动停止
+     * @param endpointGroup 端点组
+     */
+    public void start(EndpointGroup endpointGroup) {
+        WeakReference<EndpointGroup> groupRef = new WeakReference<>(endpointGroup);
+        ScheduledFuture<?>[] future = new ScheduledFuture<?>[1];
+        future[0] = CHECK_EXECUTOR.scheduleWithFixedDelay(() -> {
+            EndpointGroup group = groupRef.get();
+            if (group == null) {
+                future[0].cancel(false);
+                return;
+            }
+            for (Endpoint endpoint : group.getEndpoints()) {
+                if (endpoint.isEjected()) {
+                    check(endpoint);
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 检查一个端点
+     * @param endpoint 端点
+     * @return {@code true} 端点健康并已恢复
+     */
+    public boolean check(Endpoint endpoint) {
+        if (probe(endpoint)) {
+            log.info("[Forest] endpoint {} passed health check, reinstated", endpoint.getUrl());
+            endpoint.reinstate();
+            return true;
+        }
+        endpoint.extendEjection(System.currentTimeMillis() + interval * 2);
+        return false;
+    }
+
+    protected boolean probe(Endpoint endpoint) {
+        URL url;
+        try {
+            url = new URL(URLUtils.getValidURL(endpoint.getUrl(), path));
+        } catch (MalformedURLException e) {
+            return false;
+        }
+        int timeout = (int) Math.min(Math.max(interval / 2, 100), 10000);
+        ForestRequest request = new ForestRequest(configuration);
+        request.setProtocol(url.getProtocol())
+                .setUrl(url.toString())
+                .setType(ForestRequestType.GET)
+                .setSslProtocol(configuration.getSslProtocol())
+                .setTimeout(timeout)
+                .setConnectTimeout(timeout)
+                .setRetryCount(0)
+                .setLogEnable(false);
+        request.setRetryer(new BackOffRetryer(request));
+        ProbeLifeCycleHandler handler = new ProbeLifeCycleHandler();
+        try {
+            request.execute(configuration.getBackend(), handler);
+        } catch (Throwable th) {
+            return false;
+        }
+        ForestResponse response = handler.response;
+        if (handler.exception != null || response == null) {
+            return false;
+        }
+        int status = response.getStatusCode();
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * 检查请求的生命周期处理器，只接收响应，不触发拦截器和回调
+     */
+    private static class ProbeLifeCycleHandler extends NoneLifeCycleHandler {
+
+        private ForestResponse response;
+
+        private Throwable exception;
+
+        @Override
+        public Object handleSync(ForestRequest request, ForestResponse response) {
+            this.response = response;
+            return response;
+        }
+
+        @Override
+        public Object handleSyncWitchException(ForestRequest request, ForestResponse response, Exception ex) {
+            this.response = response;
+            this.exception = ex;
+            return null;
+        }
+
+        @Override
+        public void handleError(ForestRequest request, ForestResponse response, Throwable ex) {
+            this.response = response;
+            this.exception = ex;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.http.ForestRequest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 最少请求负载均衡器
+ * <p>选择正在处理请求数最少的端点，从随机位置开始比较，请求数相同时不会总是落到同一个端点</p>
+ *
+ * @since 2026-10-19 02:22
+ */
+public class LeastRequestLoadBalancer implements LoadBalancer {
+
+    @Override
+    public Endpoint choose(List<Endpoint> endpoints, ForestRequest request) {
+        int size = endpoints.size();
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        Endpoint chosen = null;
+        for (int i = 0; i < size; i++) {
+            Endpoint endpoint = endpoints.get((offset + i) % size);
+            if (chosen == null || endpoint.getActiveRequests() < chosen.getActiveRequests()) {
+                chosen = endpoint;
+            }
+        }
+        return chosen;
+    }
+}
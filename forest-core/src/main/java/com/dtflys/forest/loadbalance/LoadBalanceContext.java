@@ -0,0 +1,137 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.exceptions.ForestNetworkException;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.utils.URLUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 单个请求的负载均衡上下文
+ * <p>记录当前使用的端点和已经尝试过的端点，重试时切换到其它端点，请求完成后更新端点的统计信息</p>
+ *
+ * @since 2026-10-19 02:22
+ */
+public class LoadBalanceContext {
+
+    private final EndpointGroup endpointGroup;
+
+    private final List<String> urls;
+
+    private final String path;
+
+    private final List<Endpoint> triedEndpoints = new ArrayList<>();
+
+    private Endpoint endpoint;
+
+    private long startTime;
+
+    private boolean started = false;
+
+    private boolean finished = false;
+
+    /**
+     * @param endpointGroup 端点组
+     * @param urls 本次请求可用的端点基础URL列表
+     * @param path 相对于端点基础URL的请求路径，不包含Query部分
+     */
+    public LoadBalanceContext(EndpointGroup endpointGroup, List<String> urls, String path) {
+        this.endpointGroup = endpointGroup;
+        this.urls = urls;
+        this.path = path;
+    }
+
+    /**
+     * 当前使用的端点
+     * @return 端点
+     */
+    public synchronized Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 选择一个未尝试过的端点
+     * @param request Forest请求对象
+     * @return 选中的端点
+     */
+    public synchronized Endpoint choose(ForestRequest request) {
+        endpoint = endpointGroup.choose(urls, triedEndpoints, request);
+        triedEndpoints.add(endpoint);
+        return endpoint;
+    }
+
+    /**
+     * 当前端点上的完整请求URL
+     * @return URL字符串
+     */
+    public synchronized String getUrl() {
+        return URLUtils.getValidURL(endpoint.getUrl(), path);
+    }
+
+    /**
+     * 开始向当前端点发送请求
+     */
+    public synchronized void start() {
+        if (started || finished) {
+            return;
+        }
+        started = true;
+        startTime = System.currentTimeMillis();
+        endpoint.onStart();
+    }
+
+    /**
+     * 判断请求结果是否应计为端点的失败，连接失败和5xx响应是端点的失败，4xx等客户端错误不是
+     * @param cause 请求失败的异常，可以为 {@code null}
+     * @param response 响应对象，可以为 {@code null}
+     * @return {@code true} 端点的失败
+     */
+    public static boolean isEndpointFailure(Throwable cause, ForestResponse response) {
+        Integer statusCode;
+        if (cause instanceof ForestNetworkException) {
+            statusCode = ((ForestNetworkException) cause).getStatusCode();
+        } else if (cause != null || response == null) {
+            // 连接失败、超时等异常，此时响应的状态码没有意义
+            return true;
+        } else {
+            statusCode = response.getStatusCode();
+        }
+        return statusCode == null || statusCode <= 0 || statusCode >= 500;
+    }
+
+    /**
+     * 当前端点上的请求失败，切换到另一个端点重试
+     * @param request Forest请求对象
+     * @param endpointFailure 是否计为端点的失败
+     * @return 新端点上的完整请求URL
+     */
+    public synchronized String retry(ForestRequest request, boolean endpointFailure) {
+        complete(!endpointFailure);
+        choose(request);
+        start();
+        return getUrl();
+    }
+
+    /**
+     * 请求结束，重复调用时只有第一次生效
+     * @param success 是否成功，不计为端点失败的错误也视为成功
+     */
+    public synchronized void finish(boolean success) {
+        if (finished) {
+            return;
+        }
+        complete(success);
+        finished = true;
+    }
+
+    private void complete(boolean success) {
+        if (!started) {
+            return;
+        }
+        started = false;
+        endpoint.onComplete(System.currentTimeMillis() - startTime, success);
+        endpointGroup.onComplete(endpoint);
+    }
+}
@@ -0,0 +1,42 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.interceptor.Interceptor;
+
+/**
+ * 负载均衡拦截器
+ * <p>请求执行前开始计数，成功、失败或执行结束时更新端点的统计信息并检查是否需要剔除端点</p>
+ *
+ * @since 2026-10-19 02:22
+ */
+public class LoadBalanceInterceptor implements Interceptor<Object> {
+
+    private final LoadBalanceContext context;
+
+    public LoadBalanceInterceptor(LoadBalanceContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public boolean beforeExecute(ForestRequest request) {
+        context.start();
+        return true;
+    }
+
+    @Override
+    public void onSuccess(Object data, ForestRequest request, ForestResponse response) {
+        context.finish(true);
+    }
+
+    @Override
+    public void onError(ForestRuntimeException ex, ForestRequest request, ForestResponse response) {
+        context.finish(!LoadBalanceContext.isEndpointFailure(ex, response));
+    }
+
+    @Override
+    public void afterExecute(ForestRequest request, ForestResponse response) {
+        context.finish(!LoadBalanceContext.isEndpointFailure(null, response));
+    }
+}
@@ -0,0 +1,35 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.exceptions.ForestRetryException;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.retryer.Retryer;
+
+/**
+ * 负载均衡重试器
+ * <p>由原重试器决定是否重试，允许重试时记录当前端点的结果，并将请求切换到另一个端点</p>
+ *
+ * @since 2026-10-19 02:22
+ */
+public class LoadBalanceRetryer implements Retryer {
+
+    private final Retryer retryer;
+
+    private final LoadBalanceContext context;
+
+    public LoadBalanceRetryer(Retryer retryer, LoadBalanceContext context) {
+        this.retryer = retryer;
+        this.context = context;
+    }
+
+    public Retryer getRetryer() {
+        return retryer;
+    }
+
+    @Override
+    public void canRetry(ForestRetryException ex) throws Throwable {
+        retryer.canRetry(ex);
+        ForestRequest request = ex.getRequest();
+        boolean endpointFailure = LoadBalanceContext.isEndpointFailure(ex.getCause(), null);
+        request.setUrl(context.retry(request, endpointFailure));
+    }
+}
@@ -0,0 +1,30 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.http.ForestRequest;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 客户端负载均衡器
+ *
+ * @since 2026-10-19 02:22
+ */
+public interface LoadBalancer {
+
+    /**
+     * 从候选端点中选择一个
+     * @param endpoints 候选端点列表，不为空
+     * @param request Forest请求对象
+     * @return 选中的端点
+     */
+    Endpoint choose(List<Endpoint> endpoints, ForestRequest request);
+
+    /**
+     * 端点从端点组中移除后调用，用于清理负载均衡器为端点保存的状态
+     * @param endpoints 被移除的端点
+     */
+    default void removeEndpoints(Collection<Endpoint> endpoints) {
+    }
+
+}
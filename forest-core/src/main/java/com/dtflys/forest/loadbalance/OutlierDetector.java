@@ -0,0 +1,151 @@
+package com.dtflys.forest.loadbalance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 异常端点检测器
+ * <p>每个请求完成后检查端点，在以下情况下将其剔除一段时间：
+ * 连续失败次数达到阈值，或者EWMA延迟超过其它正常端点延迟中位数的指定倍数。
+ * 剔除时长按被剔除的次数指数退避，且至少保留一个未被剔除的端点。
+ * 剔除到期后的第一个请求失败时立即再次剔除；端点恢复后每正常运行 baseEjectionTime 剔除次数减一</p>
+ *
+ * @since 2026-10-19 02:27
+ */
+public class OutlierDetector {
+
+    /**
+     * 触发剔除的连续失败次数
+     */
+    private int consecutiveFailures = 5;
+
+    /**
+     * 第一次剔除的时长(毫秒)
+     */
+    private long baseEjectionTime = 30000;
+
+    /**
+     * 最长剔除时长(毫秒)
+     */
+    private long maxEjectionTime = 300000;
+
+    /**
+     * 延迟超过其它端点中位数的倍数时剔除，小于等于0时不按延迟剔除
+     */
+    private double latencyFactor = 3.0;
+
+    /**
+     * 按延迟剔除前端点至少需要的请求数
+     */
+    private int minRequests = 20;
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public OutlierDetector setConsecutiveFailures(int consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+        return this;
+    }
+
+    public long getBaseEjectionTime() {
+        return baseEjectionTime;
+    }
+
+    public OutlierDetector setBaseEjectionTime(long baseEjectionTime) {
+        this.baseEjectionTime = baseEjectionTime;
+        return this;
+    }
+
+    public long getMaxEjectionTime() {
+        return maxEjectionTime;
+    }
+
+    public OutlierDetector setMaxEjectionTime(long maxEjectionTime) {
+        this.maxEjectionTime = maxEjectionTime;
+        return this;
+    }
+
+    public double getLatencyFactor() {
+        return latencyFactor;
+    }
+
+    public OutlierDetector setLatencyFactor(double latencyFactor) {
+        this.latencyFactor = latencyFactor;
+        return this;
+    }
+
+    public int getMinRequests() {
+        return minRequests;
+    }
+
+    public OutlierDetector setMinRequests(int minRequests) {
+        this.minRequests = minRequests;
+        return this;
+    }
+
+    /**
+     * 检查端点是否需要剔除
+     * @param endpoint 刚完成请求的端点
+     * @param endpoints 同一组的所有端点
+     * @return {@code true} 端点被剔除
+     */
+    public boolean check(Endpoint endpoint, Collection<Endpoint> endpoints) {
+        if (endpoint.isEjected()) {
+            return false;
+        }
+        boolean halfOpenFailure = endpoint.isHalfOpen() && endpoint.getConsecutiveFailures() > 0;
+        List<Endpoint> peers = new ArrayList<>(endpoints.size());
+        for (Endpoint item : endpoints) {
+            if (item != endpoint && !item.isEjected()) {
+                peers.add(item);
+            }
+        }
+        if (peers.isEmpty()) {
+            // 不剔除最后一个可用的端点
+            return false;
+        }
+        if (halfOpenFailure || endpoint.getConsecutiveFailures() >= consecutiveFailures
+                || isLatencyOutlier(endpoint, peers)) {
+            eject(endpoint);
+            return true;
+        }
+        endpoint.decayEjectionCount(baseEjectionTime);
+        return false;
+    }
+
+    private boolean isLatencyOutlier(Endpoint endpoint, List<Endpoint> peers) {
+        if (latencyFactor <= 0 || endpoint.getRequestCount() < minRequests) {
+            return false;
+        }
+        List<Double> latencies = new ArrayList<>(peers.size());
+        for (Endpoint peer : peers) {
+            if (peer.getRequestCount() >= minRequests && peer.getLatency() > 0) {
+                latencies.add(peer.getLatency());
+            }
+        }
+        if (latencies.isEmpty()) {
+            return false;
+        }
+        Collections.sort(latencies);
+        int size = latencies.size();
+        double median = size % 2 == 1 ? latencies.get(size / 2)
+                : (latencies.get(size / 2 - 1) + latencies.get(size / 2)) / 2;
+        return endpoint.getLatency() > median * latencyFactor;
+    }
+
+    /**
+     * 剔除端点，剔除时长为 baseEjectionTime * 2^已剔除次数，不超过 maxEjectionTime
+     * @param endpoint 端点
+     */
+    public void eject(Endpoint endpoint) {
+        int count = Math.min(endpoint.getEjectionCount(), 30);
+        long time = Math.min(baseEjectionTime << count, maxEjectionTime);
+        if (time <= 0) {
+            time = maxEjectionTime;
+        }
+        endpoint.eject(System.currentTimeMillis() + time);
+    }
+}
@@ -0,0 +1,37 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.http.ForestRequest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 二选一(Power of two choices)负载均衡器
+ * <p>随机取两个端点，选择负载较低的一个，负载按 EWMA延迟 * (正在处理的请求数 + 1) 计算</p>
+ *
+ * @since 2026-10-19 02:22
+ */
+public class PowerOfTwoChoicesLoadBalancer implements LoadBalancer {
+
+    @Override
+    public Endpoint choose(List<Endpoint> endpoints, ForestRequest request) {
+        int size = endpoints.size();
+        if (size == 1) {
+            return endpoints.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(size);
+        int j = random.nextInt(size - 1);
+        if (j >= i) {
+            j++;
+        }
+        Endpoint a = endpoints.get(i);
+        Endpoint b = endpoints.get(j);
+        return cost(a) <= cost(b) ? a : b;
+    }
+
+    private static double cost(Endpoint endpoint) {
+        // 加1使没有延迟样本的端点也按请求数区分
+        return (endpoint.getLatency() + 1) * (endpoint.getActiveRequests() + 1);
+    }
+}
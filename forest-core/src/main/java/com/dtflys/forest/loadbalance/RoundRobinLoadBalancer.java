@@ -0,0 +1,21 @@
+package com.dtflys.forest.loadbalance;
+
+import com.dtflys.forest.http.ForestRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 轮询负载均衡器
+ *
+ * @since 2026-10-19 02:22
+ */
+public class RoundRobinLoadBalancer implements LoadBalancer {
+
+    private final AtomicInteger index = new AtomicInteger(0);
+
+    @Override
+    public Endpoint choose(List<Endpoint> endpoints, ForestRequest request) {
+        return endpoints.get(Math.floorMod(index.getAndIncrement(), endpoints.size()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.dtflys.forest.pagination;
+
+import java.util.List;
+
+/**
+ * 一页数据，以及获取下一页所需的页码或游标
+ *
+ * @param <T> 数据类型
+ * @since 2026-10-19 02:43
+ */
+public class ForestPage<T> {
+
+    private final List<T> items;
+
+    private final Object nextCursor;
+
+    private final boolean last;
+
+    /**
+     * @param items 本页数据
+     * @param nextCursor 下一页的页码或游标
+     * @param last 是否最后一页
+     */
+    public ForestPage(List<T> items, Object nextCursor, boolean last) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.last = last;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Object getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+}
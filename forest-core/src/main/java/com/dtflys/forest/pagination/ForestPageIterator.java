@@ -0,0 +1,205 @@
+package com.dtflys.forest.pagination;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestDeadline;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 逐页获取数据的迭代器
+ * <p>调用方取走第N页时，保证第N+1到第N+k页 (k为预取页数) 已经在获取中，所以处理当前页面的同时后面的页面已经在获取中。
+ * 页码可以直接推算时 (指定了 nextCursor 函数) 这些页面并发获取；游标依赖上一页的响应时，每页在上一页获取完成后接着获取</p>
+ * <p>页面以异步请求获取，不占用等待响应的线程。获取只由调用方取页驱动，没有常驻的后台线程：
+ * 调用方不再迭代时最多只有k个页面还在获取中，获取完成后不再发起新的请求。
+ * 创建迭代器时当前线程绑定的 {@link ForestDeadline} 作用于之后获取的每个页面，不论在哪个线程中发起获取。
+ * 遇到空页面或最后一页时结束，获取页面出错时在 {@link #hasNext()} 中抛出异常。
+ * 提前结束迭代时调用 {@link #close()} 可以丢弃还在获取中的页面</p>
+ *
+ * @param <T> 数据类型
+ * @since 2026-10-19 02:43
+ */
+public class ForestPageIterator<T> implements Iterator<T>, Closeable {
+
+    private final Function<Object, CompletableFuture<ForestPage<T>>> fetcher;
+
+    private final Function<Object, Object> nextCursor;
+
+    private final int prefetch;
+
+    /**
+     * 创建迭代器时当前线程绑定的截止时间
+     */
+    private final ForestDeadline deadline;
+
+    /**
+     * 已经发起、还未被取走的页面，按页面顺序排列
+     */
+    private final Deque<CompletableFuture<ForestPage<T>>> pending = new ArrayDeque<>();
+
+    /**
+     * 最后发起获取的页面，游标依赖上一页时从这里接着获取
+     */
+    private CompletableFuture<ForestPage<T>> lastRequested;
+
+    /**
+     * 下一个要获取的页码，游标依赖上一页时不使用
+     */
+    private Object cursor;
+
+    private volatile boolean closed = false;
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private boolean finished = false;
+
+    /**
+     * 游标依赖上一页的响应，每页在上一页获取完成后接着获取
+     * @param fetcher 根据页码或游标异步获取一页数据的函数
+     * @param firstCursor 第一页的页码或游标
+     * @param prefetch 预先获取的页数
+     */
+    public ForestPageIterator(Function<Object, CompletableFuture<ForestPage<T>>> fetcher, Object firstCursor, int prefetch) {
+        this(fetcher, firstCursor, prefetch, null);
+    }
+
+    /**
+     * @param fetcher 根据页码或游标异步获取一页数据的函数
+     * @param firstCursor 第一页的页码或游标
+     * @param prefetch 预先获取的页数
+     * @param nextCursor 根据页码推算下一页页码的函数，不为 {@code null} 时预取的页面并发获取
+     */
+    public ForestPageIterator(Function<Object, CompletableFuture<ForestPage<T>>> fetcher, Object firstCursor, int prefetch,
+                              Function<Object, Object> nextCursor) {
+        this.fetcher = fetcher;
+        this.cursor = firstCursor;
+        this.prefetch = Math.max(prefetch, 1);
+        this.nextCursor = nextCursor;
+        this.deadline = ForestDeadline.current();
+    }
+
+    private CompletableFuture<ForestPage<T>> request(Object pageCursor) {
+        if (closed) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            // 游标依赖上一页时在上一页的完成回调中发起获取，该线程没有绑定调用方的截止时间
+            return ForestDeadline.call(deadline, () -> fetcher.apply(pageCursor));
+        } catch (Throwable th) {
+            CompletableFuture<ForestPage<T>> future = new CompletableFuture<>();
+            future.completeExceptionally(th);
+            return future;
+        }
+    }
+
+    private static boolean isEnd(ForestPage<?> page) {
+        return page == null || page.getItems() == null || page.getItems().isEmpty();
+    }
+
+    /**
+     * 发起获取，直到获取中的页面达到指定个数
+     * @param count 页面个数
+     */
+    private void fill(int count) {
+        while (pending.size() < count) {
+            CompletableFuture<ForestPage<T>> future;
+            if (lastRequested == null || nextCursor != null) {
+                future = request(cursor);
+            } else {
+                future = lastRequested.thenCompose(page -> isEnd(page) || page.isLast() ?
+                        CompletableFuture.completedFuture(null) : request(page.getNextCursor()));
+            }
+            if (nextCursor != null) {
+                cursor = nextCursor.apply(cursor);
+            }
+            pending.add(future);
+            lastRequested = future;
+        }
+    }
+
+    private ForestPage<T> take() {
+        CompletableFuture<ForestPage<T>> future = pending.poll();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new ForestRuntimeException(e);
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof ForestRuntimeException) {
+                throw (ForestRuntimeException) cause;
+            }
+            throw new ForestRuntimeException(cause);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (finished) {
+                return false;
+            }
+            // 取走当前页面后，后面还有 prefetch 个页面在获取中
+            fill(prefetch + 1);
+            ForestPage<T> page = take();
+            if (isEnd(page)) {
+                close();
+                return false;
+            }
+            current = page.getItems().iterator();
+            if (page.isLast()) {
+                finished = true;
+                cancelPending();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 转换为 {@link Stream}，关闭 Stream 时丢弃还在获取中的页面
+     * @return {@link Stream} 对象
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    private void cancelPending() {
+        for (CompletableFuture<ForestPage<T>> future : pending) {
+            future.cancel(false);
+        }
+        pending.clear();
+    }
+
+    /**
+     * 停止获取页面，丢弃已经获取和还在获取中的页面
+     */
+    @Override
+    public void close() {
+        closed = true;
+        finished = true;
+        current = Collections.emptyIterator();
+        cancelPending();
+    }
+}
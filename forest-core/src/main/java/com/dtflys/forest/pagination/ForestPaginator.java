@@ -0,0 +1,196 @@
+package com.dtflys.forest.pagination;
+
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.converter.json.ForestJsonPath;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.reflection.ForestMethod;
+import com.dtflys.forest.utils.ReflectUtils;
+import com.dtflys.forest.utils.StringUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * 自动翻页
+ * <p>用页码或游标反复调用获取单页数据的方法，把所有页面的数据合并为一个 {@link ForestPageIterator}</p>
+ *
+ * @since 2026-10-19 02:43
+ */
+public class ForestPaginator {
+
+    private final ForestMethod method;
+
+    private final Method pageJavaMethod;
+
+    private final int pageParameter;
+
+    private final Class pageParameterType;
+
+    private final Class resultClass;
+
+    private final Type itemType;
+
+    private volatile ForestMethod pageMethod;
+
+    private ForestJsonPath itemsPath;
+
+    private ForestJsonPath cursorPath;
+
+    private int prefetch = 1;
+
+    /**
+     * @param method 自动翻页的方法，返回类型为 {@link Iterator}、{@link ForestPageIterator} 或 {@link Stream}
+     * @param pageMethodName 同一接口中获取单页数据的方法名称
+     * @param pageParameter 页码或游标参数的下标
+     */
+    public ForestPaginator(ForestMethod method, String pageMethodName, int pageParameter) {
+        Method javaMethod = method.getMethod();
+        this.method = method;
+        this.resultClass = javaMethod.getReturnType();
+        if (!Iterator.class.equals(resultClass) && !ForestPageIterator.class.equals(resultClass)
+                && !Stream.class.equals(resultClass)) {
+            throw new ForestRuntimeException("[Forest] paginated method \"" + javaMethod.getName()
+                    + "\" must return Iterator, ForestPageIterator or Stream");
+        }
+        Class[] paramTypes = javaMethod.getParameterTypes();
+        if (pageParameter < 0 || pageParameter >= paramTypes.length) {
+            throw new ForestRuntimeException("[Forest] paginated method \"" + javaMethod.getName()
+                    + "\" has no parameter at index " + pageParameter);
+        }
+        this.pageParameter = pageParameter;
+        this.pageParameterType = paramTypes[pageParameter];
+        this.pageJavaMethod = findPageMethod(javaMethod.getDeclaringClass(), pageMethodName, paramTypes);
+        Type returnType = javaMethod.getGenericReturnType();
+        this.itemType = returnType instanceof ParameterizedType ?
+                ((ParameterizedType) returnType).getActualTypeArguments()[0] : Object.class;
+    }
+
+    private static Method findPageMethod(Class interfaceClass, String name, Class[] paramTypes) {
+        for (Method method : interfaceClass.getDeclaredMethods()) {
+            if (method.getName().equals(name) && Arrays.equals(method.getParameterTypes(), paramTypes)) {
+                return method;
+            }
+        }
+        throw new ForestRuntimeException("[Forest] can not find page method \"" + name + "\" with parameters "
+                + Arrays.toString(paramTypes) + " in " + interfaceClass.getName());
+    }
+
+    public ForestPaginator setItemsPath(String itemsPath) {
+        this.itemsPath = StringUtils.isEmpty(itemsPath) ? null : ForestJsonPath.compile(itemsPath);
+        return this;
+    }
+
+    public ForestPaginator setCursorPath(String cursorPath) {
+        this.cursorPath = StringUtils.isEmpty(cursorPath) ? null : ForestJsonPath.compile(cursorPath);
+        if (this.cursorPath == null && !isPageNumberType(pageParameterType)) {
+            throw new ForestRuntimeException("[Forest] page parameter of paginated method \"" + method.getMethodName()
+                    + "\" must be int or long when cursorPath is not set");
+        }
+        return this;
+    }
+
+    public ForestPaginator setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    private static boolean isPageNumberType(Class type) {
+        return int.class.equals(type) || Integer.class.equals(type)
+                || long.class.equals(type) || Long.class.equals(type);
+    }
+
+    /**
+     * 代替自动翻页方法的调用
+     * @param args 调用参数，页码或游标参数为第一页的值
+     * @return {@link ForestPageIterator} 或 {@link Stream}
+     */
+    public Object invoke(Object[] args) {
+        Object firstCursor = args[pageParameter];
+        if (cursorPath == null && firstCursor == null) {
+            throw new ForestRuntimeException("[Forest] first page number of paginated method \""
+                    + method.getMethodName() + "\" can not be null");
+        }
+        // 按页码翻页时下一页的页码可以直接推算，预取的页面并发获取
+        ForestPageIterator<Object> iterator = new ForestPageIterator<>(
+                cursor -> fetch(args, cursor), firstCursor, prefetch,
+                cursorPath == null ? ForestPaginator::nextPageNumber : null);
+        if (Stream.class.equals(resultClass)) {
+            return iterator.stream();
+        }
+        return iterator;
+    }
+
+    private CompletableFuture<ForestPage<Object>> fetch(Object[] args, Object cursor) {
+        Object[] pageArgs = args.clone();
+        pageArgs[pageParameter] = cursor;
+        return getPageMethod().invokeAsync(pageArgs, null).thenApply(result -> toPage(result, cursor));
+    }
+
+    private ForestPage<Object> toPage(Object result, Object cursor) {
+        Object root = result;
+        if ((itemsPath != null || cursorPath != null) && !(result instanceof Map) && !(result instanceof List)
+                && result != null) {
+            ForestJsonConverter converter = getJsonConverter();
+            root = converter.convertToJavaObject(converter.encodeToString(result), Object.class);
+        }
+        Object items = itemsPath == null ? root : itemsPath.getValue(root);
+        List<Object> list = toList(items);
+        if (cursorPath == null) {
+            return new ForestPage<>(list, nextPageNumber(cursor), false);
+        }
+        Object next = cursorPath.getValue(root);
+        boolean last = next == null || StringUtils.isEmpty(String.valueOf(next));
+        return new ForestPage<>(list, next, last);
+    }
+
+    private static Object nextPageNumber(Object cursor) {
+        return cursor instanceof Long ? (Object) ((Long) cursor + 1) : (Object) (((Number) cursor).intValue() + 1);
+    }
+
+    private List<Object> toList(Object items) {
+        List<Object> list = new ArrayList<>();
+        if (items instanceof Collection) {
+            for (Object item : (Collection) items) {
+                list.add(convert(item));
+            }
+        } else if (items != null && items.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(items); i++) {
+                list.add(convert(Array.get(items, i)));
+            }
+        } else if (items != null) {
+            throw new ForestRuntimeException("[Forest] items of page method \"" + pageJavaMethod.getName()
+                    + "\" must be a collection or an array, but got " + items.getClass().getName());
+        }
+        return list;
+    }
+
+    private Object convert(Object item) {
+        Class itemClass = ReflectUtils.getClassByType(itemType);
+        if (item == null || Object.class.equals(itemClass) || itemClass.isInstance(item)) {
+            return item;
+        }
+        ForestJsonConverter converter = getJsonConverter();
+        return converter.convertToJavaObject(converter.encodeToString(item), itemType);
+    }
+
+    private ForestMethod getPageMethod() {
+        if (pageMethod == null) {
+            pageMethod = (ForestMethod) method.getInterfaceProxyHandler().getForestMethodMap().get(pageJavaMethod);
+        }
+        return pageMethod;
+    }
+
+    private ForestJsonConverter getJsonConverter() {
+        return method.getConfiguration().getJsonConverter();
+    }
+}
@@ -0,0 +1,179 @@
+package com.dtflys.forest.pool;
+
+import com.dtflys.forest.backend.ConnectionUtilization;
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.backend.HttpConnectionOptions;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.priority.ForestPriorityDispatcher;
+import com.dtflys.forest.utils.StringUtils;
+
+/**
+ * 独立的连接池分组 (bulkhead)
+ * <p>属于同一分组的接口使用单独的后端对象，连接池和异步请求的并发上限都与其它接口隔离，
+ * 一个响应慢的服务只能占满自己分组的连接，不会影响共享默认连接池的接口</p>
+ * <p>后端对象在第一次发送请求时创建，类型与全局后端相同，除连接数和并发数以外的参数都使用全局配置</p>
+ *
+ * @since 2026-10-19 03:45
+ */
+public class ForestConnectionPool {
+
+    /**
+     * 共享的默认连接池的名称
+     */
+    public final static String DEFAULT_NAME = "default";
+
+    private final String name;
+
+    private Integer maxConnections;
+
+    private Integer maxRouteConnections;
+
+    private Integer maxRequests;
+
+    private Integer maxRequestsPerHost;
+
+    private volatile HttpBackend backend;
+
+    private volatile ForestPriorityDispatcher priorityDispatcher;
+
+    public ForestConnectionPool(String name) {
+        if (StringUtils.isEmpty(name) || DEFAULT_NAME.equals(name)) {
+            throw new ForestRuntimeException("[Forest] invalid connection pool name \"" + name + "\"");
+        }
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    public ForestConnectionPool setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    public Integer getMaxRouteConnections() {
+        return maxRouteConnections;
+    }
+
+    public ForestConnectionPool setMaxRouteConnections(Integer maxRouteConnections) {
+        this.maxRouteConnections = maxRouteConnections;
+        return this;
+    }
+
+    public Integer getMaxRequests() {
+        return maxRequests;
+    }
+
+    public ForestConnectionPool setMaxRequests(Integer maxRequests) {
+        this.maxRequests = maxRequests;
+        return this;
+    }
+
+    public Integer getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public ForestConnectionPool setMaxRequestsPerHost(Integer maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    /**
+     * 获取分组的后端对象，第一次调用时创建
+     * @param configuration 全局配置
+     * @return {@link HttpBackend} 对象
+     */
+    public HttpBackend getBackend(ForestConfiguration configuration) {
+        if (backend == null) {
+            synchronized (this) {
+                if (backend == null) {
+                    HttpBackend created;
+                    try {
+                        created = configuration.getBackend().getClass().newInstance();
+                    } catch (InstantiationException | IllegalAccessException e) {
+                        throw new ForestRuntimeException(e);
+                    }
+                    created.init(configuration, new HttpConnectionOptions(configuration, this));
+                    backend = created;
+                }
+            }
+        }
+        return backend;
+    }
+
+    /**
+     * 全局后端改变后，关闭并丢弃已经创建的后端对象，下次发送请求时按新的后端类型重新创建
+     */
+    public void resetBackend() {
+        HttpBackend previous;
+        synchronized (this) {
+            previous = backend;
+            backend = null;
+        }
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * 获取分组的优先级调度器，同时进行的异步请求数上限与分组的 maxRequests 一致
+     * @param configuration 全局配置
+     * @return {@link ForestPriorityDispatcher} 对象，未启用优先级调度时返回 {@code null}
+     */
+    public ForestPriorityDispatcher getPriorityDispatcher(ForestConfiguration configuration) {
+        if (!configuration.isPriorityDispatch()) {
+            return null;
+        }
+        if (priorityDispatcher == null) {
+            synchronized (this) {
+                if (priorityDispatcher == null) {
+                    int maxRequests = new HttpConnectionOptions(configuration, this).getMaxRequests();
+                    priorityDispatcher = new ForestPriorityDispatcher(maxRequests, configuration.getPriorityAgingInterval(),
+                            configuration.getPriorityQueueCapacity(), configuration.getPriorityRejectPolicy());
+                }
+            }
+        }
+        return priorityDispatcher;
+    }
+
+    /**
+     * 优先级调度的配置改变后，关闭并丢弃已经创建的调度器
+     */
+    public void resetPriorityDispatcher() {
+        ForestPriorityDispatcher previous;
+        synchronized (this) {
+            previous = priorityDispatcher;
+            priorityDispatcher = null;
+        }
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * 获取分组连接池的使用情况
+     * @return 使用情况快照，后端对象还未创建或者不支持时返回 {@code null}
+     */
+    public ConnectionUtilization getUtilization() {
+        HttpBackend current = backend;
+        if (current == null || current.getConnectionManager() == null) {
+            return null;
+        }
+        return current.getConnectionManager().getUtilization();
+    }
+
+    @Override
+    public String toString() {
+        return "{name: " + name +
+                ", maxConnections: " + maxConnections +
+                ", maxRouteConnections: " + maxRouteConnections +
+                ", maxRequests: " + maxRequests +
+                ", maxRequestsPerHost: " + maxRequestsPerHost + "}";
+    }
+}
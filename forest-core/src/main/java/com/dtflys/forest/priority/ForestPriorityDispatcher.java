@@ -0,0 +1,345 @@
+package com.dtflys.forest.priority;
+
+import com.dtflys.forest.exceptions.ForestPriorityRejectedException;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.interceptor.Interceptor;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 异步请求的优先级调度器
+ * <p>限制同时进行的异步请求数，超出的请求在Forest中排队，而不是进入后端按先进先出处理的队列，
+ * 有空位时优先发送优先级高的请求。上限取 maxRequests，与后端的并发上限一致，所以后端的队列不会积压</p>
+ * <p>为了避免低优先级的请求一直得不到发送，排队时间每增加一个老化间隔，优先级就提高1。
+ * 这等价于按 {@code 入队时间 - 优先级 x 老化间隔} 排序，所以可以直接使用优先队列</p>
+ * <p>请求结束的回调释放位置后，由调度线程发送队列中的下一个请求。异步请求发送后立即返回，调度线程不等待响应，
+ * 所以一个调度线程就够用，空闲时自动退出。队列的长度有上限，队列已满时按 {@link PriorityRejectPolicy} 拒绝请求</p>
+ * <p>配置改变后旧的调度器被关闭，不再接受新的请求，已经排队的请求仍然按顺序发送，队列清空后调度线程结束</p>
+ *
+ * @since 2026-10-19 03:36
+ */
+public class ForestPriorityDispatcher {
+
+    private final int maxRequests;
+
+    private final long agingInterval;
+
+    private final int queueCapacity;
+
+    private final PriorityRejectPolicy rejectPolicy;
+
+    private final PriorityQueue<Ticket> queue = new PriorityQueue<>();
+
+    private final Map<Integer, PriorityQueueStats> stats = new ConcurrentHashMap<>();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * 发送排队请求的调度线程
+     */
+    private final ThreadPoolExecutor worker;
+
+    private int running = 0;
+
+    private long sequence = 0;
+
+    private boolean shutdown = false;
+
+    /**
+     * @param maxRequests 同时进行的最大异步请求数
+     * @param agingInterval 排队的请求提高一个优先级所需的时间 (毫秒)
+     */
+    public ForestPriorityDispatcher(int maxRequests, long agingInterval) {
+        this(maxRequests, agingInterval, Integer.MAX_VALUE, PriorityRejectPolicy.ABORT);
+    }
+
+    /**
+     * @param maxRequests 同时进行的最大异步请求数
+     * @param agingInterval 排队的请求提高一个优先级所需的时间 (毫秒)
+     * @param queueCapacity 最多排队的请求数
+     * @param rejectPolicy 队列已满时的处理方式
+     */
+    public ForestPriorityDispatcher(int maxRequests, long agingInterval,
+                                    int queueCapacity, PriorityRejectPolicy rejectPolicy) {
+        if (maxRequests <= 0) {
+            throw new ForestRuntimeException("[Forest] max requests of priority dispatcher must be positive, but got " + maxRequests);
+        }
+        if (queueCapacity < 0) {
+            throw new ForestRuntimeException("[Forest] queue capacity of priority dispatcher can not be negative, but got " + queueCapacity);
+        }
+        this.maxRequests = maxRequests;
+        this.agingInterval = TimeUnit.MILLISECONDS.toNanos(Math.max(agingInterval, 1));
+        this.queueCapacity = queueCapacity;
+        this.rejectPolicy = rejectPolicy == null ? PriorityRejectPolicy.ABORT : rejectPolicy;
+        this.worker = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "forest-priority-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.worker.allowCoreThreadTimeOut(true);
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public long getAgingInterval() {
+        return TimeUnit.NANOSECONDS.toMillis(agingInterval);
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public PriorityRejectPolicy getRejectPolicy() {
+        return rejectPolicy;
+    }
+
+    public synchronized int getRunningCount() {
+        return running;
+    }
+
+    public synchronized int getQueuedCount() {
+        return queue.size();
+    }
+
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * 获取被拒绝的请求数，包括被挤出队列的请求
+     * @return 请求数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * 获取每个优先级的排队统计
+     * @return 优先级到 {@link PriorityQueueStats} 的映射
+     */
+    public Map<Integer, PriorityQueueStats> getQueueStats() {
+        return stats;
+    }
+
+    /**
+     * 调度一个异步请求
+     * <p>有空位时在当前线程发送，否则进入队列，轮到时在调度线程中发送。请求的结果通过生命周期回调获得</p>
+     * <p>被拒绝的请求 (包括之后被挤出队列的请求和调度器关闭后的请求) 不会发送，以 {@link ForestPriorityRejectedException} 调用 reject 函数</p>
+     * @param request Forest请求对象
+     * @param send 发送请求的函数
+     * @param reject 请求被拒绝时的处理函数
+     */
+    public void dispatch(ForestRequest request, Runnable send, Consumer<ForestRuntimeException> reject) {
+        Ticket ticket = new Ticket(request.getPriority(), send, reject);
+        request.addInterceptor(new ReleaseInterceptor(ticket));
+        boolean queued = false;
+        Ticket rejected = null;
+        String message = null;
+        synchronized (this) {
+            if (shutdown) {
+                rejected = ticket;
+                message = "[Forest] priority dispatcher has been shut down, request with priority " + ticket.priority + " was rejected";
+            } else if (running < maxRequests) {
+                running++;
+            } else {
+                ticket.enqueueTime = System.nanoTime();
+                ticket.order = ticket.enqueueTime - ticket.priority * agingInterval;
+                ticket.sequence = sequence++;
+                if (queue.size() < queueCapacity) {
+                    queue.add(ticket);
+                    queued = true;
+                } else {
+                    Ticket lowest = rejectPolicy == PriorityRejectPolicy.DISCARD_LOWEST ? findLowest() : null;
+                    if (lowest != null && ticket.compareTo(lowest) < 0) {
+                        queue.remove(lowest);
+                        queue.add(ticket);
+                        queued = true;
+                        rejected = lowest;
+                        message = "[Forest] request with priority " + lowest.priority
+                                + " was discarded from the full priority queue by a request with priority " + ticket.priority;
+                    } else {
+                        rejected = ticket;
+                        message = "[Forest] priority queue is full, request with priority " + ticket.priority + " was rejected";
+                    }
+                }
+            }
+        }
+        if (rejected != null) {
+            reject(rejected, message);
+        }
+        if (!queued && rejected != ticket) {
+            getStats(ticket.priority).record(0);
+            send(ticket);
+        }
+    }
+
+    /**
+     * 队列中排在最后的请求
+     */
+    private Ticket findLowest() {
+        Ticket lowest = null;
+        for (Ticket ticket : queue) {
+            if (lowest == null || ticket.compareTo(lowest) > 0) {
+                lowest = ticket;
+            }
+        }
+        return lowest;
+    }
+
+    private void reject(Ticket ticket, String message) {
+        // 被拒绝的请求没有占用位置，拒绝时的错误回调不能再释放位置
+        ticket.released.set(true);
+        rejectedCount.incrementAndGet();
+        ticket.reject.accept(new ForestPriorityRejectedException(ticket.priority, message));
+    }
+
+    private void send(Ticket ticket) {
+        try {
+            ticket.send.run();
+        } catch (Throwable th) {
+            release(ticket);
+            throw th;
+        }
+        if (!ticket.started) {
+            // 被拦截器取消的请求不会有结束的回调
+            release(ticket);
+        }
+    }
+
+    private void release(Ticket ticket) {
+        if (!ticket.released.compareAndSet(false, true)) {
+            return;
+        }
+        // 空出的位置交给队列中的下一个请求，下一个请求无法交给调度线程时拒绝它，继续尝试之后的请求
+        while (true) {
+            Ticket next;
+            synchronized (this) {
+                next = queue.poll();
+                if (next == null) {
+                    running--;
+                    if (shutdown) {
+                        worker.shutdown();
+                    }
+                    return;
+                }
+            }
+            long waitTime = System.nanoTime() - next.enqueueTime;
+            try {
+                worker.execute(() -> run(next));
+            } catch (Throwable th) {
+                reject(next, "[Forest] failed to dispatch request with priority " + next.priority + ": " + th);
+                continue;
+            }
+            getStats(next.priority).record(waitTime);
+            return;
+        }
+    }
+
+    /**
+     * 关闭调度器
+     * <p>之后调度的请求都被拒绝，已经排队的请求仍然在有空位时发送，队列清空后调度线程结束</p>
+     */
+    public void shutdown() {
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            if (!queue.isEmpty()) {
+                return;
+            }
+        }
+        worker.shutdown();
+    }
+
+    private void run(Ticket ticket) {
+        try {
+            send(ticket);
+        } catch (Throwable ignored) {
+            // 发送时的异常已经通过生命周期回调交给调用方
+        }
+    }
+
+    private PriorityQueueStats getStats(int priority) {
+        return stats.computeIfAbsent(priority, PriorityQueueStats::new);
+    }
+
+    /**
+     * 一个等待发送的请求
+     */
+    private static class Ticket implements Comparable<Ticket> {
+
+        private final int priority;
+
+        private final Runnable send;
+
+        private final Consumer<ForestRuntimeException> reject;
+
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private volatile boolean started = false;
+
+        private long enqueueTime;
+
+        private long order;
+
+        private long sequence;
+
+        private Ticket(int priority, Runnable send, Consumer<ForestRuntimeException> reject) {
+            this.priority = priority;
+            this.send = send;
+            this.reject = reject;
+        }
+
+        @Override
+        public int compareTo(Ticket other) {
+            int result = Long.compare(order, other.order);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * 请求结束时释放位置，发送队列中的下一个请求
+     */
+    private class ReleaseInterceptor implements Interceptor<Object> {
+
+        private final Ticket ticket;
+
+        private ReleaseInterceptor(Ticket ticket) {
+            this.ticket = ticket;
+        }
+
+        @Override
+        public boolean beforeExecute(ForestRequest request) {
+            ticket.started = true;
+            return true;
+        }
+
+        @Override
+        public void onSuccess(Object data, ForestRequest request, ForestResponse response) {
+            release(ticket);
+        }
+
+        @Override
+        public void onError(ForestRuntimeException ex, ForestRequest request, ForestResponse response) {
+            release(ticket);
+        }
+
+        @Override
+        public void afterExecute(ForestRequest request, ForestResponse response) {
+            release(ticket);
+        }
+    }
+}
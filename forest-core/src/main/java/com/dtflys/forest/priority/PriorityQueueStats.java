@@ -0,0 +1,89 @@
+package com.dtflys.forest.priority;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 一个优先级的排队统计
+ *
+ * @since 2026-10-19 03:36
+ */
+public class PriorityQueueStats {
+
+    private final int priority;
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong queuedCount = new AtomicLong();
+
+    private final AtomicLong totalWait = new AtomicLong();
+
+    private final AtomicLong maxWait = new AtomicLong();
+
+    PriorityQueueStats(int priority) {
+        this.priority = priority;
+    }
+
+    void record(long waitNanos) {
+        count.incrementAndGet();
+        if (waitNanos <= 0) {
+            return;
+        }
+        queuedCount.incrementAndGet();
+        totalWait.addAndGet(waitNanos);
+        long max;
+        while ((max = maxWait.get()) < waitNanos && !maxWait.compareAndSet(max, waitNanos)) {
+        }
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * 获取发出的请求数，包括不需要排队的请求
+     * @return 请求数
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * 获取排过队的请求数
+     * @return 请求数
+     */
+    public long getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    /**
+     * 获取总的排队时间
+     * @return 排队时间 (毫秒)
+     */
+    public long getTotalWait() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWait.get());
+    }
+
+    /**
+     * 获取平均排队时间，不需要排队的请求按0计入
+     * @return 排队时间 (毫秒)
+     */
+    public double getAverageWait() {
+        long n = count.get();
+        return n == 0 ? 0 : totalWait.get() / 1000000.0 / n;
+    }
+
+    /**
+     * 获取最长的排队时间
+     * @return 排队时间 (毫秒)
+     */
+    public long getMaxWait() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWait.get());
+    }
+
+    @Override
+    public String toString() {
+        return "PriorityQueueStats{priority=" + priority + ", count=" + count.get() + ", queued=" + queuedCount.get()
+                + ", averageWait=" + getAverageWait() + "ms, maxWait=" + getMaxWait() + "ms}";
+    }
+}
@@ -0,0 +1,19 @@
+package com.dtflys.forest.priority;
+
+/**
+ * 优先级调度的队列已满时的处理方式
+ *
+ * @since 2026-10-19 05:11
+ */
+public enum PriorityRejectPolicy {
+
+    /**
+     * 拒绝新来的请求
+     */
+    ABORT,
+
+    /**
+     * 新来的请求比队列中排在最后的请求优先时，挤出排在最后的请求，否则拒绝新来的请求
+     */
+    DISCARD_LOWEST
+}
@@ -9,6 +9,7 @@ import com.dtflys.forest.config.VariableScope;
 import com.dtflys.forest.interceptor.Interceptor;
 import com.dtflys.forest.interceptor.InterceptorFactory;
 import com.dtflys.forest.lifecycles.BaseAnnotationLifeCycle;
+import com.dtflys.forest.loadbalance.EndpointGroup;
 import com.dtflys.forest.mapping.MappingTemplate;
 import com.dtflys.forest.mapping.MappingVariable;
 import com.dtflys.forest.reflection.ForestMethod;
@@ -45,6 +46,8 @@ public class InterfaceProxyHandler<T> implements InvocationHandler, VariableScop
 
     private String baseURL;
 
+    private EndpointGroup endpointGroup;
+
     private List<Annotation> baseAnnotations = new LinkedList<>();
 
 
@@ -59,6 +62,7 @@ public class InterfaceProxyHandler<T> implements InvocationHandler, VariableScop
         this.interceptorFactory = configuration.getInterceptorFactory();
         prepareBaseInfo();
         initMethods();
+        notifyReady();
     }
 
 
@@ -102,6 +106,16 @@ public class InterfaceProxyHandler<T> implements InvocationHandler, VariableScop
         }
     }
 
+    private void notifyReady() {
+        for (Annotation annotation : baseAnnotations) {
+            BaseLifeCycle baseLifeCycle = annotation.annotationType().getAnnotation(BaseLifeCycle.class);
+            if (baseLifeCycle != null) {
+                BaseAnnotationLifeCycle baseInterceptor = interceptorFactory.getInterceptor(baseLifeCycle.value());
+                baseInterceptor.onProxyHandlerReady(this, annotation);
+            }
+        }
+    }
+
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         String methodName = method.getName();
         if (methodName.equals("toString") && (args == null || args.length == 0)) {
@@ -120,6 +134,26 @@ public class InterfaceProxyHandler<T> implements InvocationHandler, VariableScop
         return forestMethod.invoke(args);
     }
 
+    /**
+     * 负载均衡的端点组，没有配置多个端点时为 {@code null}
+     * @return 端点组
+     */
+    public EndpointGroup getEndpointGroup() {
+        return endpointGroup;
+    }
+
+    public void setEndpointGroup(EndpointGroup endpointGroup) {
+        this.endpointGroup = endpointGroup;
+    }
+
+    public Class<T> getInterfaceClass() {
+        return interfaceClass;
+    }
+
+    public Map<Method, ForestMethod> getForestMethodMap() {
+        return forestMethodMap;
+    }
+
     public MetaRequest getBaseMetaRequest() {
         return baseMetaRequest;
     }
@@ -0,0 +1,138 @@
+package com.dtflys.forest.ratelimit;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 令牌桶限流器
+ * <p>只记录下一个许可的理论发放时刻，获取许可时用一次CAS把它推后一个发放间隔，不需要加锁，也不需要后台线程补充令牌。
+ * 空闲时最多积累 burst 个许可，所以速率为每秒100、burst为10时，空闲后可以立即发出10个请求，之后每10毫秒一个</p>
+ * <p>多个方法使用同一个名称的限流器时共享同一个配额</p>
+ *
+ * @since 2026-10-19 03:00
+ */
+public class ForestRateLimiter {
+
+    private final String name;
+
+    private final double permitsPerSecond;
+
+    private final int burst;
+
+    /**
+     * 发放一个许可的间隔 (纳秒)
+     */
+    private final long interval;
+
+    /**
+     * 下一个许可的理论发放时刻 (纳秒)
+     */
+    private final AtomicLong nextPermitTime;
+
+    private final AtomicLong grantedCount = new AtomicLong();
+
+    private final AtomicLong delayedCount = new AtomicLong();
+
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    /**
+     * @param name 名称
+     * @param permitsPerSecond 每秒发放的许可数
+     * @param burst 空闲时最多积累的许可数
+     */
+    public ForestRateLimiter(String name, double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new ForestRuntimeException("[Forest] permits per second of rate limiter \"" + name
+                    + "\" must be positive, but got " + permitsPerSecond);
+        }
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(burst, 1);
+        this.interval = Math.max((long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond), 1);
+        this.nextPermitTime = new AtomicLong(System.nanoTime());
+    }
+
+    public ForestRateLimiter(String name, double permitsPerSecond) {
+        this(name, permitsPerSecond, 1);
+    }
+
+    /**
+     * 预订一个许可
+     * @param maxWait 最多等待的时间 (纳秒)
+     * @return 需要等待的时间 (纳秒)，为0时可以立即发送，不能在最大等待时间内获得许可时返回 -1 且不占用许可
+     */
+    public long reserve(long maxWait) {
+        long tolerance = (burst - 1) * interval;
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextPermitTime.get();
+            long permitTime = Math.max(next, now);
+            // 最多可以提前 burst - 1 个间隔使用许可，所以空闲后最多有 burst 个许可立即可用
+            long wait = Math.max(permitTime - tolerance - now, 0);
+            if (wait > maxWait) {
+                throttledCount.incrementAndGet();
+                return -1;
+            }
+            if (nextPermitTime.compareAndSet(next, permitTime + interval)) {
+                grantedCount.incrementAndGet();
+                if (wait > 0) {
+                    delayedCount.incrementAndGet();
+                }
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * 尝试立即获得一个许可
+     * @return 获得许可时返回 {@code true}，否则返回 {@code false}
+     */
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * 获取发放的许可数，包括需要等待的许可
+     * @return 许可数
+     */
+    public long getGrantedCount() {
+        return grantedCount.get();
+    }
+
+    /**
+     * 获取需要等待才发放的许可数
+     * @return 许可数
+     */
+    public long getDelayedCount() {
+        return delayedCount.get();
+    }
+
+    /**
+     * 获取被拒绝的请求数
+     * @return 请求数
+     */
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ForestRateLimiter{name=" + name + ", permitsPerSecond=" + permitsPerSecond + ", burst=" + burst
+                + ", granted=" + grantedCount.get() + ", delayed=" + delayedCount.get()
+                + ", throttled=" + throttledCount.get() + "}";
+    }
+}
@@ -0,0 +1,24 @@
+package com.dtflys.forest.ratelimit;
+
+/**
+ * 超过限流速率时的处理方式
+ *
+ * @since 2026-10-19 03:00
+ */
+public enum RateLimitMode {
+
+    /**
+     * 阻塞调用线程直到获得许可，等待时间超过最大等待时间时抛出异常
+     */
+    WAIT,
+
+    /**
+     * 没有可用的许可时立即抛出异常
+     */
+    FAIL_FAST,
+
+    /**
+     * 异步请求不阻塞调用线程，推迟到获得许可的时刻再发送，同步请求按 {@link #WAIT} 处理
+     */
+    DELAY
+}
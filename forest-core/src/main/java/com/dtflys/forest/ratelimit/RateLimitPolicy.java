@@ -0,0 +1,190 @@
+package com.dtflys.forest.ratelimit;
+
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestRateLimitException;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestRequest;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 方法的限流策略
+ * <p>限流器按名称注册在 {@link ForestConfiguration} 中，配置中已经有同名的限流器时使用配置的速率，
+ * 否则按注解的速率创建并注册，所以同名的方法共享同一个配额。按路由限流时每个主机和端口使用单独的限流器，
+ * 名称为 {@code 名称@主机:端口}</p>
+ *
+ * @since 2026-10-19 03:00
+ */
+public class RateLimitPolicy {
+
+    private final static ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "forest-rate-limit-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ForestConfiguration configuration;
+
+    private final String name;
+
+    private final double permitsPerSecond;
+
+    private final int burst;
+
+    private boolean perRoute = false;
+
+    private RateLimitMode mode = RateLimitMode.WAIT;
+
+    private long maxWait = 1000;
+
+    private volatile ForestRateLimiter rateLimiter;
+
+    /**
+     * @param configuration Forest配置
+     * @param name 限流器名称
+     * @param permitsPerSecond 配置中没有该限流器时使用的每秒许可数
+     * @param burst 配置中没有该限流器时使用的最大积累许可数
+     */
+    public RateLimitPolicy(ForestConfiguration configuration, String name, double permitsPerSecond, int burst) {
+        this.configuration = configuration;
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isPerRoute() {
+        return perRoute;
+    }
+
+    public RateLimitPolicy setPerRoute(boolean perRoute) {
+        this.perRoute = perRoute;
+        return this;
+    }
+
+    public RateLimitMode getMode() {
+        return mode;
+    }
+
+    public RateLimitPolicy setMode(RateLimitMode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    public RateLimitPolicy setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+        return this;
+    }
+
+    /**
+     * 获取请求使用的限流器
+     * @param request Forest请求对象
+     * @return {@link ForestRateLimiter} 对象
+     */
+    public ForestRateLimiter getRateLimiter(ForestRequest request) {
+        if (!perRoute) {
+            if (rateLimiter == null) {
+                rateLimiter = getOrCreate(name, permitsPerSecond, burst);
+            }
+            return rateLimiter;
+        }
+        String key = name + "@" + getRoute(request);
+        ForestRateLimiter limiter = configuration.getRateLimiter(key);
+        if (limiter != null) {
+            return limiter;
+        }
+        // 配置了同名的限流器时，作为每个路由的速率
+        ForestRateLimiter template = configuration.getRateLimiter(name);
+        if (template != null) {
+            return getOrCreate(key, template.getPermitsPerSecond(), template.getBurst());
+        }
+        return getOrCreate(key, permitsPerSecond, burst);
+    }
+
+    private ForestRateLimiter getOrCreate(String key, double permitsPerSecond, int burst) {
+        return configuration.getRateLimiters().computeIfAbsent(key,
+                k -> new ForestRateLimiter(k, permitsPerSecond, burst));
+    }
+
+    private static String getRoute(ForestRequest request) {
+        String url = request.getUrl();
+        try {
+            URI uri = new URI(url);
+            if (uri.getHost() != null) {
+                return uri.getPort() > 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost();
+            }
+        } catch (URISyntaxException ignored) {
+        }
+        return url;
+    }
+
+    /**
+     * 为请求获取许可
+     * <p>需要等待时，同步请求在当前线程等待，{@link RateLimitMode#DELAY} 模式的异步请求返回需要推迟的时间</p>
+     * @param request Forest请求对象
+     * @return 需要推迟发送的时间 (纳秒)，为0时可以立即发送
+     * @throws ForestRateLimitException 不能在最大等待时间内获得许可
+     */
+    public long acquire(ForestRequest request) {
+        long wait = reserve(request);
+        if (wait > 0 && mode == RateLimitMode.DELAY && request.isAsync()) {
+            return wait;
+        }
+        sleep(wait);
+        return 0;
+    }
+
+    /**
+     * 为重试的请求获取许可，需要等待时在当前线程等待
+     * <p>重试在后端的回调中进行，退避等待也在同一个线程中，所以 {@link RateLimitMode#DELAY} 模式在这里也按等待处理</p>
+     * @param request Forest请求对象
+     * @throws ForestRateLimitException 不能在最大等待时间内获得许可
+     */
+    public void acquireRetry(ForestRequest request) {
+        sleep(reserve(request));
+    }
+
+    private long reserve(ForestRequest request) {
+        ForestRateLimiter limiter = getRateLimiter(request);
+        long maxWaitNanos = mode == RateLimitMode.FAIL_FAST ? 0 : TimeUnit.MILLISECONDS.toNanos(Math.max(maxWait, 0));
+        long wait = limiter.reserve(maxWaitNanos);
+        if (wait < 0) {
+            throw new ForestRateLimitException(limiter.getName(), "[Forest] rate limit of \"" + limiter.getName()
+                    + "\" exceeded: " + limiter.getPermitsPerSecond() + " permits per second");
+        }
+        return wait;
+    }
+
+    private static void sleep(long wait) {
+        if (wait <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ForestRuntimeException(e);
+        }
+    }
+
+    /**
+     * 推迟发送异步请求
+     * <p>到时间后在定时线程中发送，异步请求发送后立即返回，不会等待响应，结果通过生命周期回调获得</p>
+     * @param delay 推迟的时间 (纳秒)
+     * @param send 发送请求的函数
+     */
+    public void delay(long delay, Runnable send) {
+        SCHEDULER.schedule(send, delay, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dtflys.forest.ratelimit;
+
+import com.dtflys.forest.exceptions.ForestRetryException;
+import com.dtflys.forest.retryer.Retryer;
+
+/**
+ * 限流重试器
+ * <p>由原重试器决定是否重试，允许重试时在退避等待结束后为这次重试获取许可，所以每一次尝试都消耗一个许可。
+ * 不能在最大等待时间内获得许可时不再重试</p>
+ *
+ * @since 2026-10-19 05:08
+ */
+public class RateLimitRetryer implements Retryer {
+
+    private final Retryer retryer;
+
+    private final RateLimitPolicy policy;
+
+    public RateLimitRetryer(Retryer retryer, RateLimitPolicy policy) {
+        this.retryer = retryer;
+        this.policy = policy;
+    }
+
+    public Retryer getRetryer() {
+        return retryer;
+    }
+
+    @Override
+    public void canRetry(ForestRetryException ex) throws Throwable {
+        retryer.canRetry(ex);
+        policy.acquireRetry(ex.getRequest());
+    }
+}
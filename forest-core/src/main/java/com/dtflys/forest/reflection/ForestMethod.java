@@ -6,30 +6,50 @@ import com.dtflys.forest.annotation.ParamLifeCycle;
 import com.dtflys.forest.annotation.RequestAttributes;
 import com.dtflys.forest.callback.OnError;
 import com.dtflys.forest.callback.OnProgress;
+import com.dtflys.forest.callback.OnRecord;
 import com.dtflys.forest.callback.OnSuccess;
+import com.dtflys.forest.collapser.RequestCollapser;
 import com.dtflys.forest.config.ForestConfiguration;
 import com.dtflys.forest.config.VariableScope;
 import com.dtflys.forest.converter.ForestConverter;
 import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.exceptions.ForestDeadlineException;
 import com.dtflys.forest.exceptions.ForestInterceptorDefineException;
+import com.dtflys.forest.exceptions.ForestRateLimitException;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
 import com.dtflys.forest.filter.Filter;
+import com.dtflys.forest.handler.PreparedResultType;
+import com.dtflys.forest.http.ForestDeadline;
+import com.dtflys.forest.http.ForestProtocol;
 import com.dtflys.forest.http.ForestRequest;
 import com.dtflys.forest.http.ForestRequestType;
+import com.dtflys.forest.http.ForestResponse;
 import com.dtflys.forest.interceptor.Interceptor;
 import com.dtflys.forest.interceptor.InterceptorAttributes;
 import com.dtflys.forest.interceptor.InterceptorFactory;
 import com.dtflys.forest.lifecycles.BaseAnnotationLifeCycle;
 import com.dtflys.forest.lifecycles.MethodAnnotationLifeCycle;
 import com.dtflys.forest.lifecycles.ParameterAnnotationLifeCycle;
+import com.dtflys.forest.loadbalance.EndpointGroup;
+import com.dtflys.forest.loadbalance.EndpointProvider;
+import com.dtflys.forest.loadbalance.LoadBalanceContext;
+import com.dtflys.forest.loadbalance.LoadBalanceInterceptor;
+import com.dtflys.forest.loadbalance.LoadBalanceRetryer;
 import com.dtflys.forest.mapping.MappingParameter;
 import com.dtflys.forest.mapping.MappingTemplate;
 import com.dtflys.forest.mapping.MappingVariable;
 import com.dtflys.forest.multipart.ForestMultipart;
 import com.dtflys.forest.multipart.ForestMultipartFactory;
+import com.dtflys.forest.pagination.ForestPaginator;
+import com.dtflys.forest.pool.ForestConnectionPool;
+import com.dtflys.forest.priority.ForestPriorityDispatcher;
 import com.dtflys.forest.proxy.InterfaceProxyHandler;
+import com.dtflys.forest.ratelimit.RateLimitPolicy;
+import com.dtflys.forest.ratelimit.RateLimitRetryer;
+import com.dtflys.forest.retryer.DeadlineRetryer;
 import com.dtflys.forest.retryer.Retryer;
 import com.dtflys.forest.ssl.SSLKeyStore;
+import com.dtflys.forest.timeout.AdaptiveTimeoutPolicy;
 import com.dtflys.forest.utils.ForestDataType;
 import com.dtflys.forest.utils.NameUtils;
 import com.dtflys.forest.utils.ReflectUtils;
@@ -42,6 +62,8 @@ import java.lang.reflect.*;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 import static com.dtflys.forest.backend.body.AbstractBodyBuilder.TYPE_MULTIPART_FORM_DATA;
 import static com.dtflys.forest.mapping.MappingParameter.*;
@@ -79,6 +101,17 @@ public class ForestMethod<T> implements VariableScope {
     private MappingTemplate baseUserAgentTemplate;
     private MappingTemplate baseCharsetTemplate;
     private MappingTemplate baseSslProtocolTemplate;
+    private ForestProtocol baseHttpProtocol;
+    private MappingTemplate baseUnixSocketTemplate;
+    private EndpointGroup endpointGroup;
+    private RequestCollapser collapser;
+    private ForestPaginator paginator;
+    private long deadlineTimeout = 0;
+    private String deadlineHeader;
+    private AdaptiveTimeoutPolicy adaptiveTimeout;
+    private RateLimitPolicy rateLimit;
+    private ForestConnectionPool connectionPool;
+    private MappingTemplate[] baseEndpointTemplates;
     private MappingTemplate contentTypeTemplate;
     private MappingTemplate userAgentTemplate;
     private long progressStep = -1;
@@ -91,13 +124,20 @@ public class ForestMethod<T> implements VariableScope {
     private List<ForestMultipartFactory> multipartFactories = new ArrayList<>();
     private Map<String, MappingVariable> variables = new HashMap<>();
     private MappingParameter onSuccessParameter = null;
+    private MappingParameter routingKeyParameter = null;
+    private int priority = 0;
+    private MappingParameter priorityParameter = null;
     private MappingParameter onErrorParameter = null;
     private MappingParameter onProgressParameter = null;
+    private MappingParameter onRecordParameter = null;
     private List<Interceptor> globalInterceptorList;
     private List<Interceptor> baseInterceptorList;
     private List<Interceptor> interceptorList;
     private List<InterceptorAttributes> interceptorAttributesList;
     private Type onSuccessClassGenericType = null;
+    private Type onRecordClassGenericType = null;
+    private PreparedResultType returnResultType = null;
+    private PreparedResultType onSuccessResultType = null;
     private Class retryerClass = null;
     private boolean async = false;
     private boolean logEnable = true;
@@ -116,6 +156,10 @@ public class ForestMethod<T> implements VariableScope {
         return configuration;
     }
 
+    public InterfaceProxyHandler getInterfaceProxyHandler() {
+        return interfaceProxyHandler;
+    }
+
 
     public Object getVariableValue(String name) {
         Object value = configuration.getVariableValue(name);
@@ -162,6 +206,19 @@ public class ForestMethod<T> implements VariableScope {
         if (StringUtils.isNotBlank(baseSslProtocol)) {
             baseSslProtocolTemplate = makeTemplate(baseSslProtocol);
         }
+        baseHttpProtocol = ForestProtocol.findProtocol(baseMetaRequest.getHttpProtocol());
+        String baseUnixSocket = baseMetaRequest.getUnixSocket();
+        if (StringUtils.isNotBlank(baseUnixSocket)) {
+            baseUnixSocketTemplate = makeTemplate(baseUnixSocket);
+        }
+        endpointGroup = interfaceProxyHandler.getEndpointGroup();
+        String[] baseEndpoints = baseMetaRequest.getEndpoints();
+        if (baseEndpoints != null && baseEndpoints.length > 0) {
+            baseEndpointTemplates = new MappingTemplate[baseEndpoints.length];
+            for (int i = 0; i < baseEndpoints.length; i++) {
+                baseEndpointTemplates[i] = makeTemplate(baseEndpoints[i]);
+            }
+        }
         baseTimeout = baseMetaRequest.getTimeout();
         baseRetryerClass = baseMetaRequest.getRetryer();
         baseRetryCount = baseMetaRequest.getRetryCount();
@@ -423,6 +480,10 @@ public class ForestMethod<T> implements VariableScope {
                 onErrorParameter = parameter;
             } else if (OnProgress.class.isAssignableFrom(paramType)) {
                 onProgressParameter = parameter;
+            } else if (OnRecord.class.isAssignableFrom(paramType)) {
+                onRecordParameter = parameter;
+                Type genType = genericParamTypes[i];
+                onRecordClassGenericType = getGenericClassOrType(genType, 0);
             }
             processParameterAnnotation(parameter, anns);
         }
@@ -449,6 +510,96 @@ public class ForestMethod<T> implements VariableScope {
         }
     }
 
+    /**
+     * 设置请求合并器，设置后方法调用由合并器代为执行
+     * @param collapser
+     */
+    public void setCollapser(RequestCollapser collapser) {
+        this.collapser = collapser;
+    }
+
+    /**
+     * 设置自动翻页，设置后方法调用返回逐页获取数据的迭代器
+     * @param paginator
+     */
+    public void setPaginator(ForestPaginator paginator) {
+        this.paginator = paginator;
+    }
+
+    /**
+     * 设置调用的截止时间
+     * @param timeout 包括所有重试在内的总超时时间 (毫秒)，为0时只使用当前线程绑定的截止时间
+     * @param header 向下游传递剩余时间的请求头名称
+     */
+    public void setDeadline(long timeout, String header) {
+        this.deadlineTimeout = timeout;
+        this.deadlineHeader = header;
+    }
+
+    /**
+     * 设置自适应超时策略
+     * @param adaptiveTimeout
+     */
+    public void setAdaptiveTimeout(AdaptiveTimeoutPolicy adaptiveTimeout) {
+        this.adaptiveTimeout = adaptiveTimeout;
+    }
+
+    /**
+     * 获取自适应超时策略，可以通过它获取当前的超时时间和延迟分布
+     * @return {@link AdaptiveTimeoutPolicy} 对象，未设置时为 {@code null}
+     */
+    public AdaptiveTimeoutPolicy getAdaptiveTimeout() {
+        return adaptiveTimeout;
+    }
+
+    /**
+     * 设置限流策略
+     * @param rateLimit
+     */
+    public void setRateLimit(RateLimitPolicy rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public RateLimitPolicy getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * 设置独立的连接池分组
+     * @param connectionPool
+     */
+    public void setConnectionPool(ForestConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    public ForestConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * 设置作为路由键的参数
+     * @param parameter
+     */
+    public void setRoutingKeyParameter(MappingParameter parameter) {
+        this.routingKeyParameter = parameter;
+    }
+
+    /**
+     * 设置异步请求的优先级
+     * @param priority
+     */
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * 设置作为优先级的参数，参数的值优先于方法的优先级
+     * @param parameter
+     */
+    public void setPriorityParameter(MappingParameter parameter) {
+        this.priorityParameter = parameter;
+    }
+
     /**
      * 添加命名参数
      * @param parameter
@@ -533,12 +684,44 @@ public class ForestMethod<T> implements VariableScope {
      * @return
      */
     private ForestRequest makeRequest(Object[] args) {
+        return makeRequest(args, null);
+    }
+
+    /**
+     * 创建请求
+     * @param args
+     * @param interceptorMethod 同时应用其拦截器和注解生命周期的方法，可以为 {@code null}
+     * @return
+     */
+    private ForestRequest makeRequest(Object[] args, ForestMethod interceptorMethod) {
         MetaRequest baseMetaRequest = interfaceProxyHandler.getBaseMetaRequest();
         String baseUrl = null;
         if (baseUrlTemplate != null) {
             baseUrl = baseUrlTemplate.render(args);
         }
         String renderedUrl = urlTemplate.render(args);
+        ForestRequest<T> request = new ForestRequest(configuration, args);
+        if (routingKeyParameter != null) {
+            Object routingKey = args[routingKeyParameter.getIndex()];
+            if (routingKey != null) {
+                request.setRoutingKey(String.valueOf(routingKey));
+            }
+        }
+        request.setPriority(priority);
+        request.setConnectionPool(connectionPool);
+        if (priorityParameter != null) {
+            Object priorityValue = args[priorityParameter.getIndex()];
+            if (priorityValue instanceof Number) {
+                request.setPriority(((Number) priorityValue).intValue());
+            }
+        }
+        LoadBalanceContext loadBalanceContext = null;
+        if (endpointGroup != null && !URLUtils.hasProtocol(renderedUrl)) {
+            int queryIndex = renderedUrl.indexOf('?');
+            String path = queryIndex >= 0 ? renderedUrl.substring(0, queryIndex) : renderedUrl;
+            loadBalanceContext = new LoadBalanceContext(endpointGroup, renderEndpoints(args), path);
+            baseUrl = loadBalanceContext.choose(request).getUrl();
+        }
         ForestRequestType type = type(args);
         String baseContentEncoding = null;
         if (baseEncodeTemplate != null) {
@@ -646,15 +829,22 @@ public class ForestMethod<T> implements VariableScope {
         }
 
         // createExecutor and initialize http instance
-        ForestRequest<T> request = new ForestRequest(configuration, args);
         request.setProtocol(protocol)
                 .setUrl(newUrl)
                 .setType(type)
                 .setCharset(charset)
                 .setSslProtocol(sslProtocol)
+                .setHttpProtocol(baseHttpProtocol != null ? baseHttpProtocol : configuration.getHttpProtocol())
                 .setLogEnable(logEnable)
                 .setAsync(async);
 
+        if (baseUnixSocketTemplate != null) {
+            String unixSocket = baseUnixSocketTemplate.render(args);
+            if (StringUtils.isNotBlank(unixSocket)) {
+                request.setUnixSocket(unixSocket);
+            }
+        }
+
         if (StringUtils.isNotEmpty(renderedContentType)) {
             request.setContentType(renderedContentType);
         }
@@ -878,8 +1068,12 @@ public class ForestMethod<T> implements VariableScope {
 
         if (timeout != null) {
             request.setTimeout(timeout);
+            request.setConnectTimeout(timeout);
         } else if (baseTimeout != null) {
             request.setTimeout(baseTimeout);
+            request.setConnectTimeout(baseTimeout);
+        } else if (configuration.getReadTimeout() != null) {
+            request.setTimeout(configuration.getReadTimeout());
         } else if (configuration.getTimeout() != null) {
             request.setTimeout(configuration.getTimeout());
         }
@@ -900,6 +1094,18 @@ public class ForestMethod<T> implements VariableScope {
             request.setMaxRetryInterval(configuration.getMaxRetryInterval());
         }
 
+        ForestDeadline deadline = ForestDeadline.current();
+        if (deadlineTimeout > 0) {
+            deadline = ForestDeadline.earliest(deadline, ForestDeadline.after(deadlineTimeout));
+        }
+        if (deadline != null) {
+            if (deadline.isExpired()) {
+                throw new ForestDeadlineException("[Forest] deadline exceeded before sending request to " + request.getUrl());
+            }
+            request.setDeadlineHeader(deadlineHeader);
+            request.setDeadline(deadline);
+        }
+
         Class globalRetryerClass = configuration.getRetryer();
 
         if (retryerClass != null && Retryer.class.isAssignableFrom(retryerClass)) {
@@ -909,6 +1115,16 @@ public class ForestMethod<T> implements VariableScope {
         } else if (globalRetryerClass != null && Retryer.class.isAssignableFrom(globalRetryerClass)) {
             setRetryerToRequest(globalRetryerClass, request);
         }
+        if (deadline != null && request.getRetryer() != null) {
+            request.setRetryer(new DeadlineRetryer(request.getRetryer()));
+        }
+        if (loadBalanceContext != null && request.getRetryer() != null) {
+            request.setRetryer(new LoadBalanceRetryer(request.getRetryer(), loadBalanceContext));
+        }
+        if (rateLimit != null && request.getRetryer() != null) {
+            // 放在负载均衡之后，按路由限流时为切换后的端点获取许可
+            request.setRetryer(new RateLimitRetryer(request.getRetryer(), rateLimit));
+        }
 
         if (onSuccessParameter != null) {
             OnSuccess<?> onSuccessCallback = (OnSuccess<?>) args[onSuccessParameter.getIndex()];
@@ -922,6 +1138,10 @@ public class ForestMethod<T> implements VariableScope {
             OnProgress onProgressCallback = (OnProgress) args[onProgressParameter.getIndex()];
             request.setOnProgress(onProgressCallback);
         }
+        if (onRecordParameter != null) {
+            OnRecord<?> onRecordCallback = (OnRecord<?>) args[onRecordParameter.getIndex()];
+            request.setOnRecord(onRecordCallback);
+        }
 
         String dataType = dataTypeTemplate.render(args);
         if (StringUtils.isEmpty(dataType)) {
@@ -956,9 +1176,68 @@ public class ForestMethod<T> implements VariableScope {
                 request.addInterceptor(item);
             }
         }
+
+        if (interceptorMethod != null && interceptorMethod != this) {
+            interceptorMethod.addMethodInterceptors(request, args, interceptorList);
+        }
+
+        if (loadBalanceContext != null) {
+            // 放在最后，其它拦截器中止请求时不会计入端点的统计信息
+            request.addInterceptor(new LoadBalanceInterceptor(loadBalanceContext));
+        }
         return request;
     }
 
+    /**
+     * 把本方法上声明的拦截器和注解生命周期加入其它方法的请求，属性模板按该请求的参数渲染
+     * @param request Forest请求对象
+     * @param args 该请求的调用参数
+     * @param excludes 请求所属的方法已经加入的拦截器，不重复加入
+     */
+    private void addMethodInterceptors(ForestRequest request, Object[] args, List<Interceptor> excludes) {
+        if (interceptorAttributesList != null && interceptorAttributesList.size() > 0) {
+            for (InterceptorAttributes attributes : interceptorAttributesList) {
+                if (request.getInterceptorAttributes(attributes.getInterceptorClass()) == null) {
+                    request.addInterceptorAttributes(attributes.getInterceptorClass(), attributes);
+                    attributes.render(args);
+                }
+            }
+        }
+        if (interceptorList != null && interceptorList.size() > 0) {
+            for (Interceptor item : interceptorList) {
+                if (excludes == null || !excludes.contains(item)) {
+                    request.addInterceptor(item);
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取本次请求可用的端点列表，优先从端点提供者获取
+     * @param args 调用方法时传入的参数
+     * @return 端点基础URL列表
+     */
+    private List<String> renderEndpoints(Object[] args) {
+        List<String> urls = null;
+        EndpointProvider endpointProvider = endpointGroup.getEndpointProvider();
+        if (endpointProvider != null) {
+            urls = endpointProvider.getEndpoints();
+            if (urls != null && !urls.isEmpty()) {
+                endpointGroup.retainEndpoints(urls);
+            }
+        }
+        if ((urls == null || urls.isEmpty()) && baseEndpointTemplates != null) {
+            urls = new ArrayList<>(baseEndpointTemplates.length);
+            for (MappingTemplate template : baseEndpointTemplates) {
+                String url = template.render(args);
+                if (StringUtils.isNotBlank(url)) {
+                    urls.add(url.trim());
+                }
+            }
+        }
+        return urls;
+    }
+
 
 
     /**
@@ -1017,14 +1296,194 @@ public class ForestMethod<T> implements VariableScope {
      * @return
      */
     public Object invoke(Object[] args) {
+        if (collapser != null) {
+            return collapser.invoke(args);
+        }
+        if (paginator != null) {
+            return paginator.invoke(args);
+        }
         ForestRequest request = makeRequest(args);
         MethodLifeCycleHandler<T> lifeCycleHandler = new MethodLifeCycleHandler<>(
                 this, onSuccessClassGenericType);
+        return execute(request, lifeCycleHandler, args);
+    }
+
+    /**
+     * 以异步请求的方式调用方法，不阻塞调用线程
+     * <p>请求结束时，返回的Future以转换后的结果数据完成，请求出错或者被拦截器中止时以异常完成。
+     * 拦截器和OnError回调照常执行，但错误不会再从回调线程中抛出</p>
+     * @param args 调用参数
+     * @param interceptorMethod 同时应用其拦截器和注解生命周期的方法，可以为 {@code null}
+     * @return 请求结束时完成的 {@link CompletableFuture}
+     */
+    public CompletableFuture<Object> invokeAsync(Object[] args, ForestMethod interceptorMethod) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        try {
+            ForestRequest request = makeRequest(args, interceptorMethod);
+            request.setAsync(true);
+            FutureLifeCycleHandler lifeCycleHandler = new FutureLifeCycleHandler(future);
+            // 放在最后，用于判断请求是否被其它拦截器中止
+            request.addInterceptor(lifeCycleHandler);
+            execute(request, lifeCycleHandler, args);
+        } catch (Throwable th) {
+            future.completeExceptionally(th);
+        }
+        return future;
+    }
+
+    private Object execute(ForestRequest request, MethodLifeCycleHandler<T> lifeCycleHandler, Object[] args) {
         lifeCycleHandler.handleInvokeMethod(request, this, args);
-        request.execute(configuration.getBackend(), lifeCycleHandler);
+        long delay = 0;
+        if (rateLimit != null) {
+            try {
+                delay = rateLimit.acquire(request);
+            } catch (ForestRateLimitException e) {
+                return reject(request, lifeCycleHandler, e);
+            }
+        }
+        ForestPriorityDispatcher dispatcher = request.isAsync() ? configuration.getPriorityDispatcher(request) : null;
+        if (delay > 0 || dispatcher != null) {
+            // 推迟发送或者排队的请求由生命周期处理器在请求结束时完成Future，不占用等待响应的线程
+            FutureLifeCycleHandler futureHandler = getFutureHandler(request, lifeCycleHandler);
+            Runnable call = () -> send(request, futureHandler);
+            if (dispatcher != null) {
+                Runnable execution = call;
+                call = () -> dispatcher.dispatch(request, execution, e -> futureHandler.handleError(request, null, e));
+            }
+            if (delay > 0) {
+                Runnable delayed = call;
+                rateLimit.delay(delay, () -> {
+                    try {
+                        delayed.run();
+                    } catch (Throwable th) {
+                        futureHandler.future.completeExceptionally(th);
+                    }
+                });
+            } else {
+                call.run();
+            }
+            return toMethodResult(futureHandler.future);
+        }
+        return send(request, lifeCycleHandler);
+    }
+
+    /**
+     * 请求在发送前被拒绝，通过生命周期处理器执行拦截器和 OnError 回调
+     * <p>请求没有发送，回调中的响应对象为 {@code null}。没有 OnError 回调时抛出异常</p>
+     */
+    private Object reject(ForestRequest request, MethodLifeCycleHandler<T> lifeCycleHandler, ForestRuntimeException e) {
+        lifeCycleHandler.handleError(request, null, e);
+        if (lifeCycleHandler instanceof ForestMethod.FutureLifeCycleHandler) {
+            return null;
+        }
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return toMethodResult(future);
+    }
+
+    /**
+     * 获取在请求结束时完成Future的生命周期处理器，不是时创建一个并作为最后一个拦截器加入请求
+     */
+    private FutureLifeCycleHandler getFutureHandler(ForestRequest request, MethodLifeCycleHandler<T> lifeCycleHandler) {
+        if (lifeCycleHandler instanceof ForestMethod.FutureLifeCycleHandler) {
+            return (FutureLifeCycleHandler) lifeCycleHandler;
+        }
+        FutureLifeCycleHandler futureHandler = new FutureLifeCycleHandler(new CompletableFuture<>());
+        request.addInterceptor(futureHandler);
+        return futureHandler;
+    }
+
+    /**
+     * 请求没有在调用线程中发送时的方法返回值
+     * @param future 请求结束时完成的Future
+     * @return 返回类型为 {@link Future} 时返回该Future，否则返回 {@code null}，结果通过回调函数获得
+     */
+    private Object toMethodResult(CompletableFuture<Object> future) {
+        if (Future.class.equals(returnClass) || CompletableFuture.class.equals(returnClass)) {
+            return future;
+        }
+        return null;
+    }
+
+    private Object send(ForestRequest request, MethodLifeCycleHandler<T> lifeCycleHandler) {
+        FutureLifeCycleHandler futureHandler = lifeCycleHandler instanceof ForestMethod.FutureLifeCycleHandler ?
+                (FutureLifeCycleHandler) lifeCycleHandler : null;
+        try {
+            request.execute(configuration.getBackend(request), lifeCycleHandler);
+        } catch (RuntimeException | Error e) {
+            if (futureHandler != null) {
+                futureHandler.future.completeExceptionally(e);
+            }
+            throw e;
+        }
+        if (futureHandler != null && !futureHandler.started) {
+            futureHandler.future.completeExceptionally(new ForestRuntimeException(
+                    "[Forest] request of method \"" + method.getName() + "\" was aborted by interceptor"));
+        }
         return lifeCycleHandler.getResultData();
     }
 
+    /**
+     * 在请求结束时完成Future的生命周期处理器，同时作为最后一个拦截器记录请求是否开始发送
+     */
+    private class FutureLifeCycleHandler extends MethodLifeCycleHandler<T> implements Interceptor<Object> {
+
+        private final CompletableFuture<Object> future;
+
+        private volatile boolean started = false;
+
+        private FutureLifeCycleHandler(CompletableFuture<Object> future) {
+            super(ForestMethod.this, onSuccessClassGenericType);
+            this.future = future;
+        }
+
+        @Override
+        public boolean beforeExecute(ForestRequest request) {
+            started = true;
+            return true;
+        }
+
+        @Override
+        public void onSuccess(Object data, ForestRequest request, ForestResponse response) {
+        }
+
+        @Override
+        public void onError(ForestRuntimeException ex, ForestRequest request, ForestResponse response) {
+        }
+
+        @Override
+        public Object handleSyncWitchException(ForestRequest request, ForestResponse response, Exception ex) {
+            try {
+                Object resultData = super.handleSyncWitchException(request, response, ex);
+                future.complete(resultData);
+                return resultData;
+            } catch (RuntimeException | Error e) {
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public Object handleSuccess(Object resultData, ForestRequest request, ForestResponse response) {
+            resultData = super.handleSuccess(resultData, request, response);
+            future.complete(resultData);
+            return resultData;
+        }
+
+        @Override
+        public void handleError(ForestRequest request, ForestResponse response, Throwable ex) {
+            ForestRuntimeException e = ex instanceof ForestRuntimeException ?
+                    (ForestRuntimeException) ex : new ForestRuntimeException(ex);
+            try {
+                request.getInterceptorChain().onError(e, request, response);
+                if (request.getOnError() != null) {
+                    request.getOnError().onError(e, request, response);
+                }
+            } finally {
+                future.completeExceptionally(e);
+            }
+        }
+    }
 
     /**
      * 获取泛型类型
@@ -1057,5 +1516,31 @@ public class ForestMethod<T> implements VariableScope {
         return type;
     }
 
+    /**
+     * 获取预先解析好的返回类型，每个方法只解析一次
+     * @return {@link PreparedResultType} 对象
+     */
+    public PreparedResultType getReturnResultType() {
+        if (returnResultType == null) {
+            returnResultType = new PreparedResultType(getReturnType(), returnClass);
+        }
+        return returnResultType;
+    }
+
+    /**
+     * 获取预先解析好的OnSuccess回调参数的泛型类型，每个方法只解析一次
+     * @return {@link PreparedResultType} 对象
+     */
+    public PreparedResultType getOnSuccessResultType() {
+        if (onSuccessResultType == null) {
+            onSuccessResultType = new PreparedResultType(onSuccessClassGenericType);
+        }
+        return onSuccessResultType;
+    }
+
+    public Type getOnRecordClassGenericType() {
+        return onRecordClassGenericType;
+    }
+
 
 }
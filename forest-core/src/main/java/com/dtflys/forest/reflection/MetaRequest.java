@@ -40,6 +40,21 @@ public class MetaRequest {
      */
     private String sslProtocol;
 
+    /**
+     * HTTP protocol: http/1.1, h2, h2c
+     */
+    private String httpProtocol;
+
+    /**
+     * path of the unix domain socket
+     */
+    private String unixSocket;
+
+    /**
+     * base urls of the load balanced endpoints
+     */
+    private String[] endpoints;
+
     /**
      * Class of retryer
      * @return
@@ -150,6 +165,30 @@ public class MetaRequest {
         this.timeout = timeout;
     }
 
+    public String getHttpProtocol() {
+        return httpProtocol;
+    }
+
+    public void setHttpProtocol(String httpProtocol) {
+        this.httpProtocol = httpProtocol;
+    }
+
+    public String getUnixSocket() {
+        return unixSocket;
+    }
+
+    public void setUnixSocket(String unixSocket) {
+        this.unixSocket = unixSocket;
+    }
+
+    public String[] getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(String[] endpoints) {
+        this.endpoints = endpoints;
+    }
+
     public String getSslProtocol() {
         return sslProtocol;
     }
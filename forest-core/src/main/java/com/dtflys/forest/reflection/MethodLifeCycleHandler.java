@@ -6,12 +6,12 @@ import com.dtflys.forest.exceptions.ForestNetworkException;
 import com.dtflys.forest.exceptions.ForestRetryException;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
 import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.handler.PreparedResultType;
 import com.dtflys.forest.handler.ResultHandler;
 import com.dtflys.forest.http.ForestRequest;
 import com.dtflys.forest.http.ForestResponse;
 import com.dtflys.forest.retryer.Retryer;
 import com.dtflys.forest.utils.ForestProgress;
-import com.dtflys.forest.utils.ReflectUtils;
 
 import java.lang.reflect.Type;
 
@@ -28,6 +28,10 @@ public class MethodLifeCycleHandler<T> implements LifeCycleHandler {
 
     private final Type onSuccessClassGenericType;
 
+    private final PreparedResultType returnResultType;
+
+    private final PreparedResultType onSuccessResultType;
+
     private static final ResultHandler resultHandler = new ResultHandler();
 
     private volatile T resultData;
@@ -36,6 +40,8 @@ public class MethodLifeCycleHandler<T> implements LifeCycleHandler {
         this.onSuccessClassGenericType = onSuccessClassGenericType;
         this.returnType = method.getReturnType();
         this.returnClass = method.getReturnClass();
+        this.returnResultType = method.getReturnResultType();
+        this.onSuccessResultType = method.getOnSuccessResultType();
     }
 
     @Override
@@ -78,7 +84,15 @@ public class MethodLifeCycleHandler<T> implements LifeCycleHandler {
 
     @Override
     public synchronized Object handleResultType(ForestRequest request, ForestResponse response, Type resultType, Class resultClass) {
-        Object resultData = resultHandler.getResult(request, response, resultType, resultClass);
+        PreparedResultType preparedType;
+        if (resultType == returnType) {
+            preparedType = returnResultType;
+        } else if (resultType == onSuccessClassGenericType) {
+            preparedType = onSuccessResultType;
+        } else {
+            preparedType = new PreparedResultType(resultType, resultClass);
+        }
+        Object resultData = resultHandler.getResult(request, response, preparedType);
         if (!(resultData instanceof ForestResponse)) {
             response.setResult(resultData);
         }
@@ -93,7 +107,7 @@ public class MethodLifeCycleHandler<T> implements LifeCycleHandler {
         request.getInterceptorChain().onSuccess(resultData, request, response);
         OnSuccess onSuccess = request.getOnSuccess();
         if (onSuccess != null) {
-            resultData = resultHandler.getResult(request, response, onSuccessClassGenericType, ReflectUtils.getClassByType(onSuccessClassGenericType));
+            resultData = resultHandler.getResult(request, response, onSuccessResultType);
             onSuccess.onSuccess(resultData, request, response);
         }
         resultData = response.getResult();
@@ -1,6 +1,7 @@
 package com.dtflys.forest.retryer;
 
 import com.dtflys.forest.exceptions.ForestRetryException;
+import com.dtflys.forest.http.ForestDeadline;
 import com.dtflys.forest.http.ForestRequest;
 
 /**
@@ -37,6 +38,14 @@ public class BackOffRetryer implements Retryer {
         if (interval > maxRetryInterval) {
             interval = maxRetryInterval;
         }
+        ForestDeadline deadline = request.getDeadline();
+        if (deadline != null && interval >= deadline.remaining()) {
+            // 等待结束时已超过截止时间，不再重试
+            if (currentCount == 0) {
+                throw ex.getCause();
+            }
+            throw ex;
+        }
         if (interval > 0) {
             try {
                 Thread.sleep(interval);
@@ -0,0 +1,43 @@
+package com.dtflys.forest.retryer;
+
+import com.dtflys.forest.exceptions.ForestRetryException;
+import com.dtflys.forest.http.ForestDeadline;
+import com.dtflys.forest.http.ForestRequest;
+
+/**
+ * 截止时间重试器
+ * <p>截止时间已过时不再重试，否则由原重试器决定，重试前将传递给下游的剩余时间请求头更新为当前的剩余时间</p>
+ *
+ * @since 2026-10-19 02:49
+ */
+public class DeadlineRetryer implements Retryer {
+
+    private final Retryer retryer;
+
+    public DeadlineRetryer(Retryer retryer) {
+        this.retryer = retryer;
+    }
+
+    public Retryer getRetryer() {
+        return retryer;
+    }
+
+    @Override
+    public void canRetry(ForestRetryException ex) throws Throwable {
+        ForestRequest request = ex.getRequest();
+        ForestDeadline deadline = request.getDeadline();
+        checkDeadline(ex, deadline);
+        retryer.canRetry(ex);
+        checkDeadline(ex, deadline);
+        request.updateDeadlineHeader();
+    }
+
+    private static void checkDeadline(ForestRetryException ex, ForestDeadline deadline) throws Throwable {
+        if (deadline != null && deadline.isExpired()) {
+            if (ex.getCurrentRetryCount() == 0) {
+                throw ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package com.dtflys.forest.socket;
+
+import com.dtflys.forest.exceptions.ForestUnsupportException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * 基于 Unix domain socket 的 {@link Socket}
+ * <p>连接时忽略传入的TCP地址，改为连接指定路径的 Unix domain socket，HTTP客户端可以像使用普通 {@link Socket} 一样使用它。
+ * 底层使用 JDK 16+ 的 {@code SocketChannel.open(StandardProtocolFamily.UNIX)} 和 {@code UnixDomainSocketAddress}，
+ * 通过反射调用，在更低版本的JDK上运行时 {@link #isSupported()} 返回 {@code false}</p>
+ * <p>通道工作在非阻塞模式，读取时通过 {@link Selector} 等待数据，以支持 {@link #setSoTimeout(int)} 设置的读取超时</p>
+ *
+ * @since 2026-10-19 02:14
+ */
+public class UnixDomainSocket extends Socket {
+
+    private final static ProtocolFamily UNIX_FAMILY;
+
+    private final static Method OPEN_METHOD;
+
+    private final static Method ADDRESS_OF_METHOD;
+
+    static {
+        ProtocolFamily family = null;
+        Method openMethod = null;
+        Method addressOfMethod = null;
+        try {
+            family = StandardProtocolFamily.valueOf("UNIX");
+            openMethod = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+            addressOfMethod = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", String.class);
+        } catch (Throwable th) {
+            family = null;
+        }
+        UNIX_FAMILY = family;
+        OPEN_METHOD = openMethod;
+        ADDRESS_OF_METHOD = addressOfMethod;
+    }
+
+    private final String path;
+
+    private final Object readLock = new Object();
+
+    private final Object writeLock = new Object();
+
+    private volatile SocketChannel channel;
+
+    private Selector readSelector;
+
+    private Selector writeSelector;
+
+    private volatile int soTimeout = 0;
+
+    private volatile boolean closed = false;
+
+    private boolean inputShutdown = false;
+
+    private boolean outputShutdown = false;
+
+    private final InputStream inputStream = new InputStream() {
+        @Override
+        public int read() throws IOException {
+            byte[] bytes = new byte[1];
+            int count = read(bytes, 0, 1);
+            return count == -1 ? -1 : bytes[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            return readChannel(ByteBuffer.wrap(b, off, len));
+        }
+
+        @Override
+        public void close() throws IOException {
+            UnixDomainSocket.this.close();
+        }
+    };
+
+    private final OutputStream outputStream = new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writeChannel(ByteBuffer.wrap(b, off, len));
+        }
+
+        @Override
+        public void close() throws IOException {
+            UnixDomainSocket.this.close();
+        }
+    };
+
+    /**
+     * @param path Unix domain socket 的文件路径
+     */
+    public UnixDomainSocket(String path) {
+        this.path = path;
+    }
+
+    /**
+     * 当前JDK是否支持 Unix domain socket (JDK 16+)
+     * @return {@code true} 支持
+     */
+    public static boolean isSupported() {
+        return UNIX_FAMILY != null;
+    }
+
+    /**
+     * 检查当前JDK是否支持 Unix domain socket，不支持时抛出异常
+     * @param path Unix domain socket 的文件路径
+     */
+    public static void checkSupported(String path) {
+        if (!isSupported()) {
+            throw new ForestUnsupportException("Unix domain socket \"" + path + "\" requires JDK 16+, current JDK is "
+                    + System.getProperty("java.version"));
+        }
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public void connect(SocketAddress endpoint) throws IOException {
+        connect(endpoint, 0);
+    }
+
+    @Override
+    public void connect(SocketAddress endpoint, int timeout) throws IOException {
+        checkSupported(path);
+        if (closed) {
+            throw new SocketException("Socket is closed");
+        }
+        if (channel != null) {
+            throw new SocketException("already connected");
+        }
+        SocketChannel socketChannel = (SocketChannel) invoke(OPEN_METHOD, UNIX_FAMILY);
+        try {
+            // 本地连接立即完成，无需等待连接超时
+            socketChannel.connect((SocketAddress) invoke(ADDRESS_OF_METHOD, path));
+            socketChannel.configureBlocking(false);
+            readSelector = Selector.open();
+            writeSelector = Selector.open();
+            socketChannel.register(readSelector, SelectionKey.OP_READ);
+            socketChannel.register(writeSelector, SelectionKey.OP_WRITE);
+        } catch (IOException e) {
+            socketChannel.close();
+            closeSelectors();
+            throw e;
+        }
+        channel = socketChannel;
+    }
+
+    private static Object invoke(Method method, Object arg) throws IOException {
+        try {
+            return method.invoke(null, arg);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new SocketException("Socket closed");
+        }
+        if (channel == null) {
+            throw new SocketException("Socket is not connected");
+        }
+    }
+
+    private int readChannel(ByteBuffer buffer) throws IOException {
+        synchronized (readLock) {
+            ensureOpen();
+            if (inputShutdown) {
+                return -1;
+            }
+            int timeout = soTimeout;
+            long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+            try {
+                while (true) {
+                    int count = channel.read(buffer);
+                    if (count != 0) {
+                        return count;
+                    }
+                    long wait = 0;
+                    if (timeout > 0) {
+                        wait = deadline - System.currentTimeMillis();
+                        if (wait <= 0) {
+                            throw new SocketTimeoutException("Read timed out");
+                        }
+                    }
+                    readSelector.select(wait);
+                    readSelector.selectedKeys().clear();
+                    ensureOpen();
+                }
+            } catch (ClosedSelectorException e) {
+                throw new SocketException("Socket closed");
+            }
+        }
+    }
+
+    private void writeChannel(ByteBuffer buffer) throws IOException {
+        synchronized (writeLock) {
+            ensureOpen();
+            if (outputShutdown) {
+                throw new SocketException("Socket output is shutdown");
+            }
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.write(buffer) == 0) {
+                        writeSelector.select();
+                        writeSelector.selectedKeys().clear();
+                        ensureOpen();
+                    }
+                }
+            } catch (ClosedSelectorException e) {
+                throw new SocketException("Socket closed");
+            }
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        ensureOpen();
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        ensureOpen();
+        return outputStream;
+    }
+
+    private void closeSelectors() {
+        for (Selector selector : new Selector[] {readSelector, writeSelector}) {
+            if (selector != null) {
+                try {
+                    selector.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * 关闭连接，正在等待读写的线程会立即抛出异常
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        SocketChannel socketChannel = channel;
+        try {
+            if (socketChannel != null) {
+                socketChannel.close();
+            }
+        } finally {
+            closeSelectors();
+        }
+    }
+
+    @Override
+    public void shutdownInput() throws IOException {
+        ensureOpen();
+        channel.shutdownInput();
+        inputShutdown = true;
+    }
+
+    @Override
+    public void shutdownOutput() throws IOException {
+        ensureOpen();
+        channel.shutdownOutput();
+        outputShutdown = true;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return channel != null;
+    }
+
+    @Override
+    public boolean isBound() {
+        return channel != null;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public boolean isInputShutdown() {
+        return inputShutdown;
+    }
+
+    @Override
+    public boolean isOutputShutdown() {
+        return outputShutdown;
+    }
+
+    @Override
+    public SocketAddress getRemoteSocketAddress() {
+        return null;
+    }
+
+    @Override
+    public SocketAddress getLocalSocketAddress() {
+        return null;
+    }
+
+    @Override
+    public void setSoTimeout(int timeout) throws SocketException {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout can't be negative");
+        }
+        this.soTimeout = timeout;
+    }
+
+    @Override
+    public int getSoTimeout() {
+        return soTimeout;
+    }
+
+    // 以下TCP选项对 Unix domain socket 没有意义，忽略设置
+
+    @Override
+    public void setTcpNoDelay(boolean on) {
+    }
+
+    @Override
+    public boolean getTcpNoDelay() {
+        return true;
+    }
+
+    @Override
+    public void setKeepAlive(boolean on) {
+    }
+
+    @Override
+    public boolean getKeepAlive() {
+        return false;
+    }
+
+    @Override
+    public void setReuseAddress(boolean on) {
+    }
+
+    @Override
+    public void setSoLinger(boolean on, int linger) {
+    }
+
+    @Override
+    public int getSoLinger() {
+        return -1;
+    }
+
+    @Override
+    public void setSendBufferSize(int size) {
+    }
+
+    @Override
+    public void setReceiveBufferSize(int size) {
+    }
+
+    @Override
+    public String toString() {
+        return "UnixDomainSocket[path=" + path + "]";
+    }
+}
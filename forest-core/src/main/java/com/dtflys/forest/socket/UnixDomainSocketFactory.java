@@ -0,0 +1,68 @@
+package com.dtflys.forest.socket;
+
+import javax.net.SocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * 创建 {@link UnixDomainSocket} 的工厂
+ * <p>HTTP客户端以工厂对象区分连接池中的连接，所以路径相同的工厂视为相等</p>
+ *
+ * @since 2026-10-19 02:14
+ */
+public class UnixDomainSocketFactory extends SocketFactory {
+
+    private final String path;
+
+    public UnixDomainSocketFactory(String path) {
+        UnixDomainSocket.checkSupported(path);
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public Socket createSocket() {
+        return new UnixDomainSocket(path);
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+        Socket socket = createSocket();
+        socket.connect(InetSocketAddress.createUnresolved(host, port));
+        return socket;
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+        return createSocket(host, port);
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+        Socket socket = createSocket();
+        socket.connect(new InetSocketAddress(host, port));
+        return socket;
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+        return createSocket(address, port);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return path.equals(((UnixDomainSocketFactory) o).path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+}
@@ -5,6 +5,7 @@ import org.apache.http.conn.ssl.SSLContexts;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
 import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.utils.StringUtils;
 
 import javax.net.ssl.*;
 import java.security.*;
@@ -98,6 +99,21 @@ public class SSLUtils {
 
 
 
+    /**
+     * 根据请求的SSL协议获取创建SSL上下文使用的协议名
+     * @param protocol 请求的SSL协议，如 TLSv1.2, SSLv3
+     * @return SSL 或 TLS，未指定协议时为 TLS
+     */
+    public static String getSSLContextProtocol(String protocol) {
+        if (StringUtils.isBlank(protocol)) {
+            return "TLS";
+        }
+        if (protocol.startsWith("SSL") || protocol.startsWith("ssl")) {
+            return "SSL";
+        }
+        return "TLS";
+    }
+
     /**
      * 获取SSL上下文
      * @param request
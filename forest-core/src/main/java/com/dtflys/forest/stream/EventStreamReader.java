@@ -0,0 +1,103 @@
+package com.dtflys.forest.stream;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * text/event-stream 解析器
+ * <p>按照 Server-Sent Events 规范逐行解析，遇到空行时派发一条事件</p>
+ *
+ * @since 2026-10-19 00:33
+ */
+public class EventStreamReader implements Closeable {
+
+    private final BufferedReader reader;
+
+    private String lastEventId;
+
+    public EventStreamReader(BufferedReader reader, String lastEventId) {
+        this.reader = reader;
+        this.lastEventId = lastEventId;
+    }
+
+    /**
+     * 读取下一条事件
+     * @return 事件对象，读到流末尾时返回 {@code null}
+     * @throws IOException 读取失败
+     */
+    public ForestServerSentEvent readEvent() throws IOException {
+        StringBuilder data = null;
+        String event = null;
+        Long retry = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (data == null) {
+                    // 没有data字段的事件不派发，只重置事件类型
+                    event = null;
+                    continue;
+                }
+                ForestServerSentEvent sse = new ForestServerSentEvent();
+                sse.setId(lastEventId);
+                sse.setEvent(event);
+                sse.setData(data.toString());
+                sse.setRetry(retry);
+                return sse;
+            }
+            if (line.charAt(0) == ':') {
+                // 注释行，通常为心跳
+                continue;
+            }
+            String field;
+            String value;
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                field = line;
+                value = "";
+            } else {
+                field = line.substring(0, colon);
+                value = line.substring(colon + 1);
+                if (value.startsWith(" ")) {
+                    value = value.substring(1);
+                }
+            }
+            switch (field) {
+                case "data":
+                    if (data == null) {
+                        data = new StringBuilder(value);
+                    } else {
+                        data.append('\n').append(value);
+                    }
+                    break;
+                case "event":
+                    event = value;
+                    break;
+                case "id":
+                    if (value.indexOf('\0') < 0) {
+                        lastEventId = value;
+                    }
+                    break;
+                case "retry":
+                    try {
+                        retry = Long.parseLong(value);
+                    } catch (NumberFormatException ignored) {
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        // 流结束时未以空行结尾的事件不完整，按规范丢弃
+        return null;
+    }
+
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,311 @@
+package com.dtflys.forest.stream;
+
+import com.dtflys.forest.converter.ForestConverter;
+import com.dtflys.forest.converter.xml.ForestStaxConverter;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.utils.ReflectUtils;
+import com.dtflys.forest.utils.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 流式响应的记录流
+ * <p>从响应的输入流中逐条读取 NDJSON 行、Server-Sent Events 事件或XML元素，并解码为记录对象。
+ * 读到流末尾或连接中断时，若配置了重连器，会带上 Last-Event-ID 重新发起请求并继续读取。</p>
+ * <p>使用完毕后必须调用 {@link #close()} 释放连接</p>
+ *
+ * @since 2026-10-19 00:33
+ */
+public class ForestRecordStream<T> implements Iterator<T>, Iterable<T>, Closeable {
+
+    private static Logger log = LoggerFactory.getLogger(ForestRecordStream.class);
+
+    private final StreamFormat format;
+
+    private final Type recordType;
+
+    private final ForestConverter converter;
+
+    private final String elementName;
+
+    private StreamReconnector reconnector;
+
+    private int maxReconnects = -1;
+
+    private long reconnectInterval = 3000;
+
+    private int reconnectCount = 0;
+
+    private ForestResponse response;
+
+    private BufferedReader reader;
+
+    private EventStreamReader eventReader;
+
+    private XmlElementReader xmlReader;
+
+    private String lastEventId;
+
+    private T nextRecord;
+
+    private volatile boolean closed = false;
+
+    public ForestRecordStream(ForestResponse response, StreamFormat format, Type recordType, ForestConverter converter) {
+        this(response, format, recordType, converter, null);
+    }
+
+    /**
+     * @param response 响应对象
+     * @param format 记录格式
+     * @param recordType 记录类型
+     * @param converter 记录解码器，XML格式时必须为 {@link ForestStaxConverter}
+     * @param elementName XML格式时要逐个读取的元素名，为空时读取整个文档
+     */
+    public ForestRecordStream(ForestResponse response, StreamFormat format, Type recordType, ForestConverter converter, String elementName) {
+        this.format = format;
+        this.recordType = recordType;
+        this.converter = converter;
+        this.elementName = elementName;
+        if (format == StreamFormat.XML && !(converter instanceof ForestStaxConverter)) {
+            throw new ForestRuntimeException("[Forest] XML record stream requires a ForestStaxConverter");
+        }
+        open(response);
+    }
+
+    public ForestRecordStream<T> setReconnector(StreamReconnector reconnector) {
+        this.reconnector = reconnector;
+        return this;
+    }
+
+    public ForestRecordStream<T> setMaxReconnects(int maxReconnects) {
+        this.maxReconnects = maxReconnects;
+        return this;
+    }
+
+    public ForestRecordStream<T> setReconnectInterval(long reconnectInterval) {
+        this.reconnectInterval = reconnectInterval;
+        return this;
+    }
+
+    public StreamFormat getFormat() {
+        return format;
+    }
+
+    public Type getRecordType() {
+        return recordType;
+    }
+
+    public ForestResponse getResponse() {
+        return response;
+    }
+
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    public int getReconnectCount() {
+        return reconnectCount;
+    }
+
+    private void open(ForestResponse response) {
+        this.response = response;
+        InputStream in;
+        try {
+            in = response.getInputStream();
+        } catch (Exception e) {
+            throw new ForestRuntimeException(e);
+        }
+        if (format == StreamFormat.XML) {
+            this.xmlReader = new XmlElementReader(in, response.getContentEncoding(), elementName, (ForestStaxConverter) converter);
+            return;
+        }
+        this.reader = new BufferedReader(new InputStreamReader(in, getCharset(response)));
+        if (format == StreamFormat.EVENT_STREAM) {
+            this.eventReader = new EventStreamReader(reader, lastEventId);
+        }
+    }
+
+    private static Charset getCharset(ForestResponse response) {
+        String charset = response.getContentEncoding();
+        if (StringUtils.isNotEmpty(charset)) {
+            try {
+                if (Charset.isSupported(charset)) {
+                    return Charset.forName(charset);
+                }
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return Charset.forName("UTF-8");
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRecord != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        nextRecord = readNext();
+        return nextRecord != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T record = nextRecord;
+        nextRecord = null;
+        return record;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this;
+    }
+
+    /**
+     * 转换为 {@link Stream}，关闭 Stream 时会同时关闭记录流
+     * @return {@link Stream} 对象
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(
+                this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    private T readNext() {
+        while (true) {
+            IOException error = null;
+            try {
+                T record = readRecord();
+                if (record != null) {
+                    reconnectCount = 0;
+                    return record;
+                }
+            } catch (IOException e) {
+                error = e;
+            }
+            if (closed) {
+                return null;
+            }
+            if (!canReconnect()) {
+                close();
+                if (error != null) {
+                    throw new ForestRuntimeException(error);
+                }
+                return null;
+            }
+            reconnect();
+        }
+    }
+
+    private T readRecord() throws IOException {
+        if (format == StreamFormat.XML) {
+            return (T) xmlReader.readElement(ReflectUtils.getClassByType(recordType));
+        }
+        if (format == StreamFormat.EVENT_STREAM) {
+            ForestServerSentEvent event = eventReader.readEvent();
+            lastEventId = eventReader.getLastEventId();
+            if (event == null) {
+                return null;
+            }
+            if (event.getRetry() != null) {
+                reconnectInterval = event.getRetry();
+            }
+            if (ForestServerSentEvent.class.equals(recordType)) {
+                return (T) event;
+            }
+            return decode(event.getData());
+        }
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (StringUtils.isNotBlank(line)) {
+                return decode(line);
+            }
+        }
+        return null;
+    }
+
+    private T decode(String data) {
+        if (String.class.equals(recordType) || CharSequence.class.equals(recordType)) {
+            return (T) data;
+        }
+        return (T) converter.convertToJavaObject(data, recordType);
+    }
+
+    private boolean canReconnect() {
+        if (reconnector == null) {
+            return false;
+        }
+        return maxReconnects < 0 || reconnectCount < maxReconnects;
+    }
+
+    private void reconnect() {
+        closeReader();
+        while (!closed) {
+            reconnectCount++;
+            if (reconnectInterval > 0) {
+                try {
+                    Thread.sleep(reconnectInterval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    return;
+                }
+            }
+            log.info("[Forest] Reconnect stream (" + reconnectCount + "), Last-Event-ID: " + lastEventId);
+            try {
+                ForestResponse newResponse = reconnector.reconnect(lastEventId);
+                if (newResponse == null) {
+                    close();
+                } else {
+                    open(newResponse);
+                }
+                return;
+            } catch (ForestRuntimeException e) {
+                if (!canReconnect()) {
+                    close();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void closeReader() {
+        try {
+            if (xmlReader != null) {
+                xmlReader.close();
+            }
+            if (reader != null) {
+                reader.close();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        closeReader();
+    }
+}
@@ -0,0 +1,54 @@
+package com.dtflys.forest.stream;
+
+/**
+ * Server-Sent Events 中的一条事件
+ *
+ * @since 2026-10-19 00:33
+ */
+public class ForestServerSentEvent {
+
+    private String id;
+
+    private String event;
+
+    private String data;
+
+    private Long retry;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public void setEvent(String event) {
+        this.event = event;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public void setData(String data) {
+        this.data = data;
+    }
+
+    public Long getRetry() {
+        return retry;
+    }
+
+    public void setRetry(Long retry) {
+        this.retry = retry;
+    }
+
+    @Override
+    public String toString() {
+        return "ForestServerSentEvent{id=" + id + ", event=" + event + ", data=" + data + ", retry=" + retry + "}";
+    }
+}
@@ -0,0 +1,75 @@
+package com.dtflys.forest.stream;
+
+import com.dtflys.forest.backend.ContentType;
+import com.dtflys.forest.utils.StringUtils;
+
+/**
+ * 流式响应的记录格式
+ *
+ * @since 2026-10-19 00:33
+ */
+public enum StreamFormat {
+
+    /**
+     * 按行分隔的JSON (application/x-ndjson)
+     */
+    NDJSON("ndjson"),
+
+    /**
+     * Server-Sent Events (text/event-stream)
+     */
+    EVENT_STREAM("sse"),
+
+    /**
+     * XML文档中重复出现的元素 (application/xml, text/xml)
+     */
+    XML("xml");
+
+    private final String name;
+
+    StreamFormat(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 根据格式名称查找记录格式
+     * @param name 格式名称，如 ndjson、sse
+     * @return 记录格式，找不到时返回 {@code null}
+     */
+    public static StreamFormat findFormat(String name) {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        for (StreamFormat format : StreamFormat.values()) {
+            if (format.name.equalsIgnoreCase(name) || format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 根据响应的Content-Type查找记录格式
+     * @param contentType 响应的Content-Type
+     * @return 记录格式，无法识别时返回 {@code null}
+     */
+    public static StreamFormat findFormat(ContentType contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        if (contentType.isEventStream()) {
+            return EVENT_STREAM;
+        }
+        if (contentType.isNdjson()) {
+            return NDJSON;
+        }
+        if (contentType.isXml()) {
+            return XML;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dtflys.forest.stream;
+
+import com.dtflys.forest.http.ForestResponse;
+
+/**
+ * 流式响应断开后的重连器
+ *
+ * @since 2026-10-19 00:33
+ */
+public interface StreamReconnector {
+
+    /**
+     * 重新发起请求
+     * @param lastEventId 最后收到的事件ID，没有时为 {@code null}
+     * @return 新的响应对象，返回 {@code null} 表示服务端要求不再重连
+     */
+    ForestResponse reconnect(String lastEventId);
+}
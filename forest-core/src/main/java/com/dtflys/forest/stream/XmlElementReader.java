@@ -0,0 +1,88 @@
+package com.dtflys.forest.stream;
+
+import com.dtflys.forest.converter.xml.ForestStaxConverter;
+import com.dtflys.forest.utils.StringUtils;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 从XML流中逐个读取指定名称的元素
+ * <p>元素名为空时只读取文档的根元素</p>
+ *
+ * @since 2026-10-19 00:44
+ */
+public class XmlElementReader implements Closeable {
+
+    private final InputStream in;
+
+    private final XMLStreamReader reader;
+
+    private final String elementName;
+
+    private final ForestStaxConverter converter;
+
+    private boolean rootRead = false;
+
+    public XmlElementReader(InputStream in, String encoding, String elementName, ForestStaxConverter converter) {
+        this.in = in;
+        this.elementName = elementName;
+        this.converter = converter;
+        this.reader = converter.createXMLStreamReader(in, encoding);
+    }
+
+    /**
+     * 读取下一个元素并绑定为Java对象
+     * @param targetType 目标类型
+     * @return 转换后的对象，没有更多元素时返回 {@code null}
+     * @throws IOException 读取失败
+     */
+    public <T> T readElement(Class<T> targetType) throws IOException {
+        try {
+            if (StringUtils.isEmpty(elementName)) {
+                if (rootRead) {
+                    return null;
+                }
+                rootRead = true;
+                if (!moveToStartElement()) {
+                    return null;
+                }
+                return converter.readElement(reader, targetType);
+            }
+            while (moveToStartElement()) {
+                if (elementName.equals(reader.getLocalName())) {
+                    return converter.readElement(reader, targetType);
+                }
+                reader.next();
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private boolean moveToStartElement() throws XMLStreamException {
+        int event = reader.getEventType();
+        while (event != XMLStreamConstants.START_ELEMENT) {
+            if (event == XMLStreamConstants.END_DOCUMENT || !reader.hasNext()) {
+                return false;
+            }
+            event = reader.next();
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+        } finally {
+            in.close();
+        }
+    }
+}
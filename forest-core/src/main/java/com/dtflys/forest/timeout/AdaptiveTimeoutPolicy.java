@@ -0,0 +1,131 @@
+package com.dtflys.forest.timeout;
+
+/**
+ * 自适应超时策略
+ * <p>根据方法最近的延迟分布计算超时时间：指定百分位的延迟乘以系数，并限制在最小值和最大值之间。
+ * 样本数不足时不调整，使用配置的超时时间。超时时间默认每秒最多重新计算一次，其余时间直接使用上次的结果</p>
+ *
+ * @since 2026-10-19 02:54
+ */
+public class AdaptiveTimeoutPolicy {
+
+    private final LatencyHistogram histogram;
+
+    private double percentile = 99.9;
+
+    private double factor = 2.0;
+
+    private int minTimeout = 100;
+
+    private int maxTimeout = 60000;
+
+    private long minSamples = 100;
+
+    /**
+     * 重新计算超时时间的最小间隔 (毫秒)
+     */
+    private long computeInterval = 1000;
+
+    private volatile int currentTimeout = -1;
+
+    private volatile long lastComputeTime = 0;
+
+    /**
+     * @param windowMillis 统计延迟的滚动窗口长度 (毫秒)
+     */
+    public AdaptiveTimeoutPolicy(long windowMillis) {
+        this.histogram = new LatencyHistogram(windowMillis);
+    }
+
+    public AdaptiveTimeoutPolicy setPercentile(double percentile) {
+        this.percentile = percentile;
+        return this;
+    }
+
+    public AdaptiveTimeoutPolicy setFactor(double factor) {
+        this.factor = factor;
+        return this;
+    }
+
+    public AdaptiveTimeoutPolicy setMinTimeout(int minTimeout) {
+        this.minTimeout = minTimeout;
+        return this;
+    }
+
+    public AdaptiveTimeoutPolicy setMaxTimeout(int maxTimeout) {
+        this.maxTimeout = maxTimeout;
+        return this;
+    }
+
+    public AdaptiveTimeoutPolicy setMinSamples(long minSamples) {
+        this.minSamples = minSamples;
+        return this;
+    }
+
+    public AdaptiveTimeoutPolicy setComputeInterval(long computeInterval) {
+        this.computeInterval = computeInterval;
+        return this;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public double getFactor() {
+        return factor;
+    }
+
+    public int getMinTimeout() {
+        return minTimeout;
+    }
+
+    public int getMaxTimeout() {
+        return maxTimeout;
+    }
+
+    public long getMinSamples() {
+        return minSamples;
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * 记录一次调用的延迟
+     * @param latency 延迟 (毫秒)
+     */
+    public void record(long latency) {
+        histogram.record(latency);
+    }
+
+    /**
+     * 计算超时时间
+     * @return 超时时间 (毫秒)，样本数不足时返回 -1
+     */
+    public int computeTimeout() {
+        long now = System.currentTimeMillis();
+        if (now - lastComputeTime < computeInterval) {
+            return currentTimeout;
+        }
+        if (histogram.getCount() < minSamples) {
+            currentTimeout = -1;
+            return -1;
+        }
+        lastComputeTime = now;
+        long latency = histogram.getPercentile(percentile);
+        long timeout = (long) Math.ceil(latency * factor);
+        timeout = Math.max(timeout, minTimeout);
+        timeout = Math.min(timeout, maxTimeout);
+        currentTimeout = (int) timeout;
+        return currentTimeout;
+    }
+
+    /**
+     * 获取最近一次计算出的超时时间，可用于监控
+     * @return 超时时间 (毫秒)，还未调整过时返回 -1
+     */
+    public int getCurrentTimeout() {
+        return currentTimeout;
+    }
+}
@@ -0,0 +1,51 @@
+package com.dtflys.forest.timeout;
+
+import com.dtflys.forest.exceptions.ForestRetryException;
+import com.dtflys.forest.retryer.Retryer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 自适应超时重试器
+ * <p>每次请求失败时先记入这一次尝试的延迟，再由原重试器决定是否重试，
+ * 允许重试时在退避等待结束后重新开始计时，所以记入的延迟不包括重试前的等待时间</p>
+ *
+ * @since 2026-10-19 05:02
+ */
+public class AdaptiveTimeoutRetryer implements Retryer {
+
+    private final Retryer retryer;
+
+    private final AdaptiveTimeoutPolicy policy;
+
+    /**
+     * 当前尝试的开始时间，0 表示已经记入
+     */
+    private final AtomicLong attemptStartTime = new AtomicLong(System.currentTimeMillis());
+
+    public AdaptiveTimeoutRetryer(Retryer retryer, AdaptiveTimeoutPolicy policy) {
+        this.retryer = retryer;
+        this.policy = policy;
+    }
+
+    public Retryer getRetryer() {
+        return retryer;
+    }
+
+    @Override
+    public void canRetry(ForestRetryException ex) throws Throwable {
+        recordAttempt();
+        retryer.canRetry(ex);
+        attemptStartTime.set(System.currentTimeMillis());
+    }
+
+    /**
+     * 记入当前尝试的延迟，同一次尝试只记入一次
+     */
+    public void recordAttempt() {
+        long startTime = attemptStartTime.getAndSet(0);
+        if (startTime > 0) {
+            policy.record(System.currentTimeMillis() - startTime);
+        }
+    }
+}
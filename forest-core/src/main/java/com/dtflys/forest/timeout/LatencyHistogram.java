@@ -0,0 +1,136 @@
+package com.dtflys.forest.timeout;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 滚动时间窗口内的延迟直方图
+ * <p>小于16毫秒的延迟每毫秒一个桶，更大的延迟在每个2的幂区间内再分为16个桶，相对误差约6%，
+ * 记录和查询都不需要加锁。统计范围为当前窗口和上一个窗口，窗口到期后丢弃更早的数据</p>
+ *
+ * @since 2026-10-19 02:54
+ */
+public class LatencyHistogram {
+
+    private final static int SUB_BUCKET_BITS = 4;
+
+    private final static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 最大记录 2^31 毫秒，更大的值记入最后一个桶
+     */
+    private final static int MAX_EXPONENT = 30;
+
+    private final static int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long windowMillis;
+
+    private volatile AtomicLongArray current = new AtomicLongArray(BUCKET_COUNT);
+
+    private volatile AtomicLongArray previous = new AtomicLongArray(BUCKET_COUNT);
+
+    private volatile long windowStart = System.currentTimeMillis();
+
+    /**
+     * @param windowMillis 窗口长度 (毫秒)
+     */
+    public LatencyHistogram(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int sub = (int) (value >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * 获取桶内的最大值
+     * @param index 桶的下标
+     * @return 延迟 (毫秒)
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private void rotate() {
+        long now = System.currentTimeMillis();
+        if (now - windowStart < windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - windowStart;
+            if (elapsed < windowMillis) {
+                return;
+            }
+            // 超过两个窗口没有数据时，上一个窗口的数据也已过期
+            previous = elapsed < windowMillis * 2 ? current : new AtomicLongArray(BUCKET_COUNT);
+            current = new AtomicLongArray(BUCKET_COUNT);
+            windowStart = now;
+        }
+    }
+
+    /**
+     * 记录一次延迟
+     * @param latency 延迟 (毫秒)
+     */
+    public void record(long latency) {
+        rotate();
+        current.incrementAndGet(bucketIndex(latency));
+    }
+
+    /**
+     * 获取窗口内的样本数
+     * @return 样本数
+     */
+    public long getCount() {
+        rotate();
+        AtomicLongArray cur = current;
+        AtomicLongArray prev = previous;
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += cur.get(i) + prev.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * 获取窗口内延迟的百分位数
+     * @param percentile 百分位，如 99.9
+     * @return 延迟 (毫秒)，没有样本时返回 -1
+     */
+    public long getPercentile(double percentile) {
+        rotate();
+        AtomicLongArray cur = current;
+        AtomicLongArray prev = previous;
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = cur.get(i) + prev.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100.0);
+        rank = Math.max(rank, 1);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(BUCKET_COUNT - 1);
+    }
+}
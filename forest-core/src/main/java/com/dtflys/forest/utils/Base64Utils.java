@@ -1,9 +1,6 @@
 package com.dtflys.forest.utils;
 
-import sun.misc.BASE64Decoder;
-import sun.misc.BASE64Encoder;
-
-import java.io.IOException;
+import java.util.Base64;
 
 
 /**
@@ -15,29 +12,25 @@ import java.io.IOException;
 public class Base64Utils {
 
 	public static String simpleEncode(byte[] data) {
-		return new BASE64Encoder().encode(data);
+		return Base64.getEncoder().encodeToString(data);
 	}
 
 	public static byte[] simpleDecode(String str) {
 		try {
-			return new BASE64Decoder().decodeBuffer(str);
-		} catch (IOException e) {
+			return Base64.getMimeDecoder().decode(str);
+		} catch (IllegalArgumentException e) {
 			e.printStackTrace();
 			return null;
 		}
 	}
 
     public static String encode(String str){
-    	return new BASE64Encoder().encode(str.getBytes());
+    	return Base64.getEncoder().encodeToString(str.getBytes());
     }
 
     public static String decode(String str){
-    	try {
-			return new String(new BASE64Decoder().decodeBuffer(str));
-		} catch (IOException e) {
-			e.printStackTrace();
-			return null;
-		}
+    	byte[] bytes = simpleDecode(str);
+    	return bytes != null ? new String(bytes) : null;
     }
 
 }
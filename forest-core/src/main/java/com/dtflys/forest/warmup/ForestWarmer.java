@@ -0,0 +1,164 @@
+package com.dtflys.forest.warmup;
+
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestRequestType;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.reflection.ForestMethod;
+import com.dtflys.forest.reflection.NoneLifeCycleHandler;
+import com.dtflys.forest.retryer.BackOffRetryer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 连接预热器
+ * <p>解析基础URL的主机地址，并发发送 HEAD 请求使连接池中建立指定数量的连接，
+ * 再依次调用预热方法</p>
+ *
+ * @since 2026-10-19 00:52
+ */
+public class ForestWarmer implements Runnable {
+
+    private static Logger log = LoggerFactory.getLogger(ForestWarmer.class);
+
+    private final ForestConfiguration configuration;
+
+    private final WarmUpReport report;
+
+    private final List<ForestMethod> methods;
+
+    private final int iterations;
+
+    private final int timeout;
+
+    public ForestWarmer(ForestConfiguration configuration, WarmUpReport report,
+                        List<ForestMethod> methods, int iterations, int timeout) {
+        this.configuration = configuration;
+        this.report = report;
+        this.methods = methods;
+        this.iterations = iterations;
+        this.timeout = timeout;
+    }
+
+    public WarmUpReport getReport() {
+        return report;
+    }
+
+    @Override
+    public void run() {
+        report.start();
+        try {
+            if (report.getUrl() != null) {
+                warmUpConnections();
+            }
+            warmUpMethods();
+        } catch (Throwable th) {
+            report.addError(th.toString());
+        } finally {
+            report.finish();
+            log.info("[Forest] Warm up finished: " + report);
+        }
+    }
+
+    private void warmUpConnections() throws Exception {
+        URL url = new URL(report.getUrl());
+        for (InetAddress address : InetAddress.getAllByName(url.getHost())) {
+            report.addAddress(address.getHostAddress());
+        }
+        int connections = report.getConnections();
+        if (connections <= 0) {
+            return;
+        }
+        // 同时发送请求才能让每个请求占用一个独立的连接
+        ExecutorService executor = Executors.newFixedThreadPool(connections, runnable -> {
+            Thread thread = new Thread(runnable, "forest-warm-up-connection");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Callable<Object>> tasks = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                tasks.add(() -> {
+                    openConnection(url);
+                    return null;
+                });
+            }
+            executor.invokeAll(tasks);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void openConnection(URL url) {
+        ForestRequest request = new ForestRequest(configuration);
+        request.setProtocol(url.getProtocol())
+                .setUrl(url.toString())
+                .setType(ForestRequestType.HEAD)
+                .setSslProtocol(configuration.getSslProtocol())
+                .setTimeout(timeout)
+                .setLogEnable(false);
+        request.setRetryer(new BackOffRetryer(request));
+        WarmUpLifeCycleHandler handler = new WarmUpLifeCycleHandler();
+        try {
+            request.execute(configuration.getBackend(), handler);
+        } catch (Throwable th) {
+            handler.exception = th;
+        }
+        // 只要收到响应 (无论状态码)，连接就已经建立并回到连接池
+        if (handler.response != null && handler.response.getStatusCode() > 0) {
+            report.connectionOpened();
+        } else if (handler.exception != null) {
+            report.addError(handler.exception.toString());
+        }
+    }
+
+    private void warmUpMethods() {
+        for (int i = 0; i < iterations; i++) {
+            for (ForestMethod method : methods) {
+                try {
+                    method.invoke(new Object[0]);
+                    report.methodInvoked();
+                } catch (Throwable th) {
+                    report.addError(method.getMethodName() + ": " + th);
+                }
+            }
+        }
+    }
+
+    /**
+     * 预热请求的生命周期处理器，只接收响应，不触发拦截器和回调
+     */
+    private static class WarmUpLifeCycleHandler extends NoneLifeCycleHandler {
+
+        private ForestResponse response;
+
+        private Throwable exception;
+
+        @Override
+        public Object handleSync(ForestRequest request, ForestResponse response) {
+            this.response = response;
+            return response;
+        }
+
+        @Override
+        public Object handleSyncWitchException(ForestRequest request, ForestResponse response, Exception ex) {
+            this.response = response;
+            this.exception = ex;
+            return null;
+        }
+
+        @Override
+        public void handleError(ForestRequest request, ForestResponse response, Throwable ex) {
+            this.response = response;
+            this.exception = ex;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.dtflys.forest.warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 预热就绪状态
+ * <p>汇总同一个配置下所有接口的预热报告，可以在就绪探针 (如Kubernetes readinessProbe) 中
+ * 调用 {@link #isReady()} 判断是否所有预热都已完成</p>
+ *
+ * @since 2026-10-19 00:52
+ */
+public class WarmUpReadiness {
+
+    private final List<WarmUpReport> reports = new CopyOnWriteArrayList<>();
+
+    public void register(WarmUpReport report) {
+        reports.add(report);
+    }
+
+    /**
+     * 所有接口的预热是否都已结束
+     * @return {@code true} 已就绪
+     */
+    public boolean isReady() {
+        for (WarmUpReport report : reports) {
+            if (!report.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 等待所有预热结束
+     * @param timeout 最长等待时间
+     * @param unit 时间单位
+     * @return {@code true} 在超时前已就绪
+     * @throws InterruptedException 等待时被中断
+     */
+    public boolean awaitReady(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+        while (!isReady()) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            Thread.sleep(Math.min(remaining, 50));
+        }
+        return true;
+    }
+
+    public List<WarmUpReport> getReports() {
+        return new ArrayList<>(reports);
+    }
+
+    @Override
+    public String toString() {
+        return "{ready: " + isReady() + ", reports: " + reports + "}";
+    }
+}
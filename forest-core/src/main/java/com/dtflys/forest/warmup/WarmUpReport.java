@@ -0,0 +1,151 @@
+package com.dtflys.forest.warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 单个接口的预热报告
+ *
+ * @since 2026-10-19 00:52
+ */
+public class WarmUpReport {
+
+    private final Class interfaceClass;
+
+    private final String url;
+
+    private final int connections;
+
+    private final AtomicInteger openedConnections = new AtomicInteger(0);
+
+    private final AtomicInteger invokedMethods = new AtomicInteger(0);
+
+    private final List<String> addresses = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile long startTime;
+
+    private volatile long endTime;
+
+    private volatile boolean done = false;
+
+    public WarmUpReport(Class interfaceClass, String url, int connections) {
+        this.interfaceClass = interfaceClass;
+        this.url = url;
+        this.connections = connections;
+    }
+
+    public Class getInterfaceClass() {
+        return interfaceClass;
+    }
+
+    /**
+     * 预热的基础URL，接口没有基础URL时为 {@code null}
+     * @return 基础URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * 需要建立的连接数
+     * @return 连接数
+     */
+    public int getConnections() {
+        return connections;
+    }
+
+    /**
+     * 成功建立的连接数
+     * @return 连接数
+     */
+    public int getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    /**
+     * 成功调用的预热方法次数
+     * @return 调用次数
+     */
+    public int getInvokedMethods() {
+        return invokedMethods.get();
+    }
+
+    /**
+     * 基础URL主机解析出的IP地址
+     * @return IP地址列表
+     */
+    public List<String> getAddresses() {
+        return addresses;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * 预热耗时 (毫秒)，未完成时为已经过的时间
+     * @return 耗时
+     */
+    public long getElapsedTime() {
+        if (startTime == 0) {
+            return 0;
+        }
+        return (done ? endTime : System.currentTimeMillis()) - startTime;
+    }
+
+    /**
+     * 预热是否已经结束，无论是否出错
+     * @return {@code true} 已结束
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * 预热是否已经结束且没有出错
+     * @return {@code true} 成功
+     */
+    public boolean isSuccessful() {
+        return done && errors.isEmpty();
+    }
+
+    void start() {
+        this.startTime = System.currentTimeMillis();
+    }
+
+    void finish() {
+        this.endTime = System.currentTimeMillis();
+        this.done = true;
+    }
+
+    void addAddress(String address) {
+        addresses.add(address);
+    }
+
+    void addError(String error) {
+        errors.add(error);
+    }
+
+    void connectionOpened() {
+        openedConnections.incrementAndGet();
+    }
+
+    void methodInvoked() {
+        invokedMethods.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "{interface: " + interfaceClass.getName() +
+                ", url: " + url +
+                ", connections: " + getOpenedConnections() + "/" + connections +
+                ", invokedMethods: " + getInvokedMethods() +
+                ", errors: " + errors.size() +
+                ", elapsed: " + getElapsedTime() + "ms" +
+                ", done: " + done + "}";
+    }
+}
@@ -0,0 +1,95 @@
+package com.dtflys.forest.backend.jdk;
+
+import com.dtflys.forest.backend.AbstractHttpBackend;
+import com.dtflys.forest.backend.ForestConnectionManager;
+import com.dtflys.forest.backend.HttpExecutor;
+import com.dtflys.forest.backend.jdk.conn.JdkHttpConnectionManager;
+import com.dtflys.forest.backend.jdk.executor.*;
+import com.dtflys.forest.backend.jdk.response.JdkHttpResponseHandler;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+
+/**
+ * 基于JDK 11+ 自带的 {@link java.net.http.HttpClient} 的后端，不依赖任何第三方HTTP库
+ *
+ * @since 2026-10-19 01:19
+ */
+public class JdkHttpBackend extends AbstractHttpBackend {
+
+    @Override
+    public String getName() {
+        return "jdk";
+    }
+
+    public JdkHttpBackend() {
+        super(new JdkHttpConnectionManager());
+    }
+
+    @Override
+    protected HttpExecutor createHeadExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpHeadExecutor(
+                (JdkHttpConnectionManager) connectionManager,
+                getJdkHttpResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createGetExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpGetExecutor(
+                (JdkHttpConnectionManager) connectionManager,
+                getJdkHttpResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createPostExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpPostExecutor(
+                (JdkHttpConnectionManager) connectionManager,
+                getJdkHttpResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createPutExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpPutExecutor(
+                (JdkHttpConnectionManager) connectionManager,
+                getJdkHttpResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createDeleteExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpDeleteExecutor(
+                (JdkHttpConnectionManager) connectionManager,
+                getJdkHttpResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createOptionsExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpOptionsExecutor(
+                (JdkHttpConnectionManager) connectionManager,
+                getJdkHttpResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createTraceExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpTraceExecutor(
+                (JdkHttpConnectionManager) connectionManager,
+                getJdkHttpResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    @Override
+    protected HttpExecutor createPatchExecutor(ForestConnectionManager connectionManager, ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpPatchExecutor(
+                (JdkHttpConnectionManager) connectionManager,
+                getJdkHttpResponseHandler(request, lifeCycleHandler),
+                request);
+    }
+
+    private JdkHttpResponseHandler getJdkHttpResponseHandler(ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpResponseHandler(request, lifeCycleHandler);
+    }
+}
@@ -0,0 +1,209 @@
+package com.dtflys.forest.backend.jdk.body;
+
+import com.dtflys.forest.backend.ProgressInputStream;
+import com.dtflys.forest.backend.body.AbstractBodyBuilder;
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.mapping.MappingTemplate;
+import com.dtflys.forest.multipart.ForestMultipart;
+import com.dtflys.forest.utils.RequestNameValue;
+import com.dtflys.forest.utils.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * @since 2026-10-19 01:19
+ */
+public class JdkHttpBodyBuilder extends AbstractBodyBuilder<JdkHttpRequestBody> {
+
+    private final static byte[] CRLF = "\r\n".getBytes(StandardCharsets.ISO_8859_1);
+
+    private static Charset getCharset(String charset) {
+        if (StringUtils.isEmpty(charset)) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(charset);
+        } catch (Throwable th) {
+            throw new ForestRuntimeException("[Forest] '" + charset + "' is not a valid charset", th);
+        }
+    }
+
+    @Override
+    protected void setStringBody(JdkHttpRequestBody body, String text, String charset, String contentType, boolean mergeCharset) {
+        if (StringUtils.isNotEmpty(charset) && mergeCharset && !contentType.contains("charset=")) {
+            contentType = contentType + "; charset=" + charset.toLowerCase();
+        }
+        byte[] bytes = text.getBytes(getCharset(charset));
+        body.setBody(HttpRequest.BodyPublishers.ofByteArray(bytes), contentType, text);
+    }
+
+    @Override
+    protected void setFormBody(JdkHttpRequestBody body, ForestRequest request, String charset, String contentType, List<RequestNameValue> nameValueList) {
+        ForestJsonConverter jsonConverter = request.getConfiguration().getJsonConverter();
+        Charset cs = getCharset(charset);
+        StringBuilder builder = new StringBuilder();
+        try {
+            for (RequestNameValue nameValue : nameValueList) {
+                if (!nameValue.isInBody()) continue;
+                if (builder.length() > 0) {
+                    builder.append('&');
+                }
+                String value = MappingTemplate.getParameterValue(jsonConverter, nameValue.getValue());
+                builder.append(URLEncoder.encode(nameValue.getName(), cs.name()))
+                        .append('=')
+                        .append(URLEncoder.encode(value, cs.name()));
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new ForestRuntimeException(e);
+        }
+        if (builder.length() == 0) {
+            return;
+        }
+        String text = builder.toString();
+        body.setBody(HttpRequest.BodyPublishers.ofString(text, cs), contentType, text);
+    }
+
+    @Override
+    protected void setFileBody(JdkHttpRequestBody body,
+                               ForestRequest request,
+                               String charset, String contentType,
+                               List<RequestNameValue> nameValueList,
+                               List<ForestMultipart> multiparts,
+                               LifeCycleHandler lifeCycleHandler) {
+        Charset cs = getCharset(charset);
+        String boundary = UUID.randomUUID().toString();
+        ForestJsonConverter jsonConverter = request.getConfiguration().getJsonConverter();
+        List<Supplier<InputStream>> parts = new ArrayList<>();
+        StringBuilder logBuilder = new StringBuilder("[boundary=").append(boundary).append("] parts:");
+        long contentLength = 0;
+
+        for (RequestNameValue nameValue : nameValueList) {
+            if (!nameValue.isInBody()) continue;
+            String value = MappingTemplate.getParameterValue(jsonConverter, nameValue.getValue());
+            String disposition = "form-data; name=\"" + nameValue.getName() + "\"";
+            byte[] bytes = (partHeader(boundary, disposition, null) + value + "\r\n").getBytes(cs);
+            parts.add(() -> new ByteArrayInputStream(bytes));
+            contentLength += bytes.length;
+            logBuilder.append("\n             -- [").append(disposition)
+                    .append("; value=\"").append(value).append("\"]");
+        }
+
+        for (ForestMultipart multipart : multiparts) {
+            String disposition = "form-data; name=\"" + multipart.getName() +
+                    "\"; filename=\"" + multipart.getOriginalFileName() + "\"";
+            byte[] header = partHeader(boundary, disposition, multipart.getContentType()).getBytes(cs);
+            long size = multipart.getSize();
+            parts.add(() -> new ByteArrayInputStream(header));
+            // 文件内容在发送时才读取，不会整体缓存在内存中
+            parts.add(() -> new ProgressInputStream(
+                    openPart(multipart), request, lifeCycleHandler, size));
+            parts.add(() -> new ByteArrayInputStream(CRLF));
+            if (contentLength >= 0 && size >= 0) {
+                contentLength += header.length + size + CRLF.length;
+            } else {
+                contentLength = -1;
+            }
+            logBuilder.append("\n             -- [").append(disposition);
+            if (size >= 0) {
+                logBuilder.append("; length=").append(size);
+            }
+            logBuilder.append("]");
+        }
+
+        byte[] end = ("--" + boundary + "--\r\n").getBytes(cs);
+        parts.add(() -> new ByteArrayInputStream(end));
+        if (contentLength >= 0) {
+            contentLength += end.length;
+        }
+
+        HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            List<InputStream> streams = new ArrayList<>(parts.size());
+            for (Supplier<InputStream> part : parts) {
+                streams.add(new LazyInputStream(part));
+            }
+            return new SequenceInputStream(Collections.enumeration(streams));
+        });
+        if (contentLength >= 0) {
+            publisher = HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength);
+        }
+        String mimeType = contentType.split(";")[0].trim();
+        body.setBody(publisher, mimeType + "; boundary=" + boundary, logBuilder.toString());
+    }
+
+    private static String partHeader(String boundary, String disposition, String contentType) {
+        StringBuilder builder = new StringBuilder()
+                .append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: ").append(disposition).append("\r\n");
+        if (StringUtils.isNotEmpty(contentType)) {
+            builder.append("Content-Type: ").append(contentType).append("\r\n");
+        }
+        return builder.append("\r\n").toString();
+    }
+
+    private static InputStream openPart(ForestMultipart multipart) {
+        if (multipart.isFile()) {
+            try {
+                return new FileInputStream(multipart.getFile());
+            } catch (FileNotFoundException e) {
+                throw new ForestRuntimeException(e);
+            }
+        }
+        return multipart.getInputStream();
+    }
+
+    /**
+     * 第一次读取时才打开的输入流，避免发送前就打开所有文件
+     */
+    private static class LazyInputStream extends InputStream {
+
+        private final Supplier<InputStream> supplier;
+
+        private InputStream in;
+
+        LazyInputStream(Supplier<InputStream> supplier) {
+            this.supplier = supplier;
+        }
+
+        private InputStream in() {
+            if (in == null) {
+                in = supplier.get();
+            }
+            return in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return in().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return in().read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (in != null) {
+                in.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dtflys.forest.backend.jdk.body;
+
+import java.net.http.HttpRequest;
+
+/**
+ * 请求体构造器的构造结果
+ * <p>{@link HttpRequest.Builder} 需要同时设置请求方法和请求体，所以请求体先构造到该对象中，
+ * 再由执行器设置到请求上</p>
+ *
+ * @since 2026-10-19 01:19
+ */
+public class JdkHttpRequestBody {
+
+    private HttpRequest.BodyPublisher publisher;
+
+    private String contentType;
+
+    private String logContent;
+
+    public HttpRequest.BodyPublisher getPublisher() {
+        return publisher;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getLogContent() {
+        return logContent;
+    }
+
+    void setBody(HttpRequest.BodyPublisher publisher, String contentType, String logContent) {
+        this.publisher = publisher;
+        this.contentType = contentType;
+        this.logContent = logContent;
+    }
+}
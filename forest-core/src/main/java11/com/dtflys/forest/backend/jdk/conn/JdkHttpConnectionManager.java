@@ -0,0 +1,138 @@
+package com.dtflys.forest.backend.jdk.conn;
+
+import com.dtflys.forest.backend.ForestConnectionManager;
+import com.dtflys.forest.backend.HttpConnectionOptions;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.exceptions.ForestUnsupportException;
+import com.dtflys.forest.http.ForestProtocol;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.ssl.SSLUtils;
+import com.dtflys.forest.utils.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLContext;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 基于JDK自带的 {@link HttpClient} 的连接管理器
+ * <p>{@link HttpClient} 创建后不能修改连接超时、协议版本和SSL配置，
+ * 所以按这些配置缓存客户端，配置相同的请求共享同一个客户端及其连接池</p>
+ *
+ * @since 2026-10-19 01:19
+ */
+public class JdkHttpConnectionManager implements ForestConnectionManager {
+
+    private static Logger log = LoggerFactory.getLogger(JdkHttpConnectionManager.class);
+
+    /**
+     * connection options
+     */
+    private HttpConnectionOptions options;
+
+    /**
+     * executor of asynchronous tasks, shared by all clients
+     */
+    private ExecutorService executor;
+
+    /**
+     * clients cached by connect timeout, protocol version and SSL settings
+     */
+    private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+
+    @Override
+    public void init(ForestConfiguration configuration) {
+        init(configuration, new HttpConnectionOptions(configuration));
+    }
+
+    @Override
+    public void init(ForestConfiguration configuration, HttpConnectionOptions options) {
+        this.options = options;
+        // 重新初始化时继续使用之前的线程池，只丢弃按旧配置创建的客户端
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "forest-jdk-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        clients.clear();
+        if (options.getDnsResolver() != null) {
+            log.warn("[Forest] jdk backend does not support custom dns resolver, use the resolver of JVM");
+        }
+    }
+
+    @Override
+    public void close() {
+        clients.clear();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    public HttpConnectionOptions getOptions() {
+        return options;
+    }
+
+    public HttpClient getClient(ForestRequest request) {
+        if (StringUtils.isNotBlank(request.getUnixSocket())) {
+            throw new ForestUnsupportException("jdk backend does not support unix domain socket, please use okhttp3 or httpclient backend.");
+        }
+        int connectTimeout = options.getConfiguredConnectTimeout(request);
+        HttpClient.Version version = getVersion(request);
+        boolean https = "https".equals(request.getProtocol());
+        String sslProtocol = https ? SSLUtils.getSSLContextProtocol(request.getSslProtocol()) : null;
+        StringBuilder keyBuilder = new StringBuilder()
+                .append(version).append(':').append(connectTimeout);
+        if (https) {
+            keyBuilder.append(':').append(sslProtocol);
+            if (request.getKeyStore() != null) {
+                keyBuilder.append(':').append(request.getKeyStore().getId());
+            }
+        }
+        return clients.computeIfAbsent(keyBuilder.toString(), key -> {
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .version(version)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .executor(executor);
+            if (connectTimeout > 0) {
+                builder.connectTimeout(Duration.ofMillis(connectTimeout));
+            }
+            if (https) {
+                try {
+                    SSLContext sslContext = SSLUtils.getSSLContext(request, sslProtocol);
+                    builder.sslContext(sslContext);
+                } catch (Exception e) {
+                    throw new ForestRuntimeException(e);
+                }
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * 明文请求默认使用 HTTP/1.1，避免每个请求都携带 h2c 升级头；HTTPS请求默认通过 ALPN 协商 HTTP/2
+     * @param request 请求对象
+     * @return 协议版本
+     */
+    private static HttpClient.Version getVersion(ForestRequest request) {
+        ForestProtocol protocol = request.getHttpProtocol();
+        if (protocol == ForestProtocol.H2C) {
+            throw new ForestUnsupportException("jdk backend does not support protocol h2c, please use okhttp3 backend.");
+        }
+        if (protocol == ForestProtocol.HTTP_2) {
+            return HttpClient.Version.HTTP_2;
+        }
+        if (protocol == null && "https".equals(request.getProtocol())) {
+            return HttpClient.Version.HTTP_2;
+        }
+        return HttpClient.Version.HTTP_1_1;
+    }
+}
@@ -0,0 +1,154 @@
+package com.dtflys.forest.backend.jdk.executor;
+
+import com.dtflys.forest.backend.AbstractExchangeExecutor;
+import com.dtflys.forest.backend.BodyBuilder;
+import com.dtflys.forest.backend.jdk.body.JdkHttpRequestBody;
+import com.dtflys.forest.backend.jdk.conn.JdkHttpConnectionManager;
+import com.dtflys.forest.backend.jdk.response.JdkHttpForestResponseFactory;
+import com.dtflys.forest.backend.jdk.response.JdkHttpResponseHandler;
+import com.dtflys.forest.backend.url.URLBuilder;
+import com.dtflys.forest.converter.json.ForestJsonConverter;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.mapping.MappingTemplate;
+import com.dtflys.forest.utils.RequestNameValue;
+import com.dtflys.forest.utils.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 基于JDK自带的 {@link HttpClient} 的请求执行器
+ * <p>请求体通过 {@link HttpRequest.BodyPublisher} 发送，响应体通过 {@link InputStream} 接收，都不会整体缓存在内存中</p>
+ *
+ * @since 2026-10-19 01:19
+ */
+public abstract class AbstractJdkHttpExecutor extends AbstractExchangeExecutor<HttpResponse<InputStream>> {
+
+    private final static Logger log = LoggerFactory.getLogger(AbstractJdkHttpExecutor.class);
+
+    private final JdkHttpConnectionManager connectionManager;
+
+    protected AbstractJdkHttpExecutor(ForestRequest request, JdkHttpConnectionManager connectionManager, JdkHttpResponseHandler jdkHttpResponseHandler) {
+        super(request, jdkHttpResponseHandler, new JdkHttpForestResponseFactory());
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * 请求方法名称
+     * @return 方法名称
+     */
+    protected abstract String getMethod();
+
+    protected abstract BodyBuilder<JdkHttpRequestBody> getBodyBuilder();
+
+    protected abstract URLBuilder getURLBuilder();
+
+    protected void prepareHeaders(HttpRequest.Builder builder, JdkHttpRequestBody body) {
+        ForestJsonConverter jsonConverter = request.getConfiguration().getJsonConverter();
+        List<RequestNameValue> headerList = request.getHeaderNameValueList();
+        if (headerList != null && !headerList.isEmpty()) {
+            for (RequestNameValue nameValue : headerList) {
+                String name = nameValue.getName();
+                if (!name.equalsIgnoreCase("Content-Type")
+                        && !name.equalsIgnoreCase("Content-Encoding")) {
+                    addHeader(builder, name, MappingTemplate.getParameterValue(jsonConverter, nameValue.getValue()));
+                }
+            }
+        }
+        String contentType = body.getContentType();
+        if (StringUtils.isEmpty(contentType)) {
+            contentType = request.getContentType();
+        }
+        if (StringUtils.isNotEmpty(contentType)) {
+            builder.setHeader("Content-Type", contentType);
+        }
+        String contentEncoding = request.getContentEncoding();
+        if (StringUtils.isNotEmpty(contentEncoding)) {
+            builder.setHeader("Content-Encoding", contentEncoding);
+        }
+    }
+
+    /**
+     * {@link HttpClient} 不允许设置部分由它自己管理的请求头 (如 Host, Connection, Content-Length)
+     */
+    private static void addHeader(HttpRequest.Builder builder, String name, String value) {
+        try {
+            builder.header(name, value);
+        } catch (IllegalArgumentException e) {
+            log.warn("[Forest] Header '" + name + "' is ignored: " + e.getMessage());
+        }
+    }
+
+    @Override
+    protected CompletableFuture<HttpResponse<InputStream>> sendRequest(LifeCycleHandler lifeCycleHandler, int retryCount) {
+        HttpClient client = connectionManager.getClient(request);
+        JdkHttpRequestBody body = new JdkHttpRequestBody();
+        String url = getURLBuilder().buildUrl(request);
+        HttpRequest.Builder builder = HttpRequest.newBuilder().uri(URI.create(url));
+        int readTimeout = connectionManager.getOptions().getReadTimeout(request);
+        // 超时时间为0时不限制
+        if (readTimeout > 0) {
+            builder.timeout(Duration.ofMillis(readTimeout));
+        }
+        getBodyBuilder().buildBody(body, request, lifeCycleHandler);
+        HttpRequest.BodyPublisher publisher = body.getPublisher();
+        builder.method(getMethod(), publisher != null ? publisher : HttpRequest.BodyPublishers.noBody());
+        prepareHeaders(builder, body);
+        HttpRequest httpRequest = builder.build();
+
+        List<Map.Entry<String, String>> headerEntries = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : httpRequest.headers().map().entrySet()) {
+            for (String value : entry.getValue()) {
+                headerEntries.add(new AbstractMap.SimpleEntry<>(entry.getKey(), value));
+            }
+        }
+        logRequest(retryCount, httpRequest.method(), httpRequest.uri(), httpRequest.uri().getScheme(),
+                headerEntries, body.getLogContent());
+        if (request.isAsync()) {
+            return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+        }
+        CompletableFuture<HttpResponse<InputStream>> future = new CompletableFuture<>();
+        try {
+            future.complete(client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (IOException | InterruptedException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    protected int getStatusCode(HttpResponse<InputStream> httpResponse) {
+        return httpResponse.statusCode();
+    }
+
+    @Override
+    protected String getReasonPhrase(HttpResponse<InputStream> httpResponse) {
+        return "HTTP " + httpResponse.statusCode();
+    }
+
+    @Override
+    protected void closeResponse(HttpResponse<InputStream> httpResponse) {
+        // 关闭错误响应的响应体，把连接还给连接池
+        InputStream in = httpResponse.body();
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
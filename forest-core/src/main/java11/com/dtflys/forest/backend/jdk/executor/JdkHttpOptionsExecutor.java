@@ -0,0 +1,36 @@
+package com.dtflys.forest.backend.jdk.executor;
+
+import com.dtflys.forest.backend.BodyBuilder;
+import com.dtflys.forest.backend.body.NoneBodyBuilder;
+import com.dtflys.forest.backend.jdk.body.JdkHttpRequestBody;
+import com.dtflys.forest.backend.jdk.conn.JdkHttpConnectionManager;
+import com.dtflys.forest.backend.jdk.response.JdkHttpResponseHandler;
+import com.dtflys.forest.backend.url.URLBuilder;
+import com.dtflys.forest.http.ForestRequest;
+
+/**
+ * @since 2026-10-19 01:19
+ */
+public class JdkHttpOptionsExecutor extends AbstractJdkHttpExecutor {
+
+    private static final BodyBuilder bodyBuilder = new NoneBodyBuilder();
+
+    public JdkHttpOptionsExecutor(JdkHttpConnectionManager connectionManager, JdkHttpResponseHandler jdkHttpResponseHandler, ForestRequest request) {
+        super(request, connectionManager, jdkHttpResponseHandler);
+    }
+
+    @Override
+    protected String getMethod() {
+        return "OPTIONS";
+    }
+
+    @Override
+    protected BodyBuilder<JdkHttpRequestBody> getBodyBuilder() {
+        return bodyBuilder;
+    }
+
+    @Override
+    protected URLBuilder getURLBuilder() {
+        return URLBuilder.getQueryableURLBuilder();
+    }
+}
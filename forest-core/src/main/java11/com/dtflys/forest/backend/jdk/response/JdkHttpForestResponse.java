@@ -0,0 +1,117 @@
+package com.dtflys.forest.backend.jdk.response;
+
+import com.dtflys.forest.backend.ContentType;
+import com.dtflys.forest.backend.ProgressInputStream;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.utils.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于JDK {@link HttpResponse} 的响应
+ * <p>响应体以流的形式接收，只有在需要读取为字符串时才整体读取</p>
+ *
+ * @since 2026-10-19 01:19
+ */
+public class JdkHttpForestResponse extends ForestResponse {
+
+    private final HttpResponse<InputStream> httpResponse;
+
+    private final InputStream body;
+
+    public JdkHttpForestResponse(ForestRequest request, HttpResponse<InputStream> httpResponse, LifeCycleHandler lifeCycleHandler) {
+        super(request);
+        this.httpResponse = httpResponse;
+        if (httpResponse != null) {
+            this.statusCode = httpResponse.statusCode();
+            setupHeaders();
+            this.contentLength = httpResponse.headers().firstValueAsLong("Content-Length").orElse(-1);
+            this.body = new ProgressInputStream(httpResponse.body(), request, lifeCycleHandler, contentLength);
+            String type = httpResponse.headers().firstValue("Content-Type").orElse(null);
+            if (StringUtils.isNotEmpty(type)) {
+                this.contentType = new ContentType(type);
+                this.contentEncoding = contentType.getCharset();
+            }
+            if (StringUtils.isEmpty(this.contentEncoding)) {
+                this.contentEncoding = httpResponse.headers().firstValue("Content-Encoding").orElse(null);
+            }
+            this.content = buildContent();
+        } else {
+            this.body = null;
+            this.statusCode = 404;
+        }
+    }
+
+    private void setupHeaders() {
+        for (Map.Entry<String, List<String>> entry : httpResponse.headers().map().entrySet()) {
+            for (String value : entry.getValue()) {
+                headers.addHeader(entry.getKey(), value);
+            }
+        }
+    }
+
+    private String buildContent() {
+        if (contentType == null || contentType.isEmpty()) {
+            return null;
+        }
+        if (!request.isDownloadFile() && !request.isStreaming() && contentType.canReadAsString()) {
+            String encoding = StringUtils.isNotEmpty(contentEncoding) ? contentEncoding : StandardCharsets.UTF_8.name();
+            try {
+                return new String(readBytes(), encoding);
+            } catch (IOException e) {
+                throw new ForestRuntimeException(e);
+            }
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append("[content-type: ")
+                .append(contentType.toString());
+        if (contentEncoding != null) {
+            builder.append("; encoding: ")
+                    .append(contentEncoding);
+        }
+        builder.append("; length: ")
+                .append(contentLength)
+                .append("]");
+        return builder.toString();
+    }
+
+    private byte[] readBytes() throws IOException {
+        try (InputStream in = body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                out.write(buffer, 0, len);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public HttpResponse<InputStream> getHttpResponse() {
+        return httpResponse;
+    }
+
+    @Override
+    public boolean isReceivedResponseData() {
+        return body != null;
+    }
+
+    @Override
+    public byte[] getByteArray() throws Exception {
+        return readBytes();
+    }
+
+    @Override
+    public InputStream getInputStream() throws Exception {
+        return body;
+    }
+}
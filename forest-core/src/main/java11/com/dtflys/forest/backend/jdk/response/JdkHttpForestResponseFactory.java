@@ -0,0 +1,20 @@
+package com.dtflys.forest.backend.jdk.response;
+
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.http.ForestResponseFactory;
+
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+
+/**
+ * @since 2026-10-19 01:19
+ */
+public class JdkHttpForestResponseFactory implements ForestResponseFactory<HttpResponse<InputStream>> {
+
+    @Override
+    public ForestResponse createResponse(ForestRequest request, HttpResponse<InputStream> res, LifeCycleHandler lifeCycleHandler) {
+        return new JdkHttpForestResponse(request, res, lifeCycleHandler);
+    }
+}
@@ -0,0 +1,23 @@
+package com.dtflys.forest.backend.jdk.response;
+
+import com.dtflys.forest.backend.BackendResponseHandler;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponseFactory;
+
+import java.util.concurrent.Future;
+
+/**
+ * @since 2026-10-19 01:19
+ */
+public class JdkHttpResponseHandler extends BackendResponseHandler<Object> {
+
+    public JdkHttpResponseHandler(ForestRequest request, LifeCycleHandler lifeCycleHandler) {
+        super(request, lifeCycleHandler);
+    }
+
+    @Override
+    public void handleFuture(Future<Object> httpResponseFuture, ForestResponseFactory forestResponseFactory) {
+        lifeCycleHandler.handleResult(httpResponseFuture);
+    }
+}
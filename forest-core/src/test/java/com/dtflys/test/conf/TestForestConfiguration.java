@@ -2,9 +2,13 @@ package com.dtflys.test.conf;
 
 import com.dtflys.forest.backend.HttpBackend;
 import com.dtflys.forest.backend.HttpBackendSelector;
+import com.dtflys.forest.backend.HttpConnectionConstants;
+import com.dtflys.forest.backend.HttpConnectionOptions;
 import com.dtflys.forest.config.ForestConfiguration;
 import com.dtflys.forest.converter.ForestConverter;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestProtocol;
+import com.dtflys.forest.http.ForestRequest;
 import com.dtflys.forest.ssl.SSLUtils;
 import com.dtflys.forest.utils.ForestDataType;
 import com.dtflys.forest.utils.RequestNameValue;
@@ -52,6 +56,12 @@ public class TestForestConfiguration {
         Assert.assertEquals("httpclient", configuration.getBackend().getName());
 
         Mockito.when(selector.findHttpclientBackendInstance()).thenReturn(null);
+        if (originSelector.findJdkBackendInstance() != null) {
+            configuration.setBackendName(null);
+            configuration.setBackend(null);
+            Assert.assertEquals("jdk", configuration.getBackend().getName());
+            Mockito.when(selector.findJdkBackendInstance()).thenReturn(null);
+        }
         configuration.setBackendName(null);
         configuration.setBackend(null);
 
@@ -65,6 +75,18 @@ public class TestForestConfiguration {
         assertTrue(thrown);
     }
 
+    @Test
+    public void testCloseReplacedBackend() {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        HttpBackend replaced = Mockito.mock(HttpBackend.class);
+        configuration.setBackend(replaced);
+        configuration.setBackend(replaced);
+        Mockito.verify(replaced, Mockito.never()).close();
+        // 被替换的后端不再使用，它的连接池和线程被释放
+        configuration.setBackend(new HttpBackendSelector().findHttpclientBackendInstance());
+        Mockito.verify(replaced).close();
+    }
+
     @Test
     public void testDefault() {
         ForestConfiguration configuration = ForestConfiguration.configuration();
@@ -95,6 +117,70 @@ public class TestForestConfiguration {
         configuration.setConnectTimeout(2000);
     }
 
+    @Test
+    public void testConnectionOptions() {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        HttpConnectionOptions options = new HttpConnectionOptions(configuration);
+        assertEquals(500, options.getMaxIdleConnections());
+        assertEquals(HttpConnectionConstants.DEFAULT_KEEP_ALIVE_TIME, options.getKeepAliveTime());
+        assertEquals(500, options.getMaxRequests());
+        assertEquals(500, options.getMaxRequestsPerHost());
+        assertEquals(HttpConnectionConstants.DEFAULT_POOL_ACQUIRE_TIMEOUT, options.getPoolAcquireTimeout());
+        assertEquals(HttpConnectionConstants.DEFAULT_VALIDATE_AFTER_INACTIVITY, options.getValidateAfterInactivity());
+        assertEquals(HttpConnectionConstants.DEFAULT_EVICTION_INTERVAL, options.getEvictionInterval());
+
+        configuration.setMaxConnections(200)
+                .setMaxRouteConnections(20)
+                .setMaxIdleConnections(50)
+                .setKeepAliveTime(60000L)
+                .setMaxRequestsPerHost(10)
+                .setWriteTimeout(4000)
+                .setPoolAcquireTimeout(500)
+                .setValidateAfterInactivity(1000)
+                .setEvictionInterval(0L);
+        options = new HttpConnectionOptions(configuration);
+        assertEquals(50, options.getMaxIdleConnections());
+        assertEquals(60000L, options.getKeepAliveTime());
+        assertEquals(200, options.getMaxRequests());
+        assertEquals(10, options.getMaxRequestsPerHost());
+        assertEquals(500, options.getPoolAcquireTimeout());
+        assertEquals(1000, options.getValidateAfterInactivity());
+        assertEquals(0L, options.getEvictionInterval());
+
+        ForestRequest request = new ForestRequest(configuration);
+        request.setTimeout(1500);
+        assertEquals(2000, options.getConnectTimeout(request));
+        assertEquals(1500, options.getReadTimeout(request));
+        assertEquals(4000, options.getWriteTimeout(request));
+
+        // 接口方法或请求上设置的连接超时优先于全局配置
+        request.setConnectTimeout(1200);
+        assertEquals(1200, options.getConnectTimeout(request));
+        assertEquals(1500, options.getReadTimeout(request));
+    }
+
+    @Test
+    public void testHttpProtocol() {
+        assertNull(ForestProtocol.findProtocol(null));
+        assertNull(ForestProtocol.findProtocol(""));
+        assertEquals(ForestProtocol.HTTP_1_1, ForestProtocol.findProtocol("http/1.1"));
+        assertEquals(ForestProtocol.HTTP_2, ForestProtocol.findProtocol("H2"));
+        assertEquals(ForestProtocol.HTTP_2, ForestProtocol.findProtocol("http_2"));
+        assertEquals(ForestProtocol.H2C, ForestProtocol.findProtocol("h2c"));
+        boolean thrown = false;
+        try {
+            ForestProtocol.findProtocol("spdy/3");
+        } catch (ForestRuntimeException e) {
+            thrown = true;
+        }
+        assertTrue(thrown);
+
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        assertNull(configuration.getHttpProtocol());
+        configuration.setHttpProtocol(ForestProtocol.HTTP_2);
+        assertEquals(ForestProtocol.HTTP_2, configuration.getHttpProtocol());
+    }
+
     @Test
     public void testVars() {
         ForestConfiguration configuration = ForestConfiguration.configuration();
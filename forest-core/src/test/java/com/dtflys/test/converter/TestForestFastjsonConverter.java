@@ -8,15 +8,19 @@ import com.dtflys.forest.config.ForestConfiguration;
 import com.dtflys.test.model.Coordinate;
 import com.dtflys.test.model.SubCoordinate;
 import com.dtflys.forest.converter.json.ForestFastjsonConverter;
+import com.dtflys.forest.converter.json.ForestJsonPath;
+import com.dtflys.forest.converter.json.ForestJsonReader;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
 import org.junit.Test;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 
 /**
@@ -241,4 +245,29 @@ public class TestForestFastjsonConverter {
         Map map = forestFastjsonConverter.convertToJavaObject(json, HashMap.class);
         System.out.println(map);
     }
+
+    @Test
+    public void testConvertToJavaByPath() {
+        String json = "{\"code\":0,\"skip\":{\"a\":[1,{\"b\":\"}]\"}],\"c\":null},\"data\":{\"total\":2,\"items\":[{\"id\":1,\"name\":\"foo\"},{\"id\":2,\"name\":\"bar\"}]}}";
+        ForestFastjsonConverter forestFastjsonConverter = new ForestFastjsonConverter();
+        List<Map> items = forestFastjsonConverter.convertToJavaObject(json, ForestJsonPath.compile("$.data.items"), new TypeReference<List<Map>>() {}.getType());
+        assertEquals(2, items.size());
+        assertEquals("bar", items.get(1).get("name"));
+        String name = forestFastjsonConverter.convertToJavaObject(json, ForestJsonPath.compile("data.items[0]['name']"), String.class);
+        assertEquals("foo", name);
+        assertNull(forestFastjsonConverter.convertToJavaObject(json, ForestJsonPath.compile("$.data.none"), Map.class));
+        assertNull(forestFastjsonConverter.convertToJavaObject(json, ForestJsonPath.compile("$.data.items[5]"), Map.class));
+    }
+
+    @Test
+    public void testPrepareReader() {
+        ForestFastjsonConverter forestFastjsonConverter = new ForestFastjsonConverter();
+        ForestJsonReader<List<Map>> reader = forestFastjsonConverter.prepareReader(new TypeReference<List<Map>>() {}.getType());
+        List<Map> list = reader.read("[{\"a\":1},{\"a\":2}]");
+        assertEquals(2, list.size());
+        list = reader.read("[{\"a\":3}]");
+        assertEquals(1, list.size());
+        assertEquals(3, ((Number) list.get(0).get("a")).intValue());
+    }
+
 }
@@ -6,6 +6,9 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import junit.framework.Assert;
 import com.dtflys.forest.converter.json.ForestJacksonConverter;
+import com.dtflys.forest.converter.json.ForestJsonPath;
+import com.dtflys.forest.converter.json.ForestJsonReader;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
 import org.junit.Test;
 
@@ -15,6 +18,7 @@ import java.util.Map;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 
 /**
@@ -133,5 +137,28 @@ public class TestForestJacksonConverter {
         assertEquals("22.22222", map.get("latitude"));
     }
 
+    @Test
+    public void testConvertToJavaByPath() {
+        String json = "{\"code\":0,\"skip\":{\"a\":[1,{\"b\":\"}]\"}],\"c\":null},\"data\":{\"total\":2,\"items\":[{\"id\":1,\"name\":\"foo\"},{\"id\":2,\"name\":\"bar\"}]}}";
+        ForestJacksonConverter forestJacksonConverter = new ForestJacksonConverter();
+        List<Map> items = forestJacksonConverter.convertToJavaObject(json, ForestJsonPath.compile("$.data.items"), new TypeReference<List<Map>>() {}.getType());
+        assertEquals(2, items.size());
+        assertEquals("bar", items.get(1).get("name"));
+        String name = forestJacksonConverter.convertToJavaObject(json, ForestJsonPath.compile("data.items[0]['name']"), String.class);
+        assertEquals("foo", name);
+        assertNull(forestJacksonConverter.convertToJavaObject(json, ForestJsonPath.compile("$.data.none"), Map.class));
+        assertNull(forestJacksonConverter.convertToJavaObject(json, ForestJsonPath.compile("$.data.items[5]"), Map.class));
+    }
+
+    @Test
+    public void testPrepareReader() {
+        ForestJacksonConverter forestJacksonConverter = new ForestJacksonConverter();
+        ForestJsonReader<List<Map>> reader = forestJacksonConverter.prepareReader(new TypeReference<List<Map>>() {}.getType());
+        List<Map> list = reader.read("[{\"a\":1},{\"a\":2}]");
+        assertEquals(2, list.size());
+        list = reader.read("[{\"a\":3}]");
+        assertEquals(1, list.size());
+        assertEquals(3, ((Number) list.get(0).get("a")).intValue());
+    }
 
 }
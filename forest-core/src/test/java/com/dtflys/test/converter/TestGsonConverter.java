@@ -5,6 +5,8 @@ import com.dtflys.test.model.SubCoordinate;
 import com.google.gson.reflect.TypeToken;
 import junit.framework.Assert;
 import com.dtflys.forest.converter.json.ForestGsonConverter;
+import com.dtflys.forest.converter.json.ForestJsonPath;
+import com.dtflys.forest.converter.json.ForestJsonReader;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
 import org.junit.Test;
 
@@ -13,6 +15,7 @@ import java.util.Map;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 
 /**
@@ -151,5 +154,28 @@ public class TestGsonConverter {
         assertEquals("22.22222", map.get("latitude"));
     }
 
+    @Test
+    public void testConvertToJavaByPath() {
+        String json = "{\"code\":0,\"skip\":{\"a\":[1,{\"b\":\"}]\"}],\"c\":null},\"data\":{\"total\":2,\"items\":[{\"id\":1,\"name\":\"foo\"},{\"id\":2,\"name\":\"bar\"}]}}";
+        ForestGsonConverter gsonConverter = new ForestGsonConverter();
+        List<Map<String, String>> items = gsonConverter.convertToJavaObject(json, ForestJsonPath.compile("$.data.items"), new TypeToken<List<Map<String, String>>>() {}.getType());
+        assertEquals(2, items.size());
+        assertEquals("bar", items.get(1).get("name"));
+        String name = gsonConverter.convertToJavaObject(json, ForestJsonPath.compile("data.items[0]['name']"), String.class);
+        assertEquals("foo", name);
+        assertNull(gsonConverter.convertToJavaObject(json, ForestJsonPath.compile("$.data.none"), Map.class));
+        assertNull(gsonConverter.convertToJavaObject(json, ForestJsonPath.compile("$.data.items[5]"), Map.class));
+    }
+
+    @Test
+    public void testPrepareReader() {
+        ForestGsonConverter gsonConverter = new ForestGsonConverter();
+        ForestJsonReader<List<Map>> reader = gsonConverter.prepareReader(List.class);
+        List<Map> list = reader.read("[{\"a\":1},{\"a\":2}]");
+        assertEquals(2, list.size());
+        list = reader.read("[{\"a\":3}]");
+        assertEquals(1, list.size());
+        assertEquals(3, ((Number) list.get(0).get("a")).intValue());
+    }
 
 }
@@ -2,10 +2,15 @@ package com.dtflys.test.converter;
 
 import com.alibaba.fastjson.TypeReference;
 import com.dtflys.forest.converter.xml.ForestJaxbConverter;
+import com.dtflys.forest.converter.xml.ForestStaxConverter;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.stream.XmlElementReader;
 import org.junit.Test;
 
 import javax.xml.bind.annotation.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 
 import static junit.framework.Assert.*;
 
@@ -91,6 +96,26 @@ public class TestJaxbConverter {
                 "</user>\n", xml);
     }
 
+    @Test
+    public void testConvertToXmlWithoutFormat() {
+        User user = new User();
+        user.setName("Peter");
+        user.setAge(32);
+
+        ForestJaxbConverter forestJaxbConverter = new ForestJaxbConverter();
+        forestJaxbConverter.encodeToString(user);
+        forestJaxbConverter.setFormattedOutput(false);
+        String xml = forestJaxbConverter.encodeToString(user);
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+                "<user><name>Peter</name><age>32</age></user>", xml);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        forestJaxbConverter.encodeToStream(user, out);
+        User result = forestJaxbConverter.convertToJavaObject(new ByteArrayInputStream(out.toByteArray()), User.class);
+        assertEquals("Peter", result.getName());
+        assertEquals(Integer.valueOf(32), result.getAge());
+    }
+
 
     public static class BadUser {
         @XmlElement(name="name")
@@ -129,5 +154,39 @@ public class TestJaxbConverter {
         assertTrue(error);
     }
 
+    @Test
+    public void testStaxConvertToJavaObject() {
+        ForestStaxConverter staxConverter = new ForestStaxConverter();
+        String xmlText = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<user>\n" +
+                "<name>Peter</name>\n" +
+                "<age>32</age>\n" +
+                "</user>";
+        User user = staxConverter.convertToJavaObject(xmlText, User.class);
+        assertEquals("Peter", user.getName());
+        user = staxConverter.convertToJavaObject(new ByteArrayInputStream(xmlText.getBytes()), User.class);
+        assertEquals(Integer.valueOf(32), user.getAge());
+    }
+
+    @Test
+    public void testStaxReadElements() throws IOException {
+        String xmlText = "<users>" +
+                "<count>2</count>" +
+                "<user><name>Peter</name><age>32</age></user>" +
+                "<user><name>Linda</name><age>28</age></user>" +
+                "</users>";
+        XmlElementReader reader = new XmlElementReader(
+                new ByteArrayInputStream(xmlText.getBytes("UTF-8")), "UTF-8", "user", new ForestStaxConverter());
+        try {
+            User user = reader.readElement(User.class);
+            assertEquals("Peter", user.getName());
+            user = reader.readElement(User.class);
+            assertEquals("Linda", user.getName());
+            assertEquals(Integer.valueOf(28), user.getAge());
+            assertNull(reader.readElement(User.class));
+        } finally {
+            reader.close();
+        }
+    }
 
 }
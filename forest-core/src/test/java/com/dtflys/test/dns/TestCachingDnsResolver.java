@@ -0,0 +1,150 @@
+package com.dtflys.test.dns;
+
+import com.dtflys.forest.backend.HttpConnectionConstants;
+import com.dtflys.forest.backend.httpclient.conn.HttpclientDnsResolver;
+import com.dtflys.forest.backend.okhttp3.conn.OkHttp3Dns;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.dns.CachingDnsResolver;
+import com.dtflys.forest.dns.ForestDnsResolver;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19 01:07
+ */
+public class TestCachingDnsResolver {
+
+    private static class MockDnsResolver implements ForestDnsResolver {
+
+        private final AtomicInteger lookups = new AtomicInteger(0);
+
+        private final AtomicBoolean failed = new AtomicBoolean(false);
+
+        private volatile List<InetAddress> addresses;
+
+        MockDnsResolver(List<InetAddress> addresses) {
+            this.addresses = addresses;
+        }
+
+        @Override
+        public List<InetAddress> resolve(String host) throws UnknownHostException {
+            lookups.incrementAndGet();
+            if (failed.get()) {
+                throw new UnknownHostException(host);
+            }
+            return addresses;
+        }
+    }
+
+    private static InetAddress address(String host, int last) throws UnknownHostException {
+        return InetAddress.getByAddress(host, new byte[] {10, 0, 0, (byte) last});
+    }
+
+    @Test
+    public void testCacheAndRotate() throws UnknownHostException {
+        InetAddress a1 = address("foo.com", 1);
+        InetAddress a2 = address("foo.com", 2);
+        MockDnsResolver delegate = new MockDnsResolver(Arrays.asList(a1, a2));
+        CachingDnsResolver resolver = new CachingDnsResolver(delegate, 60000, 1000);
+        assertEquals(Arrays.asList(a1, a2), resolver.resolve("foo.com"));
+        assertEquals(Arrays.asList(a2, a1), resolver.resolve("foo.com"));
+        assertEquals(Arrays.asList(a1, a2), resolver.resolve("foo.com"));
+        assertEquals(1, delegate.lookups.get());
+        assertEquals(1, resolver.getStats().getLookups());
+        assertEquals(2, resolver.getStats().getCacheHits());
+        assertTrue(resolver.getStats().getMaxLookupTime() >= 0);
+
+        resolver.invalidate("foo.com");
+        resolver.resolve("foo.com");
+        assertEquals(2, delegate.lookups.get());
+    }
+
+    @Test
+    public void testNegativeCache() throws InterruptedException {
+        MockDnsResolver delegate = new MockDnsResolver(null);
+        delegate.failed.set(true);
+        CachingDnsResolver resolver = new CachingDnsResolver(delegate, 60000, 100);
+        for (int i = 0; i < 3; i++) {
+            try {
+                resolver.resolve("bar.com");
+                fail();
+            } catch (UnknownHostException e) {
+            }
+        }
+        assertEquals(1, delegate.lookups.get());
+        assertEquals(1, resolver.getStats().getFailures());
+        Thread.sleep(150);
+        try {
+            resolver.resolve("bar.com");
+            fail();
+        } catch (UnknownHostException e) {
+        }
+        assertEquals(2, delegate.lookups.get());
+    }
+
+    @Test
+    public void testRefreshAhead() throws UnknownHostException, InterruptedException {
+        InetAddress a1 = address("foo.com", 1);
+        InetAddress a2 = address("foo.com", 2);
+        MockDnsResolver delegate = new MockDnsResolver(Arrays.asList(a1));
+        CachingDnsResolver resolver = new CachingDnsResolver(delegate, 400, 100);
+        resolver.resolve("foo.com");
+        delegate.addresses = Arrays.asList(a2);
+        Thread.sleep(320);
+        // 超过有效期的 3/4 后仍返回缓存的地址，同时在后台刷新
+        assertEquals(Arrays.asList(a1), resolver.resolve("foo.com"));
+        for (int i = 0; i < 50 && delegate.lookups.get() < 2; i++) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(20);
+        assertEquals(Arrays.asList(a2), resolver.resolve("foo.com"));
+        assertEquals(2, delegate.lookups.get());
+    }
+
+    @Test
+    public void testStaleOnError() throws UnknownHostException, InterruptedException {
+        InetAddress a1 = address("foo.com", 1);
+        MockDnsResolver delegate = new MockDnsResolver(Arrays.asList(a1));
+        CachingDnsResolver resolver = new CachingDnsResolver(delegate, 100, 1000);
+        resolver.resolve("foo.com");
+        delegate.failed.set(true);
+        Thread.sleep(150);
+        assertEquals(Arrays.asList(a1), resolver.resolve("foo.com"));
+        assertEquals(Arrays.asList(a1), resolver.resolve("foo.com"));
+        assertEquals(2, delegate.lookups.get());
+    }
+
+    @Test
+    public void testBackendAdapters() throws UnknownHostException {
+        InetAddress a1 = address("foo.com", 1);
+        InetAddress a2 = address("foo.com", 2);
+        CachingDnsResolver resolver = new CachingDnsResolver(new MockDnsResolver(Arrays.asList(a1, a2)), 60000, 1000);
+        assertEquals(Arrays.asList(a1, a2), new OkHttp3Dns(resolver).lookup("foo.com"));
+        assertArrayEquals(new InetAddress[] {a2, a1}, new HttpclientDnsResolver(resolver).resolve("foo.com"));
+    }
+
+    @Test
+    public void testConfiguration() {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        assertNull(configuration.getDnsResolver());
+        configuration.setDnsTtl(30000L);
+        CachingDnsResolver resolver = (CachingDnsResolver) configuration.getDnsResolver();
+        assertEquals(30000L, resolver.getTtl());
+        assertEquals(HttpConnectionConstants.DEFAULT_DNS_NEGATIVE_TTL, resolver.getNegativeTtl());
+        assertSame(resolver, configuration.getDnsResolver());
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.dtflys.test.fanout;
+
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestNetworkException;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.fanout.FanOutItem;
+import com.dtflys.forest.fanout.FanOutResult;
+import com.dtflys.forest.fanout.FanOutStatus;
+import com.dtflys.forest.fanout.ForestFanOut;
+import com.dtflys.test.http.client.FanOutClient;
+import com.dtflys.test.mock.FanOutMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockserver.client.server.MockServerClient;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * @since 2026-10-19 02:40
+ */
+public class TestForestFanOut {
+
+    @Rule
+    public FanOutMockServer server = new FanOutMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    private final static Function<String, Object[]> PATH = path -> path.split("/");
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", FanOutMockServer.port);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+        // 预先建立连接，避免第一次请求的耗时影响截止时间
+        configuration.createInstance(FanOutClient.class).get("fast", "8");
+    }
+
+    private int getRequestCount(String kind) {
+        MockServerClient mockClient = new MockServerClient("localhost", FanOutMockServer.port);
+        int count = 0;
+        for (int i = 1; i <= 8; i++) {
+            count += mockClient.retrieveRecordedRequests(request().withPath("/" + kind + "/" + i)).length;
+        }
+        return count;
+    }
+
+    @Test
+    public void testAll() {
+        FanOutClient client = configuration.createInstance(FanOutClient.class);
+        FanOutResult<String, String> result = ForestFanOut.of("fast/1", "fast/2", "error/3", "fast/4")
+                .execute(client, "get", PATH);
+        assertEquals(Arrays.asList("fast-1", "fast-2", "fast-4"), result.getResults());
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get("error/3") instanceof ForestNetworkException);
+        assertEquals(FanOutStatus.FAILED, result.getItems().get(2).getStatus());
+        assertFalse(result.isSatisfied());
+        assertFalse(result.isTimeout());
+    }
+
+    @Test
+    public void testSingleArgument() {
+        FanOutClient client = configuration.createInstance(FanOutClient.class);
+        FanOutResult<Integer, String> result = ForestFanOut.of(1, 2, 3)
+                .execute(client, "getFast");
+        assertEquals(Arrays.asList("fast-1", "fast-2", "fast-3"), result.getResults());
+        assertTrue(result.isSatisfied());
+    }
+
+    @Test
+    public void testConcurrency() {
+        FanOutClient client = configuration.createInstance(FanOutClient.class);
+        long start = System.currentTimeMillis();
+        FanOutResult<String, String> result = ForestFanOut.of("delay/1", "delay/2", "delay/3", "delay/4")
+                .concurrency(2)
+                .execute(client, "get", PATH);
+        assertEquals(4, result.getSuccessCount());
+        assertTrue(result.isSatisfied());
+        // 每次最多2个调用，4个200毫秒的调用至少分两轮
+        assertTrue(System.currentTimeMillis() - start >= 400);
+    }
+
+    @Test
+    public void testFirst() {
+        FanOutClient client = configuration.createInstance(FanOutClient.class);
+        FanOutResult<String, String> result = ForestFanOut.of("fast/1", "fast/2", "slow/3", "slow/4")
+                .concurrency(2)
+                .first(2)
+                .execute(client, "get", PATH);
+        assertTrue(result.isSatisfied());
+        assertEquals(Arrays.asList("fast-1", "fast-2"), result.getResults());
+        // 满足条件后不再等待还在进行的调用，剩余的调用不再发起
+        assertEquals(FanOutStatus.CANCELLED, result.getItems().get(2).getStatus());
+        assertEquals(FanOutStatus.CANCELLED, result.getItems().get(3).getStatus());
+        assertTrue(result.getItems().get(2).getElapsed() < 3000);
+        assertTrue(getRequestCount("slow") <= 1);
+    }
+
+    @Test
+    public void testQuorumUnreachable() {
+        FanOutClient client = configuration.createInstance(FanOutClient.class);
+        FanOutResult<String, String> result = ForestFanOut.of("error/1", "error/2", "error/3", "error/4", "error/5")
+                .concurrency(1)
+                .quorum()
+                .execute(client, "get", PATH);
+        // 3个失败后多数已经不可能达成，剩下的调用不再发起
+        assertEquals(3, getRequestCount("error"));
+        assertEquals(3, result.getRequired());
+        assertFalse(result.isSatisfied());
+        assertEquals(FanOutStatus.CANCELLED, result.getItems().get(4).getStatus());
+    }
+
+    @Test
+    public void testTimeout() {
+        FanOutClient client = configuration.createInstance(FanOutClient.class);
+        FanOutResult<String, String> result = ForestFanOut.of("fast/1", "slow/2")
+                .concurrency(1)
+                .timeout(500)
+                .execute(client, "get", PATH);
+        assertTrue(result.isTimeout());
+        assertEquals(Arrays.asList("fast-1"), result.getResults());
+        FanOutItem<String, String> item = result.getItems().get(1);
+        assertEquals(FanOutStatus.TIMEOUT, item.getStatus());
+        assertTrue(item.getError() instanceof TimeoutException);
+        // 超过截止时间后不再等待还在进行的调用
+        assertTrue(item.getElapsed() < 3000);
+    }
+
+    @Test
+    public void testExecuteAsync() throws Exception {
+        FanOutClient client = configuration.createInstance(FanOutClient.class);
+        CompletableFuture<FanOutResult<String, String>> future = ForestFanOut.of("delay/1", "delay/2", "delay/3")
+                .concurrency(1)
+                .executeAsync(client, "get", PATH);
+        // 不等待调用结束，立即返回
+        assertFalse(future.isDone());
+        FanOutResult<String, String> result = future.get(10, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("delay-1", "delay-2", "delay-3"), result.getResults());
+    }
+
+    @Test
+    public void testExecuteAsyncCancel() throws Exception {
+        FanOutClient client = configuration.createInstance(FanOutClient.class);
+        CompletableFuture<FanOutResult<String, String>> future = ForestFanOut.of("slow/1", "delay/2")
+                .concurrency(1)
+                .executeAsync(client, "get", PATH);
+        future.cancel(true);
+        Thread.sleep(3500);
+        // 取消后剩余的调用不再发起
+        assertEquals(0, getRequestCount("delay"));
+    }
+
+    @Test
+    public void testMethodNotFound() {
+        FanOutClient client = configuration.createInstance(FanOutClient.class);
+        try {
+            ForestFanOut.of(1).execute(client, "getNothing");
+            fail();
+        } catch (ForestRuntimeException e) {
+            assertTrue(e.getMessage().contains("getNothing"));
+        }
+        try {
+            ForestFanOut.of(1).execute(client, "getOverloaded");
+            fail();
+        } catch (ForestRuntimeException e) {
+            assertTrue(e.getMessage().contains("ambiguous"));
+        }
+        try {
+            ForestFanOut.of(1).execute(new Object(), "getFast");
+            fail();
+        } catch (ForestRuntimeException e) {
+            assertTrue(e.getMessage().contains("client"));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.dtflys.test.http;
 
 import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.backend.HttpBackendSelector;
 import com.dtflys.forest.backend.httpclient.HttpclientBackend;
 import com.dtflys.forest.backend.okhttp3.OkHttp3Backend;
 import com.dtflys.forest.config.ForestConfiguration;
@@ -14,8 +15,9 @@ import org.junit.runners.Parameterized;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * @author gongjun[jun.gong@thebeastshop.com]
@@ -35,10 +37,17 @@ public abstract class BaseClientTest {
 
     @Parameterized.Parameters
     public static Collection backendList() {
-        return Arrays.asList(
-                new HttpBackend[][] {
-                        {new HttpclientBackend()},
-                        {new OkHttp3Backend()}});
+        List<HttpBackend[]> backends = new ArrayList<>();
+        backends.add(new HttpBackend[] {new HttpclientBackend()});
+        backends.add(new HttpBackend[] {new OkHttp3Backend()});
+        // 在JDK 11+ 上同时测试JDK自带HTTP客户端的后端
+        HttpBackend jdkBackend = new HttpBackendSelector().findJdkBackendInstance();
+        if (jdkBackend != null) {
+            backends.add(new HttpBackend[] {jdkBackend});
+        }
+        backends.add(new HttpBackend[] {new HttpBackendSelector().findNettyBackendInstance()});
+        backends.add(new HttpBackend[] {new HttpBackendSelector().findHttpclient5BackendInstance()});
+        return backends;
     }
 
 }
@@ -0,0 +1,97 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.proxy.InterfaceProxyHandler;
+import com.dtflys.forest.reflection.ForestMethod;
+import com.dtflys.forest.timeout.AdaptiveTimeoutPolicy;
+import com.dtflys.test.http.client.AdaptiveTimeoutClient;
+import com.dtflys.test.mock.AdaptiveTimeoutMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19 02:54
+ */
+public class TestAdaptiveTimeoutClient extends BaseClientTest {
+
+    @Rule
+    public AdaptiveTimeoutMockServer server = new AdaptiveTimeoutMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", AdaptiveTimeoutMockServer.port);
+    }
+
+    public TestAdaptiveTimeoutClient(HttpBackend backend) {
+        super(backend, configuration);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    @Test
+    public void testAdaptiveTimeout() throws NoSuchMethodException {
+        AdaptiveTimeoutClient client = configuration.createInstance(AdaptiveTimeoutClient.class);
+        InterfaceProxyHandler handler = (InterfaceProxyHandler) Proxy.getInvocationHandler(client);
+        ForestMethod method = (ForestMethod) handler.getForestMethodMap()
+                .get(AdaptiveTimeoutClient.class.getMethod("latency", int.class));
+        AdaptiveTimeoutPolicy policy = method.getAdaptiveTimeout();
+        assertNotNull(policy);
+
+        // 样本不足时使用配置的超时时间
+        assertEquals("ok", client.latency(500));
+        for (int i = 0; i < 4; i++) {
+            assertEquals("ok", client.latency(0));
+        }
+        assertEquals(5, policy.getHistogram().getCount());
+
+        long start = System.currentTimeMillis();
+        try {
+            client.latency(5000);
+            fail();
+        } catch (Exception ignored) {
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        int timeout = policy.getCurrentTimeout();
+        // 最慢的样本约500ms，超时时间约为其2倍
+        assertTrue("timeout " + timeout, timeout >= 1000 && timeout < 4000);
+        assertTrue("elapsed " + elapsed, elapsed < 4500);
+        assertEquals(6, policy.getHistogram().getCount());
+    }
+
+    @Test
+    public void testRecordEachAttempt() throws NoSuchMethodException {
+        AdaptiveTimeoutClient client = configuration.createInstance(AdaptiveTimeoutClient.class);
+        InterfaceProxyHandler handler = (InterfaceProxyHandler) Proxy.getInvocationHandler(client);
+        ForestMethod method = (ForestMethod) handler.getForestMethodMap()
+                .get(AdaptiveTimeoutClient.class.getMethod("failure"));
+        AdaptiveTimeoutPolicy policy = method.getAdaptiveTimeout();
+        long start = System.currentTimeMillis();
+        try {
+            client.failure();
+            fail();
+        } catch (Exception ignored) {
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        // 两次重试各等待500ms，每一次尝试分别记入，记入的延迟不包括等待时间
+        assertTrue("elapsed " + elapsed, elapsed >= 1000);
+        assertEquals(3, policy.getHistogram().getCount());
+        long slowest = policy.getHistogram().getPercentile(100);
+        assertTrue("slowest " + slowest, slowest < 500);
+    }
+}
@@ -0,0 +1,113 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.test.http.client.CollapserClient;
+import com.dtflys.test.mock.CollapserMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.model.Header;
+import org.mockserver.verify.VerificationTimes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * @since 2026-10-19 02:37
+ */
+public class TestCollapserClient {
+
+    @Rule
+    public CollapserMockServer server = new CollapserMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", CollapserMockServer.port);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    private int getBatchCount() {
+        MockServerClient mockClient = new MockServerClient("localhost", CollapserMockServer.port);
+        return mockClient.retrieveRecordedRequests(request().withPath("/items")).length;
+    }
+
+    @Test
+    public void testCollapse() throws Exception {
+        CollapserClient client = configuration.createInstance(CollapserClient.class);
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CollapserClient.Item>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 20; i++) {
+                int id = i % 10;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return client.getItem(id);
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < 20; i++) {
+                CollapserClient.Item item = results.get(i).get(10, TimeUnit.SECONDS);
+                assertEquals(Integer.valueOf(i % 10), item.getId());
+                assertEquals("item-" + (i % 10), item.getName());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // 20个并发调用合并为很少的几次批量请求
+        assertTrue(getBatchCount() <= 2);
+    }
+
+    @Test
+    public void testMaxBatchSize() throws Exception {
+        CollapserClient client = configuration.createInstance(CollapserClient.class);
+        List<CompletableFuture<CollapserClient.Item>> futures = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            futures.add(client.getItemAsync(i));
+        }
+        for (int i = 1; i <= 7; i++) {
+            assertEquals(Integer.valueOf(i), futures.get(i - 1).get(10, TimeUnit.SECONDS).getId());
+        }
+        assertEquals(3, getBatchCount());
+    }
+
+    @Test
+    public void testMissingKey() {
+        CollapserClient client = configuration.createInstance(CollapserClient.class);
+        assertNull(client.getItem(-1));
+        assertEquals(1, getBatchCount());
+    }
+
+    @Test
+    public void testSingleMethodLifeCycle() {
+        CollapserClient client = configuration.createInstance(CollapserClient.class);
+        assertEquals(Integer.valueOf(1), client.getAuthorizedItem(1).getId());
+        // 单条数据方法上的 @BasicAuth 作用于批量请求
+        MockServerClient mockClient = new MockServerClient("localhost", CollapserMockServer.port);
+        mockClient.verify(
+                request()
+                        .withPath("/items")
+                        .withHeader(new Header("Authorization", "Basic Zm9vOmJhcg==")),
+                VerificationTimes.exactly(1));
+    }
+}
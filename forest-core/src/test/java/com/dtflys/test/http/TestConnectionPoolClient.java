@@ -0,0 +1,110 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.ConnectionUtilization;
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.pool.ForestConnectionPool;
+import com.dtflys.forest.priority.ForestPriorityDispatcher;
+import com.dtflys.test.http.client.ConnectionPoolClient;
+import com.dtflys.test.mock.ConnectionPoolMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 03:45
+ */
+public class TestConnectionPoolClient extends BaseClientTest {
+
+    @Rule
+    public ConnectionPoolMockServer server = new ConnectionPoolMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", ConnectionPoolMockServer.port);
+    }
+
+    public TestConnectionPoolClient(HttpBackend backend) {
+        super(backend, configuration);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+        configuration.setPriorityDispatch(true);
+    }
+
+    @Test
+    public void testIsolation() throws Exception {
+        ConnectionPoolClient client = configuration.createInstance(ConnectionPoolClient.class);
+        long start = System.currentTimeMillis();
+        List<Future<String>> slowFutures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            slowFutures.add(client.slow());
+        }
+        // 分组的连接占满时，默认连接池的请求不受影响
+        assertEquals("fast", client.fast().get());
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue("elapsed " + elapsed, elapsed < 250);
+        for (Future<String> future : slowFutures) {
+            assertEquals("slow", future.get());
+        }
+        // 分组只有一个连接，请求依次发送
+        elapsed = System.currentTimeMillis() - start;
+        assertTrue("elapsed " + elapsed, elapsed >= 850);
+
+        ForestConnectionPool pool = configuration.getConnectionPool("partner");
+        assertNotNull(pool);
+        ForestPriorityDispatcher dispatcher = pool.getPriorityDispatcher(configuration);
+        assertEquals(1, dispatcher.getMaxRequests());
+        assertEquals(2, dispatcher.getQueueStats().get(0).getQueuedCount());
+        assertEquals(500, configuration.getPriorityDispatcher().getMaxRequests());
+
+        HttpBackend poolBackend = pool.getBackend(configuration);
+        assertNotSame(configuration.getBackend(), poolBackend);
+        assertSame(configuration.getBackend().getClass(), poolBackend.getClass());
+        Map<String, ConnectionUtilization> utilizations = configuration.getConnectionUtilizations();
+        if (utilizations.containsKey(ForestConnectionPool.DEFAULT_NAME)) {
+            assertTrue(utilizations.containsKey("partner"));
+        }
+    }
+
+    @Test
+    public void testPoolPerMethod() {
+        ConnectionPoolClient client = configuration.createInstance(ConnectionPoolClient.class);
+        assertEquals("fast", client.own());
+        ForestConnectionPool pool = configuration.getConnectionPool(ConnectionPoolClient.class.getName() + "#own");
+        assertNotNull(pool);
+        assertSame(configuration.getBackend().getClass(), pool.getBackend(configuration).getClass());
+    }
+
+    @Test
+    public void testResetBackend() {
+        ConnectionPoolClient client = configuration.createInstance(ConnectionPoolClient.class);
+        assertEquals("fast", client.own());
+        ForestConnectionPool pool = configuration.getConnectionPool(ConnectionPoolClient.class.getName() + "#own");
+        HttpBackend poolBackend = pool.getBackend(configuration);
+        // 全局后端改变后，分组的后端被关闭，之后的请求使用新创建的后端
+        configuration.setBackend(configuration.getBackend());
+        HttpBackend newBackend = pool.getBackend(configuration);
+        assertNotSame(poolBackend, newBackend);
+        assertSame(poolBackend.getClass(), newBackend.getClass());
+        assertEquals("fast", client.own());
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestDeadlineException;
+import com.dtflys.forest.http.ForestDeadline;
+import com.dtflys.test.http.client.DeadlineClient;
+import com.dtflys.test.mock.DeadlineMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.model.HttpRequest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * @since 2026-10-19 02:49
+ */
+public class TestDeadlineClient extends BaseClientTest {
+
+    private final static String DEADLINE_HEADER = "X-Request-Timeout";
+
+    @Rule
+    public DeadlineMockServer server = new DeadlineMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", DeadlineMockServer.port);
+    }
+
+    public TestDeadlineClient(HttpBackend backend) {
+        super(backend, configuration);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    private HttpRequest[] getRequests(String path) {
+        MockServerClient mockClient = new MockServerClient("localhost", DeadlineMockServer.port);
+        return mockClient.retrieveRecordedRequests(request().withPath(path));
+    }
+
+    @Test
+    public void testDeadlineStopsRetry() {
+        DeadlineClient client = configuration.createInstance(DeadlineClient.class);
+        long start = System.currentTimeMillis();
+        try {
+            client.slow();
+            fail();
+        } catch (Exception ignored) {
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        // 没有截止时间时最多需要 4 x 2000ms，读取超时缩短为剩余时间后，用完600ms就不再重试
+        assertTrue("elapsed " + elapsed, elapsed < 1500);
+    }
+
+    @Test
+    public void testPropagateRemaining() {
+        DeadlineClient client = configuration.createInstance(DeadlineClient.class);
+        assertEquals("ok", client.fast());
+        assertFalse(getRequests("/fast")[0].containsHeader(DEADLINE_HEADER));
+        String result = ForestDeadline.call(ForestDeadline.after(3000), client::fast);
+        assertEquals("ok", result);
+        long remaining = Long.parseLong(getRequests("/fast")[1].getFirstHeader(DEADLINE_HEADER));
+        assertTrue(remaining > 0 && remaining <= 3000);
+        assertNull(ForestDeadline.current());
+    }
+
+    @Test
+    public void testExpiredDeadline() {
+        DeadlineClient client = configuration.createInstance(DeadlineClient.class);
+        ForestDeadline.bind(ForestDeadline.after(-1));
+        try {
+            client.fast();
+            fail();
+        } catch (ForestDeadlineException ignored) {
+        } finally {
+            ForestDeadline.bind(null);
+        }
+        assertEquals(0, getRequests("/fast").length);
+    }
+
+    @Test
+    public void testRemaining() {
+        ForestDeadline shorter = ForestDeadline.after(1000);
+        ForestDeadline longer = ForestDeadline.after(5000);
+        assertSame(shorter, ForestDeadline.earliest(longer, shorter));
+        assertSame(shorter, ForestDeadline.earliest(shorter, longer));
+        long remaining = shorter.remaining();
+        assertTrue(remaining > 0 && remaining <= 1000);
+        assertFalse(shorter.isExpired());
+        assertTrue(ForestDeadline.after(-1).isExpired());
+    }
+}
@@ -84,6 +84,12 @@ public class TestGetClient extends BaseClientTest {
         assertEquals("ok", map.get("status"));
     }
 
+    @Test
+    public void testJsonPathGet() {
+        String status = getClient.jsonPathGet();
+        assertEquals("ok", status);
+    }
+
 
     @Test
     public void testTextParamGet() {
@@ -0,0 +1,77 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.ConnectionUtilization;
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.backend.httpclient.HttpclientBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestUnsupportException;
+import com.dtflys.test.http.client.H2cClient;
+import com.dtflys.test.http.client.HttpProtocolClient;
+import com.dtflys.test.mock.GetMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 01:03
+ */
+public class TestHttpProtocolClient extends BaseClientTest {
+
+    @Rule
+    public GetMockServer server = new GetMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", GetMockServer.port);
+    }
+
+    public TestHttpProtocolClient(HttpBackend backend) {
+        super(backend, configuration);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    @Test
+    public void testHttp1() {
+        HttpProtocolClient client = configuration.createInstance(HttpProtocolClient.class);
+        assertEquals(GetMockServer.EXPECTED, client.simpleGet());
+        ConnectionUtilization utilization = backend.getConnectionManager().getUtilization();
+        if ("jdk".equals(backend.getName())) {
+            // JDK自带的HttpClient不提供连接池统计
+            assertNull(utilization);
+            return;
+        }
+        assertNotNull(utilization);
+        assertTrue(utilization.getConnections() >= 1);
+        assertEquals(0, utilization.getMultiplexedConnections());
+        assertTrue(utilization.getMaxStreamsPerConnection() <= 1);
+    }
+
+    @Test
+    public void testH2cUnsupported() {
+        if (!(backend instanceof HttpclientBackend)) {
+            return;
+        }
+        H2cClient client = configuration.createInstance(H2cClient.class);
+        boolean thrown = false;
+        try {
+            client.simpleGet();
+        } catch (ForestUnsupportException e) {
+            thrown = true;
+        }
+        assertTrue(thrown);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.httpclient5.conn.Httpclient5ConnectionManager;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.http.ForestRequest;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 04:34
+ */
+public class TestHttpclient5ConnectionManager {
+
+    @Test
+    public void testReInitClosesAsyncClient() {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        Httpclient5ConnectionManager connectionManager = new Httpclient5ConnectionManager();
+        connectionManager.init(configuration);
+        ForestRequest request = new ForestRequest(configuration)
+                .setUrl("http://localhost/test")
+                .setAsync(true);
+        CloseableHttpAsyncClient client = connectionManager.getAsyncClient(request);
+        assertNotEquals(IOReactorStatus.SHUT_DOWN, client.getStatus());
+        // 重新初始化后，之前的异步客户端被关闭，不再占用I/O线程
+        connectionManager.init(configuration);
+        assertEquals(IOReactorStatus.SHUT_DOWN, client.getStatus());
+        CloseableHttpAsyncClient newClient = connectionManager.getAsyncClient(request);
+        assertNotSame(client, newClient);
+        assertNotEquals(IOReactorStatus.SHUT_DOWN, newClient.getStatus());
+        connectionManager.init(configuration);
+    }
+
+    @Test
+    public void testClose() {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        Httpclient5ConnectionManager connectionManager = new Httpclient5ConnectionManager();
+        connectionManager.init(configuration);
+        ForestRequest request = new ForestRequest(configuration)
+                .setUrl("http://localhost/test")
+                .setAsync(true);
+        CloseableHttpAsyncClient client = connectionManager.getAsyncClient(request);
+        ExecutorService workerExecutor = connectionManager.getWorkerExecutor();
+        // 关闭后异步客户端的I/O线程和工作线程都被释放
+        connectionManager.close();
+        assertEquals(IOReactorStatus.SHUT_DOWN, client.getStatus());
+        assertTrue(workerExecutor.isShutdown());
+        // 重新初始化后可以继续使用
+        connectionManager.init(configuration);
+        assertNotEquals(IOReactorStatus.SHUT_DOWN, connectionManager.getAsyncClient(request).getStatus());
+        connectionManager.close();
+    }
+}
@@ -0,0 +1,81 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.httpclient5.response.Httpclient5ResponseBody;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19 02:06
+ */
+public class TestHttpclient5ResponseBody {
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        Httpclient5ResponseBody body = new Httpclient5ResponseBody(false, () -> {});
+        body.offer(bytes("foo"));
+        body.offer(bytes("bar"));
+        body.finish();
+        byte[] buffer = new byte[16];
+        StringBuilder builder = new StringBuilder();
+        int len;
+        while ((len = body.read(buffer)) != -1) {
+            builder.append(new String(buffer, 0, len, StandardCharsets.UTF_8));
+        }
+        assertEquals("foobar", builder.toString());
+        body.close();
+    }
+
+    @Test
+    public void testCapacity() throws IOException {
+        AtomicInteger capacity = new AtomicInteger(0);
+        Httpclient5ResponseBody body = new Httpclient5ResponseBody(true, () -> {});
+        body.updateCapacity(capacity::addAndGet);
+        int initial = capacity.get();
+        assertTrue(initial > 0);
+        body.offer(bytes("abc"));
+        body.offer(bytes("de"));
+        assertEquals('a', body.read());
+        assertEquals(initial, capacity.get());
+        assertEquals('b', body.read());
+        assertEquals('c', body.read());
+        assertEquals('d', body.read());
+        // 读完第一个数据块后归还其容量
+        assertEquals(initial + 3, capacity.get());
+        body.close();
+    }
+
+    @Test
+    public void testCloseBeforeFinished() {
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        Httpclient5ResponseBody body = new Httpclient5ResponseBody(true, () -> aborted.set(true));
+        body.offer(bytes("a"));
+        body.close();
+        assertTrue(aborted.get());
+    }
+
+    @Test
+    public void testFail() throws IOException {
+        Httpclient5ResponseBody body = new Httpclient5ResponseBody(false, () -> {});
+        body.offer(bytes("a"));
+        body.fail(new IOException("reset"));
+        assertEquals('a', body.read());
+        try {
+            body.read();
+            fail();
+        } catch (IOException e) {
+            assertEquals("reset", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.httpclient.HttpclientBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.http.ForestResponse;
+import com.dtflys.forest.interceptor.Interceptor;
+import com.dtflys.test.http.client.GetClient;
+import com.dtflys.test.mock.GetMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * httpclient 后端的异步请求
+ *
+ * @since 2026-10-19 04:54
+ */
+public class TestHttpclientAsyncClient {
+
+    @Rule
+    public GetMockServer server = new GetMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    private static volatile CountDownLatch completed;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", GetMockServer.port);
+        configuration.setCacheEnabled(false);
+        configuration.setBackend(new HttpclientBackend());
+        configuration.setInterceptors(Collections.singletonList(CompleteInterceptor.class));
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+        configuration.getBackend().getConnectionManager().init(configuration);
+    }
+
+    /**
+     * 记录请求的成功回调和结束回调
+     */
+    public static class CompleteInterceptor implements Interceptor<Object> {
+
+        @Override
+        public void onSuccess(Object data, ForestRequest request, ForestResponse response) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onError(ForestRuntimeException ex, ForestRequest request, ForestResponse response) {
+        }
+
+        @Override
+        public void afterExecute(ForestRequest request, ForestResponse response) {
+            completed.countDown();
+        }
+    }
+
+    @Test
+    public void testCompleteWithoutOnSuccess() throws Exception {
+        completed = new CountDownLatch(2);
+        GetClient getClient = configuration.createInstance(GetClient.class);
+        // 没有 OnSuccess 回调时，拦截器的成功回调和结束回调同样会执行
+        Future<String> future = getClient.asyncFutureGet();
+        assertEquals(GetMockServer.EXPECTED, future.get());
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        GetClient getClient = configuration.createInstance(GetClient.class);
+        completed = new CountDownLatch(20);
+        // 每个请求的客户端对象共享同一个已经启动的连接池
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(getClient.asyncFutureGet());
+        }
+        for (Future<String> future : futures) {
+            assertEquals(GetMockServer.EXPECTED, future.get(5, TimeUnit.SECONDS));
+        }
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,39 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.httpclient.conn.HttpclientConnectionEvictor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @since 2026-10-19 06:48
+ */
+public class TestHttpclientConnectionEvictor {
+
+    @Test
+    public void testEvictRegisteredConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = mock(PoolingHttpClientConnectionManager.class);
+        PoolingNHttpClientConnectionManager asyncConnectionManager = mock(PoolingNHttpClientConnectionManager.class);
+        PoolingHttpClientConnectionManager unixSocketConnectionManager = mock(PoolingHttpClientConnectionManager.class);
+        HttpclientConnectionEvictor evictor = new HttpclientConnectionEvictor(
+                connectionManager, asyncConnectionManager, 60000, 1000);
+        try {
+            // 按路径创建的 Unix Domain Socket 连接池注册后与主连接池一同清理
+            evictor.register(unixSocketConnectionManager);
+            evictor.evict();
+            verify(connectionManager).closeExpiredConnections();
+            verify(connectionManager).closeIdleConnections(1000, TimeUnit.MILLISECONDS);
+            verify(asyncConnectionManager).closeExpiredConnections();
+            verify(asyncConnectionManager).closeIdleConnections(1000, TimeUnit.MILLISECONDS);
+            verify(unixSocketConnectionManager).closeExpiredConnections();
+            verify(unixSocketConnectionManager).closeIdleConnections(1000, TimeUnit.MILLISECONDS);
+        } finally {
+            evictor.shutdown();
+        }
+    }
+}
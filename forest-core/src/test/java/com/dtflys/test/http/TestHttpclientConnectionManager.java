@@ -0,0 +1,64 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.httpclient.conn.HttpclientConnectionManager;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.test.mock.GetMockServer;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19 04:54
+ */
+public class TestHttpclientConnectionManager {
+
+    @Rule
+    public GetMockServer server = new GetMockServer(this);
+
+    private final static String URL = "http://localhost:" + GetMockServer.port + "/hello/user?username=foo";
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    private static HttpResponse get(CloseableHttpAsyncClient client) throws Exception {
+        HttpGet httpGet = new HttpGet(URL);
+        httpGet.setHeader(HttpHeaders.ACCEPT, "text/plain");
+        return client.execute(httpGet, null).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testReInitClosesAsyncConnectionManager() throws Exception {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        HttpclientConnectionManager connectionManager = new HttpclientConnectionManager();
+        connectionManager.init(configuration);
+        ForestRequest request = new ForestRequest(configuration)
+                .setUrl(URL)
+                .setAsync(true);
+        CloseableHttpAsyncClient client = connectionManager.getHttpAsyncClient(request);
+        client.start();
+        assertEquals(200, get(client).getStatusLine().getStatusCode());
+        // 重新初始化后，之前的异步连接池被关闭，不能再通过它发送请求
+        connectionManager.init(configuration);
+        try {
+            get(client);
+            fail();
+        } catch (Exception ignored) {
+        }
+        CloseableHttpAsyncClient newClient = connectionManager.getHttpAsyncClient(request);
+        newClient.start();
+        assertEquals(200, get(newClient).getStatusLine().getStatusCode());
+        connectionManager.init(configuration);
+    }
+}
@@ -0,0 +1,123 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.loadbalance.Endpoint;
+import com.dtflys.forest.loadbalance.EndpointGroup;
+import com.dtflys.forest.proxy.InterfaceProxyHandler;
+import com.dtflys.test.http.client.ConsistentHashClient;
+import com.dtflys.test.http.client.LoadBalanceClient;
+import com.dtflys.test.mock.GetMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockserver.client.server.MockServerClient;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 02:22
+ */
+public class TestLoadBalanceClient extends BaseClientTest {
+
+    @Rule
+    public GetMockServer server = new GetMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    private static int deadPort;
+
+    @BeforeClass
+    public static void prepareClient() throws IOException {
+        // 取一个空闲端口后关闭，连接该端口会被拒绝
+        try (ServerSocket socket = new ServerSocket(0)) {
+            deadPort = socket.getLocalPort();
+        }
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", GetMockServer.port);
+        configuration.setVariableValue("deadPort", deadPort);
+    }
+
+    public TestLoadBalanceClient(HttpBackend backend) {
+        super(backend, configuration);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    @Test
+    public void testRetryOnAnotherEndpoint() {
+        LoadBalanceClient client = configuration.createInstance(LoadBalanceClient.class);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(GetMockServer.EXPECTED, client.simpleGet());
+        }
+        EndpointGroup group = ((InterfaceProxyHandler) Proxy.getInvocationHandler(client)).getEndpointGroup();
+        Endpoint dead = group.getEndpoint("http://localhost:" + deadPort);
+        Endpoint live = group.getEndpoint("http://localhost:" + GetMockServer.port);
+        // 轮询时一半的请求先发往不可用的端点，失败后在另一个端点重试
+        assertEquals(2, dead.getFailureCount());
+        assertEquals(4, live.getRequestCount());
+        assertEquals(0, live.getFailureCount());
+        assertEquals(0, dead.getActiveRequests());
+        assertEquals(0, live.getActiveRequests());
+        assertTrue(live.getLatency() > 0);
+    }
+
+    @Test
+    public void testRetryKeepsEncodedPath() {
+        new MockServerClient("localhost", GetMockServer.port).when(
+                request()
+                        .withPath("/hello/user name")
+                        .withMethod("GET")
+                        .withQueryStringParameter("username", "foo")
+        ).respond(
+                response()
+                        .withStatusCode(200)
+                        .withBody(GetMockServer.EXPECTED)
+        );
+        LoadBalanceClient client = configuration.createInstance(LoadBalanceClient.class);
+        // 其中一个请求先发往不可用的端点，在另一个端点重试时路径不能被再次编码
+        for (int i = 0; i < 2; i++) {
+            assertEquals(GetMockServer.EXPECTED, client.encodedPathGet());
+        }
+    }
+
+    @Test
+    public void testEjectDeadEndpoint() {
+        LoadBalanceClient client = configuration.createInstance(LoadBalanceClient.class);
+        for (int i = 0; i < 14; i++) {
+            assertEquals(GetMockServer.EXPECTED, client.simpleGet());
+        }
+        EndpointGroup group = ((InterfaceProxyHandler) Proxy.getInvocationHandler(client)).getEndpointGroup();
+        Endpoint dead = group.getEndpoint("http://localhost:" + deadPort);
+        // 连续失败5次后被剔除，之后的请求不再发往该端点
+        assertTrue(dead.isEjected());
+        assertEquals(5, dead.getFailureCount());
+        assertEquals(14, group.getEndpoint("http://localhost:" + GetMockServer.port).getRequestCount());
+    }
+
+    @Test
+    public void testConsistentHash() {
+        ConsistentHashClient client = configuration.createInstance(ConsistentHashClient.class);
+        for (int i = 0; i < 6; i++) {
+            assertEquals(GetMockServer.EXPECTED, client.simpleGet("foo"));
+        }
+        EndpointGroup group = ((InterfaceProxyHandler) Proxy.getInvocationHandler(client)).getEndpointGroup();
+        long localhost = group.getEndpoint("http://localhost:" + GetMockServer.port).getRequestCount();
+        long loopback = group.getEndpoint("http://127.0.0.1:" + GetMockServer.port).getRequestCount();
+        // 相同的路由键总是发往同一个端点
+        assertEquals(6, Math.max(localhost, loopback));
+        assertEquals(0, Math.min(localhost, loopback));
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.netty.body.NettyRequestBody;
+import com.dtflys.forest.backend.netty.conn.NettyConnectionManager;
+import com.dtflys.forest.backend.netty.executor.NettyGetExecutor;
+import com.dtflys.forest.backend.netty.response.NettyHttpResponse;
+import com.dtflys.forest.backend.netty.response.NettyResponseBody;
+import com.dtflys.forest.backend.netty.response.NettyResponseHandler;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestNetworkException;
+import com.dtflys.forest.handler.LifeCycleHandler;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.reflection.NoneLifeCycleHandler;
+import com.dtflys.forest.retryer.BackOffRetryer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.Test;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19 04:24
+ */
+public class TestNettyExecutor {
+
+    /**
+     * 不经过网络，每次发送请求都返回一个带有响应体的 500 响应
+     */
+    private static class ErrorResponseExecutor extends NettyGetExecutor {
+
+        private final List<ByteBuf> buffers;
+
+        ErrorResponseExecutor(NettyConnectionManager connectionManager, ForestRequest request,
+                              LifeCycleHandler lifeCycleHandler, List<ByteBuf> buffers) {
+            super(connectionManager, new NettyResponseHandler(request, lifeCycleHandler), request);
+            this.buffers = buffers;
+        }
+
+        @Override
+        protected CompletableFuture<NettyHttpResponse> exchange(
+                URL url, HttpRequest httpRequest, NettyRequestBody body, LifeCycleHandler lifeCycleHandler) {
+            body.release();
+            HttpResponse head = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.INTERNAL_SERVER_ERROR);
+            // 二进制的响应体不会在创建响应时读取
+            head.headers().set(HttpHeaderNames.CONTENT_TYPE, "application/octet-stream");
+            NettyResponseBody responseBody = new NettyResponseBody(new EmbeddedChannel(), false, () -> {});
+            ByteBuf buf = Unpooled.copiedBuffer("error", StandardCharsets.UTF_8);
+            buffers.add(buf);
+            responseBody.offer(buf);
+            responseBody.finish();
+            return CompletableFuture.completedFuture(new NettyHttpResponse(head, responseBody));
+        }
+    }
+
+    @Test
+    public void testReleaseBodyBeforeRetry() {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        NettyConnectionManager connectionManager = new NettyConnectionManager();
+        connectionManager.init(configuration);
+        ForestRequest request = new ForestRequest(configuration)
+                .setUrl("http://localhost/error")
+                .setRetryCount(2)
+                .setMaxRetryInterval(0);
+        request.setRetryer(new BackOffRetryer(request));
+        List<ByteBuf> buffers = new ArrayList<>();
+        try {
+            new ErrorResponseExecutor(connectionManager, request, new NoneLifeCycleHandler(), buffers)
+                    .execute(new NoneLifeCycleHandler());
+            fail();
+        } catch (ForestNetworkException e) {
+            assertEquals(Integer.valueOf(500), e.getStatusCode());
+        }
+        assertEquals(3, buffers.size());
+        // 被重试的错误响应的响应体都已经释放，最后一个响应交给调用方处理
+        assertEquals(0, buffers.get(0).refCnt());
+        assertEquals(0, buffers.get(1).refCnt());
+    }
+}
@@ -0,0 +1,93 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.netty.response.NettyResponseBody;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19 01:56
+ */
+public class TestNettyResponseBody {
+
+    private static ByteBuf buffer(String text) {
+        return Unpooled.copiedBuffer(text, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        NettyResponseBody body = new NettyResponseBody(channel, false, () -> {});
+        body.offer(buffer("foo"));
+        body.offer(buffer("bar"));
+        body.finish();
+        byte[] bytes = new byte[16];
+        StringBuilder builder = new StringBuilder();
+        int len;
+        while ((len = body.read(bytes)) != -1) {
+            builder.append(new String(bytes, 0, len, StandardCharsets.UTF_8));
+        }
+        assertEquals("foobar", builder.toString());
+        body.close();
+    }
+
+    @Test
+    public void testBackpressure() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        NettyResponseBody body = new NettyResponseBody(channel, true, () -> {});
+        for (int i = 0; i < 64; i++) {
+            body.offer(buffer("a"));
+        }
+        assertFalse(channel.config().isAutoRead());
+        for (int i = 0; i < 48; i++) {
+            assertEquals('a', body.read());
+        }
+        assertTrue(channel.config().isAutoRead());
+        body.close();
+    }
+
+    @Test
+    public void testCloseBeforeFinished() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        NettyResponseBody body = new NettyResponseBody(channel, true, () -> aborted.set(true));
+        List<ByteBuf> buffers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ByteBuf buf = buffer("a");
+            buffers.add(buf);
+            body.offer(buf);
+        }
+        body.close();
+        assertTrue(aborted.get());
+        for (ByteBuf buf : buffers) {
+            assertEquals(0, buf.refCnt());
+        }
+    }
+
+    @Test
+    public void testFail() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        NettyResponseBody body = new NettyResponseBody(channel, false, () -> {});
+        body.offer(buffer("a"));
+        body.fail(new IOException("reset"));
+        assertEquals('a', body.read());
+        try {
+            body.read();
+            fail();
+        } catch (IOException e) {
+            assertEquals("reset", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.okhttp3.conn.OkHttp3ConnectionManager;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.reflection.NoneLifeCycleHandler;
+import okhttp3.OkHttpClient;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 05:32
+ */
+public class TestOkHttp3ConnectionManager {
+
+    @Test
+    public void testReInitClosesDispatcher() {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        OkHttp3ConnectionManager connectionManager = new OkHttp3ConnectionManager();
+        connectionManager.init(configuration);
+        ForestRequest request = new ForestRequest(configuration).setUrl("http://localhost/test");
+        OkHttpClient client = connectionManager.getClient(request, new NoneLifeCycleHandler());
+        ExecutorService executorService = client.dispatcher().executorService();
+        // 重新初始化后，之前的调度器线程池被关闭
+        connectionManager.init(configuration);
+        assertTrue(executorService.isShutdown());
+        OkHttpClient newClient = connectionManager.getClient(request, new NoneLifeCycleHandler());
+        assertNotSame(client.dispatcher(), newClient.dispatcher());
+        assertNotSame(client.connectionPool(), newClient.connectionPool());
+        assertFalse(newClient.dispatcher().executorService().isShutdown());
+        connectionManager.close();
+    }
+}
@@ -0,0 +1,160 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestDeadlineException;
+import com.dtflys.forest.http.ForestDeadline;
+import com.dtflys.forest.pagination.ForestPage;
+import com.dtflys.forest.pagination.ForestPageIterator;
+import com.dtflys.test.http.client.PaginatedClient;
+import com.dtflys.test.mock.PaginatedMockServer;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 2026-10-19 02:43
+ */
+public class TestPaginatedClient {
+
+    @Rule
+    public PaginatedMockServer server = new PaginatedMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    /**
+     * 模拟后端异步完成页面的获取
+     */
+    private static ExecutorService backend;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", PaginatedMockServer.port);
+        backend = Executors.newCachedThreadPool();
+    }
+
+    @AfterClass
+    public static void shutdownBackend() {
+        backend.shutdownNow();
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    @Test
+    public void testPageNumber() {
+        PaginatedClient client = configuration.createInstance(PaginatedClient.class);
+        try (Stream<Integer> stream = client.getAll(1, 3)) {
+            assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), stream.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testCursor() {
+        PaginatedClient client = configuration.createInstance(PaginatedClient.class);
+        Iterator<String> iterator = client.getAllByCursor("a");
+        List<String> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertEquals(Arrays.asList("a1", "a2", "b1", "b2", "c1", "c2"), items);
+    }
+
+    @Test
+    public void testDeadline() throws InterruptedException {
+        PaginatedClient client = configuration.createInstance(PaginatedClient.class);
+        // 创建迭代器时绑定的截止时间在之后获取页面时仍然有效
+        Iterator<String> iterator = ForestDeadline.call(ForestDeadline.after(300), () -> client.getAllByCursor("a"));
+        List<String> items = new ArrayList<>();
+        items.add(iterator.next());
+        Thread.sleep(500);
+        try {
+            iterator.forEachRemaining(items::add);
+            fail();
+        } catch (ForestDeadlineException e) {
+            // 超过截止时间后不再获取页面
+        }
+        assertEquals(Arrays.asList("a1", "a2", "b1", "b2"), items);
+    }
+
+    @Test
+    public void testBoundedPrefetch() throws InterruptedException {
+        AtomicInteger fetched = new AtomicInteger(0);
+        ForestPageIterator<Integer> iterator = new ForestPageIterator<>(cursor -> CompletableFuture.supplyAsync(() -> {
+            fetched.incrementAndGet();
+            int page = (Integer) cursor;
+            return new ForestPage<>(Collections.singletonList(page), page + 1, false);
+        }, backend), 1, 2);
+        assertEquals(Integer.valueOf(1), iterator.next());
+        Thread.sleep(300);
+        // 已取走1页，缓冲2页，最多再有1页等待放入缓冲区
+        assertTrue(fetched.get() >= 3);
+        assertTrue(fetched.get() <= 4);
+        assertEquals(Integer.valueOf(2), iterator.next());
+        iterator.close();
+        assertFalse(iterator.hasNext());
+        int count = fetched.get();
+        Thread.sleep(300);
+        assertTrue(fetched.get() <= count + 1);
+    }
+
+    @Test
+    public void testConcurrentPrefetch() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        ForestPageIterator<Integer> iterator = new ForestPageIterator<>(cursor -> CompletableFuture.supplyAsync(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+            int page = (Integer) cursor;
+            return new ForestPage<>(page > 6 ? Collections.emptyList() : Collections.singletonList(page), page + 1, false);
+        }, backend), 1, 3, cursor -> (Integer) cursor + 1);
+        long start = System.currentTimeMillis();
+        List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), items);
+        // 页码可以推算时，当前页面和后面3个页面同时获取
+        assertEquals(4, maxRunning.get());
+        assertTrue(System.currentTimeMillis() - start < 7 * 200);
+    }
+
+    @Test
+    public void testDroppedIterator() throws InterruptedException {
+        AtomicInteger fetched = new AtomicInteger(0);
+        ForestPageIterator<Integer> iterator = new ForestPageIterator<>(cursor -> CompletableFuture.supplyAsync(() -> {
+            fetched.incrementAndGet();
+            int page = (Integer) cursor;
+            return new ForestPage<>(Collections.singletonList(page), page + 1, false);
+        }, backend), 1, 2, cursor -> (Integer) cursor + 1);
+        assertEquals(Integer.valueOf(1), iterator.next());
+        // 不调用 close() 直接丢弃迭代器，取走第1页后只有后面2页在获取，之后不再发起请求
+        Thread.sleep(300);
+        assertEquals(3, fetched.get());
+        Thread.sleep(300);
+        assertEquals(3, fetched.get());
+    }
+}
@@ -0,0 +1,186 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestPriorityRejectedException;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.priority.ForestPriorityDispatcher;
+import com.dtflys.forest.priority.PriorityQueueStats;
+import com.dtflys.forest.priority.PriorityRejectPolicy;
+import com.dtflys.test.http.client.PriorityClient;
+import com.dtflys.test.mock.PriorityMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.Parameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * @since 2026-10-19 03:36
+ */
+public class TestPriorityClient extends BaseClientTest {
+
+    @Rule
+    public PriorityMockServer server = new PriorityMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", PriorityMockServer.port);
+        configuration.setMaxRequests(1);
+        configuration.setPriorityDispatch(true);
+    }
+
+    public TestPriorityClient(HttpBackend backend) {
+        super(backend, configuration);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+        configuration.setPriorityAgingInterval(60000);
+        configuration.setPriorityQueueCapacity(10000);
+        configuration.setPriorityRejectPolicy(PriorityRejectPolicy.ABORT);
+    }
+
+    /**
+     * 服务端收到请求的顺序
+     */
+    private List<String> getServed() {
+        MockServerClient mockClient = new MockServerClient("localhost", PriorityMockServer.port);
+        List<String> served = new ArrayList<>();
+        for (HttpRequest request : mockClient.retrieveRecordedRequests(request().withPath("/work"))) {
+            for (Parameter parameter : request.getQueryStringParameters()) {
+                if ("name".equals(parameter.getName().getValue())) {
+                    served.add(parameter.getValues().get(0).getValue());
+                }
+            }
+        }
+        return served;
+    }
+
+    @Test
+    public void testPriorityOrder() throws Exception {
+        PriorityClient client = configuration.createInstance(PriorityClient.class);
+        List<Future<String>> futures = new ArrayList<>();
+        futures.add(client.normal("first"));
+        futures.add(client.normal("low1"));
+        futures.add(client.normal("low2"));
+        futures.add(client.withPriority("mid", 5));
+        futures.add(client.urgent("high"));
+        List<String> results = new ArrayList<>();
+        for (Future<String> future : futures) {
+            results.add(future.get());
+        }
+        assertEquals(Arrays.asList("first", "low1", "low2", "mid", "high"), results);
+        assertEquals(Arrays.asList("first", "high", "mid", "low1", "low2"), getServed());
+
+        ForestPriorityDispatcher dispatcher = configuration.getPriorityDispatcher();
+        // Future可能先于请求结束的回调完成
+        for (int i = 0; i < 100 && dispatcher.getRunningCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, dispatcher.getRunningCount());
+        PriorityQueueStats lowStats = dispatcher.getQueueStats().get(0);
+        assertNotNull(lowStats);
+        assertEquals(3, lowStats.getCount());
+        assertEquals(2, lowStats.getQueuedCount());
+        PriorityQueueStats highStats = dispatcher.getQueueStats().get(10);
+        assertEquals(1, highStats.getQueuedCount());
+        // 低优先级的请求等待的时间更长
+        assertTrue(lowStats.getMaxWait() > highStats.getMaxWait());
+    }
+
+    @Test
+    public void testAging() throws Exception {
+        configuration.setPriorityAgingInterval(50);
+        PriorityClient client = configuration.createInstance(PriorityClient.class);
+        Future<String> first = client.normal("first");
+        Future<String> low = client.normal("low");
+        Thread.sleep(200);
+        // 低优先级的请求已经等待了4个老化间隔，比新来的优先级为2的请求先发送
+        Future<String> mid = client.withPriority("mid", 2);
+        assertEquals("first", first.get());
+        assertEquals("low", low.get());
+        assertEquals("mid", mid.get());
+        assertEquals(Arrays.asList("first", "low", "mid"), getServed());
+    }
+
+    @Test
+    public void testQueueFull() throws Exception {
+        configuration.setPriorityQueueCapacity(1);
+        PriorityClient client = configuration.createInstance(PriorityClient.class);
+        Future<String> first = client.normal("first");
+        Future<String> low = client.normal("low");
+        // 队列已满，新来的请求被拒绝，不会发送
+        Future<String> rejected = client.urgent("rejected");
+        try {
+            rejected.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ForestPriorityRejectedException);
+        }
+        assertEquals("first", first.get());
+        assertEquals("low", low.get());
+        assertEquals(Arrays.asList("first", "low"), getServed());
+        assertEquals(1, configuration.getPriorityDispatcher().getRejectedCount());
+    }
+
+    @Test
+    public void testDiscardLowest() throws Exception {
+        configuration.setPriorityQueueCapacity(1);
+        configuration.setPriorityRejectPolicy(PriorityRejectPolicy.DISCARD_LOWEST);
+        PriorityClient client = configuration.createInstance(PriorityClient.class);
+        Future<String> first = client.normal("first");
+        AtomicReference<ForestRuntimeException> error = new AtomicReference<>();
+        client.normalWithOnError("low", (ex, request, response) -> error.set(ex));
+        // 队列已满时，更优先的请求挤出排在最后的请求
+        Future<String> high = client.urgent("high");
+        assertEquals("first", first.get());
+        assertEquals("high", high.get());
+        assertTrue(error.get() instanceof ForestPriorityRejectedException);
+        assertEquals(Arrays.asList("first", "high"), getServed());
+    }
+
+    @Test
+    public void testShutdownOnReset() throws Exception {
+        PriorityClient client = configuration.createInstance(PriorityClient.class);
+        Future<String> first = client.normal("first");
+        Future<String> low = client.normal("low");
+        ForestPriorityDispatcher dispatcher = configuration.getPriorityDispatcher();
+        assertEquals(1, dispatcher.getQueuedCount());
+        // 配置改变后旧的调度器被关闭，已经排队的请求仍然会发送
+        configuration.setPriorityAgingInterval(1000);
+        assertTrue(dispatcher.isShutdown());
+        assertNotSame(dispatcher, configuration.getPriorityDispatcher());
+        assertEquals("first", first.get());
+        assertEquals("low", low.get());
+        assertEquals("high", client.urgent("high").get());
+        assertEquals(Arrays.asList("first", "low", "high"), getServed());
+
+        // 关闭后调度的请求被拒绝
+        AtomicReference<ForestRuntimeException> error = new AtomicReference<>();
+        dispatcher.dispatch(new ForestRequest(configuration), () -> fail(), error::set);
+        assertTrue(error.get() instanceof ForestPriorityRejectedException);
+        assertEquals(0, dispatcher.getRunningCount());
+    }
+}
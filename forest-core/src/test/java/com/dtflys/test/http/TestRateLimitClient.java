@@ -0,0 +1,159 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestRateLimitException;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.ratelimit.ForestRateLimiter;
+import com.dtflys.test.http.client.RateLimitClient;
+import com.dtflys.test.mock.RateLimitMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.verify.VerificationTimes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * @since 2026-10-19 03:00
+ */
+public class TestRateLimitClient extends BaseClientTest {
+
+    @Rule
+    public RateLimitMockServer server = new RateLimitMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", RateLimitMockServer.port);
+    }
+
+    public TestRateLimitClient(HttpBackend backend) {
+        super(backend, configuration);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    /**
+     * 先建立与模拟服务器的连接，避免第一个请求的耗时超过许可的间隔，然后等待上一个后端的测试用掉的许可恢复
+     */
+    private static void prepare(RateLimitClient client, long millis) throws InterruptedException {
+        assertEquals("ok", client.ok());
+        Thread.sleep(millis);
+    }
+
+    @Test
+    public void testFailFast() throws InterruptedException {
+        RateLimitClient client = configuration.createInstance(RateLimitClient.class);
+        prepare(client, 250);
+        assertEquals("ok", client.failFast());
+        try {
+            client.failFast();
+            fail();
+        } catch (ForestRateLimitException e) {
+            assertEquals(RateLimitClient.class.getName() + "#failFast", e.getLimiterName());
+        }
+        ForestRateLimiter limiter = configuration.getRateLimiter(RateLimitClient.class.getName() + "#failFast");
+        assertNotNull(limiter);
+        assertTrue(limiter.getThrottledCount() > 0);
+    }
+
+    @Test
+    public void testSharedQuota() throws InterruptedException {
+        RateLimitClient client = configuration.createInstance(RateLimitClient.class);
+        prepare(client, 250);
+        long start = System.currentTimeMillis();
+        // 两个方法共享每秒5个许可，4次调用至少需要等待3个间隔
+        assertEquals("ok", client.partnerA());
+        assertEquals("ok", client.partnerB());
+        assertEquals("ok", client.partnerA());
+        assertEquals("ok", client.partnerB());
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue("elapsed " + elapsed, elapsed >= 550);
+        assertTrue(configuration.getRateLimiter("partner").getDelayedCount() >= 3);
+    }
+
+    @Test
+    public void testPerRoute() throws InterruptedException {
+        RateLimitClient client = configuration.createInstance(RateLimitClient.class);
+        prepare(client, 1100);
+        // 不同的主机使用各自的限流器
+        assertEquals("ok", client.route("localhost"));
+        assertEquals("ok", client.route("127.0.0.1"));
+        try {
+            client.route("localhost");
+            fail();
+        } catch (ForestRateLimitException e) {
+            assertTrue(e.getLimiterName().endsWith("@localhost:" + RateLimitMockServer.port));
+        }
+    }
+
+    @Test
+    public void testRejectThroughOnError() throws InterruptedException {
+        RateLimitClient client = configuration.createInstance(RateLimitClient.class);
+        prepare(client, 250);
+        AtomicReference<ForestRuntimeException> error = new AtomicReference<>();
+        assertEquals("ok", client.failFastOnError((ex, request, response) -> error.set(ex)));
+        assertNull(error.get());
+        // 被限流的请求通过 OnError 回调得到异常，不再从调用中抛出
+        assertNull(client.failFastOnError((ex, request, response) -> error.set(ex)));
+        assertTrue(error.get() instanceof ForestRateLimitException);
+    }
+
+    @Test
+    public void testRetryTakesPermit() throws InterruptedException {
+        RateLimitClient client = configuration.createInstance(RateLimitClient.class);
+        prepare(client, 250);
+        long grantedCount = configuration.getRateLimiter("retry") == null ?
+                0 : configuration.getRateLimiter("retry").getGrantedCount();
+        long start = System.currentTimeMillis();
+        try {
+            client.retry();
+            fail();
+        } catch (ForestRuntimeException ignored) {
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        // 每次重试都要获取许可，3次尝试至少需要等待2个间隔
+        assertTrue("elapsed " + elapsed, elapsed >= 350);
+        assertEquals(3, configuration.getRateLimiter("retry").getGrantedCount() - grantedCount);
+        MockServerClient mockClient = new MockServerClient("localhost", RateLimitMockServer.port);
+        mockClient.verify(request().withPath("/failure"), VerificationTimes.exactly(3));
+    }
+
+    @Test
+    public void testDelayAsync() throws Exception {
+        RateLimitClient client = configuration.createInstance(RateLimitClient.class);
+        prepare(client, 250);
+        long start = System.currentTimeMillis();
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(client.delayed());
+        }
+        // 推迟发送的异步请求不阻塞调用线程
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue("elapsed " + elapsed, elapsed < 300);
+        for (Future<String> future : futures) {
+            assertEquals("ok", future.get());
+        }
+        elapsed = System.currentTimeMillis() - start;
+        assertTrue("elapsed " + elapsed, elapsed >= 350);
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.backend.HttpBackendSelector;
+import com.dtflys.forest.backend.httpclient.HttpclientBackend;
+import com.dtflys.forest.backend.netty.NettyBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.test.http.client.GetClient;
+import com.dtflys.test.mock.GetMockServer;
+import org.apache.http.HttpHeaders;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.Header;
+import org.mockserver.model.HttpRequest;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockserver.model.ConnectionOptions.connectionOptions;
+import static org.mockserver.model.HttpError.error;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * 连接池中的连接在服务端重启后失效，空闲超过 validateAfterInactivity 的连接在使用前会被检查
+ *
+ * @since 2026-10-19 04:09
+ */
+@RunWith(Parameterized.class)
+public class TestStaleConnection {
+
+    private final static Integer port = 5031;
+
+    private final HttpBackend backend;
+
+    private ClientAndServer server;
+
+    public TestStaleConnection(HttpBackend backend) {
+        this.backend = backend;
+    }
+
+    @Parameterized.Parameters
+    public static Collection backendList() {
+        return Arrays.asList(
+                new HttpBackend[] {new HttpclientBackend()},
+                new HttpBackend[] {new HttpBackendSelector().findHttpclient5BackendInstance()},
+                new HttpBackend[] {new NettyBackend()});
+    }
+
+    private void startServer() throws InterruptedException {
+        // 刚关闭的端口可能还没有释放，稍后重试
+        for (int i = 0; ; i++) {
+            try {
+                server = ClientAndServer.startClientAndServer(port);
+                break;
+            } catch (RuntimeException e) {
+                if (i >= 20) {
+                    throw e;
+                }
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    private HttpRequest helloRequest() {
+        return request()
+                .withPath("/hello/user")
+                .withMethod("GET")
+                .withHeader(new Header(HttpHeaders.ACCEPT, "text/plain"))
+                .withQueryStringParameter("username",  "foo");
+    }
+
+    private void respondHello(Times times) {
+        server.when(helloRequest(), times)
+                .respond(
+                        response()
+                                .withStatusCode(200)
+                                .withBody(GetMockServer.EXPECTED)
+                );
+    }
+
+    private void startHelloServer() throws InterruptedException {
+        startServer();
+        respondHello(Times.unlimited());
+    }
+
+    @After
+    public void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testValidateAfterInactivity() throws InterruptedException {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", port);
+        configuration.setCacheEnabled(false);
+        configuration.setRetryCount(0);
+        configuration.setValidateAfterInactivity(1);
+        configuration.setBackend(backend);
+        GetClient getClient = configuration.createInstance(GetClient.class);
+
+        startHelloServer();
+        assertEquals(GetMockServer.EXPECTED, getClient.simpleGet());
+        // 服务端重启后，连接池中的连接已经被对方关闭
+        server.stop();
+        startHelloServer();
+        Thread.sleep(10);
+        assertEquals(GetMockServer.EXPECTED, getClient.simpleGet());
+    }
+
+    @Test
+    public void testReInit() throws InterruptedException {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", port);
+        configuration.setCacheEnabled(false);
+        configuration.setRetryCount(0);
+        configuration.setBackend(backend);
+        GetClient getClient = configuration.createInstance(GetClient.class);
+
+        startHelloServer();
+        assertEquals(GetMockServer.EXPECTED, getClient.simpleGet());
+        // 重新初始化后，之前的连接池被关闭，请求使用新的连接池
+        backend.getConnectionManager().init(configuration);
+        assertEquals(GetMockServer.EXPECTED, getClient.simpleGet());
+    }
+
+    @Test
+    public void testResendOnReusedConnection() throws InterruptedException {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", port);
+        configuration.setCacheEnabled(false);
+        configuration.setRetryCount(0);
+        configuration.setBackend(backend);
+        GetClient getClient = configuration.createInstance(GetClient.class);
+
+        // 第二个请求使用复用的连接，服务端收到请求后不响应并关闭连接，幂等的请求在新的连接上重新发送
+        startServer();
+        respondHello(Times.once());
+        server.when(helloRequest(), Times.once()).error(error().withDropConnection(true));
+        respondHello(Times.unlimited());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(GetMockServer.EXPECTED, getClient.simpleGet());
+        }
+    }
+
+    @Test
+    public void testResendOnReusedConnectionAsync() throws InterruptedException, ExecutionException {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", port);
+        configuration.setCacheEnabled(false);
+        configuration.setRetryCount(0);
+        configuration.setBackend(backend);
+        GetClient getClient = configuration.createInstance(GetClient.class);
+
+        startServer();
+        respondHello(Times.once());
+        server.when(helloRequest(), Times.once()).error(error().withDropConnection(true));
+        respondHello(Times.unlimited());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(GetMockServer.EXPECTED, getClient.asyncFutureGet().get());
+        }
+    }
+
+    @Test
+    public void testServerClosedKeepAlive() throws InterruptedException {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", port);
+        configuration.setCacheEnabled(false);
+        configuration.setRetryCount(0);
+        configuration.setBackend(backend);
+        GetClient getClient = configuration.createInstance(GetClient.class);
+
+        // 服务端声明保持连接，但在响应后关闭连接，下一个请求会取到刚刚失效的连接
+        startServer();
+        server.when(helloRequest())
+                .respond(
+                        response()
+                                .withStatusCode(200)
+                                .withBody(GetMockServer.EXPECTED)
+                                .withConnectionOptions(connectionOptions()
+                                        .withKeepAliveOverride(true)
+                                        .withCloseSocket(true))
+                );
+        for (int i = 0; i < 3; i++) {
+            assertEquals(GetMockServer.EXPECTED, getClient.simpleGet());
+        }
+    }
+
+}
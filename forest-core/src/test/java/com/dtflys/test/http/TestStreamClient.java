@@ -0,0 +1,170 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.stream.ForestRecordStream;
+import com.dtflys.forest.stream.ForestServerSentEvent;
+import com.dtflys.test.http.client.StreamClient;
+import com.dtflys.test.http.model.XmlTestParam;
+import com.dtflys.test.mock.StreamMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 00:33
+ */
+public class TestStreamClient extends BaseClientTest {
+
+    @Rule
+    public StreamMockServer server = new StreamMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    private StreamClient streamClient;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", StreamMockServer.port);
+    }
+
+    public TestStreamClient(HttpBackend backend) {
+        super(backend, configuration);
+        streamClient = configuration.createInstance(StreamClient.class);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    @Test
+    public void testNdjsonOnRecord() {
+        List<Map> records = new ArrayList<>();
+        streamClient.streamUsers((record, request, response) -> records.add(record));
+        assertEquals(3, records.size());
+        assertEquals("foo", records.get(0).get("name"));
+        assertEquals("baz", records.get(2).get("name"));
+    }
+
+    @Test
+    public void testNdjsonOnRecordAsync() throws InterruptedException {
+        List<Map> records = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        streamClient.streamUsersAsync((record, request, response) -> {
+            records.add(record);
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals("foo", records.get(0).get("name"));
+        assertEquals("baz", records.get(2).get("name"));
+        // 异步请求的记录在单独的线程中读取，不占用后端的回调线程
+        for (String thread : threads) {
+            assertEquals("forest-stream-records", thread);
+        }
+    }
+
+    @Test
+    public void testNdjsonRecordStream() {
+        List<String> names = new ArrayList<>();
+        try (ForestRecordStream<Map> stream = streamClient.streamUsers()) {
+            assertNotNull(stream);
+            for (Map record : stream) {
+                names.add(String.valueOf(record.get("name")));
+            }
+        }
+        assertEquals(3, names.size());
+        assertEquals("bar", names.get(1));
+    }
+
+    @Test
+    public void testNdjsonStream() {
+        try (Stream<Map> stream = streamClient.streamUsersAsStream()) {
+            List<Object> ids = stream.map(record -> record.get("id")).collect(Collectors.toList());
+            assertEquals(3, ids.size());
+            assertEquals(1, ids.get(0));
+        }
+    }
+
+    @Test
+    public void testEventStream() {
+        ForestRecordStream<ForestServerSentEvent> stream = streamClient.events();
+        ForestServerSentEvent event = stream.next();
+        assertEquals("1", event.getId());
+        assertEquals("user", event.getEvent());
+        assertEquals("{\"id\": 1, \"name\": \"foo\"}", event.getData());
+        event = stream.next();
+        assertEquals("2", event.getId());
+        assertEquals("{\"id\": 2,\n \"name\": \"bar\"}", event.getData());
+        assertFalse(stream.hasNext());
+        assertEquals("2", stream.getLastEventId());
+    }
+
+    @Test
+    public void testEventStreamReconnect() {
+        List<Map> records = new ArrayList<>();
+        AtomicReference<ForestRequest> requestRef = new AtomicReference<>();
+        streamClient.eventsWithReconnect((record, request, response) -> {
+            records.add(record);
+            requestRef.set(request);
+        });
+        assertEquals(3, records.size());
+        assertEquals("baz", records.get(2).get("name"));
+        // 两次重连之后请求中只保留最后一次的 Last-Event-ID
+        List<String> lastEventIds = requestRef.get().getHeaders().getValues("Last-Event-ID");
+        assertEquals(1, lastEventIds.size());
+        assertEquals("3", lastEventIds.get(0));
+    }
+
+    @Test
+    public void testEventStreamReconnectAsync() throws InterruptedException {
+        List<Map> records = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        streamClient.eventsWithReconnectAsync((record, request, response) -> {
+            records.add(record);
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals("baz", records.get(2).get("name"));
+        // 重连也在读取记录的线程中进行
+        for (String thread : threads) {
+            assertEquals("forest-stream-records", thread);
+        }
+    }
+
+    @Test
+    public void testXmlElementStream() {
+        List<XmlTestParam> records = new ArrayList<>();
+        try (ForestRecordStream<XmlTestParam> stream = streamClient.streamXmlElements()) {
+            for (XmlTestParam record : stream) {
+                records.add(record);
+            }
+        }
+        assertEquals(3, records.size());
+        assertEquals(Integer.valueOf(1), records.get(0).getA());
+        assertEquals(Integer.valueOf(6), records.get(2).getB());
+    }
+
+}
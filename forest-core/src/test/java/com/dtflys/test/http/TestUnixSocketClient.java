@@ -0,0 +1,149 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.backend.httpclient.HttpclientBackend;
+import com.dtflys.forest.backend.okhttp3.OkHttp3Backend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestUnsupportException;
+import com.dtflys.forest.socket.UnixDomainSocket;
+import com.dtflys.test.http.client.UnixSocketClient;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 02:14
+ */
+public class TestUnixSocketClient extends BaseClientTest {
+
+    private static ForestConfiguration configuration;
+
+    private static File socketFile;
+
+    private ServerSocketChannel serverChannel;
+
+    @BeforeClass
+    public static void prepareClient() throws IOException {
+        socketFile = File.createTempFile("forest-test", ".sock");
+        socketFile.delete();
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("unixSocket", socketFile.getAbsolutePath());
+    }
+
+    public TestUnixSocketClient(HttpBackend backend) {
+        super(backend, configuration);
+    }
+
+    @Before
+    public void startServer() throws Exception {
+        if (!UnixDomainSocket.isSupported()) {
+            return;
+        }
+        socketFile.delete();
+        // JDK 16+ 的API，通过反射调用以便在JDK 8上编译
+        ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+        serverChannel = (ServerSocketChannel) ServerSocketChannel.class
+                .getMethod("open", ProtocolFamily.class).invoke(null, unix);
+        SocketAddress address = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                .getMethod("of", String.class).invoke(null, socketFile.getAbsolutePath());
+        serverChannel.bind(address);
+        Thread thread = new Thread(this::acceptLoop, "unix-socket-test-server");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @After
+    public void stopServer() throws IOException {
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        socketFile.delete();
+    }
+
+    private void acceptLoop() {
+        try {
+            while (true) {
+                SocketChannel channel = serverChannel.accept();
+                Thread thread = new Thread(() -> handle(channel), "unix-socket-test-conn");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static void handle(SocketChannel channel) {
+        try (SocketChannel ch = channel) {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(Channels.newInputStream(ch), StandardCharsets.ISO_8859_1));
+            OutputStream out = Channels.newOutputStream(ch);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String requestLine = line;
+                String host = null;
+                while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                    if (line.toLowerCase().startsWith("host:")) {
+                        host = line.substring(5).trim();
+                    }
+                }
+                String body = requestLine.split(" ")[1] + " @ " + host;
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                String head = "HTTP/1.1 200 OK\r\n"
+                        + "Content-Type: text/plain; charset=UTF-8\r\n"
+                        + "Content-Length: " + bytes.length + "\r\n\r\n";
+                out.write(head.getBytes(StandardCharsets.ISO_8859_1));
+                out.write(bytes);
+                out.flush();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    private boolean isBackendSupported() {
+        return backend instanceof OkHttp3Backend || backend instanceof HttpclientBackend;
+    }
+
+    @Test
+    public void testSimpleGet() {
+        Assume.assumeTrue(UnixDomainSocket.isSupported());
+        Assume.assumeTrue(isBackendSupported());
+        UnixSocketClient client = configuration.createInstance(UnixSocketClient.class);
+        assertEquals("/hello/user?username=foo @ sidecar", client.simpleGet());
+        // 第二次请求复用连接池中的连接
+        assertEquals("/hello/user?username=foo @ sidecar", client.simpleGet());
+    }
+
+    @Test
+    public void testUnsupported() {
+        if (UnixDomainSocket.isSupported() && isBackendSupported()) {
+            return;
+        }
+        UnixSocketClient client = configuration.createInstance(UnixSocketClient.class);
+        boolean thrown = false;
+        try {
+            client.simpleGet();
+        } catch (ForestUnsupportException e) {
+            thrown = true;
+        }
+        assertTrue(thrown);
+    }
+
+}
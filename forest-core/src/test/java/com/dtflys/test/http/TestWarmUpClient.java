@@ -0,0 +1,62 @@
+package com.dtflys.test.http;
+
+import com.dtflys.forest.backend.HttpBackend;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.warmup.WarmUpReadiness;
+import com.dtflys.forest.warmup.WarmUpReport;
+import com.dtflys.test.http.client.WarmUpClient;
+import com.dtflys.test.mock.GetMockServer;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 00:52
+ */
+public class TestWarmUpClient extends BaseClientTest {
+
+    @Rule
+    public GetMockServer server = new GetMockServer(this);
+
+    private static ForestConfiguration configuration;
+
+    @BeforeClass
+    public static void prepareClient() {
+        configuration = ForestConfiguration.configuration();
+        configuration.setVariableValue("port", GetMockServer.port);
+    }
+
+    public TestWarmUpClient(HttpBackend backend) {
+        super(backend, configuration);
+    }
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    @Test
+    public void testWarmUp() throws InterruptedException {
+        WarmUpClient client = configuration.createInstance(WarmUpClient.class);
+        WarmUpReadiness readiness = configuration.getWarmUpReadiness();
+        assertTrue(readiness.awaitReady(5, TimeUnit.SECONDS));
+        List<WarmUpReport> reports = readiness.getReports();
+        WarmUpReport report = reports.get(reports.size() - 1);
+        assertEquals(WarmUpClient.class, report.getInterfaceClass());
+        assertEquals("http://localhost:" + GetMockServer.port, report.getUrl());
+        assertTrue(report.isSuccessful());
+        assertEquals(2, report.getOpenedConnections());
+        assertEquals(2, report.getInvokedMethods());
+        assertFalse(report.getAddresses().isEmpty());
+        assertEquals(GetMockServer.EXPECTED, client.simpleGet());
+    }
+
+}
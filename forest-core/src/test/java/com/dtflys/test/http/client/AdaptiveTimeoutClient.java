@@ -0,0 +1,20 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+import com.dtflys.forest.extensions.AdaptiveTimeout;
+
+/**
+ * @since 2026-10-19 02:54
+ */
+@BaseRequest(baseURL = "http://localhost:${port}", timeout = 10000, retryCount = 0)
+@AdaptiveTimeout(min = 300, minSamples = 5)
+public interface AdaptiveTimeoutClient {
+
+    @Get(url = "/latency?sleep=${0}")
+    String latency(int sleep);
+
+    @Get(url = "/failure", retryCount = 2, maxRetryInterval = 500)
+    String failure();
+
+}
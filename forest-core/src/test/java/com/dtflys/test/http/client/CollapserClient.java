@@ -0,0 +1,53 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Body;
+import com.dtflys.forest.annotation.Post;
+import com.dtflys.forest.extensions.BasicAuth;
+import com.dtflys.forest.extensions.Collapser;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @since 2026-10-19 02:37
+ */
+@BaseRequest(baseURL = "http://localhost:${port}")
+public interface CollapserClient {
+
+    @Collapser(batchMethod = "getItems", window = 200, resultKey = "id")
+    Item getItem(Integer id);
+
+    @Collapser(batchMethod = "getItems", window = 200, maxBatchSize = 3, resultKey = "id")
+    CompletableFuture<Item> getItemAsync(Integer id);
+
+    @Collapser(batchMethod = "getItems", window = 200, resultKey = "id")
+    @BasicAuth(username = "foo", password = "bar")
+    Item getAuthorizedItem(Integer id);
+
+    @Post(url = "/items", contentType = "application/json")
+    List<Item> getItems(@Body List<Integer> ids);
+
+    class Item {
+
+        private Integer id;
+
+        private String name;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
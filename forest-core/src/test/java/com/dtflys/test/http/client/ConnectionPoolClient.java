@@ -0,0 +1,26 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+import com.dtflys.forest.extensions.ConnectionPool;
+
+import java.util.concurrent.Future;
+
+/**
+ * @since 2026-10-19 03:45
+ */
+@BaseRequest(baseURL = "http://localhost:${port}")
+public interface ConnectionPoolClient {
+
+    @ConnectionPool(value = "partner", maxConnections = 1)
+    @Get(url = "/slow", async = true)
+    Future<String> slow();
+
+    @Get(url = "/fast", async = true)
+    Future<String> fast();
+
+    @ConnectionPool
+    @Get(url = "/fast")
+    String own();
+
+}
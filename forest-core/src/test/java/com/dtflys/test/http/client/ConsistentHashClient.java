@@ -0,0 +1,20 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+import com.dtflys.forest.annotation.RoutingKey;
+
+/**
+ * @since 2026-10-19 02:31
+ */
+@BaseRequest(
+        endpoints = {"http://localhost:${port}", "http://127.0.0.1:${port}"},
+        loadBalancer = "consistent_hash",
+        headers = "Accept: text/plain"
+)
+public interface ConsistentHashClient {
+
+    @Get(url = "/hello/user?username=${0}")
+    String simpleGet(@RoutingKey String username);
+
+}
@@ -0,0 +1,21 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+import com.dtflys.forest.extensions.Deadline;
+
+/**
+ * @since 2026-10-19 02:49
+ */
+@BaseRequest(baseURL = "http://localhost:${port}", timeout = 5000, retryCount = 3, maxRetryInterval = 0)
+@Deadline(header = "X-Request-Timeout")
+public interface DeadlineClient {
+
+    @Deadline(value = 600, header = "X-Request-Timeout")
+    @Get(url = "/slow")
+    String slow();
+
+    @Get(url = "/fast")
+    String fast();
+
+}
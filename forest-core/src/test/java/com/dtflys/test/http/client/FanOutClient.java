@@ -0,0 +1,24 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+
+/**
+ * @since 2026-10-19 09:20
+ */
+@BaseRequest(baseURL = "http://localhost:${port}")
+public interface FanOutClient {
+
+    @Get(url = "/fast/${0}")
+    String getFast(Integer id);
+
+    @Get(url = "/${0}/${1}")
+    String get(String kind, String id);
+
+    @Get(url = "/fast/${0}")
+    String getOverloaded(Integer id);
+
+    @Get(url = "/${0}/${1}")
+    String getOverloaded(String kind, String id);
+
+}
@@ -3,6 +3,7 @@ package com.dtflys.test.http.client;
 import com.dtflys.forest.annotation.*;
 import com.dtflys.forest.callback.OnError;
 import com.dtflys.forest.callback.OnSuccess;
+import com.dtflys.forest.extensions.ResultPath;
 import com.dtflys.forest.annotation.DataParam;
 import com.dtflys.forest.annotation.DataVariable;
 import com.dtflys.forest.annotation.Request;
@@ -25,6 +26,13 @@ public interface GetClient {
     )
     String simpleGet();
 
+    @Request(
+            url = "http://localhost:${port}/hello/user?username=foo",
+            async = true,
+            headers = {"Accept:text/plain"}
+    )
+    Future<String> asyncFutureGet();
+
     @Get(url = "http://localhost:${port}/hello/user?username=foo",
             headers = {"Accept:text/plain"}
     )
@@ -73,6 +81,14 @@ public interface GetClient {
     )
     Map jsonMapGet();
 
+    @Request(
+            url = "http://localhost:${port}/hello/user",
+            headers = {"Accept:text/plain"},
+            data = "username=foo"
+    )
+    @ResultPath("$.status")
+    String jsonPathGet();
+
 
     @Request(
             url = "http://localhost:${port}/hello/user",
@@ -0,0 +1,19 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+
+/**
+ * @since 2026-10-19 01:03
+ */
+@BaseRequest(
+        baseURL = "http://localhost:${port}",
+        headers = "Accept: text/plain",
+        httpProtocol = "http/1.1"
+)
+public interface HttpProtocolClient {
+
+    @Get(url = "/hello/user?username=foo")
+    String simpleGet();
+
+}
@@ -0,0 +1,24 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+
+/**
+ * @since 2026-10-19 02:22
+ */
+@BaseRequest(
+        endpoints = {"http://localhost:${deadPort}", "http://localhost:${port}"},
+        loadBalancer = "round_robin",
+        headers = "Accept: text/plain",
+        retryCount = 1,
+        maxRetryInterval = 0
+)
+public interface LoadBalanceClient {
+
+    @Get(url = "/hello/user?username=foo")
+    String simpleGet();
+
+    @Get(url = "/hello/user%20name?username=foo")
+    String encodedPathGet();
+
+}
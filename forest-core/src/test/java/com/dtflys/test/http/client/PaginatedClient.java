@@ -0,0 +1,29 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+import com.dtflys.forest.extensions.Paginated;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * @since 2026-10-19 02:43
+ */
+@BaseRequest(baseURL = "http://localhost:${port}")
+public interface PaginatedClient {
+
+    @Get(url = "/pages?page=${0}&size=${1}")
+    Map getPage(int page, int size);
+
+    @Paginated(pageMethod = "getPage", itemsPath = "$.data", prefetch = 2)
+    Stream<Integer> getAll(int page, int size);
+
+    @Get(url = "/cursor?cursor=${0}")
+    Map getCursorPage(String cursor);
+
+    @Paginated(pageMethod = "getCursorPage", itemsPath = "$.items", cursorPath = "$.next")
+    Iterator<String> getAllByCursor(String cursor);
+
+}
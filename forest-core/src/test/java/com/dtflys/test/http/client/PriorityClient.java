@@ -0,0 +1,29 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+import com.dtflys.forest.callback.OnError;
+import com.dtflys.forest.extensions.Priority;
+
+import java.util.concurrent.Future;
+
+/**
+ * @since 2026-10-19 03:36
+ */
+@BaseRequest(baseURL = "http://localhost:${port}")
+public interface PriorityClient {
+
+    @Get(url = "/work?name=${0}", async = true)
+    Future<String> normal(String name);
+
+    @Get(url = "/work?name=${0}", async = true)
+    void normalWithOnError(String name, OnError onError);
+
+    @Priority(10)
+    @Get(url = "/work?name=${0}", async = true)
+    Future<String> urgent(String name);
+
+    @Get(url = "/work?name=${0}", async = true)
+    Future<String> withPriority(String name, @Priority int priority);
+
+}
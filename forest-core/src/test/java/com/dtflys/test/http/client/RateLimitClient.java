@@ -0,0 +1,48 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+import com.dtflys.forest.callback.OnError;
+import com.dtflys.forest.extensions.RateLimit;
+import com.dtflys.forest.ratelimit.RateLimitMode;
+
+import java.util.concurrent.Future;
+
+/**
+ * @since 2026-10-19 03:00
+ */
+@BaseRequest(baseURL = "http://localhost:${port}")
+public interface RateLimitClient {
+
+    @Get(url = "/ok")
+    String ok();
+
+    @RateLimit(value = 5, mode = RateLimitMode.FAIL_FAST)
+    @Get(url = "/ok")
+    String failFast();
+
+    @RateLimit(value = 5, name = "partner")
+    @Get(url = "/ok")
+    String partnerA();
+
+    @RateLimit(value = 5, name = "partner")
+    @Get(url = "/ok")
+    String partnerB();
+
+    @RateLimit(value = 1, perRoute = true, mode = RateLimitMode.FAIL_FAST)
+    @Get(url = "http://${0}:${port}/ok")
+    String route(String host);
+
+    @RateLimit(value = 5, mode = RateLimitMode.FAIL_FAST, name = "failFastOnError")
+    @Get(url = "/ok")
+    String failFastOnError(OnError onError);
+
+    @RateLimit(value = 5, name = "retry")
+    @Get(url = "/failure", retryCount = 2, maxRetryInterval = 0)
+    String retry();
+
+    @RateLimit(value = 5, mode = RateLimitMode.DELAY)
+    @Get(url = "/ok", async = true)
+    Future<String> delayed();
+
+}
@@ -0,0 +1,50 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.Get;
+import com.dtflys.forest.callback.OnRecord;
+import com.dtflys.forest.extensions.StreamRecords;
+import com.dtflys.forest.stream.ForestRecordStream;
+import com.dtflys.forest.stream.ForestServerSentEvent;
+import com.dtflys.test.http.model.XmlTestParam;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * @since 2026-10-19 00:33
+ */
+public interface StreamClient {
+
+    @Get(url = "http://localhost:${port}/stream/users")
+    @StreamRecords
+    void streamUsers(OnRecord<Map> onRecord);
+
+    @Get(url = "http://localhost:${port}/stream/users", async = true)
+    @StreamRecords
+    void streamUsersAsync(OnRecord<Map> onRecord);
+
+    @Get(url = "http://localhost:${port}/stream/users")
+    @StreamRecords
+    ForestRecordStream<Map> streamUsers();
+
+    @Get(url = "http://localhost:${port}/stream/users")
+    @StreamRecords(format = "ndjson")
+    Stream<Map> streamUsersAsStream();
+
+    @Get(url = "http://localhost:${port}/stream/misc")
+    @StreamRecords(element = "misc")
+    ForestRecordStream<XmlTestParam> streamXmlElements();
+
+    @Get(url = "http://localhost:${port}/events")
+    @StreamRecords(reconnect = false)
+    ForestRecordStream<ForestServerSentEvent> events();
+
+    @Get(url = "http://localhost:${port}/events")
+    @StreamRecords(reconnectInterval = 10)
+    void eventsWithReconnect(OnRecord<Map> onRecord);
+
+    @Get(url = "http://localhost:${port}/events", async = true)
+    @StreamRecords(reconnectInterval = 10)
+    void eventsWithReconnectAsync(OnRecord<Map> onRecord);
+
+}
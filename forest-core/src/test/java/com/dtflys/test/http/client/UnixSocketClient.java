@@ -0,0 +1,19 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+
+/**
+ * @since 2026-10-19 02:14
+ */
+@BaseRequest(
+        baseURL = "http://sidecar",
+        headers = "Accept: text/plain",
+        unixSocket = "${unixSocket}"
+)
+public interface UnixSocketClient {
+
+    @Get(url = "/hello/user?username=foo")
+    String simpleGet();
+
+}
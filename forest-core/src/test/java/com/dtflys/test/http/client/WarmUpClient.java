@@ -0,0 +1,20 @@
+package com.dtflys.test.http.client;
+
+import com.dtflys.forest.annotation.BaseRequest;
+import com.dtflys.forest.annotation.Get;
+import com.dtflys.forest.extensions.WarmUp;
+
+/**
+ * @since 2026-10-19 00:52
+ */
+@BaseRequest(
+        baseURL = "http://localhost:${port}",
+        headers = "Accept: text/plain"
+)
+@WarmUp(connections = 2, methods = "simpleGet", iterations = 2, async = false)
+public interface WarmUpClient {
+
+    @Get(url = "/hello/user?username=foo")
+    String simpleGet();
+
+}
@@ -0,0 +1,132 @@
+package com.dtflys.test.loadbalance;
+
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.loadbalance.ConsistentHashLoadBalancer;
+import com.dtflys.forest.loadbalance.Endpoint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 02:31
+ */
+public class TestConsistentHashLoadBalancer {
+
+    private final Endpoint a = new Endpoint("http://a:8080");
+
+    private final Endpoint b = new Endpoint("http://b:8080");
+
+    private final Endpoint c = new Endpoint("http://c:8080");
+
+    private final Endpoint d = new Endpoint("http://d:8080");
+
+    @Test
+    public void testSameKeySameEndpoint() {
+        ConsistentHashLoadBalancer balancer = new ConsistentHashLoadBalancer();
+        List<Endpoint> endpoints = Arrays.asList(a, b, c);
+        for (int i = 0; i < 100; i++) {
+            String key = "user-" + i;
+            Endpoint endpoint = balancer.choose(endpoints, key);
+            assertSame(endpoint, balancer.choose(endpoints, key));
+            assertSame(endpoint, new ConsistentHashLoadBalancer().choose(endpoints, key));
+        }
+    }
+
+    @Test
+    public void testDistribution() {
+        ConsistentHashLoadBalancer balancer = new ConsistentHashLoadBalancer();
+        List<Endpoint> endpoints = Arrays.asList(a, b, c);
+        Map<Endpoint, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            counts.merge(balancer.choose(endpoints, "key-" + i), 1, Integer::sum);
+        }
+        for (Endpoint endpoint : endpoints) {
+            int count = counts.get(endpoint);
+            assertTrue(endpoint + ": " + count, count > 700 && count < 1300);
+        }
+    }
+
+    @Test
+    public void testMinimalRebalance() {
+        ConsistentHashLoadBalancer balancer = new ConsistentHashLoadBalancer();
+        List<Endpoint> before = Arrays.asList(a, b, c);
+        List<Endpoint> removed = Arrays.asList(a, c);
+        List<Endpoint> added = Arrays.asList(a, b, c, d);
+        int moved = 0;
+        for (int i = 0; i < 1000; i++) {
+            String key = "key-" + i;
+            Endpoint origin = balancer.choose(before, key);
+            // 去掉一个端点时只有它上面的键迁移
+            if (origin != b) {
+                assertSame(origin, balancer.choose(removed, key));
+            }
+            // 增加一个端点时只有迁移到新端点的键发生变化
+            Endpoint now = balancer.choose(added, key);
+            if (now != origin) {
+                assertSame(d, now);
+                moved++;
+            }
+        }
+        assertTrue(moved > 100 && moved < 400);
+    }
+
+    @Test
+    public void testRemoveEndpoints() {
+        ConsistentHashLoadBalancer balancer = new ConsistentHashLoadBalancer();
+        List<Endpoint> before = Arrays.asList(a, b, c);
+        List<Endpoint> after = Arrays.asList(a, c);
+        Map<String, Endpoint> origins = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            origins.put("key-" + i, balancer.choose(before, "key-" + i));
+        }
+        // 端点被移出哈希环后，其它端点上的键不迁移，结果与只有剩余端点的环相同
+        balancer.removeEndpoints(Collections.singletonList(b));
+        ConsistentHashLoadBalancer fresh = new ConsistentHashLoadBalancer();
+        for (Map.Entry<String, Endpoint> entry : origins.entrySet()) {
+            Endpoint now = balancer.choose(after, entry.getKey());
+            if (entry.getValue() != b) {
+                assertSame(entry.getValue(), now);
+            }
+            assertSame(fresh.choose(after, entry.getKey()), now);
+        }
+    }
+
+    @Test
+    public void testBoundedLoad() {
+        ConsistentHashLoadBalancer balancer = new ConsistentHashLoadBalancer(160, 1.25);
+        List<Endpoint> endpoints = Arrays.asList(a, b, c);
+        String key = "hot-key";
+        Endpoint origin = balancer.choose(endpoints, key);
+        for (int i = 0; i < 10; i++) {
+            origin.onStart();
+        }
+        // 负载超过平均值的1.25倍后顺延到下一个端点
+        Endpoint next = balancer.choose(endpoints, key);
+        assertNotSame(origin, next);
+        for (int i = 0; i < 10; i++) {
+            origin.onComplete(1, true);
+        }
+        assertSame(origin, balancer.choose(endpoints, key));
+    }
+
+    @Test
+    public void testWithoutKey() {
+        ConsistentHashLoadBalancer balancer = new ConsistentHashLoadBalancer();
+        List<Endpoint> endpoints = Arrays.asList(a, b, c);
+        List<Endpoint> chosen = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            chosen.add(balancer.choose(endpoints, (ForestRequest) null));
+        }
+        assertEquals(endpoints, chosen);
+    }
+}
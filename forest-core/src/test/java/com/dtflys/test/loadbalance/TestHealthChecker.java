@@ -0,0 +1,48 @@
+package com.dtflys.test.loadbalance;
+
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.loadbalance.Endpoint;
+import com.dtflys.forest.loadbalance.HealthChecker;
+import com.dtflys.test.mock.HealthCheckMockServer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 05:32
+ */
+public class TestHealthChecker {
+
+    @Rule
+    public HealthCheckMockServer server = new HealthCheckMockServer(this);
+
+    @Before
+    public void prepareMockServer() {
+        server.initServer();
+    }
+
+    @Test
+    public void testHealthCheck() throws IOException {
+        HealthChecker checker = new HealthChecker(ForestConfiguration.configuration(), "/health", 1000);
+        Endpoint healthy = new Endpoint("http://localhost:" + HealthCheckMockServer.port);
+        healthy.eject(System.currentTimeMillis() + 60000);
+        assertTrue(checker.check(healthy));
+        assertFalse(healthy.isEjected());
+
+        int deadPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            deadPort = socket.getLocalPort();
+        }
+        Endpoint dead = new Endpoint("http://localhost:" + deadPort);
+        dead.eject(System.currentTimeMillis() + 10);
+        assertFalse(checker.check(dead));
+        // 检查失败时延长剔除时间
+        assertTrue(dead.getEjectedUntil() >= System.currentTimeMillis() + 1000);
+    }
+}
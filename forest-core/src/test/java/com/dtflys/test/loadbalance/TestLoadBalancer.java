@@ -0,0 +1,137 @@
+package com.dtflys.test.loadbalance;
+
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.loadbalance.Endpoint;
+import com.dtflys.forest.loadbalance.EndpointGroup;
+import com.dtflys.forest.loadbalance.LeastRequestLoadBalancer;
+import com.dtflys.forest.loadbalance.LoadBalanceContext;
+import com.dtflys.forest.loadbalance.PowerOfTwoChoicesLoadBalancer;
+import com.dtflys.forest.loadbalance.RoundRobinLoadBalancer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 02:22
+ */
+public class TestLoadBalancer {
+
+    private final static List<String> URLS = Arrays.asList("http://a:8080", "http://b:8080", "http://c:8080/");
+
+    @Test
+    public void testRoundRobin() {
+        EndpointGroup group = new EndpointGroup(new RoundRobinLoadBalancer(), null);
+        List<Endpoint> none = Collections.emptyList();
+        assertEquals("http://a:8080", group.choose(URLS, none, null).getUrl());
+        assertEquals("http://b:8080", group.choose(URLS, none, null).getUrl());
+        assertEquals("http://c:8080", group.choose(URLS, none, null).getUrl());
+        assertEquals("http://a:8080", group.choose(URLS, none, null).getUrl());
+    }
+
+    @Test
+    public void testLeastRequest() {
+        EndpointGroup group = new EndpointGroup(new LeastRequestLoadBalancer(), null);
+        group.getEndpoint("http://a:8080").onStart();
+        group.getEndpoint("http://c:8080").onStart();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("http://b:8080", group.choose(URLS, Collections.emptyList(), null).getUrl());
+        }
+    }
+
+    @Test
+    public void testPowerOfTwoChoices() {
+        EndpointGroup group = new EndpointGroup(new PowerOfTwoChoicesLoadBalancer(), null);
+        List<String> urls = Arrays.asList("http://fast", "http://slow");
+        Endpoint fast = group.getEndpoint("http://fast");
+        Endpoint slow = group.getEndpoint("http://slow");
+        fast.onStart();
+        fast.onComplete(10, true);
+        slow.onStart();
+        slow.onComplete(500, true);
+        for (int i = 0; i < 10; i++) {
+            assertSame(fast, group.choose(urls, Collections.emptyList(), null));
+        }
+    }
+
+    @Test
+    public void testEwmaLatency() {
+        Endpoint endpoint = new Endpoint("http://a");
+        endpoint.onStart();
+        assertEquals(1, endpoint.getActiveRequests());
+        endpoint.onComplete(100, true);
+        assertEquals(0, endpoint.getActiveRequests());
+        assertEquals(100, endpoint.getLatency(), 0.001);
+        endpoint.onStart();
+        endpoint.onComplete(200, true);
+        assertEquals(130, endpoint.getLatency(), 0.001);
+        // 失败请求按平均延迟的两倍计入
+        endpoint.onStart();
+        endpoint.onComplete(1, false);
+        assertTrue(endpoint.getLatency() > 130);
+        assertEquals(1, endpoint.getFailureCount());
+        assertEquals(3, endpoint.getRequestCount());
+    }
+
+    @Test
+    public void testRetryOnDifferentEndpoint() {
+        EndpointGroup group = new EndpointGroup(new RoundRobinLoadBalancer(), null);
+        LoadBalanceContext context = new LoadBalanceContext(group, URLS, "/hello");
+        Endpoint first = context.choose(null);
+        context.start();
+        assertEquals(first.getUrl() + "/hello", context.getUrl());
+        context.retry(null, true);
+        Endpoint second = context.getEndpoint();
+        assertNotSame(first, second);
+        assertEquals(1, first.getFailureCount());
+        assertEquals(0, first.getActiveRequests());
+        assertEquals(1, second.getActiveRequests());
+        context.retry(null, true);
+        Endpoint third = context.getEndpoint();
+        assertNotSame(first, third);
+        assertNotSame(second, third);
+        context.finish(true);
+        context.finish(false);
+        assertEquals(0, third.getActiveRequests());
+        assertEquals(0, third.getFailureCount());
+    }
+
+    @Test
+    public void testRetainEndpoints() {
+        List<Endpoint> removed = new ArrayList<>();
+        RoundRobinLoadBalancer balancer = new RoundRobinLoadBalancer() {
+            @Override
+            public void removeEndpoints(Collection<Endpoint> endpoints) {
+                removed.addAll(endpoints);
+            }
+        };
+        EndpointGroup group = new EndpointGroup(balancer, null);
+        List<Endpoint> none = Collections.emptyList();
+        for (int i = 0; i < URLS.size(); i++) {
+            group.choose(URLS, none, null);
+        }
+        assertEquals(3, group.getEndpoints().size());
+        Endpoint c = group.getEndpoint("http://c:8080");
+        // 端点提供者不再返回的端点从端点组和负载均衡器中移除
+        group.retainEndpoints(Arrays.asList("http://a:8080/", "http://b:8080"));
+        assertEquals(2, group.getEndpoints().size());
+        assertFalse(group.getEndpoints().contains(c));
+        assertEquals(Collections.singletonList(c), removed);
+        group.retainEndpoints(Arrays.asList("http://a:8080", "http://b:8080"));
+        assertEquals(1, removed.size());
+    }
+
+    @Test(expected = ForestRuntimeException.class)
+    public void testUnknownLoadBalancer() {
+        EndpointGroup.createLoadBalancer("random");
+    }
+}
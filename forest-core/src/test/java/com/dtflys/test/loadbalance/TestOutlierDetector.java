@@ -0,0 +1,186 @@
+package com.dtflys.test.loadbalance;
+
+import com.dtflys.forest.exceptions.ForestNetworkException;
+import com.dtflys.forest.loadbalance.Endpoint;
+import com.dtflys.forest.loadbalance.EndpointGroup;
+import com.dtflys.forest.loadbalance.LoadBalanceContext;
+import com.dtflys.forest.loadbalance.OutlierDetector;
+import com.dtflys.forest.loadbalance.RoundRobinLoadBalancer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 02:27
+ */
+public class TestOutlierDetector {
+
+    private final static List<String> URLS = Arrays.asList("http://a", "http://b", "http://c");
+
+    private static void fail(EndpointGroup group, Endpoint endpoint) {
+        endpoint.onStart();
+        endpoint.onComplete(1, false);
+        group.onComplete(endpoint);
+    }
+
+    private static void succeed(EndpointGroup group, Endpoint endpoint, long latency) {
+        endpoint.onStart();
+        endpoint.onComplete(latency, true);
+        group.onComplete(endpoint);
+    }
+
+    @Test
+    public void testConsecutiveFailures() {
+        EndpointGroup group = new EndpointGroup(new RoundRobinLoadBalancer(), null);
+        group.getOutlierDetector().setConsecutiveFailures(3);
+        URLS.forEach(group::getEndpoint);
+        Endpoint a = group.getEndpoint("http://a");
+        fail(group, a);
+        fail(group, a);
+        // 成功一次后连续失败次数清零
+        succeed(group, a, 10);
+        fail(group, a);
+        fail(group, a);
+        assertFalse(a.isEjected());
+        fail(group, a);
+        assertTrue(a.isEjected());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(group.choose(URLS, Collections.emptyList(), null) != a);
+        }
+    }
+
+    @Test
+    public void testKeepLastEndpoint() {
+        EndpointGroup group = new EndpointGroup(new RoundRobinLoadBalancer(), null);
+        group.getOutlierDetector().setConsecutiveFailures(1);
+        Endpoint a = group.getEndpoint("http://a");
+        Endpoint b = group.getEndpoint("http://b");
+        fail(group, a);
+        fail(group, b);
+        assertTrue(a.isEjected());
+        assertFalse(b.isEjected());
+    }
+
+    @Test
+    public void testAllEjected() {
+        EndpointGroup group = new EndpointGroup(new RoundRobinLoadBalancer(), null);
+        Endpoint a = group.getEndpoint("http://a");
+        a.eject(System.currentTimeMillis() + 60000);
+        // 所有端点都被剔除时仍然可以选择
+        assertEquals(a, group.choose(Collections.singletonList("http://a"), Collections.emptyList(), null));
+    }
+
+    @Test
+    public void testLatencyOutlier() {
+        EndpointGroup group = new EndpointGroup(new RoundRobinLoadBalancer(), null);
+        group.getOutlierDetector().setMinRequests(3).setLatencyFactor(3);
+        Endpoint a = group.getEndpoint("http://a");
+        Endpoint b = group.getEndpoint("http://b");
+        Endpoint c = group.getEndpoint("http://c");
+        for (int i = 0; i < 3; i++) {
+            succeed(group, a, 10);
+            succeed(group, b, 12);
+            succeed(group, c, 200);
+        }
+        assertFalse(a.isEjected());
+        assertFalse(b.isEjected());
+        assertTrue(c.isEjected());
+    }
+
+    @Test
+    public void testEjectionBackOff() {
+        OutlierDetector detector = new OutlierDetector().setBaseEjectionTime(1000).setMaxEjectionTime(3000);
+        Endpoint endpoint = new Endpoint("http://a");
+        long now = System.currentTimeMillis();
+        detector.eject(endpoint);
+        long first = endpoint.getEjectedUntil() - now;
+        endpoint.reinstate();
+        detector.eject(endpoint);
+        long second = endpoint.getEjectedUntil() - now;
+        endpoint.reinstate();
+        detector.eject(endpoint);
+        long third = endpoint.getEjectedUntil() - now;
+        assertTrue(first >= 1000 && first < 2000);
+        assertTrue(second >= 2000 && second < 3000);
+        assertTrue(third >= 3000 && third < 4000);
+        assertEquals(3, endpoint.getEjectionCount());
+    }
+
+    @Test
+    public void testRecoveryWithoutHealthChecker() throws InterruptedException {
+        EndpointGroup group = new EndpointGroup(new RoundRobinLoadBalancer(), null);
+        group.getOutlierDetector().setConsecutiveFailures(3).setBaseEjectionTime(50);
+        Endpoint a = group.getEndpoint("http://a");
+        Endpoint b = group.getEndpoint("http://b");
+        succeed(group, b, 10);
+        for (int i = 0; i < 3; i++) {
+            fail(group, a);
+        }
+        assertTrue(a.isEjected());
+        assertEquals(1, a.getEjectionCount());
+        Thread.sleep(60);
+        // 剔除到期后进入半开状态，剔除前的失败次数和延迟样本被清除
+        assertFalse(a.isEjected());
+        assertTrue(a.isHalfOpen());
+        assertEquals(0, a.getConsecutiveFailures());
+        assertEquals(0, a.getLatency(), 0);
+        succeed(group, a, 10);
+        assertFalse(a.isHalfOpen());
+        // 恢复后需要重新达到连续失败的阈值才会再次剔除
+        fail(group, a);
+        fail(group, a);
+        assertFalse(a.isEjected());
+        fail(group, a);
+        assertTrue(a.isEjected());
+        assertEquals(2, a.getEjectionCount());
+    }
+
+    @Test
+    public void testHalfOpenFailure() throws InterruptedException {
+        EndpointGroup group = new EndpointGroup(new RoundRobinLoadBalancer(), null);
+        group.getOutlierDetector().setConsecutiveFailures(3).setBaseEjectionTime(50);
+        Endpoint a = group.getEndpoint("http://a");
+        group.getEndpoint("http://b");
+        group.getOutlierDetector().eject(a);
+        Thread.sleep(60);
+        assertTrue(!a.isEjected() && a.isHalfOpen());
+        // 半开状态下的请求失败时立即再次剔除，剔除时长加倍
+        long now = System.currentTimeMillis();
+        fail(group, a);
+        assertTrue(a.isEjected());
+        assertFalse(a.isHalfOpen());
+        assertTrue(a.getEjectedUntil() - now >= 100);
+        assertEquals(2, a.getEjectionCount());
+    }
+
+    @Test
+    public void testEjectionCountDecay() throws InterruptedException {
+        EndpointGroup group = new EndpointGroup(new RoundRobinLoadBalancer(), null);
+        group.getOutlierDetector().setBaseEjectionTime(50);
+        Endpoint a = group.getEndpoint("http://a");
+        group.getEndpoint("http://b");
+        group.getOutlierDetector().eject(a);
+        Thread.sleep(60);
+        succeed(group, a, 10);
+        assertEquals(1, a.getEjectionCount());
+        // 恢复后持续正常 baseEjectionTime，剔除次数减一
+        Thread.sleep(60);
+        succeed(group, a, 10);
+        assertEquals(0, a.getEjectionCount());
+    }
+
+    @Test
+    public void testEndpointFailure() {
+        assertTrue(LoadBalanceContext.isEndpointFailure(new IOException("refused"), null));
+        assertTrue(LoadBalanceContext.isEndpointFailure(new ForestNetworkException("", 503, null), null));
+        assertFalse(LoadBalanceContext.isEndpointFailure(new ForestNetworkException("", 404, null), null));
+        assertTrue(LoadBalanceContext.isEndpointFailure(null, null));
+    }
+}
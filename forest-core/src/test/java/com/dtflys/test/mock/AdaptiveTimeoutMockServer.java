@@ -0,0 +1,51 @@
+package com.dtflys.test.mock;
+
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 05:32
+ */
+public class AdaptiveTimeoutMockServer extends MockServerRule {
+
+    public final static Integer port = 5035;
+
+    public AdaptiveTimeoutMockServer(Object target) {
+        super(target, port);
+    }
+
+    public void initServer() {
+        MockServerClient mockClient = new MockServerClient("localhost", port);
+        // 按参数 sleep 推迟响应
+        for (int sleep : new int[] {0, 500, 5000}) {
+            mockClient.when(
+                    request()
+                            .withPath("/latency")
+                            .withMethod("GET")
+                            .withQueryStringParameter("sleep", String.valueOf(sleep))
+            )
+            .respond(
+                    response()
+                            .withStatusCode(200)
+                            .withBody("ok")
+                            .withDelay(TimeUnit.MILLISECONDS, sleep)
+            );
+        }
+        mockClient.when(
+                request()
+                        .withPath("/failure")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(500)
+                        .withBody("error")
+        );
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.dtflys.test.mock;
+
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+import org.mockserver.mock.action.ExpectationCallback;
+import org.mockserver.model.Header;
+import org.mockserver.model.HttpCallback;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 04:46
+ */
+public class CollapserMockServer extends MockServerRule {
+
+    public final static Integer port = 5032;
+
+    public CollapserMockServer(Object target) {
+        super(target, port);
+    }
+
+    public void initServer() {
+        MockServerClient mockClient = new MockServerClient("localhost", port);
+        mockClient.when(
+                request()
+                        .withPath("/items")
+                        .withMethod("POST")
+        )
+        .callback(
+                HttpCallback.callback()
+                        .withCallbackClass(ItemsCallback.class.getName())
+        );
+    }
+
+    /**
+     * 倒序返回请求的每个非负数ID对应的数据
+     */
+    public static class ItemsCallback implements ExpectationCallback {
+
+        private final static Pattern NUMBER = Pattern.compile("-?\\d+");
+
+        @Override
+        public HttpResponse handle(HttpRequest httpRequest) {
+            List<String> items = new ArrayList<>();
+            Matcher matcher = NUMBER.matcher(httpRequest.getBodyAsString());
+            while (matcher.find()) {
+                int id = Integer.parseInt(matcher.group());
+                if (id >= 0) {
+                    items.add(0, "{\"id\":" + id + ",\"name\":\"item-" + id + "\"}");
+                }
+            }
+            return response()
+                    .withStatusCode(200)
+                    .withHeader(new Header("Content-Type", "application/json"))
+                    .withBody("[" + String.join(",", items) + "]");
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.dtflys.test.mock;
+
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 05:32
+ */
+public class ConnectionPoolMockServer extends MockServerRule {
+
+    public final static Integer port = 5038;
+
+    public ConnectionPoolMockServer(Object target) {
+        super(target, port);
+    }
+
+    public void initServer() {
+        MockServerClient mockClient = new MockServerClient("localhost", port);
+        mockClient.when(
+                request()
+                        .withPath("/slow")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(200)
+                        .withBody("slow")
+                        .withDelay(TimeUnit.MILLISECONDS, 300)
+        );
+        mockClient.when(
+                request()
+                        .withPath("/fast")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(200)
+                        .withBody("fast")
+        );
+    }
+
+}
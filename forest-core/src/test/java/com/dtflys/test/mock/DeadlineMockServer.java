@@ -0,0 +1,47 @@
+package com.dtflys.test.mock;
+
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 05:32
+ */
+public class DeadlineMockServer extends MockServerRule {
+
+    public final static Integer port = 5034;
+
+    public DeadlineMockServer(Object target) {
+        super(target, port);
+    }
+
+    public void initServer() {
+        MockServerClient mockClient = new MockServerClient("localhost", port);
+        mockClient.when(
+                request()
+                        .withPath("/slow")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(200)
+                        .withBody("ok")
+                        .withDelay(TimeUnit.MILLISECONDS, 2000)
+        );
+        mockClient.when(
+                request()
+                        .withPath("/fast")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(200)
+                        .withBody("ok")
+        );
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.dtflys.test.mock;
+
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 09:20
+ */
+public class FanOutMockServer extends MockServerRule {
+
+    public final static Integer port = 5040;
+
+    public FanOutMockServer(Object target) {
+        super(target, port);
+    }
+
+    public void initServer() {
+        MockServerClient mockClient = new MockServerClient("localhost", port);
+        for (int i = 1; i <= 8; i++) {
+            mockClient.when(request().withPath("/fast/" + i).withMethod("GET"))
+                    .respond(response().withStatusCode(200).withBody("fast-" + i));
+            mockClient.when(request().withPath("/delay/" + i).withMethod("GET"))
+                    .respond(response().withStatusCode(200).withBody("delay-" + i)
+                            .withDelay(TimeUnit.MILLISECONDS, 200));
+            mockClient.when(request().withPath("/slow/" + i).withMethod("GET"))
+                    .respond(response().withStatusCode(200).withBody("slow-" + i)
+                            .withDelay(TimeUnit.MILLISECONDS, 3000));
+            mockClient.when(request().withPath("/error/" + i).withMethod("GET"))
+                    .respond(response().withStatusCode(500).withBody("error-" + i));
+        }
+    }
+
+}
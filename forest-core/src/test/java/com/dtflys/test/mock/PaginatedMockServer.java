@@ -0,0 +1,99 @@
+package com.dtflys.test.mock;
+
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+import org.mockserver.mock.action.ExpectationCallback;
+import org.mockserver.model.Header;
+import org.mockserver.model.HttpCallback;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.model.Parameter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 05:32
+ */
+public class PaginatedMockServer extends MockServerRule {
+
+    public final static Integer port = 5033;
+
+    public final static int TOTAL = 8;
+
+    public PaginatedMockServer(Object target) {
+        super(target, port);
+    }
+
+    public void initServer() {
+        MockServerClient mockClient = new MockServerClient("localhost", port);
+        mockClient.when(
+                request()
+                        .withPath("/pages")
+                        .withMethod("GET")
+        )
+        .callback(
+                HttpCallback.callback()
+                        .withCallbackClass(PagesCallback.class.getName())
+        );
+        mockClient.when(
+                request()
+                        .withPath("/cursor")
+                        .withMethod("GET")
+        )
+        .callback(
+                HttpCallback.callback()
+                        .withCallbackClass(CursorCallback.class.getName())
+        );
+    }
+
+    private static String getParameter(HttpRequest httpRequest, String name) {
+        for (Parameter parameter : httpRequest.getQueryStringParameters()) {
+            if (parameter.getName().getValue().equals(name)) {
+                return parameter.getValues().get(0).getValue();
+            }
+        }
+        return null;
+    }
+
+    private static HttpResponse json(String body) {
+        return response()
+                .withStatusCode(200)
+                .withHeader(new Header("Content-Type", "application/json"))
+                .withBody(body);
+    }
+
+    /**
+     * 按页码返回 1..TOTAL，超出范围时返回空页面
+     */
+    public static class PagesCallback implements ExpectationCallback {
+
+        @Override
+        public HttpResponse handle(HttpRequest httpRequest) {
+            int page = Integer.parseInt(getParameter(httpRequest, "page"));
+            int size = Integer.parseInt(getParameter(httpRequest, "size"));
+            List<String> items = new ArrayList<>();
+            for (int i = (page - 1) * size + 1; i <= Math.min(page * size, TOTAL); i++) {
+                items.add(String.valueOf(i));
+            }
+            return json("{\"data\":[" + String.join(",", items) + "]}");
+        }
+    }
+
+    /**
+     * 游标 a -> b -> c，最后一页没有游标
+     */
+    public static class CursorCallback implements ExpectationCallback {
+
+        @Override
+        public HttpResponse handle(HttpRequest httpRequest) {
+            String cursor = getParameter(httpRequest, "cursor");
+            String next = "a".equals(cursor) ? "\"b\"" : "b".equals(cursor) ? "\"c\"" : "null";
+            return json("{\"items\":[\"" + cursor + "1\",\"" + cursor + "2\"],\"next\":" + next + "}");
+        }
+    }
+
+}
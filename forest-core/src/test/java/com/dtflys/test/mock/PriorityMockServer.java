@@ -0,0 +1,64 @@
+package com.dtflys.test.mock;
+
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+import org.mockserver.mock.action.ExpectationCallback;
+import org.mockserver.model.HttpCallback;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.model.Parameter;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 05:32
+ */
+public class PriorityMockServer extends MockServerRule {
+
+    public final static Integer port = 5037;
+
+    public PriorityMockServer(Object target) {
+        super(target, port);
+    }
+
+    public void initServer() {
+        MockServerClient mockClient = new MockServerClient("localhost", port);
+        mockClient.when(
+                request()
+                        .withPath("/work")
+                        .withMethod("GET")
+        )
+        .callback(
+                HttpCallback.callback()
+                        .withCallbackClass(WorkCallback.class.getName())
+        );
+    }
+
+    /**
+     * 返回参数 name，名为 first 的请求处理300ms，其它请求处理20ms
+     */
+    public static class WorkCallback implements ExpectationCallback {
+
+        @Override
+        public HttpResponse handle(HttpRequest httpRequest) {
+            String name = null;
+            for (Parameter parameter : httpRequest.getQueryStringParameters()) {
+                if ("name".equals(parameter.getName().getValue())) {
+                    name = parameter.getValues().get(0).getValue();
+                }
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep("first".equals(name) ? 300 : 20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response()
+                    .withStatusCode(200)
+                    .withBody(name);
+        }
+    }
+
+}
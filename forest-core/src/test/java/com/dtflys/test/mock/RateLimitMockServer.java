@@ -0,0 +1,44 @@
+package com.dtflys.test.mock;
+
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 05:32
+ */
+public class RateLimitMockServer extends MockServerRule {
+
+    public final static Integer port = 5036;
+
+    public RateLimitMockServer(Object target) {
+        super(target, port);
+    }
+
+    public void initServer() {
+        MockServerClient mockClient = new MockServerClient("localhost", port);
+        mockClient.when(
+                request()
+                        .withPath("/ok")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(200)
+                        .withBody("ok")
+        );
+        mockClient.when(
+                request()
+                        .withPath("/failure")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(500)
+                        .withBody("error")
+        );
+    }
+
+}
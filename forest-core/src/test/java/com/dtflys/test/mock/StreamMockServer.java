@@ -0,0 +1,113 @@
+package com.dtflys.test.mock;
+
+import org.mockserver.client.server.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+import org.mockserver.model.Header;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @since 2026-10-19 00:33
+ */
+public class StreamMockServer extends MockServerRule {
+
+    public final static String NDJSON =
+            "{\"id\": 1, \"name\": \"foo\"}\n" +
+            "{\"id\": 2, \"name\": \"bar\"}\n" +
+            "\n" +
+            "{\"id\": 3, \"name\": \"baz\"}\n";
+
+    public final static String EVENTS =
+            ": heartbeat\n" +
+            "id: 1\n" +
+            "event: user\n" +
+            "data: {\"id\": 1, \"name\": \"foo\"}\n" +
+            "\n" +
+            "id: 2\n" +
+            "event: user\n" +
+            "data: {\"id\": 2,\n" +
+            "data:  \"name\": \"bar\"}\n" +
+            "\n";
+
+    public final static String EVENTS_AFTER_2 =
+            "id: 3\n" +
+            "event: user\n" +
+            "data: {\"id\": 3, \"name\": \"baz\"}\n" +
+            "\n";
+
+    public final static String XML =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<list>\n" +
+            "  <total>3</total>\n" +
+            "  <misc><a>1</a><b>2</b></misc>\n" +
+            "  <misc><a>3</a><b>4</b></misc>\n" +
+            "  <misc><a>5</a><b>6</b></misc>\n" +
+            "</list>\n";
+
+    public final static Integer port = 5030;
+
+    public StreamMockServer(Object target) {
+        super(target, port);
+    }
+
+    public void initServer() {
+        MockServerClient mockClient = new MockServerClient("localhost", port);
+        mockClient.when(
+                request()
+                        .withPath("/stream/users")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(200)
+                        .withHeader(new Header("Content-Type", "application/x-ndjson; charset=utf-8"))
+                        .withBody(NDJSON)
+        );
+        mockClient.when(
+                request()
+                        .withPath("/stream/misc")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(200)
+                        .withHeader(new Header("Content-Type", "application/xml; charset=utf-8"))
+                        .withBody(XML)
+        );
+        mockClient.when(
+                request()
+                        .withPath("/events")
+                        .withMethod("GET")
+                        .withHeader(new Header("Last-Event-ID", "2"))
+        )
+        .respond(
+                response()
+                        .withStatusCode(200)
+                        .withHeader(new Header("Content-Type", "text/event-stream; charset=utf-8"))
+                        .withBody(EVENTS_AFTER_2)
+        );
+        mockClient.when(
+                request()
+                        .withPath("/events")
+                        .withMethod("GET")
+                        .withHeader(new Header("Last-Event-ID", "3"))
+        )
+        .respond(
+                response()
+                        .withStatusCode(204)
+        );
+        mockClient.when(
+                request()
+                        .withPath("/events")
+                        .withMethod("GET")
+        )
+        .respond(
+                response()
+                        .withStatusCode(200)
+                        .withHeader(new Header("Content-Type", "text/event-stream; charset=utf-8"))
+                        .withBody(EVENTS)
+        );
+    }
+
+}
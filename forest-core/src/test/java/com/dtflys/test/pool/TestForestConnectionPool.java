@@ -0,0 +1,63 @@
+package com.dtflys.test.pool;
+
+import com.dtflys.forest.backend.HttpConnectionOptions;
+import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.pool.ForestConnectionPool;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @since 2026-10-19 03:45
+ */
+public class TestForestConnectionPool {
+
+    @Test
+    public void testOptions() {
+        ForestConfiguration configuration = ForestConfiguration.configuration()
+                .setMaxConnections(200)
+                .setMaxRouteConnections(100)
+                .setMaxRequests(150);
+        HttpConnectionOptions defaultOptions = new HttpConnectionOptions(configuration);
+        assertEquals(200, defaultOptions.getMaxConnections());
+        assertEquals(150, defaultOptions.getMaxRequests());
+
+        // 分组未配置的并发数按分组的连接数计算，不使用全局的并发数
+        ForestConnectionPool pool = new ForestConnectionPool("partner").setMaxConnections(20);
+        HttpConnectionOptions options = new HttpConnectionOptions(configuration, pool);
+        assertEquals(20, options.getMaxConnections());
+        assertEquals(20, options.getMaxRouteConnections());
+        assertEquals(20, options.getMaxIdleConnections());
+        assertEquals(20, options.getMaxRequests());
+        assertEquals(20, options.getMaxRequestsPerHost());
+        assertEquals(defaultOptions.getKeepAliveTime(), options.getKeepAliveTime());
+
+        pool.setMaxRouteConnections(5).setMaxRequests(10);
+        options = new HttpConnectionOptions(configuration, pool);
+        assertEquals(5, options.getMaxRouteConnections());
+        assertEquals(10, options.getMaxRequests());
+        assertEquals(5, options.getMaxRequestsPerHost());
+
+        // 分组未配置连接数时使用全局的连接数
+        options = new HttpConnectionOptions(configuration, new ForestConnectionPool("other"));
+        assertEquals(200, options.getMaxConnections());
+        assertEquals(100, options.getMaxRouteConnections());
+        assertEquals(200, options.getMaxRequests());
+    }
+
+    @Test(expected = ForestRuntimeException.class)
+    public void testDefaultName() {
+        new ForestConnectionPool(ForestConnectionPool.DEFAULT_NAME);
+    }
+
+    @Test
+    public void testRegister() {
+        ForestConfiguration configuration = ForestConfiguration.configuration();
+        configuration.registerConnectionPool(new ForestConnectionPool("partner").setMaxConnections(10));
+        assertEquals(Integer.valueOf(10), configuration.getConnectionPool("partner").getMaxConnections());
+        // 还没有发送过请求的分组不创建后端对象
+        assertNull(configuration.getConnectionPool("partner").getUtilization());
+    }
+}
@@ -0,0 +1,79 @@
+package com.dtflys.test.ratelimit;
+
+import com.dtflys.forest.ratelimit.ForestRateLimiter;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 03:00
+ */
+public class TestForestRateLimiter {
+
+    @Test
+    public void testBurst() {
+        ForestRateLimiter limiter = new ForestRateLimiter("burst", 10, 3);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(3, limiter.getGrantedCount());
+        assertEquals(1, limiter.getThrottledCount());
+    }
+
+    @Test
+    public void testReserve() {
+        ForestRateLimiter limiter = new ForestRateLimiter("reserve", 10);
+        assertEquals(0, limiter.reserve(0));
+        long wait = limiter.reserve(TimeUnit.SECONDS.toNanos(1));
+        assertTrue("wait " + wait, wait > TimeUnit.MILLISECONDS.toNanos(50) && wait <= TimeUnit.MILLISECONDS.toNanos(100));
+        // 排在后面的许可需要等待更久，超过最大等待时间时不占用许可
+        assertEquals(-1, limiter.reserve(TimeUnit.MILLISECONDS.toNanos(150)));
+        long wait2 = limiter.reserve(TimeUnit.SECONDS.toNanos(1));
+        assertTrue("wait " + wait2, wait2 > TimeUnit.MILLISECONDS.toNanos(150) && wait2 <= TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(3, limiter.getGrantedCount());
+        assertEquals(2, limiter.getDelayedCount());
+        assertEquals(1, limiter.getThrottledCount());
+    }
+
+    @Test
+    public void testRefill() throws InterruptedException {
+        ForestRateLimiter limiter = new ForestRateLimiter("refill", 20, 2);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        Thread.sleep(200);
+        // 空闲时最多积累 burst 个许可
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testConcurrent() throws InterruptedException {
+        ForestRateLimiter limiter = new ForestRateLimiter("concurrent", 1, 50);
+        AtomicInteger acquired = new AtomicInteger();
+        int threads = 8;
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < 20; j++) {
+                    if (limiter.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertEquals(50, acquired.get());
+        assertEquals(50, limiter.getGrantedCount());
+        assertEquals(110, limiter.getThrottledCount());
+    }
+}
@@ -0,0 +1,74 @@
+package com.dtflys.test.timeout;
+
+import com.dtflys.forest.timeout.AdaptiveTimeoutPolicy;
+import com.dtflys.forest.timeout.LatencyHistogram;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 2026-10-19 02:54
+ */
+public class TestAdaptiveTimeout {
+
+    @Test
+    public void testHistogramPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram(60000);
+        assertEquals(-1, histogram.getPercentile(99));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(5, histogram.getPercentile(0.5));
+        long p50 = histogram.getPercentile(50);
+        assertTrue("p50 " + p50, p50 >= 500 && p50 <= 500 * 1.07);
+        long p999 = histogram.getPercentile(99.9);
+        assertTrue("p99.9 " + p999, p999 >= 999 && p999 <= 999 * 1.07);
+    }
+
+    @Test
+    public void testHistogramWindow() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram(50);
+        histogram.record(10);
+        assertEquals(1, histogram.getCount());
+        Thread.sleep(150);
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void testPolicy() {
+        AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(60000)
+                .setPercentile(99)
+                .setFactor(3)
+                .setMinTimeout(50)
+                .setMaxTimeout(1000)
+                .setMinSamples(10)
+                .setComputeInterval(0);
+        for (int i = 0; i < 9; i++) {
+            policy.record(100);
+        }
+        assertEquals(-1, policy.computeTimeout());
+        policy.record(100);
+        int timeout = policy.computeTimeout();
+        assertTrue("timeout " + timeout, timeout >= 300 && timeout <= 330);
+        assertEquals(timeout, policy.getCurrentTimeout());
+
+        for (int i = 0; i < 10; i++) {
+            policy.record(5000);
+        }
+        assertEquals(1000, policy.computeTimeout());
+    }
+
+    @Test
+    public void testPolicyMinTimeout() {
+        AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(60000)
+                .setMinTimeout(200)
+                .setMinSamples(1);
+        policy.record(1);
+        assertEquals(200, policy.computeTimeout());
+        // 在计算间隔内使用上次的结果
+        policy.record(10000);
+        assertEquals(200, policy.computeTimeout());
+    }
+}
@@ -4,6 +4,7 @@ import com.dtflys.forest.ssl.SpringSSLKeyStore;
 import com.dtflys.forest.utils.ClientFactoryBeanUtils;
 import com.dtflys.forest.config.ForestConfiguration;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestProtocol;
 import com.dtflys.forest.ssl.SSLKeyStore;
 import com.dtflys.forest.utils.StringUtils;
 import org.slf4j.Logger;
@@ -71,6 +72,9 @@ public class ForestConfigurationBeanDefinitionParser implements BeanDefinitionPa
                     if ("backend".equals(attributeName)) {
                         beanDefinition.getPropertyValues().addPropertyValue("backendName", attributeValue);
                     }
+                    else if ("httpProtocol".equals(attributeName)) {
+                        beanDefinition.getPropertyValues().addPropertyValue(attributeName, ForestProtocol.findProtocol(attributeValue));
+                    }
                     else {
                         beanDefinition.getPropertyValues().addPropertyValue(attributeName, attributeValue);
                     }
@@ -2,12 +2,17 @@ package com.thebeastshop.forest.springboot;
 
 import com.dtflys.forest.config.ForestConfiguration;
 import com.dtflys.forest.exceptions.ForestRuntimeException;
+import com.dtflys.forest.http.ForestProtocol;
 import com.dtflys.forest.interceptor.SpringInterceptorFactory;
+import com.dtflys.forest.pool.ForestConnectionPool;
+import com.dtflys.forest.ratelimit.ForestRateLimiter;
 import com.dtflys.forest.scanner.ClassPathClientScanner;
 import com.dtflys.forest.schema.ForestConfigurationBeanDefinitionParser;
 import com.dtflys.forest.utils.StringUtils;
 import com.thebeastshop.forest.springboot.annotation.ForestScannerRegister;
 import com.thebeastshop.forest.springboot.properties.ForestConfigurationProperties;
+import com.thebeastshop.forest.springboot.properties.ForestConnectionPoolProperties;
+import com.thebeastshop.forest.springboot.properties.ForestRateLimiterProperties;
 import com.thebeastshop.forest.springboot.properties.ForestSSLKeyStoreProperties;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -52,8 +57,23 @@ public class ForestBeanRegister implements ResourceLoaderAware, BeanPostProcesso
         beanDefinitionBuilder
                 .addPropertyValue("maxConnections", forestConfigurationProperties.getMaxConnections())
                 .addPropertyValue("maxRouteConnections", forestConfigurationProperties.getMaxRouteConnections())
+                .addPropertyValue("maxIdleConnections", forestConfigurationProperties.getMaxIdleConnections())
+                .addPropertyValue("keepAliveTime", forestConfigurationProperties.getKeepAliveTime())
+                .addPropertyValue("validateAfterInactivity", forestConfigurationProperties.getValidateAfterInactivity())
+                .addPropertyValue("evictionInterval", forestConfigurationProperties.getEvictionInterval())
+                .addPropertyValue("dnsTtl", forestConfigurationProperties.getDnsTtl())
+                .addPropertyValue("dnsNegativeTtl", forestConfigurationProperties.getDnsNegativeTtl())
+                .addPropertyValue("maxRequests", forestConfigurationProperties.getMaxRequests())
+                .addPropertyValue("maxRequestsPerHost", forestConfigurationProperties.getMaxRequestsPerHost())
+                .addPropertyValue("priorityDispatch", forestConfigurationProperties.isPriorityDispatch())
+                .addPropertyValue("priorityAgingInterval", forestConfigurationProperties.getPriorityAgingInterval())
+                .addPropertyValue("priorityQueueCapacity", forestConfigurationProperties.getPriorityQueueCapacity())
+                .addPropertyValue("priorityRejectPolicy", forestConfigurationProperties.getPriorityRejectPolicy())
                 .addPropertyValue("timeout", forestConfigurationProperties.getTimeout())
                 .addPropertyValue("connectTimeout", forestConfigurationProperties.getConnectTimeout())
+                .addPropertyValue("readTimeout", forestConfigurationProperties.getReadTimeout())
+                .addPropertyValue("writeTimeout", forestConfigurationProperties.getWriteTimeout())
+                .addPropertyValue("poolAcquireTimeout", forestConfigurationProperties.getPoolAcquireTimeout())
                 .addPropertyValue("charset", forestConfigurationProperties.getCharset())
                 .addPropertyValue("retryer", forestConfigurationProperties.getRetryer())
                 .addPropertyValue("retryCount", forestConfigurationProperties.getRetryCount())
@@ -62,6 +82,7 @@ public class ForestBeanRegister implements ResourceLoaderAware, BeanPostProcesso
                 .addPropertyValue("backendName", forestConfigurationProperties.getBackend())
                 .addPropertyValue("interceptors", forestConfigurationProperties.getInterceptors())
                 .addPropertyValue("sslProtocol", forestConfigurationProperties.getSslProtocol())
+                .addPropertyValue("httpProtocol", ForestProtocol.findProtocol(forestConfigurationProperties.getHttpProtocol()))
                 .addPropertyValue("variables", forestConfigurationProperties.getVariables())
                 .setLazyInit(false)
                 .setFactoryMethod("configuration");
@@ -75,8 +96,22 @@ public class ForestBeanRegister implements ResourceLoaderAware, BeanPostProcesso
             registerSSLKeyStoreBean(sslKeystoreMap, keyStoreProperties);
         }
 
+        List<ForestRateLimiterProperties> rateLimiterPropertiesList = forestConfigurationProperties.getRateLimiters();
+        ManagedMap<String, BeanDefinition> rateLimiterMap = new ManagedMap<>();
+        for (ForestRateLimiterProperties rateLimiterProperties : rateLimiterPropertiesList) {
+            registerRateLimiterBean(rateLimiterMap, rateLimiterProperties);
+        }
+
+        List<ForestConnectionPoolProperties> connectionPoolPropertiesList = forestConfigurationProperties.getConnectionPools();
+        ManagedMap<String, BeanDefinition> connectionPoolMap = new ManagedMap<>();
+        for (ForestConnectionPoolProperties connectionPoolProperties : connectionPoolPropertiesList) {
+            registerConnectionPoolBean(connectionPoolMap, connectionPoolProperties);
+        }
+
         BeanDefinition beanDefinition = beanDefinitionBuilder.getRawBeanDefinition();
         beanDefinition.getPropertyValues().addPropertyValue("sslKeyStores", sslKeystoreMap);
+        beanDefinition.getPropertyValues().addPropertyValue("rateLimiters", rateLimiterMap);
+        beanDefinition.getPropertyValues().addPropertyValue("connectionPools", connectionPoolMap);
 
         BeanDefinitionRegistry beanFactory = (BeanDefinitionRegistry) applicationContext.getBeanFactory();
         beanFactory.registerBeanDefinition(id, beanDefinition);
@@ -115,6 +150,42 @@ public class ForestBeanRegister implements ResourceLoaderAware, BeanPostProcesso
         return beanDefinition;
     }
 
+    public BeanDefinition registerRateLimiterBean(ManagedMap<String, BeanDefinition> map, ForestRateLimiterProperties rateLimiterProperties) {
+        String name = rateLimiterProperties.getName();
+        if (StringUtils.isBlank(name)) {
+            throw new ForestRuntimeException("[Forest] Property 'name' of rate limiter can not be empty or blank");
+        }
+        if (map.containsKey(name)) {
+            throw new ForestRuntimeException("[Forest] Duplicate rate limiter name '" + name + "'");
+        }
+        BeanDefinition beanDefinition = BeanDefinitionBuilder.genericBeanDefinition(ForestRateLimiter.class)
+                .addConstructorArgValue(name)
+                .addConstructorArgValue(rateLimiterProperties.getPermitsPerSecond())
+                .addConstructorArgValue(rateLimiterProperties.getBurst())
+                .getBeanDefinition();
+        map.put(name, beanDefinition);
+        return beanDefinition;
+    }
+
+    public BeanDefinition registerConnectionPoolBean(ManagedMap<String, BeanDefinition> map, ForestConnectionPoolProperties connectionPoolProperties) {
+        String name = connectionPoolProperties.getName();
+        if (StringUtils.isBlank(name)) {
+            throw new ForestRuntimeException("[Forest] Property 'name' of connection pool can not be empty or blank");
+        }
+        if (map.containsKey(name)) {
+            throw new ForestRuntimeException("[Forest] Duplicate connection pool name '" + name + "'");
+        }
+        BeanDefinition beanDefinition = BeanDefinitionBuilder.genericBeanDefinition(ForestConnectionPool.class)
+                .addConstructorArgValue(name)
+                .addPropertyValue("maxConnections", connectionPoolProperties.getMaxConnections())
+                .addPropertyValue("maxRouteConnections", connectionPoolProperties.getMaxRouteConnections())
+                .addPropertyValue("maxRequests", connectionPoolProperties.getMaxRequests())
+                .addPropertyValue("maxRequestsPerHost", connectionPoolProperties.getMaxRequestsPerHost())
+                .getBeanDefinition();
+        map.put(name, beanDefinition);
+        return beanDefinition;
+    }
+
     public ClassPathClientScanner registerScanner(ForestConfigurationProperties forestConfigurationProperties) {
         List<String> basePackages = ForestScannerRegister.basePackages;
         String configurationId = ForestScannerRegister.configurationId;
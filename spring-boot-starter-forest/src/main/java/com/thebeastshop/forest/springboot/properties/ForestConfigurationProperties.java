@@ -1,5 +1,6 @@
 package com.thebeastshop.forest.springboot.properties;
 
+import com.dtflys.forest.priority.PriorityRejectPolicy;
 import com.dtflys.forest.retryer.BackOffRetryer;
 import com.dtflys.forest.ssl.SSLUtils;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -34,11 +35,86 @@ public class ForestConfigurationProperties {
      */
     private int maxRouteConnections = 500;
 
+    /**
+     * maximum number of idle connections kept in the pool, default to max-connections
+     */
+    private Integer maxIdleConnections;
+
+    /**
+     * keep-alive time of idle connections in milliseconds, default 5 minutes
+     */
+    private Long keepAliveTime;
+
+    /**
+     * period of inactivity in milliseconds after which pooled connections are validated before being leased, default 2000
+     */
+    private Integer validateAfterInactivity;
+
+    /**
+     * interval in milliseconds of evicting idle and expired connections in background, default 5000, 0 means disabled
+     */
+    private Long evictionInterval;
+
+    /**
+     * time to live in milliseconds of resolved host addresses, not set or 0 means using the resolver of JVM
+     */
+    private Long dnsTtl;
+
+    /**
+     * time to live in milliseconds of failed host resolutions, default 10000
+     */
+    private Long dnsNegativeTtl;
+
+    /**
+     * maximum number of asynchronous requests executing concurrently, default to max-connections
+     */
+    private Integer maxRequests;
+
+    /**
+     * maximum number of asynchronous requests executing concurrently per host, default to max-route-connections
+     */
+    private Integer maxRequestsPerHost;
+
+    /**
+     * queue asynchronous requests by priority when max-requests is reached, default false
+     */
+    private boolean priorityDispatch = false;
+
+    /**
+     * milliseconds a queued request must wait to gain one priority level, default 1000
+     */
+    private long priorityAgingInterval = 1000;
+
+    /**
+     * maximum number of requests queued by priority, default 10000
+     */
+    private int priorityQueueCapacity = 10000;
+
+    /**
+     * what to do with a request when the priority queue is full, abort or discard_lowest, default abort
+     */
+    private PriorityRejectPolicy priorityRejectPolicy = PriorityRejectPolicy.ABORT;
+
     /**
      * timeout in milliseconds
      */
     private int timeout = 3000;
 
+    /**
+     * read timeout in milliseconds, default to timeout
+     */
+    private Integer readTimeout;
+
+    /**
+     * write timeout in milliseconds, default to timeout
+     */
+    private Integer writeTimeout;
+
+    /**
+     * timeout in milliseconds used when acquiring a connection from the pool
+     */
+    private Integer poolAcquireTimeout;
+
     /**
      * connect timeout in milliseconds
      */
@@ -69,6 +145,11 @@ public class ForestConfigurationProperties {
      */
     private boolean logEnabled = true;
 
+    /**
+     * HTTP protocol: http/1.1, h2 (HTTP/2 over TLS) or h2c (HTTP/2 with prior knowledge), negotiated by the backend when empty
+     */
+    private String httpProtocol;
+
     /**
      * default SSL protocol for https requests
      */
@@ -94,6 +175,16 @@ public class ForestConfigurationProperties {
      */
     private List<ForestSSLKeyStoreProperties> sslKeyStores = new ArrayList<>();
 
+    /**
+     * Rate limiters shared by name
+     */
+    private List<ForestRateLimiterProperties> rateLimiters = new ArrayList<>();
+
+    /**
+     * Isolated connection pools shared by name
+     */
+    private List<ForestConnectionPoolProperties> connectionPools = new ArrayList<>();
+
 /*
     public boolean isEnabled() {
         return enabled;
@@ -128,6 +219,102 @@ public class ForestConfigurationProperties {
         this.maxRouteConnections = maxRouteConnections;
     }
 
+    public Integer getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public void setMaxIdleConnections(Integer maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public Long getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    public void setKeepAliveTime(Long keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+    }
+
+    public Integer getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    public void setValidateAfterInactivity(Integer validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+    }
+
+    public Long getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    public void setEvictionInterval(Long evictionInterval) {
+        this.evictionInterval = evictionInterval;
+    }
+
+    public Long getDnsTtl() {
+        return dnsTtl;
+    }
+
+    public void setDnsTtl(Long dnsTtl) {
+        this.dnsTtl = dnsTtl;
+    }
+
+    public Long getDnsNegativeTtl() {
+        return dnsNegativeTtl;
+    }
+
+    public void setDnsNegativeTtl(Long dnsNegativeTtl) {
+        this.dnsNegativeTtl = dnsNegativeTtl;
+    }
+
+    public Integer getMaxRequests() {
+        return maxRequests;
+    }
+
+    public void setMaxRequests(Integer maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    public Integer getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public void setMaxRequestsPerHost(Integer maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    public boolean isPriorityDispatch() {
+        return priorityDispatch;
+    }
+
+    public void setPriorityDispatch(boolean priorityDispatch) {
+        this.priorityDispatch = priorityDispatch;
+    }
+
+    public long getPriorityAgingInterval() {
+        return priorityAgingInterval;
+    }
+
+    public void setPriorityAgingInterval(long priorityAgingInterval) {
+        this.priorityAgingInterval = priorityAgingInterval;
+    }
+
+    public int getPriorityQueueCapacity() {
+        return priorityQueueCapacity;
+    }
+
+    public void setPriorityQueueCapacity(int priorityQueueCapacity) {
+        this.priorityQueueCapacity = priorityQueueCapacity;
+    }
+
+    public PriorityRejectPolicy getPriorityRejectPolicy() {
+        return priorityRejectPolicy;
+    }
+
+    public void setPriorityRejectPolicy(PriorityRejectPolicy priorityRejectPolicy) {
+        this.priorityRejectPolicy = priorityRejectPolicy;
+    }
+
     public int getTimeout() {
         return timeout;
     }
@@ -136,6 +323,30 @@ public class ForestConfigurationProperties {
         this.timeout = timeout;
     }
 
+    public Integer getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Integer readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Integer getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    public void setWriteTimeout(Integer writeTimeout) {
+        this.writeTimeout = writeTimeout;
+    }
+
+    public Integer getPoolAcquireTimeout() {
+        return poolAcquireTimeout;
+    }
+
+    public void setPoolAcquireTimeout(Integer poolAcquireTimeout) {
+        this.poolAcquireTimeout = poolAcquireTimeout;
+    }
+
     public int getConnectTimeout() {
         return connectTimeout;
     }
@@ -184,6 +395,14 @@ public class ForestConfigurationProperties {
         this.logEnabled = logEnabled;
     }
 
+    public String getHttpProtocol() {
+        return httpProtocol;
+    }
+
+    public void setHttpProtocol(String httpProtocol) {
+        this.httpProtocol = httpProtocol;
+    }
+
     public String getSslProtocol() {
         return sslProtocol;
     }
@@ -223,4 +442,20 @@ public class ForestConfigurationProperties {
     public void setSslKeyStores(List<ForestSSLKeyStoreProperties> sslKeyStores) {
         this.sslKeyStores = sslKeyStores;
     }
+
+    public List<ForestRateLimiterProperties> getRateLimiters() {
+        return rateLimiters;
+    }
+
+    public void setRateLimiters(List<ForestRateLimiterProperties> rateLimiters) {
+        this.rateLimiters = rateLimiters;
+    }
+
+    public List<ForestConnectionPoolProperties> getConnectionPools() {
+        return connectionPools;
+    }
+
+    public void setConnectionPools(List<ForestConnectionPoolProperties> connectionPools) {
+        this.connectionPools = connectionPools;
+    }
 }
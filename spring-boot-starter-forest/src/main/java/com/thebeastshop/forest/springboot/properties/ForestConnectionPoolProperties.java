@@ -0,0 +1,54 @@
+package com.thebeastshop.forest.springboot.properties;
+
+public class ForestConnectionPoolProperties {
+
+    protected String name;
+
+    protected Integer maxConnections;
+
+    protected Integer maxRouteConnections;
+
+    protected Integer maxRequests;
+
+    protected Integer maxRequestsPerHost;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public Integer getMaxRouteConnections() {
+        return maxRouteConnections;
+    }
+
+    public void setMaxRouteConnections(Integer maxRouteConnections) {
+        this.maxRouteConnections = maxRouteConnections;
+    }
+
+    public Integer getMaxRequests() {
+        return maxRequests;
+    }
+
+    public void setMaxRequests(Integer maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    public Integer getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public void setMaxRequestsPerHost(Integer maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+}
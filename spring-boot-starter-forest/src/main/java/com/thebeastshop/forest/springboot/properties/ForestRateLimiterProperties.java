@@ -0,0 +1,34 @@
+package com.thebeastshop.forest.springboot.properties;
+
+public class ForestRateLimiterProperties {
+
+    protected String name;
+
+    protected double permitsPerSecond;
+
+    protected int burst = 1;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public void setPermitsPerSecond(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+}
@@ -3,6 +3,8 @@ package com.dtflys.forest.springboot.test;
 import com.dtflys.forest.retryer.BackOffRetryer;
 import com.thebeastshop.forest.springboot.annotation.ForestScan;
 import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.pool.ForestConnectionPool;
+import com.dtflys.forest.ratelimit.ForestRateLimiter;
 import com.dtflys.forest.springboot.test.client0.BeastshopClient;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -46,6 +48,15 @@ public class Test0 {
         assertEquals(BackOffRetryer.class, config0.getRetryer());
         assertEquals(Integer.valueOf(5), config0.getRetryCount());
         assertEquals(Long.valueOf(2000), Long.valueOf(config0.getMaxRetryInterval()));
+        ForestRateLimiter rateLimiter = config0.getRateLimiter("partner");
+        assertNotNull(rateLimiter);
+        assertEquals(100, rateLimiter.getPermitsPerSecond(), 0);
+        assertEquals(10, rateLimiter.getBurst());
+        ForestConnectionPool connectionPool = config0.getConnectionPool("partner");
+        assertNotNull(connectionPool);
+        assertEquals(Integer.valueOf(20), connectionPool.getMaxConnections());
+        assertEquals(Integer.valueOf(10), connectionPool.getMaxRequests());
+        assertNull(connectionPool.getMaxRouteConnections());
 
     }
 
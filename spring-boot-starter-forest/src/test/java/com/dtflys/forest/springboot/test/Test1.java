@@ -2,6 +2,7 @@ package com.dtflys.forest.springboot.test;
 
 import com.thebeastshop.forest.springboot.annotation.ForestScan;
 import com.dtflys.forest.config.ForestConfiguration;
+import com.dtflys.forest.http.ForestProtocol;
 import com.dtflys.forest.springboot.test.client1.BaiduClient;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,6 +34,18 @@ public class Test1 {
         assertEquals(Integer.valueOf(5500), forestConfiguration.getMaxRouteConnections());
         assertEquals(Integer.valueOf(5000), forestConfiguration.getTimeout());
         assertEquals(Integer.valueOf(4000), forestConfiguration.getConnectTimeout());
+        assertEquals(Integer.valueOf(100), forestConfiguration.getMaxIdleConnections());
+        assertEquals(Long.valueOf(60000), forestConfiguration.getKeepAliveTime());
+        assertEquals(Integer.valueOf(300), forestConfiguration.getMaxRequests());
+        assertEquals(Integer.valueOf(50), forestConfiguration.getMaxRequestsPerHost());
+        assertEquals(Integer.valueOf(6000), forestConfiguration.getReadTimeout());
+        assertEquals(Integer.valueOf(7000), forestConfiguration.getWriteTimeout());
+        assertEquals(Integer.valueOf(800), forestConfiguration.getPoolAcquireTimeout());
+        assertEquals(Integer.valueOf(1000), forestConfiguration.getValidateAfterInactivity());
+        assertEquals(Long.valueOf(10000), forestConfiguration.getEvictionInterval());
+        assertEquals(Long.valueOf(60000), forestConfiguration.getDnsTtl());
+        assertEquals(Long.valueOf(5000), forestConfiguration.getDnsNegativeTtl());
+        assertEquals(ForestProtocol.HTTP_2, forestConfiguration.getHttpProtocol());
         assertEquals("GBK", forestConfiguration.getCharset());
         assertEquals(Integer.valueOf(0), forestConfiguration.getRetryCount());
         assertTrue(forestConfiguration.isLogEnabled());